@@ -83,9 +83,14 @@ import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.Option
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.PartitionStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SeedStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SubgraphStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.BatchExecutionStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ChildTraversalCacheStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MatchAlgorithmStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MergeBatchStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ParallelBranchStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ProfileStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ReferenceElementStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.StepMetricsStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.AdjacentToIncidentStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.ByModulatorOptimizationStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.CountStrategy;
@@ -286,6 +291,11 @@ public final class CoreImports {
         CLASS_IMPORTS.add(RepeatUnrollStrategy.class);
         CLASS_IMPORTS.add(SeedStrategy.class);
         CLASS_IMPORTS.add(StandardVerificationStrategy.class);
+        CLASS_IMPORTS.add(StepMetricsStrategy.class);
+        CLASS_IMPORTS.add(BatchExecutionStrategy.class);
+        CLASS_IMPORTS.add(ParallelBranchStrategy.class);
+        CLASS_IMPORTS.add(ChildTraversalCacheStrategy.class);
+        CLASS_IMPORTS.add(MergeBatchStrategy.class);
         CLASS_IMPORTS.add(EdgeLabelVerificationStrategy.class);
         CLASS_IMPORTS.add(VertexProgramRestrictionStrategy.class);
         // graph traversal
@@ -63,12 +63,14 @@ public class ConnectedComponentVertexProgram implements VertexProgram<String> {
     private static final String PROPERTY = "gremlin.connectedComponentVertexProgram.property";
     private static final String EDGE_TRAVERSAL = "gremlin.pageRankVertexProgram.edgeTraversal";
     private static final String VOTE_TO_HALT = "gremlin.connectedComponentVertexProgram.voteToHalt";
+    private static final String SEED_PROPERTY = "gremlin.connectedComponentVertexProgram.seedProperty";
 
     private static final Set<MemoryComputeKey> MEMORY_COMPUTE_KEYS = Collections.singleton(MemoryComputeKey.of(VOTE_TO_HALT, Operator.and, false, true));
 
     private MessageScope.Local<?> scope = MessageScope.Local.of(__::bothE);
     private Set<MessageScope> scopes;
     private String property = COMPONENT;
+    private String seedProperty = null;
     private PureTraversal<Vertex, Edge> edgeTraversal = null;
     private Configuration configuration;
     private TraverserSet<Vertex> haltedTraversers;
@@ -91,6 +93,7 @@ public class ConnectedComponentVertexProgram implements VertexProgram<String> {
         scopes = new HashSet<>(Collections.singletonList(scope));
 
         this.property = configuration.getString(PROPERTY, COMPONENT);
+        this.seedProperty = configuration.getString(SEED_PROPERTY, null);
 
         this.haltedTraversers = TraversalVertexProgram.loadHaltedTraversers(configuration);
         this.haltedTraversersIndex = new IndexedTraverserSet<>(v -> v);
@@ -117,16 +120,17 @@ public class ConnectedComponentVertexProgram implements VertexProgram<String> {
         if (memory.isInitialIteration()) {
             copyHaltedTraversersFromMemory(vertex);
 
-            // on the first pass, just initialize the component to its own id then pass it to all adjacent vertices
-            // for evaluation
-            vertex.property(VertexProperty.Cardinality.single, property, vertex.id().toString());
+            // on the first pass, just initialize the component to its own id (or the component of a previous run if
+            // seeded) then pass it to all adjacent vertices for evaluation
+            final String component = initialComponent(vertex);
+            vertex.property(VertexProperty.Cardinality.single, property, component);
 
             // vertices that have no edges remain in their own component - nothing to message pass here
             if (vertex.edges(Direction.BOTH).hasNext()) {
                 // since there was message passing we don't want to halt on the first round. this should only trigger
                 // a single pass finish if the graph is completely disconnected (technically, it won't even really
                 // work in cases where halted traversers come into play
-                messenger.sendMessage(scope, vertex.id().toString());
+                messenger.sendMessage(scope, component);
                 memory.add(VOTE_TO_HALT, false);
             }
         } else {
@@ -155,6 +159,21 @@ public class ConnectedComponentVertexProgram implements VertexProgram<String> {
         }
     }
 
+    /**
+     * Components only ever merge as edges are added, so a component persisted by a previous run remains a valid
+     * starting point and only the vertices around the new edges will see a lesser component and propagate it.
+     */
+    private String initialComponent(final Vertex vertex) {
+        final String id = vertex.id().toString();
+        if (null == seedProperty)
+            return id;
+        final VertexProperty<Object> seed = vertex.property(seedProperty);
+        if (!seed.isPresent())
+            return id;
+        final String seeded = seed.value().toString();
+        return seeded.compareTo(id) < 0 ? seeded : id;
+    }
+
     @Override
     public Set<VertexComputeKey> getVertexComputeKeys() {
         return new HashSet<>(Arrays.asList(
@@ -249,5 +268,16 @@ public class ConnectedComponentVertexProgram implements VertexProgram<String> {
             this.configuration.setProperty(PROPERTY, key);
             return this;
         }
+
+        /**
+         * Warm-starts the computation from the components of a previous run stored in the given property key, which
+         * may be the same as {@link #property(String)}. Vertices without the property start in their own component.
+         * Only edge additions are accounted for, a run seeded after edges were removed may leave split components
+         * merged.
+         */
+        public ConnectedComponentVertexProgram.Builder seed(final String key) {
+            this.configuration.setProperty(SEED_PROPERTY, key);
+            return this;
+        }
     }
 }
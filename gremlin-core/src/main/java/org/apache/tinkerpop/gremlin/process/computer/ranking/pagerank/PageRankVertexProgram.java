@@ -64,6 +64,10 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
     private static final String INITIAL_RANK_TRAVERSAL = "gremlin.pageRankVertexProgram.initialRankTraversal";
     private static final String TELEPORTATION_ENERGY = "gremlin.pageRankVertexProgram.teleportationEnergy";
     private static final String CONVERGENCE_ERROR = "gremlin.pageRankVertexProgram.convergenceError";
+    private static final String SEED_PROPERTY = "gremlin.pageRankVertexProgram.seedProperty";
+    private static final String SEED_ENERGY = "gremlin.pageRankVertexProgram.seedEnergy";
+    private static final String INCOMING_RANK = "gremlin.pageRankVertexProgram.incomingRank";
+    private static final String SENT_RANK = "gremlin.pageRankVertexProgram.sentRank";
 
     private MessageScope.Local<Double> incidentMessageScope = MessageScope.Local.of(__::outE);
     private MessageScope.Local<Double> countMessageScope = MessageScope.Local.of(new MessageScope.Local.ReverseTraversalSupplier(this.incidentMessageScope));
@@ -73,6 +77,7 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
     private double epsilon = 0.00001d;
     private int maxIterations = 20;
     private String property = PAGE_RANK;
+    private String seedProperty = null;
     private Set<VertexComputeKey> vertexComputeKeys;
     private Set<MemoryComputeKey> memoryComputeKeys;
 
@@ -93,13 +98,20 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         this.epsilon = configuration.getDouble(EPSILON, this.epsilon);
         this.maxIterations = configuration.getInt(MAX_ITERATIONS, 20);
         this.property = configuration.getString(PROPERTY, PAGE_RANK);
+        this.seedProperty = configuration.getString(SEED_PROPERTY, null);
         this.vertexComputeKeys = new HashSet<>(Arrays.asList(
                 VertexComputeKey.of(this.property, false),
                 VertexComputeKey.of(EDGE_COUNT, true)));
+        if (null != this.seedProperty) {
+            this.vertexComputeKeys.add(VertexComputeKey.of(INCOMING_RANK, true));
+            this.vertexComputeKeys.add(VertexComputeKey.of(SENT_RANK, true));
+        }
         this.memoryComputeKeys = new HashSet<>(Arrays.asList(
                 MemoryComputeKey.of(TELEPORTATION_ENERGY, Operator.sum, true, true),
                 MemoryComputeKey.of(VERTEX_COUNT, Operator.sum, true, true),
                 MemoryComputeKey.of(CONVERGENCE_ERROR, Operator.sum, false, true)));
+        if (null != this.seedProperty)
+            this.memoryComputeKeys.add(MemoryComputeKey.of(SEED_ENERGY, Operator.sum, false, true));
     }
 
     @Override
@@ -109,6 +121,8 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         configuration.setProperty(EPSILON, this.epsilon);
         configuration.setProperty(PROPERTY, this.property);
         configuration.setProperty(MAX_ITERATIONS, this.maxIterations);
+        if (null != this.seedProperty)
+            configuration.setProperty(SEED_PROPERTY, this.seedProperty);
         if (null != this.edgeTraversal)
             this.edgeTraversal.storeState(configuration, EDGE_TRAVERSAL);
         if (null != this.initialRankTraversal)
@@ -161,9 +175,11 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
 
     @Override
     public void setup(final Memory memory) {
-        memory.set(TELEPORTATION_ENERGY, null == this.initialRankTraversal ? 1.0d : 0.0d);
+        memory.set(TELEPORTATION_ENERGY, null == this.initialRankTraversal && null == this.seedProperty ? 1.0d : 0.0d);
         memory.set(VERTEX_COUNT, 0.0d);
         memory.set(CONVERGENCE_ERROR, 1.0d);
+        if (null != this.seedProperty)
+            memory.set(SEED_ENERGY, 0.0d);
     }
 
     @Override
@@ -171,6 +187,8 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         if (memory.isInitialIteration()) {
             messenger.sendMessage(this.countMessageScope, 1.0d);
             memory.add(VERTEX_COUNT, 1.0d);
+            if (null != this.seedProperty)
+                memory.add(SEED_ENERGY, this.seedRank(vertex));
         } else {
             final double vertexCount = memory.<Double>get(VERTEX_COUNT);
             final double edgeCount;
@@ -178,12 +196,22 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
             if (1 == memory.getIteration()) {
                 edgeCount = IteratorUtils.reduce(messenger.receiveMessages(), 0.0d, (a, b) -> a + b);
                 vertex.property(VertexProperty.Cardinality.single, EDGE_COUNT, edgeCount);
-                pageRank = null == this.initialRankTraversal ?
-                        0.0d :
-                        TraversalUtil.apply(vertex, this.initialRankTraversal.get()).doubleValue();
+                if (null != this.seedProperty) {
+                    vertex.property(VertexProperty.Cardinality.single, INCOMING_RANK, 0.0d);
+                    pageRank = this.seedRank(vertex);
+                } else {
+                    pageRank = null == this.initialRankTraversal ?
+                            0.0d :
+                            TraversalUtil.apply(vertex, this.initialRankTraversal.get()).doubleValue();
+                }
             } else {
                 edgeCount = vertex.value(EDGE_COUNT);
                 pageRank = IteratorUtils.reduce(messenger.receiveMessages(), 0.0d, (a, b) -> a + b);
+                if (null != this.seedProperty) {
+                    // seeded runs exchange deltas so the messages only carry the change to the incoming rank
+                    pageRank = pageRank + vertex.<Double>value(INCOMING_RANK);
+                    vertex.property(VertexProperty.Cardinality.single, INCOMING_RANK, pageRank);
+                }
             }
             //////////////////////////
             final double teleporationEnergy = memory.get(TELEPORTATION_ENERGY);
@@ -197,17 +225,48 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
             vertex.property(VertexProperty.Cardinality.single, this.property, pageRank);
             memory.add(TELEPORTATION_ENERGY, (1.0d - this.alpha) * pageRank);
             pageRank = this.alpha * pageRank;
-            if (edgeCount > 0.0d)
-                messenger.sendMessage(this.incidentMessageScope, pageRank / edgeCount);
-            else
+            if (edgeCount > 0.0d) {
+                if (null == this.seedProperty)
+                    messenger.sendMessage(this.incidentMessageScope, pageRank / edgeCount);
+                else
+                    sendDelta(vertex, messenger, pageRank / edgeCount, edgeCount, vertexCount, memory);
+            } else
                 memory.add(TELEPORTATION_ENERGY, pageRank);
         }
     }
 
+    private double seedRank(final Vertex vertex) {
+        return vertex.<Number>property(this.seedProperty).orElse(0.0d).doubleValue();
+    }
+
+    /**
+     * Sends the change in the per-edge rank since the last message rather than the rank itself. Vertices whose rank
+     * moved less than their share of the convergence epsilon stay silent, so a run seeded from a previous result only
+     * propagates from the parts of the graph that changed.
+     */
+    private void sendDelta(final Vertex vertex, final Messenger<Double> messenger, final double edgeRank,
+                           final double edgeCount, final double vertexCount, final Memory memory) {
+        if (1 == memory.getIteration()) {
+            vertex.property(VertexProperty.Cardinality.single, SENT_RANK, edgeRank);
+            messenger.sendMessage(this.incidentMessageScope, edgeRank);
+        } else {
+            final double delta = edgeRank - vertex.<Double>value(SENT_RANK);
+            if (Math.abs(delta) * edgeCount > this.epsilon / vertexCount) {
+                vertex.property(VertexProperty.Cardinality.single, SENT_RANK, edgeRank);
+                messenger.sendMessage(this.incidentMessageScope, delta);
+            }
+        }
+    }
+
     @Override
     public boolean terminate(final Memory memory) {
-        boolean terminate = memory.<Double>get(CONVERGENCE_ERROR) < this.epsilon || memory.getIteration() >= this.maxIterations;
+        // a seeded run has not converged just because the seed matches the previously persisted rank
+        final boolean converged = memory.<Double>get(CONVERGENCE_ERROR) < this.epsilon && (null == this.seedProperty || memory.getIteration() > 1);
+        boolean terminate = converged || memory.getIteration() >= this.maxIterations;
         memory.set(CONVERGENCE_ERROR, 0.0d);
+        // whatever energy the seeded ranks are missing (e.g. for new vertices) is spread evenly via teleportation
+        if (null != this.seedProperty && memory.isInitialIteration())
+            memory.set(TELEPORTATION_ENERGY, Math.max(0.0d, 1.0d - memory.<Double>get(SEED_ENERGY)));
         return terminate;
     }
 
@@ -257,6 +316,25 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
             PureTraversal.storeState(this.configuration, INITIAL_RANK_TRAVERSAL, initialRankTraversal);
             return this;
         }
+
+        /**
+         * Warm-starts the computation from the ranks of a previous run stored in the given property key, which may be
+         * the same as {@link #property(String)}. Any rank the seeded vertices do not account for, such as that of
+         * vertices added since, is spread evenly across all vertices. Once seeded, vertices only message the change in
+         * their rank and only when it exceeds their share of the {@link #epsilon(double)}. The seed replaces the
+         * {@link #initialRank(Traversal.Admin)}, hence the two can not be used together.
+         */
+        public Builder seed(final String key) {
+            this.configuration.setProperty(SEED_PROPERTY, key);
+            return this;
+        }
+
+        @Override
+        public <P extends VertexProgram> P create(final Graph graph) {
+            if (this.configuration.containsKey(SEED_PROPERTY) && this.configuration.containsKey(INITIAL_RANK_TRAVERSAL))
+                throw new IllegalArgumentException("PageRankVertexProgram can not have both a seed and an initial rank");
+            return super.create(graph);
+        }
     }
 
     ////////////////////////////
@@ -30,12 +30,15 @@ import org.apache.tinkerpop.gremlin.process.computer.traversal.TraversalVertexPr
 import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.ProgramVertexProgramStep;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.VertexProgramStep;
 import org.apache.tinkerpop.gremlin.process.computer.util.AbstractVertexProgramBuilder;
+import org.apache.tinkerpop.gremlin.process.computer.util.VertexProgramHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.process.traversal.Path;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.FilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ImmutablePath;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.IndexedTraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
@@ -65,9 +68,16 @@ import java.util.Set;
 import java.util.function.Function;
 
 /**
+ * Finds all shortest non-cyclic paths between the source vertices and the target vertices.
+ * <p/>
+ * Hop-based searches (the default) and weighted searches configured with a {@link Builder#delta(Number)} only keep
+ * predecessor pointers per vertex and source and exchange fixed-size messages. Paths are reconstructed at the end of
+ * the search by walking these pointers backwards from the target vertices. Weighted searches without a delta can
+ * handle negative distances and therefore fall back to tracking full paths.
+ *
  * @author Daniel Kuppitz (http://gremlin.guru)
  */
-public class ShortestPathVertexProgram implements VertexProgram<Triplet<Path, Edge, Number>> {
+public class ShortestPathVertexProgram implements VertexProgram<Triplet<Object, Edge, Number>> {
 
     @SuppressWarnings("WeakerAccess")
     public static final String SHORTEST_PATHS = "gremlin.shortestPathVertexProgram.shortestPaths";
@@ -78,14 +88,31 @@ public class ShortestPathVertexProgram implements VertexProgram<Triplet<Path, Ed
     private static final String DISTANCE_TRAVERSAL = "gremlin.shortestPathVertexProgram.distanceTraversal";
     private static final String MAX_DISTANCE = "gremlin.shortestPathVertexProgram.maxDistance";
     private static final String INCLUDE_EDGES = "gremlin.shortestPathVertexProgram.includeEdges";
+    private static final String BIDIRECTIONAL = "gremlin.shortestPathVertexProgram.bidirectional";
+    private static final String DELTA = "gremlin.shortestPathVertexProgram.delta";
+    private static final String COMPACT = "gremlin.shortestPathVertexProgram.compact";
 
     private static final String STATE = "gremlin.shortestPathVertexProgram.state";
     private static final String PATHS = "gremlin.shortestPathVertexProgram.paths";
+    private static final String PREDECESSORS = "gremlin.shortestPathVertexProgram.predecessors";
+    private static final String SUCCESSORS = "gremlin.shortestPathVertexProgram.successors";
+    private static final String PENDING = "gremlin.shortestPathVertexProgram.pending";
     private static final String VOTE_TO_HALT = "gremlin.shortestPathVertexProgram.voteToHalt";
+    private static final String THRESHOLD = "gremlin.shortestPathVertexProgram.threshold";
+    private static final String PENDING_MIN = "gremlin.shortestPathVertexProgram.pendingMin";
+    private static final String SOURCES = "gremlin.shortestPathVertexProgram.sources";
+    private static final String TARGETS = "gremlin.shortestPathVertexProgram.targets";
+    private static final String MEETINGS = "gremlin.shortestPathVertexProgram.meetings";
+    private static final String RESOLVED = "gremlin.shortestPathVertexProgram.resolved";
+    private static final String DONE_SOURCES = "gremlin.shortestPathVertexProgram.doneSources";
+    private static final String DONE_TARGETS = "gremlin.shortestPathVertexProgram.doneTargets";
+    private static final String PREFIXES = "gremlin.shortestPathVertexProgram.prefixes";
+    private static final String SUFFIXES = "gremlin.shortestPathVertexProgram.suffixes";
 
     private static final int SEARCH = 0;
     private static final int COLLECT_PATHS = 1;
     private static final int UPDATE_HALTED_TRAVERSERS = 2;
+    private static final int RECONSTRUCT_PATHS = 3;
 
     public static final PureTraversal<Vertex, ?> DEFAULT_VERTEX_FILTER_TRAVERSAL = new PureTraversal<>(
             __.<Vertex> identity().asAdmin()); // todo: new IdentityTraversal<>()
@@ -100,14 +127,24 @@ public class ShortestPathVertexProgram implements VertexProgram<Triplet<Path, Ed
     private PureTraversal<Vertex, ?> targetVertexFilterTraversal = DEFAULT_VERTEX_FILTER_TRAVERSAL.clone();
     private PureTraversal<Vertex, Edge> edgeTraversal = DEFAULT_EDGE_TRAVERSAL.clone();
     private PureTraversal<Edge, Number> distanceTraversal = DEFAULT_DISTANCE_TRAVERSAL.clone();
+    private PureTraversal<Vertex, Edge> reverseEdgeTraversal;
     private Step<Vertex, Path> programStep;
     private Number maxDistance;
+    private Number delta;
+    private int forwardLimit;
+    private int backwardLimit;
     private boolean distanceEqualsNumberOfHops;
     private boolean includeEdges;
+    private boolean bidirectional;
+    private boolean deltaStepping;
+    private boolean compact;
     private boolean standalone;
 
     private static final Set<VertexComputeKey> VERTEX_COMPUTE_KEYS = new HashSet<>(Arrays.asList(
             VertexComputeKey.of(PATHS, true),
+            VertexComputeKey.of(PREDECESSORS, true),
+            VertexComputeKey.of(SUCCESSORS, true),
+            VertexComputeKey.of(PENDING, true),
             VertexComputeKey.of(TraversalVertexProgram.HALTED_TRAVERSERS, false)));
 
     private final Set<MemoryComputeKey> memoryComputeKeys = new HashSet<>(Arrays.asList(
@@ -136,10 +173,26 @@ public class ShortestPathVertexProgram implements VertexProgram<Triplet<Path, Ed
         if (configuration.containsKey(MAX_DISTANCE))
             this.maxDistance = (Number) configuration.getProperty(MAX_DISTANCE);
 
+        if (configuration.containsKey(DELTA))
+            this.delta = (Number) configuration.getProperty(DELTA);
+
         this.distanceEqualsNumberOfHops = this.distanceTraversal.equals(DEFAULT_DISTANCE_TRAVERSAL);
         this.includeEdges = configuration.getBoolean(INCLUDE_EDGES, false);
+        this.bidirectional = configuration.getBoolean(BIDIRECTIONAL, false);
         this.standalone = !configuration.containsKey(VertexProgramStep.ROOT_TRAVERSAL);
 
+        // delta-stepping only makes sense for custom distances, hop-based searches are processed level by level anyway
+        this.deltaStepping = null != this.delta && !this.distanceEqualsNumberOfHops;
+
+        // a bidirectional search requires a target filter and an edge traversal that can be walked in reverse
+        this.reverseEdgeTraversal = this.bidirectional && this.distanceEqualsNumberOfHops &&
+                !this.targetVertexFilterTraversal.equals(DEFAULT_VERTEX_FILTER_TRAVERSAL)
+                ? reverse(this.edgeTraversal) : null;
+
+        // predecessor pointers are used when asked for and by the searches that are built on them
+        this.compact = (configuration.getBoolean(COMPACT, false) && this.distanceEqualsNumberOfHops) ||
+                this.deltaStepping || null != this.reverseEdgeTraversal;
+
         if (!this.standalone) {
             this.traversal = PureTraversal.loadState(configuration, VertexProgramStep.ROOT_TRAVERSAL, graph);
             final String programStepId = configuration.getString(ProgramVertexProgramStep.STEP_ID);
@@ -159,6 +212,28 @@ public class ShortestPathVertexProgram implements VertexProgram<Triplet<Path, Ed
             this.haltedTraversersIndex.add(traverser.split());
         }
         this.memoryComputeKeys.add(MemoryComputeKey.of(SHORTEST_PATHS, Operator.addAll, true, !standalone));
+
+        if (this.deltaStepping) {
+            this.memoryComputeKeys.add(MemoryComputeKey.of(THRESHOLD, Operator.assign, true, true));
+            this.memoryComputeKeys.add(MemoryComputeKey.of(PENDING_MIN, Operator.min, false, true));
+        }
+
+        if (null != this.reverseEdgeTraversal) {
+            // the forward and the backward search each cover half of the maximum distance
+            if (null != this.maxDistance) {
+                final int maxHops = (int) Math.floor(this.maxDistance.doubleValue());
+                this.forwardLimit = (maxHops + 1) / 2;
+                this.backwardLimit = maxHops / 2;
+            }
+            this.memoryComputeKeys.add(MemoryComputeKey.of(SOURCES, Operator.addAll, false, true));
+            this.memoryComputeKeys.add(MemoryComputeKey.of(TARGETS, Operator.addAll, false, true));
+            this.memoryComputeKeys.add(MemoryComputeKey.of(MEETINGS, Operator.addAll, false, true));
+            this.memoryComputeKeys.add(MemoryComputeKey.of(RESOLVED, Operator.assign, true, true));
+            this.memoryComputeKeys.add(MemoryComputeKey.of(DONE_SOURCES, Operator.assign, true, true));
+            this.memoryComputeKeys.add(MemoryComputeKey.of(DONE_TARGETS, Operator.assign, true, true));
+            this.memoryComputeKeys.add(MemoryComputeKey.of(PREFIXES, Operator.addAll, false, true));
+            this.memoryComputeKeys.add(MemoryComputeKey.of(SUFFIXES, Operator.addAll, false, true));
+        }
     }
 
     @Override
@@ -169,8 +244,12 @@ public class ShortestPathVertexProgram implements VertexProgram<Triplet<Path, Ed
         this.edgeTraversal.storeState(configuration, EDGE_TRAVERSAL);
         this.distanceTraversal.storeState(configuration, DISTANCE_TRAVERSAL);
         configuration.setProperty(INCLUDE_EDGES, this.includeEdges);
+        configuration.setProperty(BIDIRECTIONAL, this.bidirectional);
+        configuration.setProperty(COMPACT, this.compact);
         if (this.maxDistance != null)
             configuration.setProperty(MAX_DISTANCE, maxDistance);
+        if (this.delta != null)
+            configuration.setProperty(DELTA, this.delta);
         if (this.traversal != null) {
             this.traversal.storeState(configuration, ProgramVertexProgramStep.ROOT_TRAVERSAL);
             configuration.setProperty(ProgramVertexProgramStep.STEP_ID, this.programStep.getId());
@@ -194,11 +273,13 @@ public class ShortestPathVertexProgram implements VertexProgram<Triplet<Path, Ed
     }
 
     @Override
-    public VertexProgram<Triplet<Path, Edge, Number>> clone() {
+    public VertexProgram<Triplet<Object, Edge, Number>> clone() {
         try {
             final ShortestPathVertexProgram clone = (ShortestPathVertexProgram) super.clone();
             if (null != this.edgeTraversal)
                 clone.edgeTraversal = this.edgeTraversal.clone();
+            if (null != this.reverseEdgeTraversal)
+                clone.reverseEdgeTraversal = this.reverseEdgeTraversal.clone();
             if (null != this.sourceVertexFilterTraversal)
                 clone.sourceVertexFilterTraversal = this.sourceVertexFilterTraversal.clone();
             if (null != this.targetVertexFilterTraversal)
@@ -235,15 +316,37 @@ public class ShortestPathVertexProgram implements VertexProgram<Triplet<Path, Ed
     public void setup(final Memory memory) {
         memory.set(VOTE_TO_HALT, true);
         memory.set(STATE, SEARCH);
+        memory.set(SHORTEST_PATHS, new ArrayList<>());
+        if (this.deltaStepping) {
+            memory.set(THRESHOLD, this.delta);
+            memory.set(PENDING_MIN, Double.POSITIVE_INFINITY);
+        }
+        if (null != this.reverseEdgeTraversal) {
+            memory.set(SOURCES, new HashSet<>());
+            memory.set(TARGETS, new HashSet<>());
+            memory.set(MEETINGS, new ArrayList<>());
+            memory.set(RESOLVED, new HashMap<>());
+            memory.set(DONE_SOURCES, new HashSet<>());
+            memory.set(DONE_TARGETS, new HashSet<>());
+            memory.set(PREFIXES, new ArrayList<>());
+            memory.set(SUFFIXES, new ArrayList<>());
+        }
     }
 
     @Override
-    public void execute(final Vertex vertex, final Messenger<Triplet<Path, Edge, Number>> messenger, final Memory memory) {
+    public void execute(final Vertex vertex, final Messenger<Triplet<Object, Edge, Number>> messenger, final Memory memory) {
 
         switch (memory.<Integer>get(STATE)) {
 
             case COLLECT_PATHS:
-                collectShortestPaths(vertex, memory);
+                if (this.compact)
+                    startPathReconstruction(vertex, messenger, memory);
+                else
+                    collectShortestPaths(vertex, memory);
+                return;
+
+            case RECONSTRUCT_PATHS:
+                reconstructPaths(vertex, messenger, memory);
                 return;
 
             case UPDATE_HALTED_TRAVERSERS:
@@ -251,6 +354,11 @@ public class ShortestPathVertexProgram implements VertexProgram<Triplet<Path, Ed
                 return;
         }
 
+        if (this.compact) {
+            search(vertex, messenger, memory);
+            return;
+        }
+
         boolean voteToHalt = true;
 
         if (memory.isInitialIteration()) {
@@ -283,12 +391,12 @@ public class ShortestPathVertexProgram implements VertexProgram<Triplet<Path, Ed
             // load existing paths to this vertex and extend them based on messages received from adjacent vertices
             final Map<Vertex, Pair<Number, Set<Path>>> paths =
                     vertex.<Map<Vertex, Pair<Number, Set<Path>>>>property(PATHS).orElseGet(HashMap::new);
-            final Iterator<Triplet<Path, Edge, Number>> iterator = messenger.receiveMessages();
+            final Iterator<Triplet<Object, Edge, Number>> iterator = messenger.receiveMessages();
 
             while (iterator.hasNext()) {
 
-                final Triplet<Path, Edge, Number> triplet = iterator.next();
-                final Path sourcePath = triplet.getValue0();
+                final Triplet<Object, Edge, Number> triplet = iterator.next();
+                final Path sourcePath = (Path) triplet.getValue0();
                 final Number distance = triplet.getValue2();
                 final Vertex sourceVertex = sourcePath.get(0);
 
@@ -341,22 +449,34 @@ public class ShortestPathVertexProgram implements VertexProgram<Triplet<Path, Ed
             this.haltedTraversersIndex.clear();
         }
         final boolean voteToHalt = memory.get(VOTE_TO_HALT);
-        if (voteToHalt) {
-            final int state = memory.get(STATE);
-            if (state == COLLECT_PATHS) {
-                // After paths were collected,
-                // a) the VP is done in standalone mode (paths will be in memory) or
-                // b) the halted traversers will be updated in order to have the paths available in the traversal
-                if (this.standalone) return true;
-                memory.set(STATE, UPDATE_HALTED_TRAVERSERS);
+        memory.set(VOTE_TO_HALT, true);
+        switch (memory.<Integer>get(STATE)) {
+            case SEARCH:
+                if (null != this.reverseEdgeTraversal) resolveMeetings(memory);
+                if (this.deltaStepping) {
+                    final Number pendingMin = memory.get(PENDING_MIN);
+                    memory.set(PENDING_MIN, Double.POSITIVE_INFINITY);
+                    // once the current bucket is settled, continue with the lowest bucket that holds pending vertices
+                    if (voteToHalt && !NumberHelper.isPositiveInfinity(pendingMin)) {
+                        memory.set(THRESHOLD, nextThreshold(pendingMin));
+                        return false;
+                    }
+                }
+                if (voteToHalt) memory.set(STATE, COLLECT_PATHS); // collect paths if no new paths were found
                 return false;
-            }
-            if (state == UPDATE_HALTED_TRAVERSERS) return true;
-            else memory.set(STATE, COLLECT_PATHS); // collect paths if no new paths were found
-            return false;
-        } else {
-            memory.set(VOTE_TO_HALT, true);
-            return false;
+            case COLLECT_PATHS:
+                // in compact mode the collection phase only started to walk the predecessor pointers
+                if (this.compact) {
+                    memory.set(STATE, RECONSTRUCT_PATHS);
+                    return false;
+                }
+                return completePathCollection(memory);
+            case RECONSTRUCT_PATHS:
+                if (!voteToHalt) return false;
+                if (null != this.reverseEdgeTraversal) joinPaths(memory);
+                return completePathCollection(memory);
+            default:
+                return true;
         }
     }
 
@@ -382,6 +502,18 @@ public class ShortestPathVertexProgram implements VertexProgram<Triplet<Path, Ed
             options.add(shortName.apply(DISTANCE_TRAVERSAL) + "=" + this.distanceTraversal.get());
         }
 
+        if (this.bidirectional) {
+            options.add(shortName.apply(BIDIRECTIONAL) + "=" + this.bidirectional);
+        }
+
+        if (this.delta != null) {
+            options.add(shortName.apply(DELTA) + "=" + this.delta);
+        }
+
+        if (this.compact) {
+            options.add(shortName.apply(COMPACT) + "=" + this.compact);
+        }
+
         options.add(shortName.apply(INCLUDE_EDGES) + "=" + this.includeEdges);
 
         return StringFactory.vertexProgramString(this, String.join(", ", options));
@@ -418,6 +550,27 @@ public class ShortestPathVertexProgram implements VertexProgram<Triplet<Path, Ed
         return result;
     }
 
+    private static Path reversePath(final Path path) {
+        final List<Object> objects = path.objects();
+        Path result = ImmutablePath.make();
+        for (int i = objects.size() - 1; i >= 0; i--) {
+            result = result.extend(objects.get(i), Collections.emptySet());
+        }
+        return result;
+    }
+
+    private static PureTraversal<Vertex, Edge> reverse(final PureTraversal<Vertex, Edge> edgeTraversal) {
+        // only a leading edge step followed by edge filters can be reversed without changing its semantics
+        final Traversal.Admin<Vertex, Edge> traversal = edgeTraversal.getPure();
+        final List<Step> steps = traversal.getSteps();
+        if (steps.isEmpty() || !(steps.get(0) instanceof VertexStep) || !((VertexStep) steps.get(0)).returnsEdge())
+            return null;
+        for (int i = 1; i < steps.size(); i++) {
+            if (!(steps.get(i) instanceof FilterStep)) return null;
+        }
+        return new PureTraversal<>(VertexProgramHelper.reverse(traversal));
+    }
+
     private boolean isStartVertex(final Vertex vertex) {
         // use the sourceVertexFilterTraversal if the VP is running in standalone mode (not part of a traversal)
         if (this.standalone) {
@@ -438,7 +591,7 @@ public class ShortestPathVertexProgram implements VertexProgram<Triplet<Path, Ed
     }
 
     private void processEdges(final Vertex vertex, final Path currentPath, final Number currentDistance,
-                              final Messenger<Triplet<Path, Edge, Number>> messenger) {
+                              final Messenger<Triplet<Object, Edge, Number>> messenger) {
 
         final Traversal.Admin<Vertex, Edge> edgeTraversal = this.edgeTraversal.getPure();
         edgeTraversal.addStart(edgeTraversal.getTraverserGenerator().generate(vertex, edgeTraversal.getStartStep(), 1));
@@ -454,12 +607,390 @@ public class ShortestPathVertexProgram implements VertexProgram<Triplet<Path, Ed
             // only send message if the adjacent vertex is not yet part of the current path
             if (!currentPath.objects().contains(otherV)) {
                 messenger.sendMessage(MessageScope.Global.of(otherV),
-                        Triplet.with(currentPath, this.includeEdges ? edge : null,
+                        new Triplet<>(currentPath, this.includeEdges ? edge : null,
                                 NumberHelper.add(currentDistance, distance)));
             }
         }
     }
 
+    /**
+     * Processes a compact search iteration. Every vertex keeps the shortest known distance per source (and per target
+     * in a bidirectional search) along with the adjacent vertices that lead to it. Messages only carry the source, the
+     * sending vertex and the distance, which keeps them at a constant size no matter how long the paths become.
+     */
+    private void search(final Vertex vertex, final Messenger<Triplet<Object, Edge, Number>> messenger, final Memory memory) {
+
+        final boolean bidirectional = null != this.reverseEdgeTraversal;
+        final Map<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>> predecessors =
+                vertex.<Map<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>>>property(PREDECESSORS).orElseGet(HashMap::new);
+        final Map<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>> successors = bidirectional ?
+                vertex.<Map<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>>>property(SUCCESSORS).orElseGet(HashMap::new) :
+                Collections.emptyMap();
+
+        // sources and targets whose distance to this vertex has been improved in this iteration
+        final Set<Vertex> forward = new HashSet<>();
+        final Set<Vertex> backward = new HashSet<>();
+
+        if (memory.isInitialIteration()) {
+
+            // see the non-compact search for why halted traversers are copied here
+            copyHaltedTraversersFromMemory(vertex);
+
+            final Vertex self = ReferenceFactory.detach(vertex);
+            if (isStartVertex(vertex)) {
+                predecessors.put(self, Pair.with(0, new HashSet<>()));
+                forward.add(self);
+                if (bidirectional) memory.add(SOURCES, new HashSet<>(Collections.singleton(self)));
+            }
+            if (bidirectional && isEndVertex(vertex)) {
+                successors.put(self, Pair.with(0, new HashSet<>()));
+                backward.add(self);
+                memory.add(TARGETS, new HashSet<>(Collections.singleton(self)));
+            }
+
+        } else {
+
+            final Set<Vertex> doneSources = bidirectional ? memory.get(DONE_SOURCES) : Collections.emptySet();
+            final Set<Vertex> doneTargets = bidirectional ? memory.get(DONE_TARGETS) : Collections.emptySet();
+            final Iterator<Triplet<Object, Edge, Number>> iterator = messenger.receiveMessages();
+
+            while (iterator.hasNext()) {
+                final Triplet<Object, Edge, Number> triplet = iterator.next();
+                //noinspection unchecked
+                final Triplet<Vertex, Vertex, Boolean> hop = (Triplet<Vertex, Vertex, Boolean>) triplet.getValue0();
+                final Vertex origin = hop.getValue0();
+                if (hop.getValue2()) {
+                    if (!doneSources.contains(origin) &&
+                            updateDistance(predecessors, origin, hop.getValue1(), triplet.getValue1(), triplet.getValue2()))
+                        forward.add(origin);
+                } else if (!doneTargets.contains(origin) &&
+                        updateDistance(successors, origin, hop.getValue1(), triplet.getValue1(), triplet.getValue2())) {
+                    backward.add(origin);
+                }
+            }
+        }
+
+        if (this.deltaStepping) {
+            // improvements beyond the current bucket are held back until all lower buckets are settled, which saves
+            // the re-relaxations that a plain Bellman-Ford style flooding would cause
+            final Set<Vertex> pending = vertex.<Set<Vertex>>property(PENDING).orElseGet(HashSet::new);
+            pending.addAll(forward);
+            forward.clear();
+            final Number threshold = memory.get(THRESHOLD);
+            Number pendingMin = null;
+            final Iterator<Vertex> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                final Vertex origin = iterator.next();
+                final Number distance = predecessors.get(origin).getValue0();
+                if (NumberHelper.compare(distance, threshold) < 0) {
+                    forward.add(origin);
+                    iterator.remove();
+                } else {
+                    pendingMin = NumberHelper.min(pendingMin, distance);
+                }
+            }
+            if (null != pendingMin) {
+                vertex.property(VertexProperty.Cardinality.single, PENDING, pending);
+                memory.add(PENDING_MIN, pendingMin);
+            } else {
+                final VertexProperty<Set<Vertex>> pendingProperty = vertex.property(PENDING);
+                if (pendingProperty.isPresent()) pendingProperty.remove();
+            }
+        }
+
+        if (bidirectional && !(forward.isEmpty() && backward.isEmpty()))
+            detectMeetings(predecessors, successors, forward, backward, memory);
+
+        if (!predecessors.isEmpty())
+            vertex.property(VertexProperty.Cardinality.single, PREDECESSORS, predecessors);
+        if (!successors.isEmpty())
+            vertex.property(VertexProperty.Cardinality.single, SUCCESSORS, successors);
+
+        final Vertex self = forward.isEmpty() && backward.isEmpty() ? null : ReferenceFactory.detach(vertex);
+        for (final Vertex source : forward) {
+            relax(vertex, self, source, predecessors.get(source).getValue0(), true, messenger);
+        }
+        for (final Vertex target : backward) {
+            relax(vertex, self, target, successors.get(target).getValue0(), false, messenger);
+        }
+
+        // VOTE_TO_HALT will be set to true if an iteration hasn't improved any distance
+        memory.add(VOTE_TO_HALT, forward.isEmpty() && backward.isEmpty());
+    }
+
+    /**
+     * Records a distance to the given origin along with the adjacent vertex (and edge) it was reached through.
+     *
+     * @return {@code true} if the distance has been improved and needs to be propagated to adjacent vertices
+     */
+    private static boolean updateDistance(final Map<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>> distances,
+                                          final Vertex origin, final Vertex adjacent, final Edge edge,
+                                          final Number distance) {
+        final Pair<Number, Set<Pair<Vertex, Edge>>> current = distances.get(origin);
+        final int cmp = null == current ? -1 : NumberHelper.compare(distance, current.getValue0());
+        if (cmp < 0) {
+            final Set<Pair<Vertex, Edge>> adjacents = new HashSet<>();
+            adjacents.add(Pair.with(adjacent, edge));
+            distances.put(origin, Pair.with(distance, adjacents));
+            return true;
+        }
+        // another path of the same length doesn't change any distances further down the road
+        if (cmp == 0) current.getValue1().add(Pair.with(adjacent, edge));
+        return false;
+    }
+
+    private void relax(final Vertex vertex, final Vertex self, final Vertex origin, final Number currentDistance,
+                       final boolean forward, final Messenger<Triplet<Object, Edge, Number>> messenger) {
+
+        final Traversal.Admin<Vertex, Edge> edgeTraversal = (forward ? this.edgeTraversal : this.reverseEdgeTraversal).getPure();
+        edgeTraversal.addStart(edgeTraversal.getTraverserGenerator().generate(vertex, edgeTraversal.getStartStep(), 1));
+
+        while (edgeTraversal.hasNext()) {
+            final Edge edge = edgeTraversal.next();
+            final Number distance = getDistance(edge);
+
+            if (this.deltaStepping && NumberHelper.compare(distance, 0) < 0)
+                throw new IllegalStateException(String.format(
+                        "Delta-stepping requires non-negative distances, but got %s for %s", distance, edge));
+
+            final Number newDistance = NumberHelper.add(currentDistance, distance);
+            if (exceedsLimit(newDistance, forward)) continue;
+
+            Vertex otherV = edge.inVertex();
+            if (otherV.equals(vertex))
+                otherV = edge.outVertex();
+
+            messenger.sendMessage(MessageScope.Global.of(otherV),
+                    new Triplet<>(Triplet.with(origin, self, forward),
+                            this.includeEdges ? ReferenceFactory.detach(edge) : null, newDistance));
+        }
+    }
+
+    private boolean exceedsLimit(final Number distance, final boolean forward) {
+        if (null == this.maxDistance) return false;
+        if (null != this.reverseEdgeTraversal)
+            return NumberHelper.compare(distance, forward ? this.forwardLimit : this.backwardLimit) > 0;
+        // compact searches don't deal with negative distances, hence every path beyond the limit can be dropped
+        return NumberHelper.compare(distance, this.maxDistance) > 0;
+    }
+
+    private Number nextThreshold(final Number distance) {
+        final double delta = this.delta.doubleValue();
+        return (Math.floor(distance.doubleValue() / delta) + 1) * delta;
+    }
+
+    /**
+     * Reports all source/target pairs whose forward and backward searches met at the current vertex. A pair is
+     * resolved with the first meeting, since both searches expand exactly one hop per iteration.
+     */
+    private static void detectMeetings(final Map<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>> predecessors,
+                                       final Map<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>> successors,
+                                       final Set<Vertex> forward, final Set<Vertex> backward, final Memory memory) {
+        final Map<Pair<Vertex, Vertex>, Number> resolved = memory.get(RESOLVED);
+        final List<Triplet<Vertex, Vertex, Number>> meetings = new ArrayList<>();
+        for (final Map.Entry<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>> source : predecessors.entrySet()) {
+            for (final Map.Entry<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>> target : successors.entrySet()) {
+                if ((forward.contains(source.getKey()) || backward.contains(target.getKey())) &&
+                        !resolved.containsKey(Pair.with(source.getKey(), target.getKey()))) {
+                    meetings.add(Triplet.with(source.getKey(), target.getKey(),
+                            NumberHelper.add(source.getValue().getValue0(), target.getValue().getValue0())));
+                }
+            }
+        }
+        if (!meetings.isEmpty()) memory.add(MEETINGS, meetings);
+    }
+
+    private void resolveMeetings(final Memory memory) {
+        final List<Triplet<Vertex, Vertex, Number>> meetings = memory.get(MEETINGS);
+        if (meetings.isEmpty()) return;
+
+        final Map<Pair<Vertex, Vertex>, Number> resolved = new HashMap<>(memory.<Map<Pair<Vertex, Vertex>, Number>>get(RESOLVED));
+        for (final Triplet<Vertex, Vertex, Number> meeting : meetings) {
+            resolved.merge(Pair.with(meeting.getValue0(), meeting.getValue1()), meeting.getValue2(), NumberHelper::min);
+        }
+        memory.set(MEETINGS, new ArrayList<>());
+        memory.set(RESOLVED, resolved);
+
+        // a source (target) is done once it has been connected to all targets (sources)
+        final Set<Vertex> sources = memory.get(SOURCES);
+        final Set<Vertex> targets = memory.get(TARGETS);
+        final Map<Vertex, Integer> sourceCounts = new HashMap<>();
+        final Map<Vertex, Integer> targetCounts = new HashMap<>();
+        for (final Pair<Vertex, Vertex> pair : resolved.keySet()) {
+            sourceCounts.merge(pair.getValue0(), 1, Integer::sum);
+            targetCounts.merge(pair.getValue1(), 1, Integer::sum);
+        }
+        final Set<Vertex> doneSources = new HashSet<>();
+        final Set<Vertex> doneTargets = new HashSet<>();
+        sourceCounts.forEach((source, count) -> {
+            if (count == targets.size()) doneSources.add(source);
+        });
+        targetCounts.forEach((target, count) -> {
+            if (count == sources.size()) doneTargets.add(target);
+        });
+        memory.set(DONE_SOURCES, doneSources);
+        memory.set(DONE_TARGETS, doneTargets);
+    }
+
+    /**
+     * Starts the walks along the predecessor (and successor) pointers that reconstruct the shortest paths. In a
+     * unidirectional search each walk starts at a target vertex, in a bidirectional search it starts at the vertex in
+     * the middle of the path, which then gets split into a prefix and a suffix walk.
+     */
+    private void startPathReconstruction(final Vertex vertex, final Messenger<Triplet<Object, Edge, Number>> messenger,
+                                         final Memory memory) {
+
+        final VertexProperty<Map<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>>> predecessorProperty = vertex.property(PREDECESSORS);
+        if (!predecessorProperty.isPresent()) return;
+
+        final Map<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>> predecessors = predecessorProperty.value();
+
+        if (null == this.reverseEdgeTraversal) {
+            if (!isEndVertex(vertex)) return;
+            for (final Map.Entry<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>> entry : predecessors.entrySet()) {
+                if (this.maxDistance == null || NumberHelper.compare(entry.getValue().getValue0(), this.maxDistance) <= 0)
+                    walk(vertex, entry.getKey(), null, true, predecessors, messenger, memory);
+            }
+            return;
+        }
+
+        final VertexProperty<Map<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>>> successorProperty = vertex.property(SUCCESSORS);
+        if (!successorProperty.isPresent()) return;
+
+        final Map<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>> successors = successorProperty.value();
+        final Map<Pair<Vertex, Vertex>, Number> resolved = memory.get(RESOLVED);
+        final Set<Vertex> sources = new HashSet<>();
+        final Set<Vertex> targets = new HashSet<>();
+
+        for (final Map.Entry<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>> source : predecessors.entrySet()) {
+            for (final Map.Entry<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>> target : successors.entrySet()) {
+                final Number length = resolved.get(Pair.with(source.getKey(), target.getKey()));
+                final int a = source.getValue().getValue0().intValue();
+                final int b = target.getValue().getValue0().intValue();
+                // every shortest path is split at exactly one vertex, the one that is half way (rounded up) in
+                if (null != length && length.intValue() == a + b && a == (a + b + 1) / 2) {
+                    sources.add(source.getKey());
+                    targets.add(target.getKey());
+                }
+            }
+        }
+
+        for (final Vertex source : sources) {
+            walk(vertex, source, null, true, predecessors, messenger, memory);
+        }
+        for (final Vertex target : targets) {
+            walk(vertex, target, null, false, successors, messenger, memory);
+        }
+    }
+
+    private void reconstructPaths(final Vertex vertex, final Messenger<Triplet<Object, Edge, Number>> messenger,
+                                  final Memory memory) {
+
+        final Iterator<Triplet<Object, Edge, Number>> iterator = messenger.receiveMessages();
+        if (!iterator.hasNext()) return;
+
+        final Map<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>> predecessors =
+                vertex.<Map<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>>>property(PREDECESSORS).orElseGet(Collections::emptyMap);
+        final Map<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>> successors =
+                vertex.<Map<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>>>property(SUCCESSORS).orElseGet(Collections::emptyMap);
+
+        while (iterator.hasNext()) {
+            //noinspection unchecked
+            final Triplet<Vertex, Path, Boolean> step = (Triplet<Vertex, Path, Boolean>) iterator.next().getValue0();
+            final boolean forward = step.getValue2();
+            walk(vertex, step.getValue0(), step.getValue1(), forward, forward ? predecessors : successors, messenger, memory);
+        }
+    }
+
+    /**
+     * Extends a partial path by the current vertex and passes it on to all adjacent vertices that are one step
+     * closer to the origin. The partial path of a forward walk is collected in reverse order.
+     */
+    private void walk(final Vertex vertex, final Vertex origin, final Path partialPath, final boolean forward,
+                      final Map<Vertex, Pair<Number, Set<Pair<Vertex, Edge>>>> distances,
+                      final Messenger<Triplet<Object, Edge, Number>> messenger, final Memory memory) {
+
+        final Path path = (null == partialPath ? ImmutablePath.make() : partialPath)
+                .extend(ReferenceFactory.detach(vertex), Collections.emptySet());
+
+        if (vertex.equals(origin)) {
+            completePath(path, forward, memory);
+            return;
+        }
+
+        final Pair<Number, Set<Pair<Vertex, Edge>>> distance = distances.get(origin);
+        if (null == distance) return;
+
+        // zero distances may lead to cycles in the predecessor graph
+        final List<Object> objects = this.distanceEqualsNumberOfHops ? null : path.objects();
+        boolean sent = false;
+        for (final Pair<Vertex, Edge> adjacent : distance.getValue1()) {
+            if (null != objects && objects.contains(adjacent.getValue0())) continue;
+            final Path nextPath = this.includeEdges
+                    ? path.extend(adjacent.getValue1(), Collections.emptySet())
+                    : path;
+            messenger.sendMessage(MessageScope.Global.of(adjacent.getValue0()),
+                    new Triplet<>(Triplet.with(origin, nextPath, forward), null, null));
+            sent = true;
+        }
+        if (sent) memory.add(VOTE_TO_HALT, false);
+    }
+
+    private void completePath(final Path path, final boolean forward, final Memory memory) {
+        final List<Path> result = new ArrayList<>();
+        result.add(forward ? reversePath(path) : path);
+        if (null == this.reverseEdgeTraversal)
+            memory.add(SHORTEST_PATHS, result);
+        else
+            memory.add(forward ? PREFIXES : SUFFIXES, result);
+    }
+
+    /**
+     * Joins the prefixes and suffixes of a bidirectional search at the vertices they were split at.
+     */
+    private void joinPaths(final Memory memory) {
+        final Map<Pair<Vertex, Vertex>, Number> resolved = memory.get(RESOLVED);
+        final List<Path> prefixes = memory.get(PREFIXES);
+        final List<Path> suffixes = memory.get(SUFFIXES);
+
+        final Map<Vertex, List<Path>> suffixesByVertex = new HashMap<>();
+        for (final Path suffix : suffixes) {
+            suffixesByVertex.computeIfAbsent(suffix.get(0), k -> new ArrayList<>()).add(suffix);
+        }
+
+        final List<Path> result = new ArrayList<>();
+        for (final Path prefix : prefixes) {
+            final Vertex source = prefix.get(0);
+            final int a = hops(prefix);
+            for (final Path suffix : suffixesByVertex.getOrDefault(prefix.<Vertex>head(), Collections.emptyList())) {
+                final Number length = resolved.get(Pair.with(source, suffix.<Vertex>head()));
+                final int b = hops(suffix);
+                if (null != length && length.intValue() == a + b && a == (a + b + 1) / 2) {
+                    Path path = prefix;
+                    final List<Object> objects = suffix.objects();
+                    for (int i = 1; i < objects.size(); i++) {
+                        path = path.extend(objects.get(i), Collections.emptySet());
+                    }
+                    result.add(path);
+                }
+            }
+        }
+        memory.set(SHORTEST_PATHS, result);
+    }
+
+    private int hops(final Path path) {
+        return this.includeEdges ? path.size() / 2 : path.size() - 1;
+    }
+
+    private boolean completePathCollection(final Memory memory) {
+        // After paths were collected,
+        // a) the VP is done in standalone mode (paths will be in memory) or
+        // b) the halted traversers will be updated in order to have the paths available in the traversal
+        if (this.standalone) return true;
+        memory.set(STATE, UPDATE_HALTED_TRAVERSERS);
+        return false;
+    }
+
     private void updateHaltedTraversers(final Vertex vertex, final Memory memory) {
         if (isStartVertex(vertex)) {
             final List<Path> paths = memory.get(SHORTEST_PATHS);
@@ -590,6 +1121,41 @@ public class ShortestPathVertexProgram implements VertexProgram<Triplet<Path, Ed
             this.configuration.setProperty(INCLUDE_EDGES, include);
             return this;
         }
+
+        /**
+         * Runs a forward search from the source vertices and a backward search from the target vertices at the same
+         * time. This option only takes effect for hop-based distances, a custom target filter and an edge traversal
+         * that starts with an edge step followed by edge filters only, otherwise the search is unidirectional.
+         */
+        public Builder bidirectional(final boolean bidirectional) {
+            this.configuration.setProperty(BIDIRECTIONAL, bidirectional);
+            return this;
+        }
+
+        /**
+         * Keeps only the shortest distance and the adjacent vertices it was reached through for each source vertex
+         * rather than every path, and reconstructs the paths once the search is complete. This option only takes
+         * effect for hop-based distances. Bidirectional and delta-stepping searches always work this way.
+         */
+        public Builder compact(final boolean compact) {
+            this.configuration.setProperty(COMPACT, compact);
+            return this;
+        }
+
+        /**
+         * Enables delta-stepping for custom distances, which only relaxes vertices whose distance falls into the
+         * current bucket of the given width. This requires all distances to be non-negative and, in turn, allows
+         * the search to prune all paths beyond the {@link #maxDistance(Number)}.
+         */
+        public Builder delta(final Number delta) {
+            if (null != delta) {
+                if (NumberHelper.compare(delta, 0) <= 0)
+                    throw new IllegalArgumentException("The delta must be greater than 0: " + delta);
+                this.configuration.setProperty(DELTA, delta);
+            } else
+                this.configuration.clearProperty(DELTA);
+            return this;
+        }
     }
 
     ////////////////////////////
@@ -55,6 +55,24 @@ public class ShortestPath {
      */
     public static final String includeEdges = Graph.Hidden.hide("tinkerpop.shortestPath.includeEdges");
 
+    /**
+     * Configures the search to run from the source and the target vertices at the same time. This only takes effect
+     * for hop-based distances in combination with a custom {@link #target}.
+     */
+    public static final String bidirectional = Graph.Hidden.hide("tinkerpop.shortestPath.bidirectional");
+
+    /**
+     * Configures a hop-based search to keep predecessor pointers rather than full paths, which are reconstructed once
+     * the search is complete.
+     */
+    public static final String compact = Graph.Hidden.hide("tinkerpop.shortestPath.compact");
+
+    /**
+     * Configures the bucket width for a delta-stepping search over custom distances, which requires all distances to
+     * be non-negative.
+     */
+    public static final String delta = Graph.Hidden.hide("tinkerpop.shortestPath.delta");
+
     static boolean configure(final ShortestPathVertexProgramStep step, final String key, final Object value) {
 
         if (target.equals(key)) {
@@ -103,6 +121,27 @@ public class ShortestPath {
             }
             else throw new IllegalArgumentException("ShortestPath.includeEdges requires a Boolean as its argument");
         }
+        else if (bidirectional.equals(key)) {
+            if (value instanceof Boolean) {
+                step.setBidirectional((Boolean) value);
+                return true;
+            }
+            else throw new IllegalArgumentException("ShortestPath.bidirectional requires a Boolean as its argument");
+        }
+        else if (compact.equals(key)) {
+            if (value instanceof Boolean) {
+                step.setCompact((Boolean) value);
+                return true;
+            }
+            else throw new IllegalArgumentException("ShortestPath.compact requires a Boolean as its argument");
+        }
+        else if (delta.equals(key)) {
+            if (value instanceof Number) {
+                step.setDelta((Number) value);
+                return true;
+            }
+            else throw new IllegalArgumentException("ShortestPath.delta requires a Number as its argument");
+        }
         return false;
     }
 }
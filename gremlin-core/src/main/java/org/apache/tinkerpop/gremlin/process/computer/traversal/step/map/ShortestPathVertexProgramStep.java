@@ -55,7 +55,10 @@ public final class ShortestPathVertexProgramStep extends VertexProgramStep imple
     private PureTraversal<Vertex, Edge> edgeTraversal = ShortestPathVertexProgram.DEFAULT_EDGE_TRAVERSAL.clone();
     private PureTraversal<Edge, Number> distanceTraversal = ShortestPathVertexProgram.DEFAULT_DISTANCE_TRAVERSAL.clone();
     private Number maxDistance;
+    private Number delta;
     private boolean includeEdges;
+    private boolean bidirectional;
+    private boolean compact;
 
     public ShortestPathVertexProgramStep(final Traversal.Admin<?, ?> traversal) {
         super(traversal);
@@ -81,6 +84,18 @@ public final class ShortestPathVertexProgramStep extends VertexProgramStep imple
         this.includeEdges = includeEdges;
     }
 
+    void setBidirectional(final boolean bidirectional) {
+        this.bidirectional = bidirectional;
+    }
+
+    void setCompact(final boolean compact) {
+        this.compact = compact;
+    }
+
+    void setDelta(final Number delta) {
+        this.delta = delta;
+    }
+
     @Override
     public void configure(final Object... keyValues) {
         if (!ShortestPath.configure(this, (String) keyValues[0], keyValues[1])) {
@@ -121,7 +136,10 @@ public final class ShortestPathVertexProgramStep extends VertexProgramStep imple
                 .edgeTraversal(this.edgeTraversal.getPure())
                 .distanceTraversal(this.distanceTraversal.getPure())
                 .maxDistance(this.maxDistance)
-                .includeEdges(this.includeEdges);
+                .includeEdges(this.includeEdges)
+                .bidirectional(this.bidirectional)
+                .compact(this.compact)
+                .delta(this.delta);
 
         //noinspection unchecked
         final PureTraversal pureRootTraversal = new PureTraversal<>(this.traversal);
@@ -30,6 +30,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
 import org.apache.tinkerpop.gremlin.structure.Column;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.util.NumberHelper;
 
 import javax.lang.model.SourceVersion;
@@ -54,15 +55,34 @@ import static org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils.asIterato
 /**
  * This class helps to build a gremlin-lang compatible string representation based on a {@link TraversalSource}
  * and then a {@link Traversal}.
+ * <p/>
+ * When the {@link #PARAMETERIZE_LITERALS} option is set on the traversal source, for example with
+ * {@code g.with(GremlinLang.PARAMETERIZE_LITERALS)}, literal values in positions where gremlin-lang accepts a
+ * variable (ids, property values, predicate values, ranges) are extracted into parameters named by their position
+ * in the traversal. The Gremlin text for a given traversal shape is then identical no matter what values are
+ * supplied, which lets the server reuse whatever it cached for that text.
  */
 public class GremlinLang implements Cloneable, Serializable {
 
+    /**
+     * Option key that, when set to {@code true} with {@link TraversalSource#with(String)}, extracts literal values
+     * into parameters so that traversals of the same shape produce the same Gremlin text.
+     */
+    public static final String PARAMETERIZE_LITERALS = "parameterizeLiterals";
+
     private static final Object[] EMPTY_ARRAY = new Object[]{};
 
     private StringBuilder gremlin = new StringBuilder();
     private Map<String, Object> parameters = new HashMap<>();
     private static final AtomicInteger paramCount = new AtomicInteger(0);
     private List<OptionsStrategy> optionsStrategies = new ArrayList<>();
+    /**
+     * The steps this was built from, kept so that it can be re-rendered as a child of a traversal that parameterizes
+     * literals. They are not serialized, so a deserialized instance renders as a child from its Gremlin text.
+     */
+    private transient List<Instruction> instructions = new ArrayList<>();
+    private boolean parameterizeLiterals = false;
+    private int literalCount = 0;
 
     public GremlinLang() {
     }
@@ -73,24 +93,70 @@ public class GremlinLang implements Cloneable, Serializable {
 
     private void addToGremlin(final String name, final Object... arguments) {
         final Object[] flattenedArguments = flattenArguments(arguments);
+        if (instructions != null)
+            instructions.add(new Instruction(name, flattenedArguments));
+        appendInstruction(gremlin, name, flattenedArguments);
+    }
 
+    private void appendInstruction(final StringBuilder sb, final String name, final Object[] arguments) {
         // todo: figure out solution for AbstractLambdaTraversal
         if ("CardinalityValueTraversal".equals(name)) {
-            gremlin.append("Cardinality.").append(flattenedArguments[0])
-                    .append("(").append(flattenedArguments[1]).append(")");
+            sb.append("Cardinality.").append(arguments[0])
+                    .append("(").append(arguments[1]).append(")");
             return;
         }
 
-        gremlin.append(".").append(name).append('(');
+        sb.append(".").append(name).append('(');
 
-        for (int i = 0; i < flattenedArguments.length; i++) {
+        for (int i = 0; i < arguments.length; i++) {
             if (i != 0) {
-                gremlin.append(',');
+                sb.append(',');
             }
-            gremlin.append(argAsString(flattenedArguments[i]));
+            sb.append(isValuePosition(name, i, arguments) ? valueAsString(arguments[i]) : argAsString(arguments[i]));
         }
 
-        gremlin.append(')');
+        sb.append(')');
+    }
+
+    /**
+     * Determines if the argument at the specified index of a step is one that gremlin-lang allows to be given as a
+     * variable. Keys, labels and tokens are never in such a position as they form part of the traversal shape.
+     */
+    private static boolean isValuePosition(final String name, final int index, final Object[] arguments) {
+        switch (name) {
+            case GraphTraversal.Symbols.V:
+            case GraphTraversal.Symbols.E:
+            case GraphTraversal.Symbols.inject:
+            case GraphTraversal.Symbols.hasId:
+            case GraphTraversal.Symbols.hasValue:
+            case GraphTraversal.Symbols.is:
+            case GraphTraversal.Symbols.constant:
+            case GraphTraversal.Symbols.coin:
+            case GraphTraversal.Symbols.limit:
+            case GraphTraversal.Symbols.skip:
+            case GraphTraversal.Symbols.tail:
+            case GraphTraversal.Symbols.range:
+                return true;
+            case GraphTraversal.Symbols.has:
+                return arguments.length > 1 && index == arguments.length - 1;
+            case GraphTraversal.Symbols.property:
+                return index == (arguments.length > 0 && arguments[0] instanceof VertexProperty.Cardinality ? 2 : 1);
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isLiteral(final Object arg) {
+        return arg instanceof String || arg instanceof Number || arg instanceof Boolean || arg instanceof OffsetDateTime;
+    }
+
+    private String valueAsString(final Object arg) {
+        if (parameterizeLiterals) {
+            final Object value = arg instanceof Vertex ? ((Vertex) arg).id() : arg;
+            if (isLiteral(value))
+                return asParameter(value);
+        }
+        return argAsString(arg);
     }
 
     private String argAsString(final Object arg) {
@@ -163,6 +229,12 @@ public class GremlinLang implements Cloneable, Serializable {
 
         if (arg instanceof GremlinLang || arg instanceof DefaultTraversal) {
             final GremlinLang gremlinLang = arg instanceof GremlinLang ? (GremlinLang) arg : ((DefaultTraversal) arg).getGremlinLang();
+
+            // child traversals are built without knowing the mode of their parent so they are re-rendered to
+            // extract their literals with names that follow on from the parent
+            if (parameterizeLiterals)
+                return asChildString(gremlinLang);
+
             parameters.putAll(gremlinLang.getParameters());
             return gremlinLang.getGremlin("__");
         }
@@ -209,8 +281,28 @@ public class GremlinLang implements Cloneable, Serializable {
         return asParameter(arg);
     }
 
+    private String asChildString(final GremlinLang child) {
+        if (null == child.instructions) {
+            parameters.putAll(child.getParameters());
+            return child.getGremlin("__");
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        for (final Instruction instruction : child.instructions) {
+            appendInstruction(sb, instruction.name, instruction.arguments);
+        }
+
+        // special handling for CardinalityValueTraversal
+        if (sb.length() != 0 && sb.charAt(0) != '.') {
+            return sb.toString();
+        }
+        return sb.insert(0, "__").toString();
+    }
+
     private String asParameter(final Object arg) {
-        final String paramName = String.format("_%d", paramCount.getAndIncrement());
+        // names are local to the traversal when literals are parameterized so that the Gremlin text is stable
+        final String paramName = parameterizeLiterals ?
+                "_p" + literalCount++ : String.format("_%d", paramCount.getAndIncrement());
         // todo: consider resetting paramCount when it's larger then 1_000_000
         parameters.put(paramName, arg);
         return paramName;
@@ -247,7 +339,7 @@ public class GremlinLang implements Cloneable, Serializable {
         final StringBuilder sb = new StringBuilder();
         if (p instanceof TextP) {
             sb.append("TextP.").append(p.getPredicateName()).append("(");
-            sb.append(argAsString(p.getValue()));
+            sb.append(valueAsString(p.getValue()));
         } else if (p instanceof ConnectiveP) {
             // ConnectiveP gets some special handling because it's reduced to and(P, P, P) and we want it
             // generated the way it was written which was P.and(P).and(P)
@@ -266,7 +358,7 @@ public class GremlinLang implements Cloneable, Serializable {
             }
         } else {
             sb.append("P.").append(p.getPredicateName()).append("(");
-            sb.append(argAsString(p.getValue()));
+            sb.append(valueAsString(p.getValue()));
         }
         sb.append(")");
         return sb.toString();
@@ -369,6 +461,9 @@ public class GremlinLang implements Cloneable, Serializable {
         for (int i = 0; i < arguments.length; i++) {
             // special handling for OptionsStrategy
             if (arguments[i] instanceof OptionsStrategy) {
+                final Object parameterize = ((OptionsStrategy) arguments[i]).getOptions().get(PARAMETERIZE_LITERALS);
+                if (parameterize != null)
+                    parameterizeLiterals = Boolean.parseBoolean(parameterize.toString());
                 optionsStrategies.add((OptionsStrategy) arguments[i]);
                 break;
             }
@@ -431,6 +526,13 @@ public class GremlinLang implements Cloneable, Serializable {
         return optionsStrategies;
     }
 
+    /**
+     * Determines if literal values are extracted into parameters as described by {@link #PARAMETERIZE_LITERALS}.
+     */
+    public boolean isParameterizeLiterals() {
+        return parameterizeLiterals;
+    }
+
     public boolean isEmpty() {
         return this.gremlin.length() == 0;
     }
@@ -463,6 +565,7 @@ public class GremlinLang implements Cloneable, Serializable {
             clone.gremlin = new StringBuilder(gremlin.length());
             clone.gremlin.append(gremlin);
             clone.optionsStrategies = new ArrayList<>(this.optionsStrategies);
+            clone.instructions = null == this.instructions ? null : new ArrayList<>(this.instructions);
             return clone;
         } catch (final CloneNotSupportedException e) {
             throw new IllegalStateException(e.getMessage(), e);
@@ -513,4 +616,14 @@ public class GremlinLang implements Cloneable, Serializable {
         } else
             return argument;
     }
+
+    private static final class Instruction {
+        private final String name;
+        private final Object[] arguments;
+
+        private Instruction(final String name, final Object[] arguments) {
+            this.name = name;
+            this.arguments = arguments;
+        }
+    }
 }
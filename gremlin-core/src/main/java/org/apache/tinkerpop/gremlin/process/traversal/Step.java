@@ -187,4 +187,21 @@ public interface Step<S, E> extends Iterator<Traverser.Admin<E>>, Serializable,
     public default boolean equals(final Step other, final boolean compareIds) {
         return (!compareIds || (other != null && this.getId().equals(other.getId()))) && this.equals(other);
     }
+
+    /**
+     * Fills the provided array with up to {@code batch.length} traversers that are ready for the next step and
+     * returns how many were written. A return value of {@code 0} means that the step is exhausted. The default
+     * implementation adapts {@link #hasNext()} and {@link #next()} while steps that can process their starts in
+     * bulk may override it to avoid the per-traverser overhead.
+     *
+     * @param batch the array to fill from index {@code 0}
+     * @return the number of traversers written to the array
+     */
+    public default int nextBatch(final Traverser.Admin<E>[] batch) {
+        int size = 0;
+        while (size < batch.length && this.hasNext()) {
+            batch[size++] = this.next();
+        }
+        return size;
+    }
 }
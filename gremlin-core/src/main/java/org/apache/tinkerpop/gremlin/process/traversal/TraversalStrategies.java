@@ -34,9 +34,14 @@ import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.Partit
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SackStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SeedStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SubgraphStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.BatchExecutionStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ChildTraversalCacheStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MatchAlgorithmStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MergeBatchStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ParallelBranchStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ProfileStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ReferenceElementStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.StepMetricsStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.AdjacentToIncidentStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.ByModulatorOptimizationStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.CountStrategy;
@@ -252,8 +257,13 @@ public interface TraversalStrategies extends Serializable, Cloneable, Iterable<T
             put(VertexProgramStrategy.class.getSimpleName(), VertexProgramStrategy.class);
 
             // finalization
+            put(BatchExecutionStrategy.class.getSimpleName(), BatchExecutionStrategy.class);
+            put(ChildTraversalCacheStrategy.class.getSimpleName(), ChildTraversalCacheStrategy.class);
             put(MatchAlgorithmStrategy.class.getSimpleName(), MatchAlgorithmStrategy.class);
+            put(MergeBatchStrategy.class.getSimpleName(), MergeBatchStrategy.class);
+            put(ParallelBranchStrategy.class.getSimpleName(), ParallelBranchStrategy.class);
             put(ReferenceElementStrategy.class.getSimpleName(), ReferenceElementStrategy.class);
+            put(StepMetricsStrategy.class.getSimpleName(), StepMetricsStrategy.class);
 
             // optimizations
             put(ProductiveByStrategy.class.getSimpleName(), ProductiveByStrategy.class);
@@ -74,6 +74,18 @@ public interface TraversalParent extends PopContaining, AutoCloseable {
         return requirements;
     }
 
+    /**
+     * Gets the most results this parent takes from the given child traversal before it has what it needs, where
+     * {@code Long.MAX_VALUE} means that every result may be consumed. Filters and {@code by()} modulators that only
+     * look at the first result return {@code 1} while parents that pass results of a child along, such as
+     * {@code local()}, return the demand on their own output as given by
+     * {@link TraversalHelper#getRequiredResults(Step)}. Strategies use this to avoid work in a child that could not
+     * change what the parent does with it.
+     */
+    public default long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        return Long.MAX_VALUE;
+    }
+
     public default Step<?, ?> asStep() {
         return (Step<?, ?>) this;
     }
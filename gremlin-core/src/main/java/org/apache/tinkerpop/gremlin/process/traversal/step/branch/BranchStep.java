@@ -19,6 +19,7 @@
 package org.apache.tinkerpop.gremlin.process.traversal.step.branch;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Pick;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.lambda.PredicateTraversal;
@@ -28,6 +29,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.util.ComputerAwareSte
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalProduct;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
@@ -36,10 +38,18 @@ import org.javatuples.Pair;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -53,9 +63,21 @@ public class BranchStep<S, E, M> extends ComputerAwareStep<S, E> implements Trav
     protected Map<Pick, List<Traversal.Admin<S, E>>> traversalPickOptions = new HashMap<>();
     protected List<Pair<Traversal.Admin<M, ?>, Traversal.Admin<S, E>>> traversalOptions = new ArrayList<>();
 
+    /**
+     * The number of traversers read ahead and routed to the options before they are drained in parallel, when the
+     * options have no barrier and so would otherwise be drained once per traverser.
+     */
+    private static final int PARALLEL_BATCH_SIZE = 1000;
+
     private boolean first = true;
     protected boolean hasBarrier;
 
+    /**
+     * The number of options that may be iterated at the same time, where {@code 1} iterates them one after another
+     * on the calling thread.
+     */
+    protected int parallelism = 1;
+
     public BranchStep(final Traversal.Admin traversal) {
         super(traversal);
     }
@@ -101,6 +123,22 @@ public class BranchStep<S, E, M> extends ComputerAwareStep<S, E> implements Trav
         return branchTraversal;
     }
 
+    /**
+     * Sets the number of options with starts that may be iterated at the same time. When greater than one, the
+     * options are drained concurrently on a shared pool and their results are emitted in option order so that the
+     * output is the same as when they are iterated one after another. The options must be free of side-effects and
+     * the graph must support reads from threads other than the one iterating the traversal.
+     */
+    public void setParallelism(final int parallelism) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("The parallelism must be greater than zero: " + parallelism);
+        this.parallelism = parallelism;
+    }
+
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
     @Override
     public Set<TraverserRequirement> getRequirements() {
         return this.getSelfAndChildRequirements();
@@ -119,10 +157,24 @@ public class BranchStep<S, E, M> extends ComputerAwareStep<S, E> implements Trav
                 this.traversalOptions.stream().map(Pair::getValue0)).collect(Collectors.toList()));
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        // the results of an option are passed along as the results of this step while the branch and pick
+        // traversals only need to produce a first result
+        return getGlobalChildren().contains(child) ? TraversalHelper.getRequiredResults(this) : 1L;
+    }
+
     @Override
     protected Iterator<Traverser.Admin<E>> standardAlgorithm() {
+        if (this.parallelism > 1 && !this.hasBarrier)
+            return drainBatchInParallel();
+
         while (true) {
-            if (!this.first) {
+            if (!this.first && this.parallelism > 1) {
+                final Iterator<Traverser.Admin<E>> ends = drainOptionsInParallel();
+                if (ends.hasNext())
+                    return ends;
+            } else if (!this.first) {
                 // this block is ignored on the first pass through the while(true) giving the opportunity for
                 // the traversalOptions to be prepared. Iterate all of them and simply return the ones that yield
                 // results. applyCurrentTraverser() will have only injected the current traverser into the options
@@ -152,26 +204,180 @@ public class BranchStep<S, E, M> extends ComputerAwareStep<S, E> implements Trav
         }
     }
 
+    /**
+     * Drains every option that has starts and returns their results in option order. This is used when the options
+     * have a barrier, in which case all the starts have already been routed to the options.
+     */
+    private Iterator<Traverser.Admin<E>> drainOptionsInParallel() {
+        final List<Traversal.Admin<S, E>> options = new ArrayList<>();
+        for (final Traversal.Admin<S, E> option : getGlobalChildren()) {
+            // checking hasStarts() first on the step in case there is a ReducingBarrierStep which will
+            // always return true for hasNext()
+            if (option.getStartStep().hasStarts())
+                options.add(option);
+        }
+
+        if (options.isEmpty())
+            return Collections.emptyIterator();
+        if (options.size() == 1)
+            return drain(options.get(0)).iterator();
+
+        final List<Traverser.Admin<E>> ends = new ArrayList<>();
+        runInParallel(options.stream().<Callable<List<Traverser.Admin<E>>>>map(option -> () -> drain(option)).
+                collect(Collectors.toList())).forEach(ends::addAll);
+        return ends.iterator();
+    }
+
+    /**
+     * Reads up to {@link #PARALLEL_BATCH_SIZE} traversers, routes each of them to its options and then drains the
+     * options in parallel, so that each option is handed to the pool once per batch rather than once per traverser.
+     * An option is still drained after each of its starts and the results are returned ordered by traverser and then
+     * by option, which is the order of sequential iteration.
+     */
+    private Iterator<Traverser.Admin<E>> drainBatchInParallel() {
+        final List<Traversal.Admin<S, E>> options = getGlobalChildren();
+        final Map<Traversal.Admin<S, E>, Integer> optionIndices = new IdentityHashMap<>();
+        for (int i = 0; i < options.size(); i++) {
+            optionIndices.put(options.get(i), i);
+        }
+
+        while (true) {
+            if (!this.starts.hasNext())
+                throw FastNoSuchElementException.instance();
+
+            // the starts of each option along with the position in the batch of the traverser they were split from
+            final List<List<Traverser.Admin<S>>> optionStarts = new ArrayList<>(options.size());
+            final List<List<Integer>> optionPositions = new ArrayList<>(options.size());
+            for (int i = 0; i < options.size(); i++) {
+                optionStarts.add(new ArrayList<>());
+                optionPositions.add(new ArrayList<>());
+            }
+            int batchSize = 0;
+            while (batchSize < PARALLEL_BATCH_SIZE && this.starts.hasNext()) {
+                final Traverser.Admin<S> start = this.starts.next();
+                for (final Traversal.Admin<S, E> option : chooseOptions(start)) {
+                    final int index = optionIndices.get(option);
+                    optionStarts.get(index).add(start.split());
+                    optionPositions.get(index).add(batchSize);
+                }
+                batchSize++;
+            }
+
+            final List<Integer> chosen = new ArrayList<>();
+            final List<Callable<List<List<Traverser.Admin<E>>>>> work = new ArrayList<>();
+            for (int i = 0; i < options.size(); i++) {
+                if (optionStarts.get(i).isEmpty())
+                    continue;
+                final Traversal.Admin<S, E> option = options.get(i);
+                final List<Traverser.Admin<S>> starts = optionStarts.get(i);
+                chosen.add(i);
+                work.add(() -> {
+                    final List<List<Traverser.Admin<E>>> ends = new ArrayList<>(starts.size());
+                    for (final Traverser.Admin<S> start : starts) {
+                        option.addStart(start);
+                        ends.add(drain(option));
+                    }
+                    return ends;
+                });
+            }
+            if (work.isEmpty())
+                continue;
+
+            final List<List<List<Traverser.Admin<E>>>> results = runInParallel(work);
+            final int[] next = new int[results.size()];
+            final List<Traverser.Admin<E>> ends = new ArrayList<>();
+            for (int position = 0; position < batchSize; position++) {
+                for (int i = 0; i < results.size(); i++) {
+                    final List<Integer> positions = optionPositions.get(chosen.get(i));
+                    if (next[i] < positions.size() && positions.get(next[i]) == position)
+                        ends.addAll(results.get(i).get(next[i]++));
+                }
+            }
+            if (!ends.isEmpty())
+                return ends.iterator();
+        }
+    }
+
+    /**
+     * Runs the work and returns its results in order. The first item runs on the calling thread while up to
+     * {@link #parallelism} - 1 of the others are handed to the shared pool. Any item the pool has not picked up by
+     * the time the calling thread reaches it is run by the calling thread, so the step always makes progress even
+     * when the pool is busy with the options of other steps.
+     */
+    private <R> List<R> runInParallel(final List<Callable<R>> work) {
+        final List<FutureTask<R>> tasks = new ArrayList<>(work.size() - 1);
+        for (int i = 1; i < work.size(); i++) {
+            final FutureTask<R> task = new FutureTask<>(work.get(i));
+            if (i < this.parallelism)
+                BranchExecutor.POOL.execute(task);
+            tasks.add(task);
+        }
+
+        boolean completed = false;
+        try {
+            final List<R> results = new ArrayList<>(work.size());
+            results.add(work.get(0).call());
+            for (final FutureTask<R> task : tasks) {
+                // does nothing if the pool already started the task
+                task.run();
+                results.add(task.get());
+            }
+            completed = true;
+            return results;
+        } catch (final InterruptedException ie) {
+            throw new TraversalInterruptedException();
+        } catch (final ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw new IllegalStateException(cause.getMessage(), cause);
+        } catch (final RuntimeException re) {
+            throw re;
+        } catch (final Exception ex) {
+            throw new IllegalStateException(ex.getMessage(), ex);
+        } finally {
+            // interrupts the options still running when the traversal was interrupted or another option failed
+            if (!completed)
+                tasks.forEach(task -> task.cancel(true));
+        }
+    }
+
+    private List<Traverser.Admin<E>> drain(final Traversal.Admin<S, E> option) {
+        final List<Traverser.Admin<E>> ends = new ArrayList<>();
+        final Step<?, E> endStep = option.getEndStep();
+        while (endStep.hasNext()) {
+            ends.add(endStep.next());
+        }
+        return ends;
+    }
+
     /**
      * Choose the right traversal option to apply and seed those options with this traverser.
      */
     protected void applyCurrentTraverser(final Traverser.Admin<S> start) {
-        // first get the value of the choice based on the current traverser and use that to select the right traversal
-        // option to which that traverser should be routed
+        // split the traverser and add it to the start of each chosen option so that when that option is iterated
+        // (in the calling method) that value can be applied.
+        chooseOptions(start).forEach(traversal -> traversal.addStart(start.split()));
+    }
+
+    /**
+     * Gets the options the traverser is routed to, which are the options picked by the value of the choice for the
+     * traverser followed by any {@link Pick#any} options.
+     */
+    private List<Traversal.Admin<S, E>> chooseOptions(final Traverser.Admin<S> start) {
         final TraversalProduct product = TraversalUtil.produce(start, this.branchTraversal);
         final M choice = (M) (product.isProductive() ? product.get() : Pick.unproductive);
         final List<Traversal.Admin<S, E>> branches = pickBranches(choice);
-
-        // if a branch is identified, then split the traverser and add it to the start of the option so that when
-        // that option is iterated (in the calling method) that value can be applied.
-        if (null != branches)
-            branches.forEach(traversal -> traversal.addStart(start.split()));
+        final List<Traversal.Admin<S, E>> chosen = null == branches ? new ArrayList<>() : new ArrayList<>(branches);
 
         if (choice != Pick.any) {
             final List<Traversal.Admin<S, E>> anyBranch = this.traversalPickOptions.get(Pick.any);
             if (null != anyBranch)
-                anyBranch.forEach(traversal -> traversal.addStart(start.split()));
+                chosen.addAll(anyBranch);
         }
+        return chosen;
     }
 
     @Override
@@ -275,4 +481,23 @@ public class BranchStep<S, E, M> extends ComputerAwareStep<S, E> implements Trav
         this.getGlobalChildren().forEach(Traversal.Admin::reset);
         this.first = true;
     }
+
+    /**
+     * Holds the pool shared by all steps that drain their options in parallel. It is only created when first used
+     * and its daemon threads exit after a minute without work.
+     */
+    private static final class BranchExecutor {
+        private static final ThreadPoolExecutor POOL;
+
+        static {
+            final int threads = Runtime.getRuntime().availableProcessors();
+            final AtomicInteger threadCount = new AtomicInteger(0);
+            POOL = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                final Thread thread = new Thread(r, "gremlin-branch-" + threadCount.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+            POOL.allowCoreThreadTimeOut(true);
+        }
+    }
 }
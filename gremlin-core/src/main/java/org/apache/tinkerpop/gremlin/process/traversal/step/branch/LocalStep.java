@@ -24,6 +24,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
 import java.util.Collections;
@@ -49,6 +50,11 @@ public final class LocalStep<S, E> extends AbstractStep<S, E> implements Travers
         return Collections.singletonList(this.localTraversal);
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        return TraversalHelper.getRequiredResults(this);
+    }
+
     @Override
     public Set<TraverserRequirement> getRequirements() {
         return this.localTraversal.getTraverserRequirements();
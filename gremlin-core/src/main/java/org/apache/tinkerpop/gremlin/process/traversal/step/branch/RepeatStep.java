@@ -117,6 +117,12 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
         return list;
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        // until() and emit() only need to know if there is a result
+        return child == this.untilTraversal || child == this.emitTraversal ? 1L : Long.MAX_VALUE;
+    }
+
     public final boolean doUntil(final Traverser.Admin<S> traverser, boolean utilFirst) {
         return utilFirst == this.untilFirst && null != this.untilTraversal && TraversalUtil.test(traverser, this.untilTraversal);
     }
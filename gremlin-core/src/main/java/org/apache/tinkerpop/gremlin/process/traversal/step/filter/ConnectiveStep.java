@@ -50,6 +50,11 @@ public abstract class ConnectiveStep<S> extends FilterStep<S> implements Travers
         return this.traversals;
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        return 1L;
+    }
+
     @Override
     public Set<TraverserRequirement> getRequirements() {
         return this.getSelfAndChildRequirements();
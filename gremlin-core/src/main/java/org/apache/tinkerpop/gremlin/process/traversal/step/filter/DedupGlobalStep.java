@@ -120,6 +120,11 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
         return null == this.dedupTraversal ? Collections.emptyList() : Collections.singletonList(this.dedupTraversal);
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        return 1L;
+    }
+
     @Override
     public void modulateBy(final Traversal.Admin<?, ?> dedupTraversal) {
         if (this.dedupTraversal != null) {
@@ -24,6 +24,8 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 
+import java.util.NoSuchElementException;
+
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
@@ -41,7 +43,7 @@ public abstract class FilterStep<S> extends AbstractStep<S, S> {
                 if (this.filter(traverser))
                     return traverser;
             } catch (GremlinTypeErrorException ex) {
-                if (this instanceof BinaryReductionStep || getTraversal().isRoot() || !(getTraversal().getParent() instanceof FilterStep)) {
+                if (this.reducesTypeErrors()) {
                     /*
                      * Either we are at a known reduction point (TraversalFilterStep, WhereTraversalStep), we
                      * are at the top level of the query, or our parent query is not a FilterStep and thus cannot handle
@@ -56,5 +58,42 @@ public abstract class FilterStep<S> extends AbstractStep<S, S> {
         }
     }
 
+    /**
+     * Filters a batch of starts at a time when this step is pulled with {@link #nextBatch(Traverser.Admin[])} and
+     * no subclass has customized the per-traverser path.
+     */
+    @Override
+    public int nextBatch(final Traverser.Admin<S>[] batch) {
+        if (!this.hasNativeBatch())
+            return super.nextBatch(batch);
+
+        int size = this.startBatch(batch);
+        try {
+            while (size < batch.length && this.starts.hasNext()) {
+                final Traverser.Admin<S> traverser = this.starts.next();
+                try {
+                    if (this.filter(traverser) && traverser.bulk() > 0)
+                        batch[size++] = this.prepareTraversalForNextStep(traverser);
+                } catch (GremlinTypeErrorException ex) {
+                    if (!this.reducesTypeErrors())
+                        throw ex;
+                }
+            }
+        } catch (final NoSuchElementException e) {
+            // filters like range() signal that nothing else will pass and the stream ends there
+            return this.endBatch(size, e);
+        }
+        return this.endBatch(size);
+    }
+
+    /**
+     * Either we are at a known reduction point (TraversalFilterStep, WhereTraversalStep), we are at the top level of
+     * the query, or our parent query is not a FilterStep and thus cannot handle a GremlinTypeErrorException. In any
+     * of these cases we do a binary reduction from ERROR -> FALSE and filter the solution quietly.
+     */
+    private boolean reducesTypeErrors() {
+        return this instanceof BinaryReductionStep || getTraversal().isRoot() || !(getTraversal().getParent() instanceof FilterStep);
+    }
+
     protected abstract boolean filter(final Traverser.Admin<S> traverser);
 }
@@ -51,6 +51,11 @@ public final class NotStep<S> extends FilterStep<S> implements TraversalParent{
         return Collections.singletonList(this.notTraversal);
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        return 1L;
+    }
+
     @Override
     public NotStep<S> clone() {
         final NotStep<S> clone = (NotStep<S>) super.clone();
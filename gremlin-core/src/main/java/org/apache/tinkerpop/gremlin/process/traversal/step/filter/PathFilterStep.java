@@ -116,6 +116,11 @@ public final class PathFilterStep<S> extends FilterStep<S> implements FromToModu
         return this.traversalRing.getTraversals();
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        return 1L;
+    }
+
     @Override
     public void modulateBy(final Traversal.Admin<?, ?> pathTraversal) {
         this.traversalRing.addTraversal(this.integrateChild(pathTraversal));
@@ -68,6 +68,11 @@ public final class TraversalFilterStep<S> extends FilterStep<S> implements Trave
         return Collections.singletonList(this.filterTraversal);
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        return 1L;
+    }
+
     @Override
     public TraversalFilterStep<S> clone() {
         final TraversalFilterStep<S> clone = (TraversalFilterStep<S>) super.clone();
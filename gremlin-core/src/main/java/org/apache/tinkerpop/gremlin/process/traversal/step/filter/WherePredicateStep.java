@@ -169,6 +169,11 @@ public final class WherePredicateStep<S> extends FilterStep<S> implements Scopin
         return (List) this.traversalRing.getTraversals();
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        return 1L;
+    }
+
     @Override
     protected Traverser.Admin<S> processNextStart() {
         return PathProcessor.processTraverserPathLabels(super.processNextStart(), this.keepLabels);
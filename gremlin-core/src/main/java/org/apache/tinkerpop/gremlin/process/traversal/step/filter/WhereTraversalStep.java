@@ -104,6 +104,11 @@ public final class WhereTraversalStep<S> extends FilterStep<S> implements Traver
         return null == this.whereTraversal ? Collections.emptyList() : Collections.singletonList(this.whereTraversal);
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        return 1L;
+    }
+
     @Override
     public String toString() {
         return StringFactory.stepString(this, this.whereTraversal);
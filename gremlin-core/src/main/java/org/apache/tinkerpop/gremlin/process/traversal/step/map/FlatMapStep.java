@@ -25,6 +25,7 @@ import org.apache.tinkerpop.gremlin.structure.util.CloseableIterator;
 import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -51,6 +52,36 @@ public abstract class FlatMapStep<S, E> extends AbstractStep<S, E> {
         }
     }
 
+    /**
+     * Expands starts into a batch without the per-traverser overhead when this step is pulled with
+     * {@link #nextBatch(Traverser.Admin[])} and no subclass has customized the per-traverser path.
+     */
+    @Override
+    public int nextBatch(final Traverser.Admin<E>[] batch) {
+        if (!this.hasNativeBatch())
+            return super.nextBatch(batch);
+
+        int size = this.startBatch(batch);
+        try {
+            while (size < batch.length) {
+                if (this.iterator.hasNext()) {
+                    final Traverser.Admin<E> end = this.head.split(this.iterator.next(), this);
+                    if (end.bulk() > 0)
+                        batch[size++] = this.prepareTraversalForNextStep(end);
+                } else {
+                    closeIterator();
+                    if (!this.starts.hasNext())
+                        break;
+                    this.head = this.starts.next();
+                    this.iterator = this.flatMap(this.head);
+                }
+            }
+        } catch (final NoSuchElementException e) {
+            return this.endBatch(size, e);
+        }
+        return this.endBatch(size);
+    }
+
     protected abstract Iterator<E> flatMap(final Traverser.Admin<S> traverser);
 
     @Override
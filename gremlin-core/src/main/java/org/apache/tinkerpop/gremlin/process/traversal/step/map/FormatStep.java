@@ -138,6 +138,11 @@ public final class FormatStep<S> extends MapStep<S, String> implements ByModulat
         return this.traversalRing.getTraversals();
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        return 1L;
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -24,6 +24,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Contains;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.TraverserGenerator;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Configuring;
 import org.apache.tinkerpop.gremlin.process.traversal.step.GValue;
 import org.apache.tinkerpop.gremlin.process.traversal.step.GraphComputing;
@@ -217,6 +218,27 @@ public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implemen
         }
     }
 
+    /**
+     * Generates a batch of start traversers at a time when this step begins the traversal and is pulled with
+     * {@link #nextBatch(Traverser.Admin[])}.
+     */
+    @Override
+    public int nextBatch(final Traverser.Admin<E>[] batch) {
+        if (!this.isStart || !this.hasNativeBatch())
+            return super.nextBatch(batch);
+
+        int size = this.startBatch(batch);
+        if (!this.done && !this.iterator.hasNext()) {
+            this.done = true;
+            this.iterator = null == this.iteratorSupplier ? EmptyIterator.instance() : this.iteratorSupplier.get();
+        }
+        final TraverserGenerator generator = this.getTraversal().getTraverserGenerator();
+        while (size < batch.length && this.iterator.hasNext()) {
+            batch[size++] = this.prepareTraversalForNextStep(generator.generate(this.iterator.next(), (Step) this, 1l));
+        }
+        return size;
+    }
+
     @Override
     public void reset() {
         super.reset();
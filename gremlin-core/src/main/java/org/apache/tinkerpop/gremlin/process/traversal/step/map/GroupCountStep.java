@@ -23,6 +23,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkCountTable;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.MapHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
@@ -44,6 +45,7 @@ import java.util.function.BinaryOperator;
 public class GroupCountStep<S, E> extends ReducingBarrierStep<S, Map<E, Long>> implements TraversalParent, ByModulating {
 
     private Traversal.Admin<S, E> keyTraversal = null;
+    private transient BulkCountTable<E> counts = null;
 
     public GroupCountStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -58,6 +60,37 @@ public class GroupCountStep<S, E> extends ReducingBarrierStep<S, Map<E, Long>> i
         return map;
     }
 
+    /**
+     * Counts the traverser directly in a table of primitive counters rather than projecting it to a single entry
+     * map. The counters are written to the seed in {@link #completeAccumulation(Map)} so that barriers handed to
+     * {@link #addBarrier(Object)} or merged by a {@code GraphComputer} are still plain maps of {@code Long}.
+     */
+    @Override
+    protected Map<E, Long> accumulate(final Map<E, Long> seed, final Traverser.Admin<S> traverser) {
+        if (this.reducingBiOperator != GroupCountBiOperator.instance())
+            return super.accumulate(seed, traverser);
+
+        if (null == this.counts) this.counts = new BulkCountTable<>();
+        TraversalUtil.produce(traverser, this.keyTraversal).ifProductive(p -> this.counts.incr((E) p, traverser.bulk()));
+        return seed;
+    }
+
+    @Override
+    protected Map<E, Long> completeAccumulation(final Map<E, Long> seed) {
+        return null == this.counts || this.counts.isEmpty() ? seed : this.counts.drainTo(seed);
+    }
+
+    @Override
+    protected long estimatePending() {
+        return null == this.counts ? 0 : this.counts.estimate();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        if (null != this.counts) this.counts.clear();
+    }
+
     @Override
     public void addLocalChild(final Traversal.Admin<?, ?> groupTraversal) {
         this.keyTraversal = this.integrateChild(groupTraversal);
@@ -68,6 +101,11 @@ public class GroupCountStep<S, E> extends ReducingBarrierStep<S, Map<E, Long>> i
         return null == this.keyTraversal ? Collections.emptyList() : Collections.singletonList(this.keyTraversal);
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        return 1L;
+    }
+
     @Override
     public Set<TraverserRequirement> getRequirements() {
         return this.getSelfAndChildRequirements(TraverserRequirement.BULK);
@@ -90,6 +128,7 @@ public class GroupCountStep<S, E> extends ReducingBarrierStep<S, Map<E, Long>> i
     @Override
     public GroupCountStep<S, E> clone() {
         final GroupCountStep<S, E> clone = (GroupCountStep<S, E>) super.clone();
+        clone.counts = null;
         if (null != this.keyTraversal)
             clone.keyTraversal = this.keyTraversal.clone();
         return clone;
@@ -29,6 +29,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.Grouping;
 import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkCountTable;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.SupplyingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
@@ -55,6 +56,7 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
     private Traversal.Admin<S, K> keyTraversal;
     private Traversal.Admin<S, V> valueTraversal;
     private Barrier barrierStep;
+    private transient BulkCountTable<K> counts = null;
 
     public GroupStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -138,6 +140,38 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
         return map;
     }
 
+    /**
+     * When the value traversal is just {@code count()} the traverser bulk is the value, so it is counted directly in
+     * a table of primitive counters instead of running the value traversal and projecting a single entry map. The
+     * counters are written to the seed in {@link #completeAccumulation(Map)} which leaves the barrier as the same map
+     * of {@code Long} that the {@link GroupBiOperator} merges for a {@code GraphComputer}.
+     */
+    @Override
+    protected Map<K, V> accumulate(final Map<K, V> seed, final Traverser.Admin<S> traverser) {
+        if (!(this.barrierStep instanceof CountGlobalStep) || this.valueTraversal.getSteps().size() != 1)
+            return super.accumulate(seed, traverser);
+
+        if (null == this.counts) this.counts = new BulkCountTable<>();
+        TraversalUtil.produce(traverser, this.keyTraversal).ifProductive(p -> this.counts.incr((K) p, traverser.bulk()));
+        return seed;
+    }
+
+    @Override
+    protected Map<K, V> completeAccumulation(final Map<K, V> seed) {
+        return null == this.counts || this.counts.isEmpty() ? seed : this.counts.drainTo(seed);
+    }
+
+    @Override
+    protected long estimatePending() {
+        return null == this.counts ? 0 : this.counts.estimate();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        if (null != this.counts) this.counts.clear();
+    }
+
     @Override
     public String toString() {
         return StringFactory.stepString(this, this.keyTraversal, this.valueTraversal);
@@ -152,6 +186,12 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
         return children;
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        // the key is the first result while the value traversal reduces everything it is given
+        return child == this.keyTraversal ? 1L : Long.MAX_VALUE;
+    }
+
     @Override
     public Set<TraverserRequirement> getRequirements() {
         return this.getSelfAndChildRequirements(TraverserRequirement.OBJECT, TraverserRequirement.BULK);
@@ -160,6 +200,7 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
     @Override
     public GroupStep<S, K, V> clone() {
         final GroupStep<S, K, V> clone = (GroupStep<S, K, V>) super.clone();
+        clone.counts = null;
         if (null != this.keyTraversal)
             clone.keyTraversal = this.keyTraversal.clone();
         clone.valueTraversal = this.valueTraversal.clone();
@@ -364,6 +364,30 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
 
     private TraverserSet standardAlgorithmBarrier;
 
+    private void prepareStart(final Traverser.Admin<?> traverser) {
+        if (!traverser.getTags().contains(this.getId())) {
+            traverser.getTags().add(this.getId()); // so the traverser never returns to this branch ever again
+            if (!this.hasPathLabel(traverser.path(), this.matchStartLabels))
+                traverser.addLabels(Collections.singleton(this.computedStartLabel)); // if the traverser doesn't have a legal start, then provide it the pre-computed one
+        }
+    }
+
+    /**
+     * Pulls a batch of starts and joins them against all the match traversals with the {@link HashJoinMatchAlgorithm},
+     * adding the fully matched traversers to the barrier. Throws if there are no more starts.
+     */
+    private void hashJoinStarts() {
+        final List<Traverser.Admin<Object>> batch = new ArrayList<>();
+        do {
+            final Traverser.Admin<Object> traverser = (Traverser.Admin<Object>) this.starts.next();
+            this.prepareStart(traverser);
+            batch.add(traverser);
+        } while (batch.size() < PathRetractionStrategy.MAX_BARRIER_SIZE && this.starts.hasNext());
+        for (final Traverser.Admin<Object> traverser : ((HashJoinMatchAlgorithm) this.matchAlgorithm).join(batch)) {
+            this.standardAlgorithmBarrier.add(traverser);
+        }
+    }
+
     @Override
     protected Iterator<Traverser.Admin<Map<String, E>>> standardAlgorithm() throws NoSuchElementException {
         while (true) {
@@ -389,12 +413,12 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
             }
             final Traverser.Admin traverser;
             if (this.standardAlgorithmBarrier.isEmpty()) {
-                traverser = this.starts.next();
-                if (!traverser.getTags().contains(this.getId())) {
-                    traverser.getTags().add(this.getId()); // so the traverser never returns to this branch ever again
-                    if (!this.hasPathLabel(traverser.path(), this.matchStartLabels))
-                        traverser.addLabels(Collections.singleton(this.computedStartLabel)); // if the traverser doesn't have a legal start, then provide it the pre-computed one
+                if (this.connective == ConnectiveStep.Connective.AND && this.matchAlgorithm instanceof HashJoinMatchAlgorithm) {
+                    this.hashJoinStarts(); // fills the barrier with fully matched traversers
+                    continue;
                 }
+                traverser = this.starts.next();
+                this.prepareStart(traverser);
             } else
                 traverser = this.standardAlgorithmBarrier.remove();
 
@@ -430,11 +454,7 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
                     this.keepLabels = null;
             }
             final Traverser.Admin traverser = this.starts.next();
-            if (!traverser.getTags().contains(this.getId())) {
-                traverser.getTags().add(this.getId()); // so the traverser never returns to this branch ever again
-                if (!this.hasPathLabel(traverser.path(), this.matchStartLabels))
-                    traverser.addLabels(Collections.singleton(this.computedStartLabel)); // if the traverser doesn't have a legal start, then provide it the pre-computed one
-            }
+            this.prepareStart(traverser);
             ///
             if (!this.isDuplicate(traverser)) {
                 if (hasMatched(this.connective, traverser)) {
@@ -823,4 +843,180 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
             }
         }
     }
+
+    /**
+     * A {@link MatchAlgorithm} for {@code and}-connected patterns that processes starts in batches. Rather than pushing
+     * each partial binding through the remaining patterns one at a time, a pattern is evaluated once for each distinct
+     * combination of the bound values it depends on, and its results are hash-joined back to every partial binding in
+     * the batch that carries those values. The join order is chosen per batch from the pattern multiplicities tracked
+     * by the {@link CountMatchAlgorithm}, preferring {@code where()} filters and patterns whose end label is already
+     * bound. On a {@code GraphComputer} or for {@code or()} connectives this behaves as the {@link CountMatchAlgorithm}.
+     */
+    public static class HashJoinMatchAlgorithm extends CountMatchAlgorithm {
+
+        protected Set<String> matchLabels;
+        protected Map<String, Set<String>> referencedLabels;
+        protected Map<String, Set<String>> patternLabels;
+        protected boolean pathRequired;
+
+        @Override
+        public void initialize(final boolean onComputer, final List<Traversal.Admin<Object, Object>> traversals) {
+            super.initialize(onComputer, traversals);
+            this.matchLabels = new HashSet<>();
+            this.referencedLabels = new HashMap<>();
+            this.patternLabels = new HashMap<>();
+            for (final Traversal.Admin<Object, Object> traversal : traversals) {
+                this.matchLabels.addAll(Helper.getStartLabels(traversal));
+                Helper.getEndLabel(traversal).ifPresent(this.matchLabels::add);
+                final Set<String> labels = new HashSet<>();
+                for (final Scoping step : TraversalHelper.getStepsOfAssignableClassRecursively(Scoping.class, traversal)) {
+                    labels.addAll(step.getScopeKeys());
+                }
+                this.referencedLabels.put(traversal.getStartStep().getId(), labels);
+                final Set<String> ownLabels = TraversalHelper.getLabels(traversal);
+                Helper.getEndLabel(traversal).ifPresent(ownLabels::add);
+                this.patternLabels.put(traversal.getStartStep().getId(), ownLabels);
+            }
+
+            // with full paths every step of a pattern extends the path, so its results can only be used for the
+            // traverser that walked it
+            this.pathRequired = !traversals.isEmpty() && TraversalHelper.getRootTraversal(traversals.get(0)).
+                    getTraverserRequirements().contains(TraverserRequirement.PATH);
+        }
+
+        /**
+         * Joins the starts against all the match traversals and returns the traversers that matched every pattern.
+         */
+        public List<Traverser.Admin<Object>> join(final List<Traverser.Admin<Object>> starts) {
+            // starts are grouped by the match labels they already have bound so that each group follows one join order
+            final Map<Set<String>, List<Traverser.Admin<Object>>> groups = new HashMap<>();
+            for (final Traverser.Admin<Object> start : starts) {
+                final Set<String> bound = new HashSet<>();
+                for (final String label : this.matchLabels) {
+                    if (start.path().hasLabel(label))
+                        bound.add(label);
+                }
+                groups.computeIfAbsent(bound, k -> new ArrayList<>()).add(start);
+            }
+
+            final List<Traverser.Admin<Object>> results = new ArrayList<>();
+            for (final Map.Entry<Set<String>, List<Traverser.Admin<Object>>> group : groups.entrySet()) {
+                final Set<String> bound = new HashSet<>(group.getKey());
+                final List<Bundle> remaining = new ArrayList<>(this.bundles);
+                List<Traverser.Admin<Object>> bindings = group.getValue();
+                while (!remaining.isEmpty() && !bindings.isEmpty()) {
+                    final Bundle bundle = this.nextBundle(bound, remaining);
+                    remaining.remove(bundle);
+                    bindings = this.join(bindings, bundle.traversal, bound);
+                    Helper.getEndLabel(bundle.traversal).ifPresent(bound::add);
+                }
+                results.addAll(bindings);
+            }
+            return results;
+        }
+
+        /**
+         * Chooses the next pattern to join from those whose start labels are all bound.
+         */
+        protected Bundle nextBundle(final Set<String> bound, final List<Bundle> remaining) {
+            final Comparator<Bundle> order = Comparator.<Bundle>comparingInt(b -> b.traversalType.ordinal()).
+                    thenComparingInt(b -> Helper.getEndLabel(b.traversal).map(label -> bound.contains(label) ? 0 : 1).orElse(1)).
+                    thenComparingDouble(b -> b.multiplicity);
+            Bundle next = null;
+            for (final Bundle bundle : remaining) {
+                if (bound.containsAll(Helper.getStartLabels(bundle.traversal)) && (null == next || order.compare(bundle, next) < 0))
+                    next = bundle;
+            }
+            if (null == next)
+                throw UNMATCHABLE_PATTERN.apply(this.bundles.stream().map(record -> record.traversal).collect(Collectors.toList()));
+            return next;
+        }
+
+        private List<Traverser.Admin<Object>> join(final List<Traverser.Admin<Object>> bindings,
+                                                   final Traversal.Admin<Object, Object> traversal,
+                                                   final Set<String> bound) {
+            final String startStepId = traversal.getStartStep().getId();
+            final MatchEndStep endStep = (MatchEndStep) traversal.getEndStep();
+            final Optional<String> endLabel = Helper.getEndLabel(traversal);
+
+            // the results of the pattern depend on the bound labels it references and, when it does not select its
+            // start from a label, the current object. a pattern that needs the full path can't be shared at all.
+            final List<String> keyLabels = new ArrayList<>();
+            for (final String label : this.referencedLabels.get(startStepId)) {
+                if (bound.contains(label)) keyLabels.add(label);
+            }
+            endLabel.filter(bound::contains).filter(label -> !keyLabels.contains(label)).ifPresent(keyLabels::add);
+            final boolean keyOnObject = !(traversal.getStartStep() instanceof MatchStartStep) ||
+                    !((MatchStartStep) traversal.getStartStep()).getSelectKey().isPresent();
+            final boolean shareable = !this.pathRequired && !traversal.getTraverserRequirements().contains(TraverserRequirement.PATH);
+
+            final Map<List<Object>, List<Traverser.Admin<Object>>> table = new HashMap<>();
+            final List<Traverser.Admin<Object>> joined = new ArrayList<>();
+            for (final Traverser.Admin<Object> binding : bindings) {
+                List<Traverser.Admin<Object>> matches;
+                boolean evaluated = true;
+                if (shareable) {
+                    final Path path = binding.path();
+                    final List<Object> key = new ArrayList<>(keyLabels.size() + 1);
+                    for (final String label : keyLabels) {
+                        key.add(path.get(Pop.last, label));
+                    }
+                    if (keyOnObject) key.add(binding.get());
+                    matches = table.get(key);
+                    if (null == matches) {
+                        matches = this.evaluate(binding, traversal);
+                        table.put(key, matches);
+                    } else
+                        evaluated = false;
+                } else
+                    matches = this.evaluate(binding, traversal);
+
+                // matches are copied as they may be shared with the bindings that follow
+                for (final Traverser.Admin<Object> match : matches) {
+                    final Traverser.Admin<Object> result = evaluated ? match.split() : this.extend(binding, match, startStepId, endStep);
+                    result.setBulk(binding.bulk() * match.bulk());
+                    joined.add(result);
+                }
+            }
+            return joined;
+        }
+
+        /**
+         * Carries the result of a pattern that was evaluated for another binding over to the given one. The path
+         * sections at the end of the match that only hold labels of the pattern are the ones the pattern added, hence
+         * those are appended to the path of the binding just like walking the pattern would have.
+         */
+        private Traverser.Admin<Object> extend(final Traverser.Admin<Object> binding, final Traverser.Admin<Object> match,
+                                               final String startStepId, final MatchEndStep endStep) {
+            final Set<String> ownLabels = this.patternLabels.get(startStepId);
+            final List<Object> objects = match.path().objects();
+            final List<Set<String>> labels = match.path().labels();
+            int first = labels.size();
+            while (first > 0 && !labels.get(first - 1).isEmpty() && ownLabels.containsAll(labels.get(first - 1))) {
+                first--;
+            }
+
+            final Traverser.Admin<Object> result = binding.split();
+            for (int i = first; i < labels.size(); i++) {
+                result.set(objects.get(i));
+                result.addLabels(labels.get(i));
+            }
+            result.set(match.get());
+            result.setStepId(match.getStepId());
+            result.getTags().add(startStepId);
+            return endStep.retractUnnecessaryLabels(result);
+        }
+
+        private List<Traverser.Admin<Object>> evaluate(final Traverser.Admin<Object> binding, final Traversal.Admin<Object, Object> traversal) {
+            final Traverser.Admin<Object> start = binding.split();
+            start.setBulk(1L);
+            start.getTags().add(traversal.getStartStep().getId());
+            traversal.addStart(start);
+            final List<Traverser.Admin<Object>> matches = new ArrayList<>();
+            while (traversal.hasNext()) {
+                matches.add(traversal.nextTraverser());
+            }
+            return matches;
+        }
+    }
 }
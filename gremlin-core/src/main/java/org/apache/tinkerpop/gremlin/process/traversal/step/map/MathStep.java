@@ -131,6 +131,11 @@ public final class MathStep<S> extends MapStep<S, Double> implements ByModulatin
         return this.traversalRing.getTraversals();
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        return 1L;
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -20,6 +20,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -28,6 +29,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Merge;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
@@ -35,6 +37,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.lambda.ConstantTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.step.GValue;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.event.EventUtil;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.Direction;
@@ -64,6 +67,11 @@ public class MergeEdgeStep<S> extends MergeElementStep<S, Edge, Object> {
     private Traversal.Admin<S, Object> outVTraversal = null;
     private Traversal.Admin<S, Object> inVTraversal = null;
 
+    /**
+     * The merge maps of the current batch as they were before their vertices were resolved.
+     */
+    protected List<Map> batchedUnresolvedMergeMaps = new ArrayList<>();
+
     public MergeEdgeStep(final Traversal.Admin traversal, final boolean isStart) {
         super(traversal, isStart);
     }
@@ -80,6 +88,12 @@ public class MergeEdgeStep<S> extends MergeElementStep<S, Edge, Object> {
         super(traversal, isStart, mergeTraversal);
     }
 
+    protected MergeEdgeStep(final MergeEdgeStep<S> original) {
+        super(original);
+        this.outVTraversal = integrateChild(original.outVTraversal);
+        this.inVTraversal = integrateChild(original.inVTraversal);
+    }
+
     /**
      * Gets the traversal that will be used to provide the {@code Map} that will be used to identify the Direction.OUT
      * vertex during merge.
@@ -130,6 +144,7 @@ public class MergeEdgeStep<S> extends MergeElementStep<S, Edge, Object> {
         super.reset();
         if (outVTraversal != null) outVTraversal.reset();
         if (inVTraversal != null) inVTraversal.reset();
+        batchedUnresolvedMergeMaps.clear();
     }
 
     @Override
@@ -149,6 +164,7 @@ public class MergeEdgeStep<S> extends MergeElementStep<S, Edge, Object> {
         final MergeEdgeStep<S> clone = (MergeEdgeStep<S>) super.clone();
         clone.outVTraversal = outVTraversal != null ? outVTraversal.clone() : null;
         clone.inVTraversal = inVTraversal != null ? inVTraversal.clone() : null;
+        clone.batchedUnresolvedMergeMaps = new ArrayList<>();
         return clone;
     }
 
@@ -160,7 +176,9 @@ public class MergeEdgeStep<S> extends MergeElementStep<S, Edge, Object> {
     /**
      * Translate the Map into search criteria. Default implementation is to translate the Map into a g.E() or
      * g.V().out/inE() traversal. Graph providers will presumably optimize this traversal to use whatever indices are
-     * present and appropriate for efficiency.
+     * present and appropriate for efficiency. When {@link #isDirectIdLookup()} allows it, a Map with a single edge id
+     * or vertex id is looked up directly from {@link Graph#edges(Object...)} or the edges of that vertex instead, as
+     * there is nothing to optimize.
      *
      * Callers are responsible for closing this iterator when finished.
      */
@@ -175,6 +193,22 @@ public class MergeEdgeStep<S> extends MergeElementStep<S, Edge, Object> {
         final Object fromId = search.get(Direction.OUT);
         final Object toId = search.get(Direction.IN);
 
+        // an edge id or an adjacent vertex id is all the index a lookup needs, so skip building and optimizing a
+        // traversal for it
+        final Iterator<Edge> candidates = searchEdgesByIds(search);
+        if (candidates != null) {
+            final Predicate<Edge> filter = searchFilter(search);
+            final List<Edge> matches = new ArrayList<>();
+            try {
+                candidates.forEachRemaining(e -> {
+                    if (filter.test(e)) matches.add(e);
+                });
+            } finally {
+                CloseableIterator.closeIterator(candidates);
+            }
+            return CloseableIterator.of(matches.iterator());
+        }
+
         GraphTraversal t;
         if (edgeId != null) {
 
@@ -227,6 +261,110 @@ public class MergeEdgeStep<S> extends MergeElementStep<S, Edge, Object> {
         return CloseableIterator.of(t);
     }
 
+    /**
+     * Searches for the edges that match each of a batch of merge maps. Maps that share an out vertex and label share
+     * a single pass over the edges of that vertex, while the rest are searched with {@link #searchEdges(Map)}.
+     * Providers may override this to resolve a batch more efficiently. The returned list is aligned with
+     * {@code searches} and holds {@code null} for any map that has to be searched when it is merged.
+     */
+    protected List<List<Edge>> searchEdges(final List<Map> searches) {
+        final List<List<Edge>> matches = new ArrayList<>(searches.size());
+        final Map<List<Object>, List<Edge>> adjacent = new HashMap<>();
+        for (final Map search : searches) {
+            final Object edgeId = search.get(T.id);
+            final Object fromId = search.get(Direction.OUT);
+            final Object toId = search.get(Direction.IN);
+            if (null == searchContainers(search) || (edgeId != null && !isSingleId(edgeId)) ||
+                    (fromId != null && !isSingleId(fromId)) || (toId != null && !isSingleId(toId))) {
+                matches.add(null);
+            } else if (null == edgeId && fromId != null) {
+                final String edgeLabel = (String) search.get(T.label);
+                final List<Edge> edges = adjacent.computeIfAbsent(Arrays.asList(fromId, edgeLabel), k -> {
+                    final List<Edge> found = new ArrayList<>();
+                    final Iterator<Edge> it = adjacentEdges(fromId, Direction.OUT, edgeLabel);
+                    try {
+                        it.forEachRemaining(found::add);
+                    } finally {
+                        CloseableIterator.closeIterator(it);
+                    }
+                    return found;
+                });
+                final Predicate<Edge> filter = searchFilter(search);
+                final List<Edge> found = new ArrayList<>();
+                for (final Edge edge : edges) {
+                    if (filter.test(edge)) found.add(edge);
+                }
+                matches.add(found);
+            } else {
+                try (CloseableIterator<Edge> edges = searchEdges(search)) {
+                    final List<Edge> found = new ArrayList<>();
+                    edges.forEachRemaining(found::add);
+                    matches.add(found);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Gets the candidate edges for a search that has a single edge id, out vertex id or in vertex id without building
+     * a traversal, or {@code null} if the search needs one.
+     */
+    private Iterator<Edge> searchEdgesByIds(final Map search) {
+        if (!isDirectIdLookup() || null == searchContainers(search))
+            return null;
+
+        final Object edgeId = search.get(T.id);
+        final Object fromId = search.get(Direction.OUT);
+        final Object toId = search.get(Direction.IN);
+        if (edgeId != null)
+            return isSingleId(edgeId) ? getGraph().edges(edgeId) : null;
+        else if (fromId != null)
+            return isSingleId(fromId) ? adjacentEdges(fromId, Direction.OUT, (String) search.get(T.label)) : null;
+        else if (toId != null)
+            return isSingleId(toId) ? adjacentEdges(toId, Direction.IN, (String) search.get(T.label)) : null;
+        return null;
+    }
+
+    private Iterator<Edge> adjacentEdges(final Object vertexId, final Direction direction, final String edgeLabel) {
+        try (CloseableIterator<Vertex> it = CloseableIterator.of(getGraph().vertices(vertexId))) {
+            if (!it.hasNext())
+                return Collections.emptyIterator();
+            final Vertex vertex = it.next();
+            return null == edgeLabel ? vertex.edges(direction) : vertex.edges(direction, edgeLabel);
+        }
+    }
+
+    @Override
+    protected Predicate<Edge> searchFilter(final Map search) {
+        final Object edgeId = search.get(T.id);
+        final Object fromId = search.get(Direction.OUT);
+        final Object toId = search.get(Direction.IN);
+        final List<HasContainer> containers = searchContainers(search);
+        return edge -> (null == edgeId || hasId(edge, edgeId)) && testAll(edge, containers) &&
+                (null == fromId || hasId(edge.outVertex(), fromId)) && (null == toId || hasId(edge.inVertex(), toId));
+    }
+
+    @Override
+    protected void prepareBatch(final List<Traverser.Admin<S>> traversers) {
+        batchedUnresolvedMergeMaps.clear();
+        for (final Traverser.Admin<S> traverser : traversers) {
+            final Map unresolvedMergeMap;
+            final Map mergeMap;
+            try {
+                unresolvedMergeMap = materializeMap(traverser, mergeTraversal);
+                validateMapInput(unresolvedMergeMap, false);
+                mergeMap = resolveVertices(new LinkedHashMap<>(unresolvedMergeMap), traverser);
+            } catch (RuntimeException ex) {
+                // leave the bad map to fail when its traverser is merged so that the ones before it still get merged
+                break;
+            }
+            batchedUnresolvedMergeMaps.add(unresolvedMergeMap);
+            batchedMergeMaps.add(mergeMap);
+        }
+        batchedMatches.addAll(searchEdges(batchedMergeMaps));
+    }
+
     protected Map<?,?> resolveVertices(final Map map, final Traverser.Admin<S> traverser) {
         resolveVertex(Merge.outV, Direction.OUT, map, traverser, outVTraversal);
         resolveVertex(Merge.inV, Direction.IN, map, traverser, inVTraversal);
@@ -258,15 +396,24 @@ public class MergeEdgeStep<S> extends MergeElementStep<S, Edge, Object> {
 
     @Override
     protected Iterator<Edge> flatMap(final Traverser.Admin<S> traverser) {
-        final Map unresolvedMergeMap = materializeMap(traverser, mergeTraversal);
-        validateMapInput(unresolvedMergeMap, false);
-
-        /*
-         * Create a copy of the unresolved map and attempt to resolve any Vertex references.
-         */
-        final Map mergeMap = resolveVertices(new LinkedHashMap<>(unresolvedMergeMap), traverser);
-
-        Iterator<Edge> edges = searchEdges(mergeMap);
+        final Map unresolvedMergeMap;
+        final Map mergeMap;
+        Iterator<Edge> edges;
+        if (hasBatchedMergeMap()) {
+            unresolvedMergeMap = batchedUnresolvedMergeMaps.get(batchedIndex);
+            mergeMap = batchedMergeMaps.get(batchedIndex);
+            final List<Edge> matches = nextBatchedMatches();
+            edges = null == matches ? searchEdges(mergeMap) : matches.iterator();
+        } else {
+            unresolvedMergeMap = materializeMap(traverser, mergeTraversal);
+            validateMapInput(unresolvedMergeMap, false);
+
+            /*
+             * Create a copy of the unresolved map and attempt to resolve any Vertex references.
+             */
+            mergeMap = resolveVertices(new LinkedHashMap<>(unresolvedMergeMap), traverser);
+            edges = searchEdges(mergeMap);
+        }
 
         if (onMatchTraversal != null) {
             if (onMatchTraversal instanceof ConstantTraversal) {
@@ -293,6 +440,7 @@ public class MergeEdgeStep<S> extends MergeElementStep<S, Edge, Object> {
                     EventUtil.registerEdgePropertyChange(callbackRegistry, getTraversal(), e, key, value);
                     e.property(key, value);
                 });
+                recordBatchedChange(e);
 
             });
 
@@ -338,6 +486,7 @@ public class MergeEdgeStep<S> extends MergeElementStep<S, Edge, Object> {
 
         // trigger callbacks for eventing - in this case, it's a VertexAddedEvent
         EventUtil.registerEdgeCreationWithGenericEventRegistry(callbackRegistry, getTraversal(), edge);
+        recordBatchedChange(edge);
 
         return IteratorUtils.of(edge);
     }
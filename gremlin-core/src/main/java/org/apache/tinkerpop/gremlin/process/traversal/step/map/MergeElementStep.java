@@ -18,15 +18,27 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
 
+import org.apache.tinkerpop.gremlin.process.traversal.GremlinTypeErrorException;
 import org.apache.tinkerpop.gremlin.process.traversal.Merge;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
@@ -39,21 +51,26 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.GType;
 import org.apache.tinkerpop.gremlin.process.traversal.step.GValue;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalOptionParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Writing;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.Parameters;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.event.CallbackRegistry;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.event.Event;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.event.ListCallbackRegistry;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.PartitionStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MergeBatchStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.CloseableIterator;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
 
 /**
  * Abstract base class for the {@code mergeV/E()} implementations.
@@ -73,6 +90,33 @@ public abstract class MergeElementStep<S, E, C> extends FlatMapStep<S, E>
 
     protected boolean usesPartitionStrategy;
 
+    private int batchSize = 1;
+    private Deque<Traverser.Admin<S>> batch = new ArrayDeque<>();
+    private Traverser.Admin<S> batchHead = null;
+    private Iterator<E> batchIterator = EmptyIterator.instance();
+
+    /**
+     * The merge maps of the current batch, materialized by {@link #prepareBatch(List)} in the order their traversers
+     * will be merged.
+     */
+    protected List<Map> batchedMergeMaps = new ArrayList<>();
+
+    /**
+     * The elements found for each of the {@link #batchedMergeMaps}, or {@code null} where the map is to be searched
+     * when it is merged.
+     */
+    protected List<List<E>> batchedMatches = new ArrayList<>();
+
+    /**
+     * The position of the next traverser to merge in the {@link #batchedMergeMaps}.
+     */
+    protected int batchedIndex = 0;
+
+    /**
+     * The elements created or modified by this step since the current batch was looked up.
+     */
+    protected Set<E> batchedChanges = new LinkedHashSet<>();
+
     public MergeElementStep(final Traversal.Admin traversal, final boolean isStart) {
         this(traversal, isStart, new IdentityTraversal<>());
     }
@@ -101,6 +145,23 @@ public abstract class MergeElementStep<S, E, C> extends FlatMapStep<S, E>
                 getStrategies().getStrategy(PartitionStrategy.class).isPresent();
     }
 
+    /**
+     * Creates a step with the same merge traversals, options and configuration as another. Providers can use this to
+     * replace {@code mergeV/E()} with a subclass that searches their graph more efficiently.
+     */
+    protected MergeElementStep(final MergeElementStep<S, E, C> original) {
+        super(original.getTraversal());
+        this.isStart = original.isStart;
+        this.mergeTraversal = integrateChild(original.mergeTraversal);
+        this.onCreateTraversal = integrateChild(original.onCreateTraversal);
+        this.onMatchTraversal = integrateChild(original.onMatchTraversal);
+        this.callbackRegistry = original.callbackRegistry;
+        this.parameters = original.parameters;
+        this.usesPartitionStrategy = original.usesPartitionStrategy;
+        this.batchSize = original.batchSize;
+        original.getLabels().forEach(this::addLabel);
+    }
+
     /**
      * Gets the traversal that will be used to provide the {@code Map} that will be used to search for elements.
      * This {@code Map} also will be used as the default data set to be used to create the element if the search is not
@@ -144,6 +205,23 @@ public abstract class MergeElementStep<S, E, C> extends FlatMapStep<S, E>
         return callbackRegistry;
     }
 
+    /**
+     * Gets the number of traversers that are read ahead and looked up together, where {@code 1} means that each
+     * traverser is looked up as it is merged.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the number of traversers to read ahead and look up together. The merge maps of a batch are materialized
+     * and searched before any of them are merged, though each is still merged in order against the elements found
+     * and anything this step created or modified earlier in the batch. Values lower than {@code 2} turn batching off.
+     */
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
     @Override
     public void addChildOption(final Merge token, final Traversal.Admin<S, C> traversalOption) {
         if (token == Merge.onCreate) {
@@ -191,9 +269,93 @@ public abstract class MergeElementStep<S, E, C> extends FlatMapStep<S, E>
             first = false;
             generateTraverser(false);
         }
-        return super.processNextStart();
+        if (batchSize < 2)
+            return super.processNextStart();
+
+        while (true) {
+            if (batchIterator.hasNext()) {
+                return batchHead.split(batchIterator.next(), this);
+            } else {
+                CloseableIterator.closeIterator(batchIterator);
+                if (batch.isEmpty())
+                    fillBatch();
+                batchHead = batch.removeFirst();
+                batchIterator = flatMap(batchHead);
+            }
+        }
+    }
+
+    private void fillBatch() {
+        // let the end of the starts surface as it would for an unbatched step
+        batch.add(this.starts.next());
+        while (batch.size() < batchSize && this.starts.hasNext()) {
+            batch.add(this.starts.next());
+        }
+        clearBatched();
+        prepareBatch(new ArrayList<>(batch));
+    }
+
+    private void clearBatched() {
+        batchedMergeMaps.clear();
+        batchedMatches.clear();
+        batchedIndex = 0;
+        batchedChanges.clear();
+    }
+
+    /**
+     * Materializes and searches the merge maps of a batch of traversers ahead of merging them, adding them to
+     * {@link #batchedMergeMaps} and {@link #batchedMatches}. Implementations may stop short of the end of the batch,
+     * for example at a map that fails validation, in which case the remaining traversers are merged one at a time.
+     */
+    protected void prepareBatch(final List<Traverser.Admin<S>> traversers) {
+    }
+
+    /**
+     * Determines if the merge map of the next traverser to be merged was materialized by {@link #prepareBatch(List)}.
+     */
+    protected boolean hasBatchedMergeMap() {
+        return batchedIndex < batchedMergeMaps.size();
+    }
+
+    /**
+     * Gets the elements that match the next batched merge map, and moves on to the one after it. The elements found
+     * when the batch was searched are checked again along with those this step has since created or modified, so that
+     * the result is the same as searching the graph now. Returns {@code null} if the map was not searched with the
+     * batch.
+     */
+    protected List<E> nextBatchedMatches() {
+        final Map search = batchedMergeMaps.get(batchedIndex);
+        final List<E> found = batchedMatches.get(batchedIndex++);
+        if (null == found)
+            return null;
+
+        final Predicate<E> filter = searchFilter(search);
+        final List<E> matches = new ArrayList<>();
+        for (final E element : found) {
+            if (filter.test(element))
+                matches.add(element);
+        }
+        for (final E element : batchedChanges) {
+            if (!found.contains(element) && filter.test(element))
+                matches.add(element);
+        }
+        return matches;
     }
 
+    /**
+     * Notes an element created or modified by this step so that later merge maps of the same batch can match it.
+     */
+    protected void recordBatchedChange(final E element) {
+        if (batchSize > 1)
+            batchedChanges.add(element);
+    }
+
+    /**
+     * Gets a test of whether an element satisfies the search criteria of a merge map, which is only asked of maps
+     * that {@link #searchContainers(Map)} is able to express.
+     */
+    protected abstract Predicate<E> searchFilter(final Map search);
+
     private void generateTraverser(final Object o) {
         final TraverserGenerator generator = this.getTraversal().getTraverserGenerator();
         this.addStart(generator.generate(o, (Step) this, 1L));
@@ -225,6 +387,11 @@ public abstract class MergeElementStep<S, E, C> extends FlatMapStep<S, E>
     public void reset() {
         super.reset();
         first = true;
+        batch.clear();
+        CloseableIterator.closeIterator(batchIterator);
+        batchIterator = EmptyIterator.instance();
+        batchHead = null;
+        clearBatched();
         mergeTraversal.reset();
         if (onCreateTraversal != null) onCreateTraversal.reset();
         if (onMatchTraversal != null) onMatchTraversal.reset();
@@ -254,6 +421,13 @@ public abstract class MergeElementStep<S, E, C> extends FlatMapStep<S, E>
         clone.mergeTraversal = mergeTraversal.clone();
         clone.onCreateTraversal = onCreateTraversal != null ? onCreateTraversal.clone() : null;
         clone.onMatchTraversal = onMatchTraversal != null ? onMatchTraversal.clone() : null;
+        clone.batch = new ArrayDeque<>();
+        clone.batchHead = null;
+        clone.batchIterator = EmptyIterator.instance();
+        clone.batchedMergeMaps = new ArrayList<>();
+        clone.batchedMatches = new ArrayList<>();
+        clone.batchedIndex = 0;
+        clone.batchedChanges = new LinkedHashSet<>();
         return clone;
     }
 
@@ -345,7 +519,9 @@ public abstract class MergeElementStep<S, E, C> extends FlatMapStep<S, E>
 
     /**
      * Translate the Map into a g.V() traversal against the supplied graph. Graph providers will presumably optimize
-     * this traversal to use whatever indices are present and appropriate for efficiency.
+     * this traversal to use whatever indices are present and appropriate for efficiency. When
+     * {@link #isDirectIdLookup()} allows it, a Map with a single {@link T#id} is looked up with
+     * {@link Graph#vertices(Object...)} instead, as there is nothing to optimize.
      *
      * Callers are responsible for closing this iterator when finished.
      */
@@ -357,6 +533,13 @@ public abstract class MergeElementStep<S, E, C> extends FlatMapStep<S, E>
         final Object id = search.get(T.id);
         final String label = (String) search.get(T.label);
 
+        // a single id is all the index a lookup needs, so skip building and optimizing a traversal for it
+        if (isDirectIdLookup() && isSingleId(id)) {
+            final List<HasContainer> containers = searchContainers(search);
+            if (containers != null)
+                return CloseableIterator.of(filter(graph.vertices(id), containers).iterator());
+        }
+
         GraphTraversal t = searchVerticesTraversal(graph, id);
         t = searchVerticesLabelConstraint(t, label);
         t = searchVerticesPropertyConstraints(t, search);
@@ -382,6 +565,203 @@ public abstract class MergeElementStep<S, E, C> extends FlatMapStep<S, E>
         return t;
     }
 
+    /**
+     * Searches for the vertices that match each of a batch of merge maps. Maps with a {@link T#id} are looked up
+     * directly, while the rest are grouped by label and key set so that each group is resolved with a single
+     * {@code g.V()} traversal that filters every key with {@code within()} the values of the group, which graph
+     * providers can answer from their indices. Providers may override this to resolve a batch more efficiently. The
+     * returned list is aligned with {@code searches} and holds {@code null} for any map that has to be searched with
+     * {@link #searchVertices(Map)} when it is merged.
+     */
+    protected List<List<Vertex>> searchVertices(final List<Map> searches) {
+        final List<List<Vertex>> matches = new ArrayList<>(searches.size());
+        final Map<List<Object>, List<Integer>> shapes = new LinkedHashMap<>();
+        for (int i = 0; i < searches.size(); i++) {
+            final Map search = searches.get(i);
+            final Object id = search.get(T.id);
+            if (null == searchContainers(search) || (id != null && !isSingleId(id))) {
+                matches.add(null);
+            } else if (id != null || !isBatchable(search)) {
+                try (CloseableIterator<Vertex> vertices = searchVertices(search)) {
+                    final List<Vertex> found = new ArrayList<>();
+                    vertices.forEachRemaining(found::add);
+                    matches.add(found);
+                }
+            } else {
+                matches.add(null);
+                shapes.computeIfAbsent(searchShape(search), k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        for (final List<Integer> shape : shapes.values()) {
+            final List<Map> group = new ArrayList<>(shape.size());
+            shape.forEach(i -> group.add(searches.get(i)));
+            final List<List<Vertex>> groupMatches = matchAll(searchVerticesCandidates(group), group);
+            for (int i = 0; i < shape.size(); i++) {
+                matches.set(shape.get(i), groupMatches.get(i));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Gets a superset of the vertices that match any of a group of merge maps which share a label and a key set. The
+     * default implementation is a {@code g.V()} traversal that filters on the label and on each key with
+     * {@code within()} the values the group holds for it.
+     */
+    protected Iterator<Vertex> searchVerticesCandidates(final List<Map> searches) {
+        final Map first = searches.get(0);
+        GraphTraversal t = searchVerticesTraversal(getGraph(), null);
+        t = searchVerticesLabelConstraint(t, (String) first.get(T.label));
+        for (final Object k : first.keySet()) {
+            if (!(k instanceof String)) continue;
+            final Set<Object> values = new LinkedHashSet<>();
+            searches.forEach(search -> values.add(search.get(k)));
+            t = t.has((String) k, P.within(values));
+        }
+        return CloseableIterator.of(t);
+    }
+
+    /**
+     * Translates the label and property keys of a merge map into the {@link HasContainer} filters that the search
+     * traversal would apply, or {@code null} if a value can only be expressed as a traversal.
+     */
+    protected static List<HasContainer> searchContainers(final Map search) {
+        final List<HasContainer> containers = new ArrayList<>();
+        final Object label = search.get(T.label);
+        if (label != null)
+            containers.add(new HasContainer(T.label.getAccessor(), P.eq(label)));
+        for (final Map.Entry e : ((Map<?,?>) search).entrySet()) {
+            final Object k = e.getKey();
+            if (!(k instanceof String)) continue;
+            final Object v = e.getValue();
+            if (v instanceof Traversal) return null;
+            containers.add(new HasContainer((String) k, v instanceof P ? (P) v : P.eq(v)));
+        }
+        return containers;
+    }
+
+    /**
+     * Matches the candidate vertices for a group of merge maps which share a label and a key set to each of those
+     * maps. Candidates are bucketed on the value of one of the keys so that each map is only tested against the
+     * vertices that can possibly match it.
+     */
+    protected static List<List<Vertex>> matchAll(final Iterator<Vertex> candidates, final List<Map> searches) {
+        final String key = batchKey(searches.get(0));
+        final Map<Object, List<Vertex>> buckets = new HashMap<>();
+        try {
+            while (candidates.hasNext()) {
+                final Vertex vertex = candidates.next();
+                if (null == key) {
+                    buckets.computeIfAbsent(null, k -> new ArrayList<>()).add(vertex);
+                } else {
+                    final Iterator<? extends Property> properties = vertex.properties(key);
+                    while (properties.hasNext()) {
+                        final List<Vertex> bucket = buckets.computeIfAbsent(bucketOf(properties.next().value()), k -> new ArrayList<>());
+                        if (bucket.isEmpty() || bucket.get(bucket.size() - 1) != vertex)
+                            bucket.add(vertex);
+                    }
+                }
+            }
+        } finally {
+            CloseableIterator.closeIterator(candidates);
+        }
+
+        final List<List<Vertex>> matches = new ArrayList<>(searches.size());
+        for (final Map search : searches) {
+            final List<Vertex> bucket = buckets.getOrDefault(null == key ? null : bucketOf(search.get(key)),
+                    Collections.emptyList());
+            matches.add(filter(bucket.iterator(), searchContainers(search)));
+        }
+        return matches;
+    }
+
+    /**
+     * Gets the elements of the iterator that pass all of the filters and closes it.
+     */
+    protected static <A extends Element> List<A> filter(final Iterator<A> candidates, final List<HasContainer> containers) {
+        final List<A> matches = new ArrayList<>();
+        try {
+            while (candidates.hasNext()) {
+                final A element = candidates.next();
+                if (testAll(element, containers))
+                    matches.add(element);
+            }
+        } finally {
+            CloseableIterator.closeIterator(candidates);
+        }
+        return matches;
+    }
+
+    /**
+     * Tests an element against filters where, as with the search traversal, a type error simply fails the test.
+     */
+    protected static boolean testAll(final Element element, final List<HasContainer> containers) {
+        try {
+            return HasContainer.testAll(element, containers);
+        } catch (GremlinTypeErrorException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Determines if an element has the given id in the same way as {@code hasId()}.
+     */
+    protected static boolean hasId(final Element element, final Object id) {
+        return testAll(element, Collections.singletonList(new HasContainer(T.id.getAccessor(), P.eq(id))));
+    }
+
+    /**
+     * Determines if an id refers to a single element rather than the list of them a {@code g.V()} would unroll.
+     */
+    /**
+     * Determines if a search by a single id is answered straight from the graph rather than with the traversal built
+     * by the search methods that providers may override, such as {@link #searchVerticesTraversal(Graph, Object)}.
+     * This is only the case when the step is batched by {@link MergeBatchStrategy}, though providers may override it
+     * when their lookups by id need nothing from those methods.
+     */
+    protected boolean isDirectIdLookup() {
+        return batchSize > 1;
+    }
+
+    protected static boolean isSingleId(final Object id) {
+        return id != null && !(id instanceof Collection) && !id.getClass().isArray();
+    }
+
+    /**
+     * Determines if a merge map without an id can be searched together with others of its label and key set, which
+     * requires the value of its {@link #batchKey(Map)} to be usable as a bucket.
+     */
+    protected static boolean isBatchable(final Map search) {
+        final String key = batchKey(search);
+        if (null == key) return true;
+        final Object v = search.get(key);
+        return v instanceof String || v instanceof Number || v instanceof Boolean;
+    }
+
+    private static String batchKey(final Map search) {
+        final TreeSet<String> keys = new TreeSet<>();
+        for (final Object k : search.keySet()) {
+            if (k instanceof String) keys.add((String) k);
+        }
+        return keys.isEmpty() ? null : keys.first();
+    }
+
+    private static List<Object> searchShape(final Map search) {
+        final Set<Object> keys = new HashSet<>();
+        for (final Object k : search.keySet()) {
+            if (k instanceof String) keys.add(k);
+        }
+        return Arrays.asList(search.get(T.label), keys);
+    }
+
+    /**
+     * Numbers that Gremlin considers equal share a bucket, which the exact filter then sorts out.
+     */
+    private static Object bucketOf(final Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() + 0.0d : value;
+    }
+
     @Override
     protected abstract Iterator<E> flatMap(final Traverser.Admin<S> traverser);
 
@@ -22,8 +22,10 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
@@ -31,6 +33,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.lambda.CardinalityValueTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.lambda.ConstantTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.step.GValue;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.event.EventUtil;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
@@ -69,6 +72,10 @@ public class MergeVertexStep<S> extends MergeElementStep<S, Vertex, Map> {
         super(traversal, isStart, mergeTraversal);
     }
 
+    protected MergeVertexStep(final MergeVertexStep<S> original) {
+        super(original);
+    }
+
     @Override
     public MergeVertexStep<S> clone() {
         return (MergeVertexStep<S>) super.clone();
@@ -79,14 +86,44 @@ public class MergeVertexStep<S> extends MergeElementStep<S, Vertex, Map> {
         return allowedTokens;
     }
 
+    @Override
+    protected void prepareBatch(final List<Traverser.Admin<S>> traversers) {
+        for (final Traverser.Admin<S> traverser : traversers) {
+            final Map mergeMap;
+            try {
+                mergeMap = materializeMap(traverser, mergeTraversal);
+                validateMapInput(mergeMap, false);
+            } catch (RuntimeException ex) {
+                // leave the bad map to fail when its traverser is merged so that the ones before it still get merged
+                break;
+            }
+            batchedMergeMaps.add(mergeMap);
+        }
+        batchedMatches.addAll(searchVertices(batchedMergeMaps));
+    }
+
+    @Override
+    protected Predicate<Vertex> searchFilter(final Map search) {
+        final Object id = search.get(T.id);
+        final List<HasContainer> containers = searchContainers(search);
+        return vertex -> (null == id || hasId(vertex, id)) && testAll(vertex, containers);
+    }
+
     @Override
     protected Iterator<Vertex> flatMap(final Traverser.Admin<S> traverser) {
         final Graph graph = getGraph();
 
-        final Map mergeMap = materializeMap(traverser, mergeTraversal);
-        validateMapInput(mergeMap, false);
-
-        Iterator<Vertex> vertices = searchVertices(mergeMap);
+        final Map mergeMap;
+        Iterator<Vertex> vertices;
+        if (hasBatchedMergeMap()) {
+            mergeMap = batchedMergeMaps.get(batchedIndex);
+            final List<Vertex> matches = nextBatchedMatches();
+            vertices = null == matches ? searchVertices(mergeMap) : matches.iterator();
+        } else {
+            mergeMap = materializeMap(traverser, mergeTraversal);
+            validateMapInput(mergeMap, false);
+            vertices = searchVertices(mergeMap);
+        }
 
         if (onMatchTraversal != null) {
             if (onMatchTraversal instanceof ConstantTraversal) {
@@ -126,6 +163,7 @@ public class MergeVertexStep<S> extends MergeElementStep<S, Vertex, Map> {
                     // try to detect proper cardinality for the key according to the graph
                     v.property(card, key, val);
                 });
+                recordBatchedChange(v);
             });
         }
 
@@ -165,6 +203,7 @@ public class MergeVertexStep<S> extends MergeElementStep<S, Vertex, Map> {
 
         // trigger callbacks for eventing - in this case, it's a VertexAddedEvent
         EventUtil.registerVertexCreationWithGenericEventRegistry(callbackRegistry, getTraversal(), vertex);
+        recordBatchedChange(vertex);
 
         return IteratorUtils.of(vertex);
     }
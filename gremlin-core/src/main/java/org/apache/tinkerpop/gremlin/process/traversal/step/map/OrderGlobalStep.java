@@ -151,6 +151,11 @@ public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBa
         return (List) this.comparators.stream().map(Pair::getValue0).collect(Collectors.toList());
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        return 1L;
+    }
+
     @Override
     public OrderGlobalStep<S, C> clone() {
         final OrderGlobalStep<S, C> clone = (OrderGlobalStep<S, C>) super.clone();
@@ -194,6 +194,11 @@ public final class OrderLocalStep<S, C extends Comparable> extends ScalarMapStep
         return (List) this.comparators.stream().map(Pair::getValue0).collect(Collectors.toList());
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        return 1L;
+    }
+
 
     @Override
     public OrderLocalStep<S, C> clone() {
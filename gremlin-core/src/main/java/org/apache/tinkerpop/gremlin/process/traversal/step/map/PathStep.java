@@ -81,6 +81,11 @@ public final class PathStep<S> extends MapStep<S, Path> implements TraversalPare
         return this.traversalRing.getTraversals();
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        return 1L;
+    }
+
     @Override
     public void modulateBy(final Traversal.Admin<?, ?> pathTraversal) {
         this.traversalRing.addTraversal(this.integrateChild(pathTraversal));
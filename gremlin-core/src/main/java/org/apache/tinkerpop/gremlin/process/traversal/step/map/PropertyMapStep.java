@@ -117,6 +117,12 @@ public class PropertyMapStep<K,E> extends ScalarMapStep<Element, Map<K, E>>
         return Collections.unmodifiableList(result);
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        // the by() value is the first result while the property traversal is iterated in full
+        return child == this.valueTraversal ? 1L : Long.MAX_VALUE;
+    }
+
     @Override
     public void modulateBy(final Traversal.Admin<?, ?> selectTraversal) {
         if (null == valueTraversal) {
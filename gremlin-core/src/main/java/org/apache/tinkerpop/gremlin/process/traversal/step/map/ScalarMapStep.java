@@ -21,6 +21,8 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 
+import java.util.NoSuchElementException;
+
 /**
  * A type of {@link MapStep} class which will transform the object of one {@link Traverser} into another. This class
  * simply requires the implementation of the {@link #map(Traverser.Admin)} method to extract the object of the given
@@ -40,5 +42,29 @@ public abstract class ScalarMapStep<S, E> extends MapStep<S,E> {
         return traverser.split(this.map(traverser), this);
     }
 
+    /**
+     * Maps a batch of starts at a time when this step is pulled with {@link #nextBatch(Traverser.Admin[])} and no
+     * subclass has customized the per-traverser path.
+     */
+    @Override
+    public int nextBatch(final Traverser.Admin<E>[] batch) {
+        if (!this.hasNativeBatch())
+            return super.nextBatch(batch);
+
+        int size = this.startBatch(batch);
+        try {
+            while (size < batch.length && this.starts.hasNext()) {
+                final Traverser.Admin<S> traverser = this.starts.next();
+                final Traverser.Admin<E> end = traverser.split(this.map(traverser), this);
+                if (end.bulk() > 0)
+                    batch[size++] = this.prepareTraversalForNextStep(end);
+            }
+        } catch (final NoSuchElementException e) {
+            // a map that cannot produce a value ends the stream just as it does for processNextStart()
+            return this.endBatch(size, e);
+        }
+        return this.endBatch(size);
+    }
+
     protected abstract E map(final Traverser.Admin<S> traverser);
 }
@@ -107,6 +107,11 @@ public final class SelectOneStep<S, E> extends MapStep<S, E> implements Traversa
         return null == this.selectTraversal ? Collections.emptyList() : Collections.singletonList(this.selectTraversal);
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        return 1L;
+    }
+
     @Override
     public void removeLocalChild(final Traversal.Admin<?, ?> traversal) {
         if (this.selectTraversal == traversal)
@@ -57,6 +57,11 @@ public final class TraversalMapStep<S, E> extends MapStep<S, E> implements Trave
         return Collections.singletonList(this.mapTraversal);
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        return 1L;
+    }
+
     @Override
     public TraversalMapStep<S, E> clone() {
         final TraversalMapStep<S, E> clone = (TraversalMapStep<S, E>) super.clone();
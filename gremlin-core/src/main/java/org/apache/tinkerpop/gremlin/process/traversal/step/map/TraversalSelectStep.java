@@ -141,6 +141,12 @@ public final class TraversalSelectStep<S, E> extends MapStep<S, E> implements Tr
         return children;
     }
 
+    @Override
+    public long getRequiredResults(final Traversal.Admin<?, ?> child) {
+        // the by() value is the first result while every selected key is iterated
+        return child == this.selectTraversal ? 1L : Long.MAX_VALUE;
+    }
+
     @Override
     public void removeLocalChild(final Traversal.Admin<?, ?> traversal) {
         if (this.selectTraversal == traversal)
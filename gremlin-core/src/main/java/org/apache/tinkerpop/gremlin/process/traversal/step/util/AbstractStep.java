@@ -39,12 +39,26 @@ import java.util.Set;
  */
 public abstract class AbstractStep<S, E> implements Step<S, E> {
 
+    private static final ClassValue<Boolean> NATIVE_BATCH = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            for (Class<?> c = type; c != AbstractStep.class; c = c.getSuperclass()) {
+                if (declares(c, "nextBatch", Traverser.Admin[].class))
+                    return true;
+                if (declares(c, "processNextStart") || declares(c, "hasNext") || declares(c, "next"))
+                    return false;
+            }
+            return false;
+        }
+    };
+
     protected Set<String> labels = new LinkedHashSet<>();
     protected String id = Traverser.Admin.HALT;
     protected Traversal.Admin traversal;
     protected ExpandableStepIterator<S> starts;
     protected Traverser.Admin<E> nextEnd = EmptyTraverser.instance();
     protected boolean traverserStepIdAndLabelsSetByChild = false;
+    private NoSuchElementException batchEnd = null;
 
     protected Step<?, S> previousStep = EmptyStep.instance();
     protected Step<E, ?> nextStep = EmptyStep.instance();
@@ -89,6 +103,7 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
     public void reset() {
         this.starts.clear();
         this.nextEnd = EmptyTraverser.instance();
+        this.batchEnd = null;
     }
 
     @Override
@@ -164,6 +179,58 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
         }
     }
 
+    /**
+     * Determines if a native {@link #nextBatch(Traverser.Admin[])} inherited from a base class may be used for this
+     * step. It may not when a subclass customizes {@link #processNextStart()}, {@link #hasNext()} or {@link #next()}
+     * as the native implementation would bypass that logic, in which case the base class should fall back to the
+     * per-traverser implementation of this class.
+     */
+    protected boolean hasNativeBatch() {
+        return NATIVE_BATCH.get(this.getClass());
+    }
+
+    /**
+     * Starts a native batch by moving a traverser that {@link #hasNext()} already fetched to the front of it.
+     *
+     * @return the number of traversers now in the batch
+     */
+    protected int startBatch(final Traverser.Admin<E>[] batch) {
+        if (Thread.interrupted()) throw new TraversalInterruptedException();
+        if (null != this.batchEnd) {
+            final NoSuchElementException e = this.batchEnd;
+            this.batchEnd = null;
+            throw e;
+        }
+        if (EmptyTraverser.instance() == this.nextEnd)
+            return 0;
+        batch[0] = this.prepareTraversalForNextStep(this.nextEnd);
+        this.nextEnd = EmptyTraverser.instance();
+        return 1;
+    }
+
+    /**
+     * Ends a native batch, passing on an end of the stream that the previous step signaled while it was filled.
+     *
+     * @return the number of traversers in the batch
+     */
+    protected int endBatch(final int size) {
+        final NoSuchElementException e = this.starts.takeBatchEnd();
+        return null == e ? size : this.endBatch(size, e);
+    }
+
+    /**
+     * Ends a native batch that was cut short by a {@code NoSuchElementException}. The traversers already in the
+     * batch are returned first and the exception is thrown by the next {@link #startBatch(Traverser.Admin[])} so
+     * that the stream ends where it would have ended through {@link #processNextStart()}.
+     *
+     * @return the number of traversers in the batch
+     */
+    protected int endBatch(final int size, final NoSuchElementException e) {
+        if (0 == size) throw e;
+        this.batchEnd = e;
+        return size;
+    }
+
     @Override
     public <A, B> Traversal.Admin<A, B> getTraversal() {
         return this.traversal;
@@ -187,9 +254,11 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
         try {
             final AbstractStep<S, E> clone = (AbstractStep<S, E>) super.clone();
             clone.starts = new ExpandableStepIterator<>(clone, (TraverserSet<S>) traversal.getTraverserSetSupplier().get());
+            clone.starts.setBatchSize(this.starts.getBatchSize());
             clone.previousStep = EmptyStep.instance();
             clone.nextStep = EmptyStep.instance();
             clone.nextEnd = EmptyTraverser.instance();
+            clone.batchEnd = null;
             clone.traversal = EmptyTraversal.instance();
             clone.labels = new LinkedHashSet<>(this.labels);
             clone.reset();
@@ -221,6 +290,15 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
         return traverserStepIdAndLabelsSetByChild;
     }
 
+    private static boolean declares(final Class<?> type, final String name, final Class<?>... parameterTypes) {
+        try {
+            type.getDeclaredMethod(name, parameterTypes);
+            return true;
+        } catch (final NoSuchMethodException e) {
+            return false;
+        }
+    }
+
     protected Traverser.Admin<E> prepareTraversalForNextStep(final Traverser.Admin<E> traverser) {
         if (!this.traverserStepIdAndLabelsSetByChild) {
             traverser.setStepId(this.nextStep.getId());
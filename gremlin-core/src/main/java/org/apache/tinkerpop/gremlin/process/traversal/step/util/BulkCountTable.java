@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroupCountStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroupStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MemoryBudget;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A hash table of mutable primitive {@code long} counters used by {@link GroupCountStep} and {@link GroupStep} to
+ * aggregate traverser bulks in place. Incrementing an existing key does not allocate, so a barrier that sees many
+ * traversers for a small number of keys only boxes each count once when the table is drained into the step seed.
+ */
+public final class BulkCountTable<K> {
+
+    private final Map<K, long[]> counts = new HashMap<>();
+
+    /**
+     * Adds {@code bulk} to the counter for {@code key}.
+     */
+    public void incr(final K key, final long bulk) {
+        final long[] cell = this.counts.get(key);
+        if (null == cell)
+            this.counts.put(key, new long[]{bulk});
+        else
+            cell[0] += bulk;
+    }
+
+    public boolean isEmpty() {
+        return this.counts.isEmpty();
+    }
+
+    public void clear() {
+        this.counts.clear();
+    }
+
+    /**
+     * Estimates the number of bytes held by the counters in the manner of {@link MemoryBudget#estimate(Object)}.
+     */
+    public long estimate() {
+        return MemoryBudget.estimate(this.counts);
+    }
+
+    /**
+     * Adds each counter to the matching entry of {@code map} and empties this table.
+     */
+    public <V> Map<K, V> drainTo(final Map<K, V> map) {
+        for (final Map.Entry<K, long[]> entry : this.counts.entrySet()) {
+            MapHelper.incr((Map<K, Long>) map, entry.getKey(), entry.getValue()[0]);
+        }
+        this.counts.clear();
+        return map;
+    }
+}
@@ -18,6 +18,8 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal.step.util;
 
+import org.apache.tinkerpop.gremlin.process.traversal.util.MemoryBudget;
+
 import java.io.Serializable;
 import java.util.AbstractSet;
 import java.util.ArrayList;
@@ -40,6 +42,8 @@ import java.util.stream.Collectors;
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializable {
+    private static final long ENTRY_BYTES = 48;
+
     private final Map<S, Long> map = new LinkedHashMap<>();
 
 
@@ -62,6 +66,12 @@ public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializ
     private transient Class<?> allContainedElementsClass = null;
     private transient boolean allContainedElementsClassChecked = true;
 
+    /**
+     * The {@link MemoryBudget} of the thread that created the set, against which the objects it holds are reserved.
+     */
+    private transient MemoryBudget memoryBudget = MemoryBudget.current();
+    private transient long reservedBytes = 0;
+
     /**
      * @return the class of all contained elements/objects if it is guaranteed that all are of the same type/class (but not
      * necessarily, i.e., they can have the same type/class, but we may return null here if it was not analysed/identified).
@@ -152,11 +162,25 @@ public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializ
             this.map.put(s, current + bulk);
             return false;
         } else {
+            if (null != this.memoryBudget) this.reserve(s);
             this.map.put(s, bulk);
             return true;
         }
     }
 
+    private void reserve(final S s) {
+        final long bytes = ENTRY_BYTES + MemoryBudget.estimate(s);
+        this.memoryBudget.reserve(bytes);
+        this.reservedBytes += bytes;
+    }
+
+    private void release(final Object s) {
+        final long bytes = this.map.isEmpty() ? this.reservedBytes :
+                Math.min(this.reservedBytes, ENTRY_BYTES + MemoryBudget.estimate(s));
+        this.memoryBudget.release(bytes);
+        this.reservedBytes -= bytes;
+    }
+
     public long get(final S s) {
         final Long bulk = this.map.get(s);
         return null == bulk ? 0 : bulk;
@@ -164,12 +188,20 @@ public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializ
 
     @Override
     public boolean remove(final Object s) {
-        return this.map.remove(s) != null;
+        if (this.map.remove(s) != null) {
+            if (null != this.memoryBudget) this.release(s);
+            return true;
+        }
+        return false;
     }
 
     @Override
     public void clear() {
         this.map.clear();
+        if (null != this.memoryBudget) {
+            this.memoryBudget.release(this.reservedBytes);
+            this.reservedBytes = 0;
+        }
     }
 
     @Override
@@ -182,8 +214,10 @@ public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializ
         Objects.requireNonNull(collection);
         boolean modified = false;
         for (final Object object : collection) {
-            if (null != this.map.remove(object))
+            if (null != this.map.remove(object)) {
+                if (null != this.memoryBudget) this.release(object);
                 modified = true;
+            }
         }
         return modified;
     }
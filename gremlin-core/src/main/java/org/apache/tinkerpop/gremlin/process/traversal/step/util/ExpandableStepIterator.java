@@ -23,7 +23,9 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -33,6 +35,11 @@ public final class ExpandableStepIterator<S> implements Iterator<Traverser.Admin
     private TraverserSet<S> traverserSet;
     private final Step<S, ?> hostStep;
 
+    private transient Traverser.Admin<S>[] batch = null;
+    private transient int batchIndex = 0;
+    private transient int batchSize = 0;
+    private transient NoSuchElementException batchEnd = null;
+
     public ExpandableStepIterator(final Step<S, ?> hostStep) {
         this(hostStep, new TraverserSet<>());
     }
@@ -44,7 +51,9 @@ public final class ExpandableStepIterator<S> implements Iterator<Traverser.Admin
 
     @Override
     public boolean hasNext() {
-        return !this.traverserSet.isEmpty() || this.hostStep.getPreviousStep().hasNext();
+        if (null == this.batch)
+            return !this.traverserSet.isEmpty() || this.hostStep.getPreviousStep().hasNext();
+        return !this.traverserSet.isEmpty() || this.batchIndex < this.batchSize || this.fillBatch();
     }
 
     @Override
@@ -52,12 +61,66 @@ public final class ExpandableStepIterator<S> implements Iterator<Traverser.Admin
         if (!this.traverserSet.isEmpty())
             return this.traverserSet.remove();
         /////////////
-        if (this.hostStep.getPreviousStep().hasNext())
+        if (null != this.batch) {
+            if (this.batchIndex < this.batchSize || this.fillBatch()) {
+                final Traverser.Admin<S> traverser = this.batch[this.batchIndex];
+                this.batch[this.batchIndex++] = null;
+                return traverser;
+            }
+        } else if (this.hostStep.getPreviousStep().hasNext())
             return this.hostStep.getPreviousStep().next();
         /////////////
         return this.traverserSet.remove();
     }
 
+    private boolean fillBatch() {
+        this.batchEnd = null;
+        final int size;
+        try {
+            size = this.hostStep.getPreviousStep().nextBatch(this.batch);
+        } catch (final NoSuchElementException e) {
+            // the previous step ended its stream here just as its hasNext() would have reported
+            this.batchEnd = e;
+            return false;
+        }
+        this.batchIndex = 0;
+        this.batchSize = size;
+        return this.batchSize > 0;
+    }
+
+    /**
+     * Gets and clears the exception with which the previous step ended its stream on the last batch pulled from it,
+     * so that the host step can pass the end on from its own {@link Step#nextBatch}.
+     */
+    NoSuchElementException takeBatchEnd() {
+        final NoSuchElementException e = this.batchEnd;
+        this.batchEnd = null;
+        return e;
+    }
+
+    /**
+     * Pulls traversers from the previous step in arrays of {@code size} with {@link Step#nextBatch} rather than one
+     * at a time. A size of {@code 0} or {@code 1} restores the default behavior.
+     */
+    public void setBatchSize(final int size) {
+        if (size < 0)
+            throw new IllegalArgumentException("The batch size must not be negative: " + size);
+        this.clearBatch();
+        this.batch = size > 1 ? new Traverser.Admin[size] : null;
+    }
+
+    public int getBatchSize() {
+        return null == this.batch ? 0 : this.batch.length;
+    }
+
+    private void clearBatch() {
+        if (null != this.batch)
+            Arrays.fill(this.batch, 0, this.batchSize, null);
+        this.batchIndex = 0;
+        this.batchSize = 0;
+        this.batchEnd = null;
+    }
+
     public void add(final Iterator<Traverser.Admin<S>> iterator) {
         iterator.forEachRemaining(this.traverserSet::add);
     }
@@ -73,5 +136,6 @@ public final class ExpandableStepIterator<S> implements Iterator<Traverser.Admin
 
     public void clear() {
         this.traverserSet.clear();
+        this.clearBatch();
     }
 }
@@ -24,14 +24,19 @@ import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 /**
+ * A persistent path where each step is a node that points at the path it extended, so traversers that split from
+ * the same parent share the whole prefix rather than copying it. Node labels are interned {@link LabelSet} instances
+ * which keeps a node to three references and lets label lookups compare bitmasks. Calls to {@link #objects()} and
+ * {@link #labels()} materialize the path into fixed size arrays.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class ImmutablePath implements Path, Serializable, Cloneable {
@@ -41,7 +46,7 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
 
     private ImmutablePath previousPath;
     private Object currentObject;
-    private Set<String> currentLabels;
+    private LabelSet currentLabels;
 
     public static Path make() {
         return TAIL_PATH;
@@ -53,7 +58,7 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
         return this;
     }
 
-    private ImmutablePath(final ImmutablePath previousPath, final Object currentObject, final Set<String> currentLabels) {
+    private ImmutablePath(final ImmutablePath previousPath, final Object currentObject, final LabelSet currentLabels) {
         this.previousPath = previousPath;
         this.currentObject = currentObject;
         this.currentLabels = currentLabels;
@@ -86,19 +91,15 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
 
     @Override
     public Path extend(final Object object, final Set<String> labels) {
-        return new ImmutablePath(this, object, labels);
+        return new ImmutablePath(this, object, LabelSet.of(labels));
     }
 
     @Override
     public Path extend(final Set<String> labels) {
-        if (labels.isEmpty() || this.currentLabels.containsAll(labels))
+        if (labels.isEmpty())
             return this;
-        else {
-            final Set<String> newLabels = new LinkedHashSet<>();
-            newLabels.addAll(this.currentLabels);
-            newLabels.addAll(labels);
-            return new ImmutablePath(this.previousPath, this.currentObject, newLabels);
-        }
+        final LabelSet newLabels = this.currentLabels.union(LabelSet.of(labels));
+        return newLabels == this.currentLabels ? this : new ImmutablePath(this.previousPath, this.currentObject, newLabels);
     }
 
     @Override
@@ -106,22 +107,27 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
         if (labels.isEmpty())
             return this;
 
-        // get all the immutable path sections
-        final List<ImmutablePath> immutablePaths = new ArrayList<>();
+        // get all the immutable path sections and note the oldest one that has to change. unlabeled sections are
+        // dropped as well as those left without labels by the retraction.
+        final LabelSet retracted = LabelSet.of(labels);
+        final ImmutablePath[] immutablePaths = new ImmutablePath[this.size()];
+        int oldestChange = immutablePaths.length;
         ImmutablePath currentPath = this;
-        while (true) {
-            if (currentPath.isTail())
-                break;
-            immutablePaths.add(0, currentPath);
+        for (int i = immutablePaths.length - 1; i >= 0; i--) {
+            immutablePaths[i] = currentPath;
+            if (currentPath.currentLabels.isEmpty() || currentPath.currentLabels.intersects(retracted))
+                oldestChange = i;
             currentPath = currentPath.previousPath;
         }
-        // build a new immutable path using the respective path sections that are not to be retracted
-        Path newPath = TAIL_PATH;
-        for (final ImmutablePath immutablePath : immutablePaths) {
-            final Set<String> temp = new LinkedHashSet<>(immutablePath.currentLabels);
-            temp.removeAll(labels);
+        if (oldestChange == immutablePaths.length)
+            return this;
+
+        // the sections before the first change are shared with this path and the rest are rebuilt
+        ImmutablePath newPath = 0 == oldestChange ? TAIL_PATH : immutablePaths[oldestChange - 1];
+        for (int i = oldestChange; i < immutablePaths.length; i++) {
+            final LabelSet temp = immutablePaths[i].currentLabels.minus(retracted);
             if (!temp.isEmpty())
-                newPath = newPath.extend(immutablePath.currentObject, temp);
+                newPath = new ImmutablePath(newPath, immutablePaths[i].currentObject, temp);
         }
         return newPath;
     }
@@ -139,6 +145,7 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
 
     @Override
     public <A> A get(final Pop pop, final String label) {
+        final long bit = LabelSet.bit(label);
         if (Pop.mixed == pop) {
             return this.get(label);
         } else if (Pop.all == pop) {
@@ -148,7 +155,7 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
             while (true) {
                 if (currentPath.isTail())
                     break;
-                else if (currentPath.currentLabels.contains(label))
+                else if (currentPath.currentLabels.contains(label, bit))
                     list.add(0, currentPath.currentObject);
                 currentPath = currentPath.previousPath;
             }
@@ -158,7 +165,7 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
             while (true) {
                 if (currentPath.isTail())
                     throw Path.Exceptions.stepWithProvidedLabelDoesNotExist(label);
-                else if (currentPath.currentLabels.contains(label))
+                else if (currentPath.currentLabels.contains(label, bit))
                     return (A) currentPath.currentObject;
                 else
                     currentPath = currentPath.previousPath;
@@ -169,7 +176,7 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
             while (true) {
                 if (currentPath.isTail())
                     break;
-                else if (currentPath.currentLabels.contains(label))
+                else if (currentPath.currentLabels.contains(label, bit))
                     found = (A) currentPath.currentObject;
                 currentPath = currentPath.previousPath;
             }
@@ -180,11 +187,12 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
 
     @Override
     public boolean hasLabel(final String label) {
+        final long bit = LabelSet.bit(label);
         ImmutablePath currentPath = this;
         while (true) {
             if (currentPath.isTail())
                 return false;
-            else if (currentPath.currentLabels.contains(label))
+            else if (currentPath.currentLabels.contains(label, bit))
                 return true;
             else
                 currentPath = currentPath.previousPath;
@@ -193,28 +201,26 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
 
     @Override
     public List<Object> objects() {
-        final List<Object> objects = new ArrayList<>();
+        final Object[] objects = new Object[this.size()];
         ImmutablePath currentPath = this;
-        while (true) {
-            if (currentPath.isTail())
-                break;
-            objects.add(0, currentPath.currentObject);
+        for (int i = objects.length - 1; i >= 0; i--) {
+            objects[i] = currentPath.currentObject;
             currentPath = currentPath.previousPath;
         }
-        return Collections.unmodifiableList(objects);
+        return Collections.unmodifiableList(Arrays.asList(objects));
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public List<Set<String>> labels() {
-        final List<Set<String>> labels = new ArrayList<>();
+        // the array only ever holds the LabelSet of each step and never escapes except as an unmodifiable List
+        final Set<String>[] labels = new Set[this.size()];
         ImmutablePath currentPath = this;
-        while (true) {
-            if (currentPath.isTail())
-                break;
-            labels.add(0, currentPath.currentLabels);
+        for (int i = labels.length - 1; i >= 0; i--) {
+            labels[i] = currentPath.currentLabels;
             currentPath = currentPath.previousPath;
         }
-        return Collections.unmodifiableList(labels);
+        return Collections.unmodifiableList(Arrays.asList(labels));
     }
 
     @Override
@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable, interned set of step labels used by {@link ImmutablePath}. Every distinct label is assigned a bit
+ * in a JVM wide dictionary, so each set also carries a {@code long} mask of its members and path nodes that share
+ * the same labels share the same instance. Membership tests against a path can then resolve the label once with
+ * {@link #bit(String)} and compare masks while walking the nodes. Once the dictionary has handed out all 64 bits,
+ * further labels are only found by scanning the member array and once {@link #MAX_INTERNED} sets have been seen,
+ * new sets are no longer cached, so a long running JVM that sees arbitrary labels stays bounded.
+ */
+final class LabelSet extends AbstractSet<String> implements Serializable {
+
+    static final int MAX_INTERNED = 4096;
+
+    static final LabelSet EMPTY = new LabelSet(new String[0], 0L, false);
+
+    private static final Map<String, Long> BITS = new ConcurrentHashMap<>();
+    private static final Map<List<String>, LabelSet> INTERNED = new ConcurrentHashMap<>();
+
+    private final String[] labels;
+    private final transient long bits;
+    private final transient boolean overflow;
+
+    private LabelSet(final String[] labels, final long bits, final boolean overflow) {
+        this.labels = labels;
+        this.bits = bits;
+        this.overflow = overflow;
+    }
+
+    /**
+     * Gets the canonical instance for the provided labels, preserving their iteration order.
+     */
+    static LabelSet of(final Set<String> labels) {
+        if (labels instanceof LabelSet)
+            return (LabelSet) labels;
+        if (labels.isEmpty())
+            return EMPTY;
+        return of(labels.toArray(new String[labels.size()]));
+    }
+
+    private static LabelSet of(final String[] labels) {
+        final List<String> key = Arrays.asList(labels);
+        final LabelSet interned = INTERNED.get(key);
+        if (null != interned)
+            return interned;
+
+        long bits = 0L;
+        boolean overflow = false;
+        for (final String label : labels) {
+            final long bit = assign(label);
+            if (0L == bit)
+                overflow = true;
+            else
+                bits |= bit;
+        }
+        final LabelSet labelSet = new LabelSet(labels, bits, overflow);
+        if (INTERNED.size() >= MAX_INTERNED)
+            return labelSet;
+        final LabelSet existing = INTERNED.putIfAbsent(key, labelSet);
+        return null == existing ? labelSet : existing;
+    }
+
+    /**
+     * Gets the mask bit of a label or {@code 0} if the label was never assigned one, in which case it is either in
+     * no {@code LabelSet} at all or only in those flagged as overflowing.
+     */
+    static long bit(final String label) {
+        final Long bit = BITS.get(label);
+        return null == bit ? 0L : bit;
+    }
+
+    private static long assign(final String label) {
+        final Long bit = BITS.get(label);
+        if (null != bit)
+            return bit;
+        synchronized (BITS) {
+            final Long racer = BITS.get(label);
+            if (null != racer)
+                return racer;
+            if (BITS.size() >= Long.SIZE)
+                return 0L;
+            final long assigned = 1L << BITS.size();
+            BITS.put(label, assigned);
+            return assigned;
+        }
+    }
+
+    /**
+     * Determines if this set holds the label whose {@link #bit(String)} is {@code bit}.
+     */
+    boolean contains(final String label, final long bit) {
+        if (0L != (this.bits & bit))
+            return true;
+        if (!this.overflow)
+            return false;
+        for (final String l : this.labels) {
+            if (l.equals(label))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Determines if this set shares at least one label with {@code other}.
+     */
+    boolean intersects(final LabelSet other) {
+        if (0L != (this.bits & other.bits))
+            return true;
+        if (!this.overflow || !other.overflow)
+            return false;
+        for (final String label : this.labels) {
+            if (0L == bit(label) && other.contains(label, 0L))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the union of this set and {@code other} with the labels of this set first.
+     */
+    LabelSet union(final LabelSet other) {
+        if (other.isEmpty() || this == other)
+            return this;
+        if (this.isEmpty())
+            return other;
+        final String[] union = Arrays.copyOf(this.labels, this.labels.length + other.labels.length);
+        int size = this.labels.length;
+        for (final String label : other.labels) {
+            if (!this.contains(label))
+                union[size++] = label;
+        }
+        return size == this.labels.length ? this : of(Arrays.copyOf(union, size));
+    }
+
+    /**
+     * Gets this set without any of the labels in {@code other}.
+     */
+    LabelSet minus(final LabelSet other) {
+        if (!this.intersects(other))
+            return this;
+        final String[] remaining = new String[this.labels.length];
+        int size = 0;
+        for (final String label : this.labels) {
+            if (!other.contains(label))
+                remaining[size++] = label;
+        }
+        return 0 == size ? EMPTY : of(Arrays.copyOf(remaining, size));
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        if (!(o instanceof String))
+            return false;
+        final String label = (String) o;
+        return this.contains(label, bit(label));
+    }
+
+    @Override
+    public boolean containsAll(final Collection<?> c) {
+        if (c instanceof LabelSet) {
+            final LabelSet other = (LabelSet) c;
+            if (!other.overflow)
+                return other.bits == (this.bits & other.bits);
+        }
+        return super.containsAll(c);
+    }
+
+    @Override
+    public int size() {
+        return this.labels.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == this.labels.length;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return this.index < labels.length;
+            }
+
+            @Override
+            public String next() {
+                if (this.index >= labels.length)
+                    throw new NoSuchElementException();
+                return labels[this.index++];
+            }
+        };
+    }
+
+    private Object readResolve() {
+        return 0 == this.labels.length ? EMPTY : of(this.labels);
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Generating;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MemoryBudget;
 
 import java.io.Serializable;
 import java.util.Optional;
@@ -52,6 +53,14 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
 
     private E seed = (E) NON_EMITTING_SEED;
 
+    /**
+     * The number of accumulations between re-estimates of the seed size when a {@link MemoryBudget} is in effect.
+     */
+    private static final int MEMORY_CHECK_INTERVAL = 1024;
+
+    private transient MemoryBudget memoryBudget = null;
+    private transient long reservedBytes = 0;
+
     public ReducingBarrierStep(final Traversal.Admin traversal) {
         super(traversal);
     }
@@ -88,12 +97,14 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
         super.reset();
         this.hasProcessedOnce = false;
         this.seed = (E) NON_EMITTING_SEED;
+        this.releaseSeed();
     }
 
     @Override
     public void done() {
         this.hasProcessedOnce = true;
         this.seed = (E) NON_EMITTING_SEED;
+        this.releaseSeed();
     }
 
     @Override
@@ -106,8 +117,74 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
             this.seed = getSeedSupplier().get();
         }
 
-        while (this.starts.hasNext())
-            this.seed = this.reducingBiOperator.apply(this.seed, this.projectTraverser(this.starts.next()));
+        final MemoryBudget budget = MemoryBudget.current();
+        if (null == budget) {
+            while (this.starts.hasNext())
+                this.seed = this.accumulate(this.seed, this.starts.next());
+            this.seed = this.completeAccumulation(this.seed);
+        } else {
+            this.memoryBudget = budget;
+            int accumulations = 0;
+            while (this.starts.hasNext()) {
+                this.seed = this.accumulate(this.seed, this.starts.next());
+                if (++accumulations == MEMORY_CHECK_INTERVAL) {
+                    this.reserveSeed();
+                    accumulations = 0;
+                }
+            }
+            this.seed = this.completeAccumulation(this.seed);
+            this.reserveSeed();
+        }
+    }
+
+    /**
+     * Brings the reservation held against the {@link MemoryBudget} in line with the current size of the seed.
+     */
+    private void reserveSeed() {
+        final long bytes = MemoryBudget.estimate(this.seed) + this.estimatePending();
+        if (bytes > this.reservedBytes)
+            this.memoryBudget.reserve(bytes - this.reservedBytes);
+        else
+            this.memoryBudget.release(this.reservedBytes - bytes);
+        this.reservedBytes = bytes;
+    }
+
+    /**
+     * Estimates the bytes held by accumulations that are not yet part of the seed. Steps that accumulate into a side
+     * structure until {@link #completeAccumulation(Object)} must report its size here so that it counts against the
+     * {@link MemoryBudget} while the barrier is filling.
+     */
+    protected long estimatePending() {
+        return 0;
+    }
+
+    /**
+     * Hands back the reservation for the seed once it has been emitted or discarded.
+     */
+    private void releaseSeed() {
+        if (null != this.memoryBudget) {
+            this.memoryBudget.release(this.reservedBytes);
+            this.reservedBytes = 0;
+            this.memoryBudget = null;
+        }
+    }
+
+    /**
+     * Folds a single traverser into the seed. The default projects the traverser with
+     * {@link #projectTraverser(Traverser.Admin)} and combines it with the reducing operator. Steps that can update
+     * the seed in place may override this to avoid allocating a projection per traverser, but must leave the seed in
+     * a form that the reducing operator can still merge after {@link #completeAccumulation(Object)} is called.
+     */
+    protected E accumulate(final E seed, final Traverser.Admin<S> traverser) {
+        return this.reducingBiOperator.apply(seed, this.projectTraverser(traverser));
+    }
+
+    /**
+     * Called once the available starts have been folded by {@link #accumulate(Object, Traverser.Admin)} so that any
+     * state held aside during accumulation can be written to the seed.
+     */
+    protected E completeAccumulation(final E seed) {
+        return seed;
     }
 
     @Override
@@ -128,6 +205,7 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
         else {
             final E temp = this.seed;
             this.seed = (E) NON_EMITTING_SEED;
+            this.releaseSeed();
             return temp;
         }
     }
@@ -145,6 +223,7 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
         if (this.seed == NON_EMITTING_SEED) throw FastNoSuchElementException.instance();
         final Traverser.Admin<E> traverser = this.getTraversal().getTraverserGenerator().generate(this.generateFinalResult(this.seed), (Step<E, E>) this, 1l);
         this.seed = (E) NON_EMITTING_SEED;
+        this.releaseSeed();
         return traverser;
     }
 
@@ -153,6 +232,8 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
         final ReducingBarrierStep<S, E> clone = (ReducingBarrierStep<S, E>) super.clone();
         clone.hasProcessedOnce = false;
         clone.seed = (E) NON_EMITTING_SEED;
+        clone.memoryBudget = null;
+        clone.reservedBytes = 0;
         return clone;
     }
 
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.StepMetricsStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.SampledTraversalMetrics;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A pass-through step placed after each step of a traversal by the {@link StepMetricsStrategy} which counts the
+ * traversers produced by the previous step and, for sampled calls, the time spent producing them. The last one of
+ * these steps in the traversal owns the {@link SampledTraversalMetrics} and decides which calls are sampled.
+ */
+public final class StepMetricsStep<S> extends AbstractStep<S, S> {
+
+    private final int sampleRate;
+    private final int index;
+    private SampledTraversalMetrics metrics;
+    private boolean last;
+
+    public StepMetricsStep(final Traversal.Admin traversal, final int sampleRate, final int index) {
+        super(traversal);
+        this.sampleRate = sampleRate;
+        this.index = index;
+    }
+
+    /**
+     * Gets the metrics shared by all the {@code StepMetricsStep} instances of the traversal.
+     */
+    public SampledTraversalMetrics getMetrics() {
+        if (null == this.metrics) {
+            final StepMetricsStep<?> owner = (StepMetricsStep<?>) this.traversal.getEndStep();
+            if (null == owner.metrics)
+                owner.metrics = new SampledTraversalMetrics(this.sampleRate, (List) TraversalHelper.getStepsOfClass(StepMetricsStep.class, this.traversal));
+            this.metrics = owner.metrics;
+            this.last = owner == this;
+        }
+        return this.metrics;
+    }
+
+    @Override
+    public Traverser.Admin<S> next() {
+        final SampledTraversalMetrics metrics = this.getMetrics();
+        if (!(this.last ? metrics.beginCall() : metrics.isSampling()))
+            return super.next();
+
+        final long start = metrics.startTiming();
+        try {
+            return super.next();
+        } finally {
+            metrics.stopTiming(this.index, start);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        final SampledTraversalMetrics metrics = this.getMetrics();
+        if (!(this.last ? metrics.beginCall() : metrics.isSampling()))
+            return super.hasNext();
+
+        final long start = metrics.startTiming();
+        try {
+            return super.hasNext();
+        } finally {
+            metrics.stopTiming(this.index, start);
+        }
+    }
+
+    @Override
+    protected Traverser.Admin<S> processNextStart() throws NoSuchElementException {
+        final Traverser.Admin<S> traverser = this.starts.next();
+        this.metrics.incrementCount(this.index, traverser.bulk());
+        return traverser;
+    }
+
+    @Override
+    public StepMetricsStep<S> clone() {
+        final StepMetricsStep<S> clone = (StepMetricsStep<S>) super.clone();
+        clone.metrics = null;
+        clone.last = false;
+        return clone;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.commons.configuration2.Configuration;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.VertexProgramStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.CallStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.SideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@code BatchExecutionStrategy} is an opt-in strategy that has the steps of a root traversal pull their starts from
+ * the previous step in arrays of {@code batchSize} traversers with {@link Step#nextBatch} rather
+ * than one at a time. Filter, flatMap, scalar map and start graph steps fill those arrays natively and other steps
+ * are adapted, so the per-traverser call overhead at each step boundary is paid once per batch. Batching makes the
+ * traversal pull eagerly from upstream steps, so it is not applied to traversals with mutations, side-effects,
+ * lambdas or service calls anywhere in them, nor to {@code GraphComputer} traversals. Steps with global children such
+ * as {@code repeat()} or {@code union()} keep pulling one traverser at a time, as do steps whose output is bounded by
+ * a {@code limit()} lower than {@code batchSize}.
+ *
+ * @example <pre>
+ * g.withStrategies(BatchExecutionStrategy.build().batchSize(128).create()).V().has("age", gt(30)).out().values("name")
+ * </pre>
+ */
+public final class BatchExecutionStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
+
+    public static final String BATCH_SIZE = "batchSize";
+
+    private static final BatchExecutionStrategy INSTANCE = new BatchExecutionStrategy(64);
+    private static final Set<Class<? extends FinalizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
+            ProfileStrategy.class, ReferenceElementStrategy.class, MatchAlgorithmStrategy.class, StepMetricsStrategy.class));
+    private static final List<Class> EAGER_UNSAFE_STEPS = Arrays.asList(
+            Mutating.class, SideEffectCapable.class, SideEffectStep.class, LambdaHolder.class, CallStep.class,
+            VertexProgramStep.class);
+
+    private final int batchSize;
+
+    private BatchExecutionStrategy(final int batchSize) {
+        if (batchSize < 2)
+            throw new IllegalArgumentException("The batchSize must be greater than one: " + batchSize);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (!traversal.isRoot() || TraversalHelper.hasStepOfAssignableClassRecursively(EAGER_UNSAFE_STEPS, traversal))
+            return;
+
+        final List<Step> steps = traversal.getSteps();
+        for (int i = 1; i < steps.size(); i++) {
+            final Step<?, ?> step = steps.get(i);
+            // a batch pulled ahead of a limit() smaller than the batch would do work nothing downstream asks for
+            if (step instanceof AbstractStep &&
+                    !(step instanceof TraversalParent && !((TraversalParent) step).getGlobalChildren().isEmpty()) &&
+                    TraversalHelper.getRequiredResults(steps.get(i - 1)) >= this.batchSize)
+                ((AbstractStep<?, ?>) step).getStarts().setBatchSize(this.batchSize);
+        }
+    }
+
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    @Override
+    public Set<Class<? extends FinalizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        final Configuration conf = super.getConfiguration();
+        conf.setProperty(BATCH_SIZE, this.batchSize);
+        return conf;
+    }
+
+    public static BatchExecutionStrategy create(final Configuration configuration) {
+        return new BatchExecutionStrategy(configuration.getInt(BATCH_SIZE, INSTANCE.batchSize));
+    }
+
+    public static BatchExecutionStrategy instance() {
+        return INSTANCE;
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.traversalStrategyString(this);
+    }
+
+    public final static class Builder {
+
+        private int batchSize = INSTANCE.batchSize;
+
+        private Builder() {
+        }
+
+        /**
+         * The number of traversers each step pulls from the previous step at a time.
+         */
+        public Builder batchSize(final int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public BatchExecutionStrategy create() {
+            return new BatchExecutionStrategy(this.batchSize);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.commons.configuration2.Configuration;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.VertexProgramStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Seedable;
+import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.CallStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.LoopsStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.SideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalResultCache;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@code ChildTraversalCacheStrategy} is an opt-in strategy that gives child traversals, such as those of
+ * {@code by()}, {@code where()} and {@code map()}, a {@link TraversalResultCache} of up to {@code cacheSize} entries
+ * so that a child that is handed the same element again returns its earlier result rather than being run again.
+ * This pays off when many traversers reach a small set of elements, for example orders sharing the same customer.
+ * Only children whose parent takes just their first result, as given by
+ * {@link TraversalParent#getRequiredResults(Traversal.Admin)}, and whose result depends on nothing but the start,
+ * are cached. The strategy is not applied to traversals with mutations, side-effects, lambdas, random steps or
+ * service calls anywhere in them, nor to {@code GraphComputer} traversals. When the traversal is profiled, the share
+ * of lookups served from the caches of a step's children is given by its {@code cacheHitPercent} annotation.
+ *
+ * @example <pre>
+ * g.withStrategies(ChildTraversalCacheStrategy.build().cacheSize(10000).create()).V().hasLabel("order").
+ *   project("c").by(out("customer").values("segment"))
+ * </pre>
+ */
+public final class ChildTraversalCacheStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
+
+    public static final String CACHE_SIZE = "cacheSize";
+
+    private static final ChildTraversalCacheStrategy INSTANCE = new ChildTraversalCacheStrategy(10000);
+    private static final Set<Class<? extends FinalizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
+            ProfileStrategy.class, ReferenceElementStrategy.class, MatchAlgorithmStrategy.class));
+    private static final List<Class> UNCACHEABLE_STEPS = Arrays.asList(
+            Mutating.class, SideEffectCapable.class, SideEffectStep.class, LambdaHolder.class, CallStep.class,
+            Seedable.class, VertexProgramStep.class);
+    private static final List<Class> HISTORY_STEPS = Arrays.asList(Scoping.class, LoopsStep.class);
+    private static final Set<TraverserRequirement> HISTORY_REQUIREMENTS = EnumSet.of(
+            TraverserRequirement.PATH, TraverserRequirement.LABELED_PATH, TraverserRequirement.SACK,
+            TraverserRequirement.SIDE_EFFECTS, TraverserRequirement.SINGLE_LOOP, TraverserRequirement.NESTED_LOOP);
+
+    private final int cacheSize;
+
+    private ChildTraversalCacheStrategy(final int cacheSize) {
+        if (cacheSize < 1)
+            throw new IllegalArgumentException("The cacheSize must be greater than zero: " + cacheSize);
+        this.cacheSize = cacheSize;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (!traversal.isRoot() || TraversalHelper.onGraphComputer(traversal) || hasUncacheableStep(traversal))
+            return;
+
+        for (final TraversalParent parent : TraversalHelper.getStepsOfAssignableClassRecursively(TraversalParent.class, traversal)) {
+            for (final Traversal.Admin<?, ?> child : parent.getLocalChildren()) {
+                if (child instanceof DefaultTraversal && parent.getRequiredResults(child) == 1L &&
+                        Collections.disjoint(child.getTraverserRequirements(), HISTORY_REQUIREMENTS) &&
+                        !TraversalHelper.hasStepOfAssignableClassRecursively(HISTORY_STEPS, child))
+                    ((DefaultTraversal<?, ?>) child).setResultCache(new TraversalResultCache(this.cacheSize));
+            }
+        }
+    }
+
+    /**
+     * Determines if any step, other than the one added by {@code profile()}, could make the result of a child depend
+     * on when it is run.
+     */
+    private static boolean hasUncacheableStep(final Traversal.Admin<?, ?> traversal) {
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (!(step instanceof ProfileSideEffectStep) && UNCACHEABLE_STEPS.stream().anyMatch(c -> c.isInstance(step)))
+                return true;
+            if (step instanceof TraversalParent) {
+                for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getLocalChildren()) {
+                    if (hasUncacheableStep(child)) return true;
+                }
+                for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getGlobalChildren()) {
+                    if (hasUncacheableStep(child)) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public int getCacheSize() {
+        return this.cacheSize;
+    }
+
+    @Override
+    public Set<Class<? extends FinalizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        final Configuration conf = super.getConfiguration();
+        conf.setProperty(CACHE_SIZE, this.cacheSize);
+        return conf;
+    }
+
+    public static ChildTraversalCacheStrategy create(final Configuration configuration) {
+        return new ChildTraversalCacheStrategy(configuration.getInt(CACHE_SIZE, INSTANCE.cacheSize));
+    }
+
+    public static ChildTraversalCacheStrategy instance() {
+        return INSTANCE;
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.traversalStrategyString(this);
+    }
+
+    public final static class Builder {
+
+        private int cacheSize = INSTANCE.cacheSize;
+
+        private Builder() {
+        }
+
+        /**
+         * The number of starts for which the results of each child traversal are kept.
+         */
+        public Builder cacheSize(final int cacheSize) {
+            this.cacheSize = cacheSize;
+            return this;
+        }
+
+        public ChildTraversalCacheStrategy create() {
+            return new ChildTraversalCacheStrategy(this.cacheSize);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.commons.configuration2.Configuration;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MergeEdgeStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MergeElementStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MergeVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.List;
+
+/**
+ * {@code MergeBatchStrategy} is an opt-in strategy that has the mid-traversal {@code mergeV()} and {@code mergeE()}
+ * steps of a root traversal read up to {@code batchSize} traversers ahead and search for all of their merge maps at
+ * once, rather than building and optimizing a lookup traversal for each map. Maps with an id are looked up directly,
+ * maps that share a label and key set are resolved together in a single indexable pass and edges that share an out
+ * vertex share a pass over its edges. Each map is still merged in order against the elements found and anything the
+ * step created or modified earlier in the batch. Reading ahead evaluates the upstream steps and the merge maps of a
+ * batch before any of them are merged, so a merge step is not batched if its own child traversals mutate the graph
+ * or if a later step could change the elements it searches for, nor is the strategy applied to
+ * {@code GraphComputer} traversals.
+ *
+ * @example <pre>
+ * g.withStrategies(MergeBatchStrategy.build().batchSize(1000).create()).inject(maps).unfold().mergeV()
+ * </pre>
+ */
+public final class MergeBatchStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
+
+    public static final String BATCH_SIZE = "batchSize";
+
+    private static final MergeBatchStrategy INSTANCE = new MergeBatchStrategy(256);
+
+    private final int batchSize;
+
+    private MergeBatchStrategy(final int batchSize) {
+        if (batchSize < 2)
+            throw new IllegalArgumentException("The batchSize must be greater than one: " + batchSize);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (!traversal.isRoot() || TraversalHelper.onGraphComputer(traversal))
+            return;
+
+        final List<Step> steps = traversal.getSteps();
+        for (int i = 0; i < steps.size(); i++) {
+            if (!(steps.get(i) instanceof MergeElementStep))
+                continue;
+
+            final MergeElementStep<?, ?, ?> step = (MergeElementStep<?, ?, ?>) steps.get(i);
+            if (step.isStart() || hasMutatingChildren(step))
+                continue;
+
+            boolean batchable = true;
+            for (int j = i + 1; j < steps.size() && batchable; j++) {
+                batchable = !mutates(steps.get(j), step);
+            }
+            if (batchable)
+                step.setBatchSize(this.batchSize);
+        }
+    }
+
+    /**
+     * Determines if a step following a merge step could change the elements that the merge step searches for. Edges
+     * merged after vertices leave those vertices alone.
+     */
+    private static boolean mutates(final Step<?, ?> step, final MergeElementStep<?, ?, ?> merge) {
+        if (hasMutatingChildren(step))
+            return true;
+        return step instanceof Mutating && !(merge instanceof MergeVertexStep && step instanceof MergeEdgeStep);
+    }
+
+    private static boolean hasMutatingChildren(final Step<?, ?> step) {
+        if (!(step instanceof TraversalParent))
+            return false;
+
+        final TraversalParent parent = (TraversalParent) step;
+        for (final Traversal.Admin<?, ?> child : parent.getLocalChildren()) {
+            if (TraversalHelper.hasStepOfAssignableClassRecursively(Mutating.class, child))
+                return true;
+        }
+        for (final Traversal.Admin<?, ?> child : parent.getGlobalChildren()) {
+            if (TraversalHelper.hasStepOfAssignableClassRecursively(Mutating.class, child))
+                return true;
+        }
+        return false;
+    }
+
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        final Configuration conf = super.getConfiguration();
+        conf.setProperty(BATCH_SIZE, this.batchSize);
+        return conf;
+    }
+
+    public static MergeBatchStrategy create(final Configuration configuration) {
+        return new MergeBatchStrategy(configuration.getInt(BATCH_SIZE, INSTANCE.batchSize));
+    }
+
+    public static MergeBatchStrategy instance() {
+        return INSTANCE;
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.traversalStrategyString(this);
+    }
+
+    public final static class Builder {
+
+        private int batchSize = INSTANCE.batchSize;
+
+        private Builder() {
+        }
+
+        /**
+         * The number of traversers each merge step reads ahead and searches for at a time.
+         */
+        public Builder batchSize(final int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public MergeBatchStrategy create() {
+            return new MergeBatchStrategy(this.batchSize);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.commons.configuration2.Configuration;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.VertexProgramStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.BranchStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.HasNextStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.CallStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.SideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@code ParallelBranchStrategy} is an opt-in strategy that has {@code union()} and {@code choose()} iterate the
+ * options that received traversers at the same time, with up to {@code parallelism} options of a step running at
+ * once on a shared pool. Results are emitted in option order, so the output is the same as sequential iteration, and
+ * an interrupt of the traversal, such as an evaluation timeout, cancels the options still running. This pays off when
+ * the options are expensive and independent, for example several aggregations over the same start set. The options
+ * run on other threads, so the strategy is not applied to traversals with mutations, side-effects, lambdas, service
+ * calls or {@code profile()} anywhere in them, nor to {@code GraphComputer} traversals, and it should only be used
+ * with graphs that allow reads from threads other than the one iterating the traversal. A step followed by a range,
+ * such as {@code limit()}, is left to iterate its options one after another, as draining every option would do work
+ * that the range discards. A {@code parallelism} of one, the default on a host with a single processor, leaves every
+ * step to iterate its options one after another.
+ *
+ * @example <pre>
+ * g.withStrategies(ParallelBranchStrategy.build().parallelism(4).create()).V().hasLabel("person").fold().
+ *   union(unfold().count(), unfold().out().count(), unfold().in().count())
+ * </pre>
+ */
+public final class ParallelBranchStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
+
+    public static final String PARALLELISM = "parallelism";
+
+    private static final ParallelBranchStrategy INSTANCE = new ParallelBranchStrategy(Runtime.getRuntime().availableProcessors());
+    private static final Set<Class<? extends FinalizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
+            ProfileStrategy.class, ReferenceElementStrategy.class, MatchAlgorithmStrategy.class));
+    private static final List<Class> THREAD_UNSAFE_STEPS = Arrays.asList(
+            Mutating.class, SideEffectCapable.class, SideEffectStep.class, LambdaHolder.class, CallStep.class,
+            ProfileSideEffectStep.class, VertexProgramStep.class);
+
+    private final int parallelism;
+
+    private ParallelBranchStrategy(final int parallelism) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("The parallelism must be greater than zero: " + parallelism);
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (this.parallelism < 2 || !traversal.isRoot() || TraversalHelper.hasStepOfAssignableClassRecursively(THREAD_UNSAFE_STEPS, traversal))
+            return;
+
+        for (final BranchStep<?, ?, ?> step : TraversalHelper.getStepsOfAssignableClassRecursively(BranchStep.class, traversal)) {
+            if (step.getGlobalChildren().size() > 1 && !isFollowedByRange(step))
+                step.setParallelism(this.parallelism);
+        }
+    }
+
+    private static boolean isFollowedByRange(final Step<?, ?> step) {
+        for (Step<?, ?> next = step.getNextStep(); !(next instanceof EmptyStep); next = next.getNextStep()) {
+            if (next instanceof RangeGlobalStep || next instanceof HasNextStep)
+                return true;
+        }
+        final Traversal.Admin<?, ?> traversal = step.getTraversal();
+        return !traversal.isRoot() && isFollowedByRange(traversal.getParent().asStep());
+    }
+
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    @Override
+    public Set<Class<? extends FinalizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        final Configuration conf = super.getConfiguration();
+        conf.setProperty(PARALLELISM, this.parallelism);
+        return conf;
+    }
+
+    public static ParallelBranchStrategy create(final Configuration configuration) {
+        return new ParallelBranchStrategy(configuration.getInt(PARALLELISM, INSTANCE.parallelism));
+    }
+
+    public static ParallelBranchStrategy instance() {
+        return INSTANCE;
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.traversalStrategyString(this);
+    }
+
+    public final static class Builder {
+
+        private int parallelism = INSTANCE.parallelism;
+
+        private Builder() {
+        }
+
+        /**
+         * The number of options of a single step that may be iterated at the same time.
+         */
+        public Builder parallelism(final int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public ParallelBranchStrategy create() {
+            return new ParallelBranchStrategy(this.parallelism);
+        }
+    }
+}
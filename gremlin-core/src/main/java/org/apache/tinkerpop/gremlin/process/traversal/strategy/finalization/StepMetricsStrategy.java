@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.commons.configuration2.Configuration;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.VertexProgramStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.StepMetricsStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.SampledTraversalMetrics;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * {@code StepMetricsStrategy} is an opt-in, lightweight alternative to {@code profile()} for traversals that are
+ * executed normally. It places a {@link StepMetricsStep} after each step of the root traversal which counts the
+ * traversers that pass and times one in every {@code sampleRate} calls to the traversal. The results are not altered
+ * and the collected metrics can be read with {@link #getMetrics(Traversal.Admin)} while or after the traversal is
+ * iterated. Child traversals are not instrumented and the strategy does nothing for {@code GraphComputer} traversals
+ * or traversals that are already being profiled.
+ */
+public final class StepMetricsStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
+
+    public static final String SAMPLE_RATE = "sampleRate";
+
+    private static final StepMetricsStrategy INSTANCE = new StepMetricsStrategy(100);
+    private static final Set<Class<? extends FinalizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
+            ProfileStrategy.class, ReferenceElementStrategy.class, MatchAlgorithmStrategy.class));
+
+    private final int sampleRate;
+
+    private StepMetricsStrategy(final int sampleRate) {
+        if (sampleRate < 1)
+            throw new IllegalArgumentException("The sampleRate must be greater than zero: " + sampleRate);
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (!traversal.isRoot() ||
+                TraversalHelper.hasStepOfAssignableClass(VertexProgramStep.class, traversal) ||
+                TraversalHelper.hasStepOfAssignableClassRecursively(ProfileSideEffectStep.class, traversal) ||
+                TraversalHelper.hasStepOfClass(StepMetricsStep.class, traversal))
+            return;
+
+        final List<Step> steps = traversal.getSteps();
+        final int numSteps = steps.size();
+        for (int i = 0; i < numSteps; i++) {
+            traversal.addStep((i * 2) + 1, new StepMetricsStep<>(traversal, this.sampleRate, i));
+        }
+    }
+
+    /**
+     * Gets the metrics collected for a traversal that had this strategy applied.
+     */
+    public static Optional<SampledTraversalMetrics> getMetrics(final Traversal.Admin<?, ?> traversal) {
+        return traversal.getEndStep() instanceof StepMetricsStep ?
+                Optional.of(((StepMetricsStep<?>) traversal.getEndStep()).getMetrics()) :
+                Optional.empty();
+    }
+
+    public int getSampleRate() {
+        return this.sampleRate;
+    }
+
+    @Override
+    public Set<Class<? extends FinalizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        final Configuration conf = super.getConfiguration();
+        conf.setProperty(SAMPLE_RATE, this.sampleRate);
+        return conf;
+    }
+
+    public static StepMetricsStrategy create(final Configuration configuration) {
+        return new StepMetricsStrategy(configuration.getInt(SAMPLE_RATE, INSTANCE.sampleRate));
+    }
+
+    public static StepMetricsStrategy instance() {
+        return INSTANCE;
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.traversalStrategyString(this);
+    }
+
+    public final static class Builder {
+
+        private int sampleRate = INSTANCE.sampleRate;
+
+        private Builder() {
+        }
+
+        /**
+         * Times one in every {@code sampleRate} calls to the traversal. A value of {@code 1} times every call.
+         */
+        public Builder sampleRate(final int sampleRate) {
+            this.sampleRate = sampleRate;
+            return this;
+        }
+
+        public StepMetricsStrategy create() {
+            return new StepMetricsStrategy(this.sampleRate);
+        }
+    }
+}
@@ -46,12 +46,14 @@ import java.util.Set;
  * {@code LazyBarrierStrategy} is an OLTP-only strategy that automatically inserts a {@link NoOpBarrierStep} after every
  * {@link FlatMapStep} if neither path-tracking nor partial path-tracking is required, and the next step is not the
  * traversal's last step or a {@link Barrier}. {@link NoOpBarrierStep}s allow traversers to be bulked, thus this strategy
- * is meant to reduce memory requirements and improve the overall query performance.
+ * is meant to reduce memory requirements and improve the overall query performance. No barrier is inserted where
+ * {@link TraversalHelper#getRequiredResults(Step)} shows that fewer results than the barrier would gather are needed.
  *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  * @example <pre>
  * __.out().bothE().count()      // is replaced by __.out().barrier(2500).bothE().count()
  * __.both().both().valueMap()   // is replaced by __.both().barrier(2500).both().barrier(2500).valueMap()
+ * __.where(out().out().id())   // is not changed as where() only needs a first result
  * </pre>
  */
 public final class LazyBarrierStrategy extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy> implements TraversalStrategy.OptimizationStrategy {
@@ -117,12 +119,15 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
                 // helpful after that. ProfileSideEffectStep means the traversal had profile() called on it and if
                 // we don't account for that a barrier will inject at the end of the traversal where it wouldn't
                 // be otherwise. LazyBarrierStrategy executes before the finalization strategy of ProfileStrategy
-                // so additionally injected ProfileSideEffectStep instances should not have effect here.
+                // so additionally injected ProfileSideEffectStep instances should not have effect here. when fewer
+                // results than a barrier holds are needed downstream, as with limit() or a where() that only
+                // checks for a first result, the barrier would pull far more from upstream than will be used.
                 if (foundFlatMap && !labeledPath &&
                         !(step.getNextStep() instanceof Barrier) &&
                         !(step.getNextStep() instanceof DiscardStep) &&
                         !(step.getNextStep() instanceof EmptyStep) &&
-                        !(step.getNextStep() instanceof ProfileSideEffectStep)) {
+                        !(step.getNextStep() instanceof ProfileSideEffectStep) &&
+                        TraversalHelper.getRequiredResults(step) >= MAX_BARRIER_SIZE) {
                     final Step noOpBarrierStep = new NoOpBarrierStep<>(traversal, MAX_BARRIER_SIZE);
                     TraversalHelper.copyLabels(step, noOpBarrierStep, true);
                     TraversalHelper.insertAfterStep(noOpBarrierStep, step, traversal);
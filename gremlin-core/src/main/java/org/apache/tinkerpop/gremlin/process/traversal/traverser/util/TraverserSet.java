@@ -20,6 +20,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.traverser.util;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MemoryBudget;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.io.Serializable;
@@ -43,18 +44,48 @@ public class TraverserSet<S> extends AbstractSet<Traverser.Admin<S>> implements
 
     private final Map<Traverser.Admin<S>, Traverser.Admin<S>> map = Collections.synchronizedMap(new LinkedHashMap<>());
 
+    /**
+     * The {@link MemoryBudget} of the thread that created the set, against which the traversers it holds are reserved.
+     */
+    private transient MemoryBudget memoryBudget = MemoryBudget.current();
+    private transient long reservedBytes = 0;
+
     public TraverserSet() {
 
     }
 
     public TraverserSet(final Traverser.Admin<S> traverser) {
-        if (traverser != null)
+        if (traverser != null) {
+            if (null != this.memoryBudget) this.reserve(traverser);
             this.map.put(traverser, traverser);
+        }
     }
 
     @Override
     public Iterator<Traverser.Admin<S>> iterator() {
-        return this.map.values().iterator();
+        final Iterator<Traverser.Admin<S>> iterator = this.map.values().iterator();
+        if (null == this.memoryBudget) return iterator;
+
+        return new Iterator<Traverser.Admin<S>>() {
+            private Traverser.Admin<S> last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Traverser.Admin<S> next() {
+                this.last = iterator.next();
+                return this.last;
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                release(this.last);
+            }
+        };
     }
 
     public Traverser.Admin<S> get(final Traverser.Admin<S> traverser) {
@@ -88,6 +119,7 @@ public class TraverserSet<S> extends AbstractSet<Traverser.Admin<S>> implements
     public boolean add(final Traverser.Admin<S> traverser) {
         final Traverser.Admin<S> existing = this.map.get(traverser);
         if (null == existing) {
+            if (null != this.memoryBudget) this.reserve(traverser);
             this.map.put(traverser, traverser);
             return true;
         } else {
@@ -108,6 +140,7 @@ public class TraverserSet<S> extends AbstractSet<Traverser.Admin<S>> implements
             throw FastNoSuchElementException.instance();
         final Traverser.Admin<S> next = iterator.next();
         iterator.remove();
+        if (null != this.memoryBudget) this.release(next);
         return next;
     }
 
@@ -128,12 +161,43 @@ public class TraverserSet<S> extends AbstractSet<Traverser.Admin<S>> implements
 
     @Override
     public boolean remove(final Object traverser) {
-        return this.map.remove(traverser) != null;
+        final Traverser.Admin<S> removed = this.map.remove(traverser);
+        if (null != removed && null != this.memoryBudget) this.release(removed);
+        return removed != null;
     }
 
     @Override
     public void clear() {
-        this.map.clear();
+        synchronized (this.map) {
+            this.map.clear();
+            if (null != this.memoryBudget) {
+                this.memoryBudget.release(this.reservedBytes);
+                this.reservedBytes = 0;
+            }
+        }
+    }
+
+    /**
+     * Reserves the traverser against the budget. The reserved bytes are updated under the lock of the synchronized
+     * map as the set may be modified from several threads.
+     */
+    private void reserve(final Traverser.Admin<S> traverser) {
+        final long bytes = MemoryBudget.estimateTraverser(traverser);
+        this.memoryBudget.reserve(bytes);
+        synchronized (this.map) {
+            this.reservedBytes += bytes;
+        }
+    }
+
+    private void release(final Traverser.Admin<S> traverser) {
+        final long estimate = MemoryBudget.estimateTraverser(traverser);
+        final long bytes;
+        synchronized (this.map) {
+            // estimates of mutable objects can drift so hand back whatever remains once the set is empty
+            bytes = this.map.isEmpty() ? this.reservedBytes : Math.min(this.reservedBytes, estimate);
+            this.reservedBytes -= bytes;
+        }
+        this.memoryBudget.release(bytes);
     }
 
     @Override
@@ -70,6 +70,7 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
     protected boolean locked = false;
     protected boolean closed = false;
     protected GremlinLang gremlinLang;
+    protected transient TraversalResultCache resultCache = null;
 
     private DefaultTraversal(final Graph graph, final TraversalStrategies traversalStrategies, final GremlinLang gremlinLang) {
         this.graph = graph;
@@ -289,6 +290,8 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
             }
             clone.finalEndStep = clone.getEndStep();
             clone.closed = false;
+            if (null != this.resultCache)
+                clone.resultCache = new TraversalResultCache(this.resultCache.getMaxSize());
             return clone;
         } catch (final CloneNotSupportedException e) {
             throw new IllegalStateException(e.getMessage(), e);
@@ -421,6 +424,18 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
         return optionalGraph;
     }
 
+    /**
+     * Gets the cache of results this traversal produced per start when used as a child traversal, or {@code null} if
+     * its results are not cached.
+     */
+    public TraversalResultCache getResultCache() {
+        return this.resultCache;
+    }
+
+    public void setResultCache(final TraversalResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
     @Override
     public Optional<TraversalSource> getTraversalSource() {
         return Optional.ofNullable(this.g);
@@ -198,9 +198,18 @@ public final class DefaultTraversalMetrics implements TraversalMetrics, Serializ
                 }
 
                 if (step.getPreviousStep() instanceof TraversalParent) {
+                    long hits = 0L;
+                    long lookups = 0L;
                     for (Traversal.Admin<?, ?> t : ((TraversalParent) step.getPreviousStep()).getLocalChildren()) {
                         handleNestedTraversals(t, metrics, onGraphComputer);
+                        if (t instanceof DefaultTraversal && null != ((DefaultTraversal<?, ?>) t).getResultCache()) {
+                            final TraversalResultCache cache = ((DefaultTraversal<?, ?>) t).getResultCache();
+                            hits += cache.getHits();
+                            lookups += cache.getHits() + cache.getMisses();
+                        }
                     }
+                    if (lookups > 0)
+                        metrics.setAnnotation(CACHE_HIT_PERCENT_KEY, hits * 100.d / lookups);
                     for (Traversal.Admin<?, ?> t : ((TraversalParent) step.getPreviousStep()).getGlobalChildren()) {
                         handleNestedTraversals(t, metrics, onGraphComputer);
                     }
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the approximate number of bytes retained on behalf of a single unit of work, typically a request to Gremlin
+ * Server. A budget is bound to the thread that executes the work with {@link #open()} and structures that may grow
+ * without bound, like the {@code TraverserSet}, {@code BulkSet} and the seed of a {@code ReducingBarrierStep},
+ * {@link #reserve(long)} memory from the {@link #current()} budget as they grow and {@link #release(long)} it as
+ * they shrink. Sizes are estimates produced by {@link #estimate(Object)} which samples the contents of collections
+ * rather than walking them, so the figures are meant for protecting a JVM from runaway queries rather than precise
+ * accounting.
+ */
+public final class MemoryBudget implements AutoCloseable {
+
+    private static final ThreadLocal<MemoryBudget> CURRENT = new ThreadLocal<>();
+
+    private static final long OBJECT_BYTES = 16;
+    private static final long REFERENCE_BYTES = 8;
+    private static final long STRING_BYTES = 40;
+    private static final long ELEMENT_BYTES = 32;
+    private static final long TRAVERSER_BYTES = 48;
+    private static final long COLLECTION_BYTES = 40;
+    private static final long MAP_ENTRY_BYTES = 32;
+    private static final int ESTIMATE_DEPTH = 3;
+
+    private final long limit;
+    private final AtomicLong used = new AtomicLong();
+    private final AtomicLong peak = new AtomicLong();
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a budget that fails reservations which would take it beyond {@code limit} bytes. A {@code limit} of
+     * zero or less only tracks usage.
+     */
+    public MemoryBudget(final long limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Gets the budget bound to the current thread or {@code null} if there is none.
+     */
+    public static MemoryBudget current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds this budget to the current thread so that it is returned from {@link #current()}.
+     */
+    public MemoryBudget open() {
+        CURRENT.set(this);
+        return this;
+    }
+
+    /**
+     * Unbinds this budget from the current thread. Reservations made against a closed budget are ignored so that
+     * structures which outlive the work they were created for do not count against it.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        if (CURRENT.get() == this) CURRENT.remove();
+    }
+
+    /**
+     * Accounts for {@code bytes} more memory.
+     *
+     * @throws MemoryBudgetExceededException if the reservation would exceed the limit in which case nothing is
+     * reserved
+     */
+    public void reserve(final long bytes) {
+        if (bytes <= 0 || this.closed) return;
+
+        final long total = this.used.addAndGet(bytes);
+        if (this.limit > 0 && total > this.limit) {
+            this.used.addAndGet(-bytes);
+            throw new MemoryBudgetExceededException(this.limit, total);
+        }
+        if (total > this.peak.get()) this.peak.accumulateAndGet(total, Math::max);
+    }
+
+    /**
+     * Returns {@code bytes} previously obtained from {@link #reserve(long)}.
+     */
+    public void release(final long bytes) {
+        if (bytes > 0) this.used.addAndGet(-bytes);
+    }
+
+    public long getLimit() {
+        return this.limit;
+    }
+
+    /**
+     * The approximate number of bytes currently reserved.
+     */
+    public long getUsed() {
+        return this.used.get();
+    }
+
+    /**
+     * The highest number of bytes reserved at any one time.
+     */
+    public long getPeak() {
+        return this.peak.get();
+    }
+
+    /**
+     * Estimates the number of bytes retained by an object. Graph elements are counted as references since they are
+     * held by the graph anyway. Collections and maps are estimated from their size and their first entry.
+     */
+    public static long estimate(final Object object) {
+        return estimate(object, ESTIMATE_DEPTH);
+    }
+
+    /**
+     * Estimates the number of bytes retained by a {@link Traverser} including its object.
+     */
+    public static long estimateTraverser(final Traverser<?> traverser) {
+        return TRAVERSER_BYTES + estimate(traverser.get(), ESTIMATE_DEPTH);
+    }
+
+    private static long estimate(final Object object, final int depth) {
+        if (null == object)
+            return 0;
+        else if (object instanceof String)
+            return STRING_BYTES + ((String) object).length();
+        else if (object instanceof Number || object instanceof Boolean || object instanceof Enum)
+            return OBJECT_BYTES;
+        else if (object instanceof Element || object instanceof Property)
+            return ELEMENT_BYTES;
+        else if (depth == 0)
+            return OBJECT_BYTES;
+        else if (object instanceof Traverser)
+            return TRAVERSER_BYTES + estimate(((Traverser<?>) object).get(), depth - 1);
+        else if (object instanceof Path)
+            return estimate(((Path) object).objects(), depth);
+        else if (object instanceof Map) {
+            final Map<?, ?> map = (Map<?, ?>) object;
+            if (map.isEmpty()) return COLLECTION_BYTES;
+            final Iterator<? extends Map.Entry<?, ?>> entries = map.entrySet().iterator();
+            final Map.Entry<?, ?> first = entries.next();
+            return COLLECTION_BYTES + map.size() *
+                    (MAP_ENTRY_BYTES + estimate(first.getKey(), depth - 1) + estimate(first.getValue(), depth - 1));
+        } else if (object instanceof BulkSet) {
+            // size() of a BulkSet is the sum of the bulks and not the number of objects held
+            final BulkSet<?> bulkSet = (BulkSet<?>) object;
+            if (bulkSet.isEmpty()) return COLLECTION_BYTES;
+            return COLLECTION_BYTES + bulkSet.uniqueSize() *
+                    (MAP_ENTRY_BYTES + OBJECT_BYTES + estimate(bulkSet.iterator().next(), depth - 1));
+        } else if (object instanceof Collection) {
+            final Collection<?> collection = (Collection<?>) object;
+            if (collection.isEmpty()) return COLLECTION_BYTES;
+            return COLLECTION_BYTES + collection.size() *
+                    (REFERENCE_BYTES + estimate(collection.iterator().next(), depth - 1));
+        } else
+            return OBJECT_BYTES;
+    }
+}
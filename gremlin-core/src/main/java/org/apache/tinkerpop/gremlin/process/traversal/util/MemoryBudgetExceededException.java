@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+/**
+ * Thrown when a {@link MemoryBudget} would grow beyond its limit. This is an unchecked exception.
+ */
+public class MemoryBudgetExceededException extends RuntimeException {
+
+    private final long limit;
+    private final long requested;
+
+    public MemoryBudgetExceededException(final long limit, final long requested) {
+        super(String.format("The request required approximately %s bytes which exceeds the memory budget of %s bytes", requested, limit));
+        this.limit = limit;
+        this.requested = requested;
+    }
+
+    /**
+     * The limit of the budget in bytes.
+     */
+    public long getLimit() {
+        return limit;
+    }
+
+    /**
+     * The approximate number of bytes that would have been in use had the reservation succeeded.
+     */
+    public long getRequested() {
+        return requested;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.StepMetricsStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.StepMetricsStrategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-step traverser counts and sampled timings collected by the {@link StepMetricsStep} instances that the
+ * {@link StepMetricsStrategy} places in a traversal. Counts cover every traverser. Timings only cover the sampled calls
+ * to the traversal, so they are best read as the relative share of time spent in each step rather than as absolute
+ * durations. Unlike {@link DefaultTraversalMetrics}, these metrics are available while the traversal is still being
+ * iterated. They are only ever written by the thread iterating the traversal and can be read from any other thread,
+ * though a read taken during iteration is not a consistent snapshot across the steps.
+ */
+public final class SampledTraversalMetrics {
+
+    private final int sampleRate;
+    private final String[] ids;
+    private final String[] names;
+    private final String[] types;
+    private final AtomicLongArray traverserCounts;
+    private final AtomicLongArray elementCounts;
+    private final AtomicLongArray durations;
+
+    private volatile long calls = 0;
+    private volatile long sampledCalls = 0;
+    private boolean sampling = false;
+
+    /**
+     * The time spent in the instrumented steps pulled from by each of the timed calls that are in progress.
+     */
+    private long[] nested;
+    private int depth = 0;
+
+    public SampledTraversalMetrics(final int sampleRate, final List<StepMetricsStep<?>> steps) {
+        this.sampleRate = sampleRate;
+        this.ids = new String[steps.size()];
+        this.names = new String[steps.size()];
+        this.types = new String[steps.size()];
+        for (int i = 0; i < steps.size(); i++) {
+            this.ids[i] = steps.get(i).getPreviousStep().getId();
+            this.names[i] = steps.get(i).getPreviousStep().toString();
+            this.types[i] = steps.get(i).getPreviousStep().getClass().getSimpleName();
+        }
+        this.traverserCounts = new AtomicLongArray(steps.size());
+        this.elementCounts = new AtomicLongArray(steps.size());
+        this.durations = new AtomicLongArray(steps.size());
+        this.nested = new long[steps.size() + 1];
+    }
+
+    /**
+     * Called at the start of each call to the end of the traversal to decide if this call is timed. The first call is
+     * always sampled as that is the one which typically drains any barriers.
+     */
+    public boolean beginCall() {
+        this.sampling = this.calls++ % this.sampleRate == 0;
+        if (this.sampling) this.sampledCalls++;
+        return this.sampling;
+    }
+
+    public boolean isSampling() {
+        return this.sampling;
+    }
+
+    /**
+     * Starts timing a sampled call to the step and returns the time to pass to {@link #stopTiming(int, long)}. Calls
+     * to the steps nest as each one pulls from the one before it, so the calls in progress form a stack.
+     */
+    public long startTiming() {
+        if (this.depth == this.nested.length)
+            this.nested = Arrays.copyOf(this.nested, this.nested.length * 2);
+        this.nested[this.depth++] = 0;
+        return System.nanoTime();
+    }
+
+    /**
+     * Stops timing a sampled call to the step and adds the time spent in the step itself, that is the time of the
+     * call less the time of the calls it made to the instrumented steps before it. Unlike subtracting the total time
+     * of the previous step, this holds for steps that pull any number of times per call, such as barriers and
+     * filters.
+     */
+    public void stopTiming(final int index, final long start) {
+        final long elapsed = System.nanoTime() - start;
+        final long self = elapsed - this.nested[--this.depth];
+        if (this.depth > 0)
+            this.nested[this.depth - 1] += elapsed;
+        // written by a single thread so a plain increment that is published to readers is enough
+        this.durations.lazySet(index, this.durations.get(index) + self);
+    }
+
+    public void incrementCount(final int index, final long bulk) {
+        this.traverserCounts.lazySet(index, this.traverserCounts.get(index) + 1);
+        this.elementCounts.lazySet(index, this.elementCounts.get(index) + bulk);
+    }
+
+    public int getSampleRate() {
+        return this.sampleRate;
+    }
+
+    /**
+     * The number of calls made to the end of the traversal.
+     */
+    public long getCalls() {
+        return this.calls;
+    }
+
+    /**
+     * The number of calls made to the end of the traversal that were timed.
+     */
+    public long getSampledCalls() {
+        return this.sampledCalls;
+    }
+
+    /**
+     * The number of steps with metrics.
+     */
+    public int size() {
+        return this.ids.length;
+    }
+
+    public String getStepName(final int index) {
+        return this.names[index];
+    }
+
+    /**
+     * The simple class name of the step which is stable across traversals and therefore suitable as a metric name.
+     */
+    public String getStepType(final int index) {
+        return this.types[index];
+    }
+
+    public long getTraverserCount(final int index) {
+        return this.traverserCounts.get(index);
+    }
+
+    public long getElementCount(final int index) {
+        return this.elementCounts.get(index);
+    }
+
+    /**
+     * Gets the sampled time spent in the step itself, excluding the time spent in the steps before it that it pulled
+     * traversers from. Time spent in the child traversals of the step counts toward the step as they are not
+     * instrumented separately.
+     */
+    public long getDuration(final int index, final TimeUnit unit) {
+        return unit.convert(this.durations.get(index), MutableMetrics.SOURCE_UNIT);
+    }
+
+    /**
+     * Gets a snapshot of the metrics in the form returned by {@code profile()}.
+     */
+    public TraversalMetrics getTraversalMetrics() {
+        final List<MutableMetrics> metrics = new ArrayList<>(this.size());
+        long total = 0;
+        for (int i = 0; i < this.size(); i++) {
+            final MutableMetrics stepMetrics = new MutableMetrics(this.ids[i], this.names[i]);
+            stepMetrics.setCount(TraversalMetrics.TRAVERSER_COUNT_ID, this.getTraverserCount(i));
+            stepMetrics.setCount(TraversalMetrics.ELEMENT_COUNT_ID, this.getElementCount(i));
+            stepMetrics.setDuration(this.getDuration(i, TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+            total += stepMetrics.getDuration(TimeUnit.NANOSECONDS);
+            metrics.add(stepMetrics);
+        }
+        for (final MutableMetrics stepMetrics : metrics) {
+            stepMetrics.setAnnotation(TraversalMetrics.PERCENT_DURATION_KEY,
+                    0 == total ? 0.0d : stepMetrics.getDuration(TimeUnit.NANOSECONDS) * 100.d / total);
+        }
+        return new DefaultTraversalMetrics(total, metrics);
+    }
+
+    @Override
+    public String toString() {
+        return this.getTraversalMetrics() + String.format("%nSampled %d of %d calls", this.sampledCalls, this.calls);
+    }
+}
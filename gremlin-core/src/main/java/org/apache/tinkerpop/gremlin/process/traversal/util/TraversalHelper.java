@@ -26,8 +26,10 @@ import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.lambda.AbstractLambdaTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.lambda.ValueTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.lambda.TokenTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
 import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.PopContaining;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
@@ -35,18 +37,23 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.ConnectiveStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.NotStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WherePredicateStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WhereTraversalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.HasNextStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.LabelStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertyMapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ScalarMapStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SelectOneStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SelectStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.IdentityStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.StartStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ComputerAwareStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.structure.Graph;
@@ -705,6 +712,33 @@ public final class TraversalHelper {
         return variables;
     }
 
+    /**
+     * Gets the most results that will be taken from the output of the given step, where {@code Long.MAX_VALUE} means
+     * that every result may be consumed. The steps after the given one that emit exactly one result for each input are
+     * walked until a {@code limit()} or a {@link HasNextStep} bounds the demand, while barriers, filters, flatMaps,
+     * side-effects and mutations leave it unbounded. At the end of a child traversal the demand is that of its parent as given by
+     * {@link TraversalParent#getRequiredResults}.
+     */
+    public static long getRequiredResults(final Step<?, ?> step) {
+        Step<?, ?> next = step.getNextStep();
+        while (!(next instanceof EmptyStep)) {
+            if (next instanceof RangeGlobalStep) {
+                final long high = ((RangeGlobalStep<?>) next).getHighRange();
+                return high < 0 ? Long.MAX_VALUE : high;
+            }
+            if (next instanceof HasNextStep)
+                return 1L;
+            // a filter or a flatMap may drop any number of results before the bound is met
+            if (next instanceof Barrier || next instanceof Mutating ||
+                    !(next instanceof ScalarMapStep || next instanceof IdentityStep || next instanceof ComputerAwareStep.EndStep))
+                return Long.MAX_VALUE;
+            next = next.getNextStep();
+        }
+
+        final Traversal.Admin<?, ?> traversal = step.getTraversal();
+        return traversal.isRoot() ? Long.MAX_VALUE : traversal.getParent().getRequiredResults(traversal);
+    }
+
     public static boolean onGraphComputer(Traversal.Admin<?, ?> traversal) {
         while (!(traversal.isRoot())) {
             if (traversal.getParent() instanceof TraversalVertexProgramStep)
@@ -43,6 +43,12 @@ public interface TraversalMetrics {
      */
     public static final String PERCENT_DURATION_KEY = "percentDur";
 
+    /**
+     * The annotation key used to obtain the percentage of child traversal results served from a
+     * {@link TraversalResultCache} via Metrics.getAnnotation(String key)
+     */
+    public static final String CACHE_HIT_PERCENT_KEY = "cacheHitPercent";
+
     /**
      * Get the total duration taken by the Traversal.
      *
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ChildTraversalCacheStrategy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of the {@link TraversalProduct} that a child {@link Traversal} gave for a start, so that the child
+ * does not need to be run again for a start it has already seen. Once the cache holds {@link #getMaxSize()} starts,
+ * the least recently used one is evicted. Caches are attached to child traversals by the
+ * {@link ChildTraversalCacheStrategy} and, like the traversal they belong to, are not thread safe.
+ */
+public final class TraversalResultCache {
+
+    private final int maxSize;
+    private final Map<Object, TraversalProduct> products;
+    private long hits = 0L;
+    private long misses = 0L;
+
+    public TraversalResultCache(final int maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("The maxSize must be greater than zero: " + maxSize);
+        this.maxSize = maxSize;
+        this.products = new LinkedHashMap<Object, TraversalProduct>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Object, TraversalProduct> eldest) {
+                return size() > TraversalResultCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Gets the product cached for the start or {@code null} if the child has to be run for it.
+     */
+    public TraversalProduct get(final Object start) {
+        final TraversalProduct product = this.products.get(start);
+        if (null == product)
+            this.misses++;
+        else
+            this.hits++;
+        return product;
+    }
+
+    public void put(final Object start, final TraversalProduct product) {
+        this.products.put(start, product);
+    }
+
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    public long getHits() {
+        return this.hits;
+    }
+
+    public long getMisses() {
+        return this.misses;
+    }
+}
@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.util;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.util.CloseableIterator;
 
 import java.util.Iterator;
@@ -35,9 +36,19 @@ public final class TraversalUtil {
     }
 
     public static <S, E> E apply(final Traverser.Admin<S> traverser, final Traversal.Admin<S, E> traversal) {
+        final TraversalResultCache cache = getResultCache(traverser.get(), traversal);
+        if (null != cache) {
+            final TraversalProduct product = cache.get(traverser.get());
+            if (null != product && product.isProductive())
+                return (E) product.get();
+        }
+
         final Traverser<S> split = prepare(traverser, traversal);
         try {
-            return traversal.next(); // map
+            final E end = traversal.next(); // map
+            if (null != cache)
+                cache.put(traverser.get(), new TraversalProduct(end));
+            return end;
         } catch (final NoSuchElementException e) {
             final String clazzOfTraverserValue = null == split.get() ? "null" : split.get().getClass().getSimpleName();
             throw new IllegalArgumentException(String.format("The provided traverser does not map to a value: %s[%s]->%s[%s] parent[%s]",
@@ -49,10 +60,20 @@ public final class TraversalUtil {
     }
 
     public static <S, E> E apply(final S start, final Traversal.Admin<S, E> traversal) {
+        final TraversalResultCache cache = getResultCache(start, traversal);
+        if (null != cache) {
+            final TraversalProduct product = cache.get(start);
+            if (null != product && product.isProductive())
+                return (E) product.get();
+        }
+
         traversal.reset();
         traversal.addStart(traversal.getTraverserGenerator().generate(start, traversal.getStartStep(), 1l));
         try {
-            return traversal.next(); // map
+            final E end = traversal.next(); // map
+            if (null != cache)
+                cache.put(start, new TraversalProduct(end));
+            return end;
         } catch (final NoSuchElementException e) {
             throw new IllegalArgumentException("The provided start does not map to a value: " + start + "->" + traversal);
         } finally {
@@ -105,13 +126,16 @@ public final class TraversalUtil {
         if (null == traversal) {
             return new TraversalProduct(traverser.get());
         } else {
+            final TraversalResultCache cache = getResultCache(traverser.get(), traversal);
+            if (null != cache) {
+                final TraversalProduct product = cache.get(traverser.get());
+                if (null != product)
+                    return product;
+            }
+
             prepare(traverser, traversal);
             try {
-                if (traversal.hasNext()) {
-                    return new TraversalProduct(traversal.next());
-                } else {
-                    return TraversalProduct.UNPRODUCTIVE;
-                }
+                return first(traverser.get(), traversal, cache);
             } finally {
                 CloseableIterator.closeIterator(traversal);
             }
@@ -122,14 +146,17 @@ public final class TraversalUtil {
         if (null == traversal) {
             return new TraversalProduct(start);
         } else {
+            final TraversalResultCache cache = getResultCache(start, traversal);
+            if (null != cache) {
+                final TraversalProduct product = cache.get(start);
+                if (null != product)
+                    return product;
+            }
+
             traversal.reset();
             traversal.addStart(traversal.getTraverserGenerator().generate(start, traversal.getStartStep(), 1L));
             try {
-                if (traversal.hasNext()) {
-                    return new TraversalProduct(traversal.next());
-                } else {
-                    return TraversalProduct.UNPRODUCTIVE;
-                }
+                return first(start, traversal, cache);
             } finally {
                 CloseableIterator.closeIterator(traversal);
             }
@@ -137,8 +164,15 @@ public final class TraversalUtil {
     }
 
     public static <S, E> boolean test(final Traverser.Admin<S> traverser, final Traversal.Admin<S, E> traversal) {
+        final TraversalResultCache cache = getResultCache(traverser.get(), traversal);
+        if (null != cache) {
+            final TraversalProduct product = cache.get(traverser.get());
+            if (null != product)
+                return product.isProductive();
+        }
+
         prepare(traverser, traversal);
-        final boolean val =  traversal.hasNext(); // filter
+        final boolean val = null == cache ? traversal.hasNext() : first(traverser.get(), traversal, cache).isProductive(); // filter
 
         //Close the traversal to release any underlying resources.
         CloseableIterator.closeIterator(traversal);
@@ -168,9 +202,16 @@ public final class TraversalUtil {
     }
 
     public static <S, E> boolean test(final S start, final Traversal.Admin<S, E> traversal) {
+        final TraversalResultCache cache = getResultCache(start, traversal);
+        if (null != cache) {
+            final TraversalProduct product = cache.get(start);
+            if (null != product)
+                return product.isProductive();
+        }
+
         traversal.reset();
         traversal.addStart(traversal.getTraverserGenerator().generate(start, traversal.getStartStep(), 1l));
-        boolean result = traversal.hasNext(); // filter
+        boolean result = null == cache ? traversal.hasNext() : first(start, traversal, cache).isProductive(); // filter
 
         //Close the traversal to release any underlying resources.
         CloseableIterator.closeIterator(traversal);
@@ -178,6 +219,23 @@ public final class TraversalUtil {
         return result;
     }
 
+    /**
+     * Gets the cache of results for the child traversal when it has one and the start is an {@link Element}, whose
+     * identity makes it a safe key.
+     */
+    private static TraversalResultCache getResultCache(final Object start, final Traversal.Admin<?, ?> traversal) {
+        return start instanceof Element && traversal instanceof DefaultTraversal ?
+                ((DefaultTraversal<?, ?>) traversal).getResultCache() : null;
+    }
+
+    private static TraversalProduct first(final Object start, final Traversal.Admin<?, ?> traversal,
+                                          final TraversalResultCache cache) {
+        final TraversalProduct product = traversal.hasNext() ? new TraversalProduct(traversal.next()) : TraversalProduct.UNPRODUCTIVE;
+        if (null != cache)
+            cache.put(start, product);
+        return product;
+    }
+
     public static <S, E> Traverser<S> prepare(final Traverser.Admin<S> traverser, final Traversal.Admin<S, E> traversal) {
         final Traverser.Admin<S> split = traverser.split();
         split.setSideEffects(traversal.getSideEffects());
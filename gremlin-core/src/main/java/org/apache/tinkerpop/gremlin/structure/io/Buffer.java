@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.structure.io;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Represents an abstract view for one or more primitive byte arrays and NIO buffers.
@@ -198,6 +199,17 @@ public interface Buffer {
      */
     Buffer writeBytes(final byte[] src, final int srcIndex, final int length);
 
+    /**
+     * Writes the UTF-8 encoding of the specified string starting at the current writer index, advances the index and
+     * returns the number of bytes written. Implementations should override this method when they are able to encode
+     * the string without an intermediate byte array.
+     */
+    default int writeUtf8(final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeBytes(bytes);
+        return bytes.length;
+    }
+
     /**
      * Decreases the reference count by {@code 1} and deallocates this object if the reference count reaches at
      * {@code 0}.
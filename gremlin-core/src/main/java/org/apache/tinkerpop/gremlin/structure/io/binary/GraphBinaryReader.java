@@ -48,13 +48,30 @@ import java.io.IOException;
  */
 public class GraphBinaryReader {
     private final TypeSerializerRegistry registry;
+    private final StringDictionary stringDictionary;
 
     public GraphBinaryReader() {
         this(TypeSerializerRegistry.INSTANCE);
     }
 
     public GraphBinaryReader(final TypeSerializerRegistry registry) {
+        this(registry, null);
+    }
+
+    /**
+     * Creates a reader that resolves string references against the supplied {@link StringDictionary}. Such a reader
+     * is only meant to be used for a single stream.
+     */
+    public GraphBinaryReader(final TypeSerializerRegistry registry, final StringDictionary stringDictionary) {
         this.registry = registry;
+        this.stringDictionary = stringDictionary;
+    }
+
+    /**
+     * Gets the {@link StringDictionary} of the stream being read or {@code null} if strings are always read in full.
+     */
+    public StringDictionary getStringDictionary() {
+        return stringDictionary;
     }
 
     /**
@@ -43,12 +43,14 @@ import java.io.IOException;
  */
 public class GraphBinaryWriter {
     private final TypeSerializerRegistry registry;
+    private final StringDictionary stringDictionary;
     private final static byte VALUE_FLAG_NULL = 1;
     private final static byte VALUE_FLAG_NONE = 0;
     private final static byte VALUE_FLAG_ORDERED = 2;
     private final static byte VALUE_FLAG_BULK = 2;
     public final static byte VERSION_BYTE = (byte)0x81;
     public final static byte BULKED_BYTE = (byte)0x01;
+    public final static byte STRING_DICTIONARY_BYTE = (byte)0x02;
     private final static byte[] unspecifiedNullBytes = new byte[] { DataType.UNSPECIFIED_NULL.getCodeByte(), 0x01};
     private final static byte[] customTypeCodeBytes = new byte[] { DataType.CUSTOM.getCodeByte() };
 
@@ -57,7 +59,24 @@ public class GraphBinaryWriter {
     }
 
     public GraphBinaryWriter(final TypeSerializerRegistry registry) {
+        this(registry, null);
+    }
+
+    /**
+     * Creates a writer that replaces strings which were already written with references to the supplied
+     * {@link StringDictionary}. Such a writer is only meant to be used for a single stream.
+     */
+    public GraphBinaryWriter(final TypeSerializerRegistry registry, final StringDictionary stringDictionary) {
         this.registry = registry;
+        this.stringDictionary = stringDictionary;
+    }
+
+    /**
+     * Gets the {@link StringDictionary} of the stream being written or {@code null} if strings are always written in
+     * full.
+     */
+    public StringDictionary getStringDictionary() {
+        return stringDictionary;
     }
 
     /**
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure.io.binary;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A dictionary of the strings that were already written to (or read from) a single GraphBinary stream. When a
+ * {@link GraphBinaryWriter} is given a dictionary, a {@code String} that was written before in the same stream is
+ * replaced by a reference to its position in the dictionary, so that the labels and property keys that repeat for
+ * every element of a large result are only sent in full once. The {@link GraphBinaryReader} at the other end of the
+ * stream must be given its own dictionary so that it can follow along and resolve those references.
+ * <p/>
+ * Both sides apply the same rule to decide whether a string becomes an entry: it must not be longer than
+ * {@link #MAX_ENTRY_LENGTH} bytes and the dictionary must hold less than {@link #MAX_ENTRIES} entries. A dictionary
+ * is stateful and is meant to be used for a single stream only.
+ */
+public final class StringDictionary {
+
+    /**
+     * The maximum number of entries a dictionary holds. Strings encountered after it is full are written in full.
+     */
+    public static final int MAX_ENTRIES = 65536;
+
+    /**
+     * The maximum UTF-8 byte length of a string that is added to a dictionary. Longer strings are more likely to be
+     * unique values than labels or keys, so they are written in full and do not take up room in the dictionary.
+     */
+    public static final int MAX_ENTRY_LENGTH = 256;
+
+    private final Map<String, Integer> indices = new HashMap<>();
+    private final List<String> entries = new ArrayList<>();
+
+    /**
+     * Gets the reference of a string that is in the dictionary or {@code -1} if it is not.
+     */
+    public int indexOf(final String value) {
+        final Integer index = indices.get(value);
+        return null == index ? -1 : index;
+    }
+
+    /**
+     * Gets the string for a reference that was read from the stream.
+     *
+     * @throws IllegalStateException if the reference is not part of the dictionary
+     */
+    public String get(final int index) {
+        if (index < 0 || index >= entries.size())
+            throw new IllegalStateException(String.format(
+                    "The string reference %s is not part of the dictionary which has %s entries", index, entries.size()));
+        return entries.get(index);
+    }
+
+    /**
+     * Adds a string that was written (or read) in full to the dictionary if it qualifies as an entry.
+     *
+     * @param value the string
+     * @param length the byte length of its UTF-8 encoding
+     * @return {@code true} if the string was added
+     */
+    public boolean add(final String value, final int length) {
+        if (length > MAX_ENTRY_LENGTH || entries.size() >= MAX_ENTRIES)
+            return false;
+
+        indices.putIfAbsent(value, entries.size());
+        entries.add(value);
+        return true;
+    }
+
+    /**
+     * Removes the entries that were added after the dictionary had the given size, which allows a writer to forget
+     * the strings of a chunk that was never sent.
+     */
+    public void truncate(final int size) {
+        while (entries.size() > size) {
+            final String value = entries.remove(entries.size() - 1);
+            indices.remove(value, entries.size());
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.structure.io.binary.types;
 import org.apache.tinkerpop.gremlin.structure.io.binary.DataType;
 import org.apache.tinkerpop.gremlin.structure.io.binary.GraphBinaryReader;
 import org.apache.tinkerpop.gremlin.structure.io.binary.GraphBinaryWriter;
+import org.apache.tinkerpop.gremlin.structure.io.binary.StringDictionary;
 import org.apache.tinkerpop.gremlin.structure.io.Buffer;
 
 import java.nio.charset.StandardCharsets;
@@ -32,15 +33,40 @@ public class StringSerializer extends SimpleTypeSerializer<String> {
 
     @Override
     protected String readValue(final Buffer buffer, final GraphBinaryReader context) {
+        final StringDictionary dictionary = context.getStringDictionary();
+        final int length = buffer.readInt();
+
+        // a negative length is a reference to a string that was already read from the stream
+        if (length < 0 && dictionary != null)
+            return dictionary.get(-length - 1);
+
         // Use Netty 4.0 API (avoid ByteBuf#readCharSequence() method) to maximize compatibility
-        final byte[] bytes = new byte[buffer.readInt()];
+        final byte[] bytes = new byte[length];
         buffer.readBytes(bytes);
-        return new String(bytes, StandardCharsets.UTF_8);
+        final String value = new String(bytes, StandardCharsets.UTF_8);
+        if (dictionary != null)
+            dictionary.add(value, length);
+        return value;
     }
 
     @Override
     protected void writeValue(final String value, final Buffer buffer, final GraphBinaryWriter context) {
-        final byte[] stringBytes = value.getBytes(StandardCharsets.UTF_8);
-        buffer.writeInt(stringBytes.length).writeBytes(stringBytes);
+        final StringDictionary dictionary = context.getStringDictionary();
+        if (dictionary != null) {
+            final int index = dictionary.indexOf(value);
+            if (index >= 0) {
+                buffer.writeInt(-index - 1);
+                return;
+            }
+        }
+
+        // encode the string straight into the buffer and then go back to fill in its length
+        final int lengthIndex = buffer.writerIndex();
+        buffer.writeInt(0);
+        final int length = buffer.writeUtf8(value);
+        final int endIndex = buffer.writerIndex();
+        buffer.writerIndex(lengthIndex).writeInt(length).writerIndex(endIndex);
+        if (dictionary != null)
+            dictionary.add(value, length);
     }
 }
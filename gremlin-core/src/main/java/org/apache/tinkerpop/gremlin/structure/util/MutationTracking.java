@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure.util;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+
+/**
+ * Implemented by a {@link Graph} that counts the changes made to it, which allows results read from the graph to be
+ * reused for as long as the count stays the same. Graphs that support transactions should only advance the count when
+ * changes are committed.
+ */
+public interface MutationTracking {
+
+    /**
+     * Gets a value that changes whenever the data of the graph changes. Two equal values read at different times mean
+     * that the graph was not changed in between.
+     */
+    public long getMutationEpoch();
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal;
 
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.GValue;
@@ -25,12 +26,14 @@ import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SeedSt
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SubgraphStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.ReadOnlyStrategy;
 import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
 import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceEdge;
 import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceVertex;
 import org.apache.tinkerpop.gremlin.util.DatetimeHelper;
+import org.apache.tinkerpop.gremlin.util.Serializer;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -163,5 +166,61 @@ public class GremlinLangTest {
             assertEquals("g.inject(ids).V(ids)", gremlin.getGremlin());
             assertEquals(value, gremlin.getParameters().get("ids"));
         }
+
+        @Test
+        public void shouldParameterizeLiteralsInValuePositions() {
+            final GraphTraversalSource gp = g.with(GremlinLang.PARAMETERIZE_LITERALS);
+            final GremlinLang gremlin = gp.V(1, 2L).has("person", "name", "marko").has("age", P.gt(29).and(P.lt(40)))
+                    .out("knows").limit(10).asAdmin().getGremlinLang();
+
+            assertEquals("g.V(_p0,_p1).has(\"person\",\"name\",_p2).has(\"age\",P.gt(_p3).and(P.lt(_p4))).out(\"knows\").limit(_p5)",
+                    gremlin.getGremlin());
+            assertEquals(1, gremlin.getParameters().get("_p0"));
+            assertEquals(2L, gremlin.getParameters().get("_p1"));
+            assertEquals("marko", gremlin.getParameters().get("_p2"));
+            assertEquals(29, gremlin.getParameters().get("_p3"));
+            assertEquals(40, gremlin.getParameters().get("_p4"));
+            assertEquals(10L, gremlin.getParameters().get("_p5"));
+        }
+
+        @Test
+        public void shouldProduceSameGremlinForSameShapeWhenParameterizingLiterals() {
+            final GraphTraversalSource gp = g.with(GremlinLang.PARAMETERIZE_LITERALS);
+            final GremlinLang first = gp.V().has("name", "marko").where(out("created").has("lang", "java"))
+                    .asAdmin().getGremlinLang();
+            final GremlinLang second = gp.V().has("name", "vadas").where(out("created").has("lang", "groovy"))
+                    .asAdmin().getGremlinLang();
+
+            assertEquals("g.V().has(\"name\",_p0).where(__.out(\"created\").has(\"lang\",_p1))", first.getGremlin());
+            assertEquals(first.getGremlin(), second.getGremlin());
+            assertEquals("java", first.getParameters().get("_p1"));
+            assertEquals("groovy", second.getParameters().get("_p1"));
+        }
+
+        @Test
+        public void shouldKeepNamedParametersWhenParameterizingLiterals() {
+            final GremlinLang gremlin = g.with(GremlinLang.PARAMETERIZE_LITERALS)
+                    .V(GValue.of("ids", new int[]{1, 2})).property("name", "x").asAdmin().getGremlinLang();
+
+            assertEquals("g.V(ids).property(\"name\",_p0)", gremlin.getGremlin());
+            assertEquals("x", gremlin.getParameters().get("_p0"));
+        }
+
+        @Test
+        public void shouldSerializeWithoutInstructions() throws Exception {
+            final GraphTraversal<Vertex, Vertex> child = out("created").has("lang", "java");
+            final GraphTraversal<Vertex, Vertex> copy = Serializer.cloneObject(child);
+            assertEquals(child.asAdmin().getGremlinLang(), copy.asAdmin().getGremlinLang());
+
+            // a deserialized child is rendered from its text
+            final GremlinLang gremlin = g.with(GremlinLang.PARAMETERIZE_LITERALS).V().where(copy).asAdmin().getGremlinLang();
+            assertEquals("g.V().where(__.out(\"created\").has(\"lang\",\"java\"))", gremlin.getGremlin());
+        }
+
+        @Test
+        public void shouldNotParameterizeLiteralsByDefault() {
+            final GremlinLang gremlin = g.V().has("name", "marko").limit(1).asAdmin().getGremlinLang();
+            assertEquals("g.V().has(\"name\",\"marko\").limit(1L)", gremlin.getGremlin());
+        }
     }
 }
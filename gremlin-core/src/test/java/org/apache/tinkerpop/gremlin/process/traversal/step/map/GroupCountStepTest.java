@@ -24,9 +24,13 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
@@ -45,4 +49,33 @@ public class GroupCountStepTest extends StepTest {
     public void shouldThrowForMultipleByModulators() {
         __.groupCount().by("name").by("age");
     }
+
+    @Test
+    public void shouldCountBulkedTraversers() {
+        final Map<String, Long> expected = new HashMap<>();
+        expected.put("a", 3L);
+        expected.put("b", 1L);
+        assertEquals(expected, __.inject("a", "b", "a", "a").barrier().groupCount().next());
+        assertEquals(expected, __.inject("a", "b", "a", "a").groupCount().next());
+    }
+
+    @Test
+    public void shouldMergeBarriers() {
+        final Traversal.Admin<String, Map<Object, Long>> traversal = __.inject("a", "b", "a").groupCount().asAdmin();
+        traversal.applyStrategies();
+        final GroupCountStep<String, Object> step = (GroupCountStep<String, Object>) traversal.getEndStep();
+        final Map<Object, Long> barrier = step.nextBarrier();
+        assertEquals(2L, barrier.get("a").longValue());
+        assertEquals(1L, barrier.get("b").longValue());
+
+        final Map<Object, Long> other = new HashMap<>();
+        other.put("a", 5L);
+        other.put("c", 1L);
+        step.addBarrier(barrier);
+        step.addBarrier(other);
+        final Map<Object, Long> merged = step.nextBarrier();
+        assertEquals(7L, merged.get("a").longValue());
+        assertEquals(1L, merged.get("b").longValue());
+        assertEquals(1L, merged.get("c").longValue());
+    }
 }
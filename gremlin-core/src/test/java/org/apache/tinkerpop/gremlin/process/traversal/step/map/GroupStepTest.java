@@ -25,7 +25,12 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
 import org.apache.tinkerpop.gremlin.structure.T;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -40,4 +45,13 @@ public class GroupStepTest extends StepTest {
                 __.group().by(T.label).by(__.values("name").count())
         );
     }
+
+    @Test
+    public void shouldGroupAndCountBulkedTraversers() {
+        final Map<Object, Object> expected = new HashMap<>();
+        expected.put("a", 3L);
+        expected.put("b", 1L);
+        assertEquals(expected, __.inject("a", "b", "a", "a").barrier().group().by().by(__.count()).next());
+        assertEquals(expected, __.inject("a", "b", "a", "a").group().by().by(__.count()).next());
+    }
 }
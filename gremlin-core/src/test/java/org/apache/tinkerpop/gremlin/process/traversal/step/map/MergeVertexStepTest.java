@@ -22,6 +22,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Merge;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSideEffects;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
 import org.apache.tinkerpop.gremlin.structure.Direction;
@@ -35,6 +36,8 @@ import java.util.Collections;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -171,4 +174,12 @@ public class MergeVertexStepTest {
                 T.label, "~person");
         MergeVertexStep.validateMapInput(m, false);
     }
+
+    @Test
+    public void shouldOnlyLookUpIdsDirectlyWhenBatched() {
+        final MergeVertexStep<Object> step = new MergeVertexStep<>(new DefaultGraphTraversal<>(), false);
+        assertFalse(step.isDirectIdLookup());
+        step.setBatchSize(8);
+        assertTrue(step.isDirectIdLookup());
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Pop;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ImmutablePathTest {
+
+    private static Set<String> labels(final String... labels) {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(labels)));
+    }
+
+    @Test
+    public void shouldInternLabelSets() {
+        final Path a = ImmutablePath.make().extend(1, labels("x", "y"));
+        final Path b = ImmutablePath.make().extend(2, labels("x", "y"));
+        assertSame(a.labels().get(0), b.labels().get(0));
+        assertEquals(Arrays.asList("x", "y"), Arrays.asList(a.labels().get(0).toArray()));
+        assertEquals(labels("y", "x"), a.labels().get(0));
+    }
+
+    @Test
+    public void shouldShareUnchangedPrefixOnRetract() {
+        final Path prefix = ImmutablePath.make().extend(1, labels("a")).extend(2, labels("b"));
+        final Path path = prefix.extend(3, labels("c", "d")).extend(4, labels("e"));
+        final Path retracted = path.retract(labels("d", "e"));
+        assertEquals(Arrays.asList(1, 2, 3), retracted.objects());
+        assertEquals(Arrays.asList(labels("a"), labels("b"), labels("c")), retracted.labels());
+        assertSame(prefix, retracted.retract(labels("c")));
+        assertSame(path, path.retract(labels("z")));
+    }
+
+    @Test
+    public void shouldDropUnlabeledObjectsOnRetract() {
+        final Path path = ImmutablePath.make().extend(1, labels("a")).extend(2, labels()).extend(3, labels("b"));
+        final Path retracted = path.retract(labels("z"));
+        assertEquals(Arrays.asList(1, 3), retracted.objects());
+    }
+
+    @Test
+    public void shouldMergeLabelsOnExtend() {
+        final Path path = ImmutablePath.make().extend(1, labels("a")).extend(2, labels("b"));
+        assertSame(path, path.extend(labels("b")));
+        final Path extended = path.extend(labels("c", "b"));
+        assertEquals(Arrays.asList("b", "c"), Arrays.asList(extended.labels().get(1).toArray()));
+        assertTrue(extended.hasLabel("c"));
+        assertFalse(path.hasLabel("c"));
+    }
+
+    @Test
+    public void shouldHandleMoreLabelsThanMaskBits() {
+        Path path = ImmutablePath.make();
+        for (int i = 0; i < 100; i++) {
+            path = path.extend(i, labels("overflow" + i, "shared"));
+        }
+        assertTrue(path.hasLabel("overflow99"));
+        assertFalse(path.hasLabel("overflow100"));
+        assertEquals(99, (int) path.get(Pop.last, "shared"));
+        assertEquals(0, (int) path.get(Pop.first, "shared"));
+        assertEquals(42, (int) path.get("overflow42"));
+        final Path retracted = path.retract(labels("shared", "overflow98"));
+        assertEquals(99, retracted.size());
+        assertFalse(retracted.hasLabel("shared"));
+        assertFalse(retracted.hasLabel("overflow98"));
+        assertTrue(retracted.hasLabel("overflow97"));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.LocalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ScalarMapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.AnonymousTraversalSource.traversal;
+import static org.junit.Assert.assertEquals;
+
+public class BatchExecutionStrategyTest {
+
+    private static final GraphTraversalSource g = traversal().withEmbedded(EmptyGraph.instance());
+    private static final GraphTraversalSource gBatch = g.withStrategies(BatchExecutionStrategy.build().batchSize(8).create());
+
+    private static Object[] lists(final int count) {
+        final Object[] lists = new Object[count];
+        for (int i = 0; i < count; i++) {
+            lists[i] = Arrays.asList(i, i % 7, i % 13);
+        }
+        return lists;
+    }
+
+    private static GraphTraversal<Integer, Integer> mapFailingOnFive(final GraphTraversalSource source) {
+        final GraphTraversal<Integer, Integer> t = source.inject(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+        t.asAdmin().addStep(new FailOnFiveStep(t.asAdmin()));
+        return t;
+    }
+
+    private static final class FailOnFiveStep extends ScalarMapStep<Integer, Integer> {
+        private FailOnFiveStep(final Traversal.Admin traversal) {
+            super(traversal);
+        }
+
+        @Override
+        protected Integer map(final Traverser.Admin<Integer> traverser) {
+            if (traverser.get() == 5) throw new NoSuchElementException();
+            return traverser.get() * 10;
+        }
+    }
+
+    private static List<Integer> batchSizes(final Traversal.Admin<?, ?> traversal) {
+        final List<Integer> sizes = new ArrayList<>();
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            sizes.add(((AbstractStep<?, ?>) step).getStarts().getBatchSize());
+        }
+        return sizes;
+    }
+
+    @Test
+    public void shouldProduceTheSameResultsAsUnbatched() {
+        final Object[] lists = lists(500);
+        assertEquals(g.inject(lists).unfold().is(P.gt(3)).dedup().is(P.lt(400)).toList(),
+                gBatch.inject(lists).unfold().is(P.gt(3)).dedup().is(P.lt(400)).toList());
+        assertEquals(g.inject(lists).unfold().is(P.gt(3)).groupCount().toList(),
+                gBatch.inject(lists).unfold().is(P.gt(3)).groupCount().toList());
+        assertEquals(g.inject(lists).unfold().is(P.neq(0)).where(__.is(P.lt(5))).count().next(),
+                gBatch.inject(lists).unfold().is(P.neq(0)).where(__.is(P.lt(5))).count().next());
+    }
+
+    @Test
+    public void shouldEndTheStreamWhereAMapFailsAsUnbatched() {
+        assertEquals(Arrays.asList(10, 20, 30, 40), mapFailingOnFive(g).is(P.gt(0)).toList());
+        assertEquals(mapFailingOnFive(g).is(P.gt(0)).toList(), mapFailingOnFive(gBatch).is(P.gt(0)).toList());
+        assertEquals(4L, mapFailingOnFive(g).is(P.gt(0)).count().next().longValue());
+        assertEquals(mapFailingOnFive(g).is(P.gt(0)).count().next(), mapFailingOnFive(gBatch).is(P.gt(0)).count().next());
+    }
+
+    @Test
+    public void shouldStopPullingWhenRangeIsSatisfied() {
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5),
+                gBatch.inject(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20).is(P.gt(0)).limit(5).is(P.gt(0)).toList());
+    }
+
+    @Test
+    public void shouldReturnNextValuesAfterHasNext() {
+        final GraphTraversal<Integer, Integer> t = gBatch.inject(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12).is(P.gt(2)).is(P.lt(12));
+        final List<Integer> results = new ArrayList<>();
+        while (t.hasNext()) {
+            t.hasNext();
+            results.add(t.next());
+        }
+        assertEquals(Arrays.asList(3, 4, 5, 6, 7, 8, 9, 10, 11), results);
+    }
+
+    @Test
+    public void shouldBatchStartsOfRootSteps() {
+        final Traversal.Admin<Object, ?> t = gBatch.inject(lists(2)).unfold().is(P.gt(3)).local(__.is(P.gt(4))).asAdmin();
+        t.applyStrategies();
+        assertEquals(Arrays.asList(0, 8, 8, 8), batchSizes(t));
+        final LocalStep<?, ?> local = TraversalHelper.getFirstStepOfAssignableClass(LocalStep.class, t).get();
+        assertEquals(Arrays.asList(0), batchSizes(local.getLocalChildren().get(0)));
+        assertEquals(Arrays.asList(0, 8, 8, 8), batchSizes(t.clone()));
+    }
+
+    @Test
+    public void shouldNotBatchAheadOfLimitsSmallerThanTheBatch() {
+        final Traversal.Admin<Object, ?> small = gBatch.inject(lists(2)).unfold().is(P.gt(3)).limit(2).asAdmin();
+        small.applyStrategies();
+        assertEquals(Arrays.asList(0, 8, 8, 0), batchSizes(small));
+
+        final Traversal.Admin<Object, ?> large = gBatch.inject(lists(2)).unfold().is(P.gt(3)).limit(20).asAdmin();
+        large.applyStrategies();
+        assertEquals(Arrays.asList(0, 8, 8, 8), batchSizes(large));
+    }
+
+    @Test
+    public void shouldNotBatchTraversalsWithSideEffectsOrLambdas() {
+        final Traversal.Admin<Integer, ?> aggregate = gBatch.inject(1, 2).aggregate("x").is(P.gt(1)).asAdmin();
+        aggregate.applyStrategies();
+        assertEquals(Arrays.asList(0, 0, 0), batchSizes(aggregate));
+
+        final Traversal.Admin<Integer, ?> lambda = gBatch.inject(1, 2).is(P.gt(1)).map(x -> x.get() + 1).asAdmin();
+        lambda.applyStrategies();
+        assertEquals(Arrays.asList(0, 0, 0), batchSizes(lambda));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRequireBatchesOfAtLeastTwo() {
+        BatchExecutionStrategy.build().batchSize(1).create();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.LocalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ProjectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalResultCache;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceVertex;
+import org.junit.Test;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.AnonymousTraversalSource.traversal;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ChildTraversalCacheStrategyTest {
+
+    private static final GraphTraversalSource g = traversal().withEmbedded(EmptyGraph.instance());
+    private static final GraphTraversalSource gCache = g.withStrategies(ChildTraversalCacheStrategy.instance());
+
+    private static final Vertex v1 = new ReferenceVertex(1);
+    private static final Vertex v2 = new ReferenceVertex(2);
+
+    private static TraversalResultCache getResultCache(final Traversal.Admin<?, ?> traversal, final Class<? extends TraversalParent> parentClass) {
+        final TraversalParent parent = TraversalHelper.getFirstStepOfAssignableClass(parentClass, traversal).get();
+        return ((DefaultTraversal<?, ?>) parent.getLocalChildren().get(0)).getResultCache();
+    }
+
+    @Test
+    public void shouldProduceTheSameResultsAsUncached() {
+        assertEquals(g.inject(v1, v2, v1, v1).project("a").by(__.id().is(P.gt(1))).toList(),
+                gCache.inject(v1, v2, v1, v1).project("a").by(__.id().is(P.gt(1))).toList());
+        assertEquals(g.inject(v1, v2, v1, v1).where(__.id().is(P.gt(1))).toList(),
+                gCache.inject(v1, v2, v1, v1).where(__.id().is(P.gt(1))).toList());
+        assertEquals(g.inject(v1, v2, v1, v1).map(__.id().is(P.gt(0))).toList(),
+                gCache.inject(v1, v2, v1, v1).map(__.id().is(P.gt(0))).toList());
+    }
+
+    @Test
+    public void shouldServeRepeatedStartsFromTheCache() {
+        final Traversal.Admin<Vertex, ?> t = gCache.inject(v1, v2, v1, v1).project("a").by(__.id().is(P.gt(0))).asAdmin();
+        t.applyStrategies();
+        t.toList();
+        final TraversalResultCache cache = getResultCache(t, ProjectStep.class);
+        assertEquals(2, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(ChildTraversalCacheStrategy.instance().getCacheSize(), cache.getMaxSize());
+
+        final Traversal.Admin<?, ?> clone = t.clone();
+        assertEquals(0, getResultCache(clone, ProjectStep.class).getHits());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedStarts() {
+        final Traversal.Admin<Vertex, ?> t = g.withStrategies(ChildTraversalCacheStrategy.build().cacheSize(1).create()).
+                inject(v1, v2, v1, v1).project("a").by(__.id().is(P.gt(0))).asAdmin();
+        t.applyStrategies();
+        t.toList();
+        final TraversalResultCache cache = getResultCache(t, ProjectStep.class);
+        assertEquals(1, cache.getHits());
+        assertEquals(3, cache.getMisses());
+    }
+
+    @Test
+    public void shouldNotCacheTraversalsWithSideEffects() {
+        final Traversal.Admin<Vertex, ?> t = gCache.inject(v1, v2).aggregate("x").project("a").by(__.id().is(P.gt(0))).asAdmin();
+        t.applyStrategies();
+        assertNull(getResultCache(t, ProjectStep.class));
+    }
+
+    @Test
+    public void shouldNotCacheChildrenThatDependOnMoreThanTheStart() {
+        final Traversal.Admin<Vertex, ?> path = gCache.inject(v1, v2).project("a").by(__.path().count(Scope.local)).asAdmin();
+        path.applyStrategies();
+        assertNull(getResultCache(path, ProjectStep.class));
+
+        final Traversal.Admin<Vertex, ?> loops = gCache.inject(v1, v2).project("a").by(__.id().is(P.gt(0)).loops()).asAdmin();
+        loops.applyStrategies();
+        assertNull(getResultCache(loops, ProjectStep.class));
+    }
+
+    @Test
+    public void shouldNotCacheChildrenWhoseResultsAreAllUsed() {
+        final Traversal.Admin<Vertex, ?> t = gCache.inject(v1, v2).local(__.id().is(P.gt(0))).asAdmin();
+        t.applyStrategies();
+        assertNull(getResultCache(t, LocalStep.class));
+    }
+
+    @Test
+    public void shouldReportCacheHitPercentInProfile() {
+        final TraversalMetrics metrics = gCache.inject(v1, v2, v1, v1).project("a").by(__.id().is(P.gt(0))).profile().next();
+        assertEquals(50.0d, (Double) metrics.getMetrics(1).getAnnotation(TraversalMetrics.CACHE_HIT_PERCENT_KEY), 0.0d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRequireCacheOfAtLeastOne() {
+        ChildTraversalCacheStrategy.build().cacheSize(0).create();
+    }
+}
@@ -40,6 +40,7 @@ public class MatchAlgorithmStrategyConfigTest {
         return Arrays.asList(new Object[][]{
                 {MatchAlgorithmStrategy.build().algorithm(MatchStep.CountMatchAlgorithm.class).create()},
                 {MatchAlgorithmStrategy.build().algorithm(MatchStep.GreedyMatchAlgorithm.class).create()},
+                {MatchAlgorithmStrategy.build().algorithm(MatchStep.HashJoinMatchAlgorithm.class).create()},
         });
     }
 
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Merge;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MergeElementStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.AnonymousTraversalSource.traversal;
+import static org.junit.Assert.assertEquals;
+
+public class MergeBatchStrategyTest {
+
+    private static final GraphTraversalSource gBatch = traversal().withEmbedded(EmptyGraph.instance()).
+            withStrategies(MergeBatchStrategy.build().batchSize(8).create());
+    private static final Map<Object, Object> person = Collections.singletonMap(T.label, "person");
+
+    private static List<Integer> batchSizes(final Traversal.Admin<?, ?> traversal) {
+        traversal.applyStrategies();
+        final List<Integer> sizes = new ArrayList<>();
+        for (final MergeElementStep<?, ?, ?> step : TraversalHelper.getStepsOfAssignableClass(MergeElementStep.class, traversal)) {
+            sizes.add(step.getBatchSize());
+        }
+        return sizes;
+    }
+
+    @Test
+    public void shouldBatchMidTraversalMerges() {
+        assertEquals(Arrays.asList(8), batchSizes(gBatch.inject(person).mergeV().asAdmin()));
+        assertEquals(Arrays.asList(8), batchSizes(gBatch.inject(person).mergeE().asAdmin()));
+        assertEquals(Arrays.asList(8), batchSizes(gBatch.inject(person).mergeV().option(Merge.onMatch, __.constant(person)).asAdmin()));
+    }
+
+    @Test
+    public void shouldNotBatchStartMerges() {
+        assertEquals(Arrays.asList(1), batchSizes(gBatch.mergeV(person).asAdmin()));
+    }
+
+    @Test
+    public void shouldBatchVertexMergesFollowedByEdgeMerges() {
+        assertEquals(Arrays.asList(8, 8), batchSizes(gBatch.inject(person).mergeV().as("v").
+                mergeE(__.select("v")).asAdmin()));
+        assertEquals(Arrays.asList(1, 8), batchSizes(gBatch.inject(person).mergeE().mergeV().asAdmin()));
+        assertEquals(Arrays.asList(1, 8), batchSizes(gBatch.inject(person).mergeV().mergeV().asAdmin()));
+    }
+
+    @Test
+    public void shouldNotBatchMergesFollowedByMutations() {
+        assertEquals(Arrays.asList(1), batchSizes(gBatch.inject(person).mergeV().property("x", 1).asAdmin()));
+        assertEquals(Arrays.asList(1), batchSizes(gBatch.inject(person).mergeV().sideEffect(__.addV()).asAdmin()));
+    }
+
+    @Test
+    public void shouldNotBatchMergesWithMutatingChildren() {
+        assertEquals(Arrays.asList(1), batchSizes(gBatch.inject(person).mergeV().
+                option(Merge.onCreate, __.addV().constant(person)).asAdmin()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRequireBatchesOfAtLeastTwo() {
+        MergeBatchStrategy.build().batchSize(1).create();
+    }
+}
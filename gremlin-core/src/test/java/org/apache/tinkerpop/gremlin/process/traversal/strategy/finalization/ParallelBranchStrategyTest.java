@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.commons.configuration2.MapConfiguration;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.BranchStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.UnionStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.AnonymousTraversalSource.traversal;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelBranchStrategyTest {
+
+    private static final GraphTraversalSource g = traversal().withEmbedded(EmptyGraph.instance());
+    private static final GraphTraversalSource gParallel = g.withStrategies(ParallelBranchStrategy.build().parallelism(4).create());
+
+    private static Object[] numbers(final int count) {
+        final Object[] numbers = new Object[count];
+        for (int i = 0; i < count; i++) {
+            numbers[i] = i;
+        }
+        return numbers;
+    }
+
+    private static <S, E> Traversal.Admin<S, E> parallelize(final Traversal.Admin<S, E> traversal) {
+        traversal.applyStrategies();
+        TraversalHelper.getStepsOfAssignableClassRecursively(BranchStep.class, traversal).forEach(s -> s.setParallelism(4));
+        return traversal;
+    }
+
+    @Test
+    public void shouldProduceTheSameResultsInTheSameOrderAsSequential() {
+        final Object[] numbers = numbers(500);
+        assertEquals(g.inject(numbers).union(__.is(P.gt(250)), __.is(P.lt(100)), __.constant(-1)).toList(),
+                gParallel.inject(numbers).union(__.is(P.gt(250)), __.is(P.lt(100)), __.constant(-1)).toList());
+        assertEquals(g.inject(numbers).union(__.is(P.gt(250)).count(), __.is(P.lt(100)).sum(), __.fold().count(Scope.local)).toList(),
+                gParallel.inject(numbers).union(__.is(P.gt(250)).count(), __.is(P.lt(100)).sum(), __.fold().count(Scope.local)).toList());
+        assertEquals(g.inject(numbers).choose(__.is(P.gt(250)), __.constant("a"), __.constant("b")).groupCount().toList(),
+                gParallel.inject(numbers).choose(__.is(P.gt(250)), __.constant("a"), __.constant("b")).groupCount().toList());
+    }
+
+    @Test
+    public void shouldProduceTheSameResultsInTheSameOrderAsSequentialAcrossBatches() {
+        final Object[] numbers = numbers(2500);
+        assertEquals(g.inject(numbers).union(__.is(P.gt(1200)), __.union(__.identity(), __.constant(-1))).toList(),
+                gParallel.inject(numbers).union(__.is(P.gt(1200)), __.union(__.identity(), __.constant(-1))).toList());
+        assertEquals(g.inject(numbers).choose(__.is(P.gt(1200)), __.constant("a")).toList(),
+                gParallel.inject(numbers).choose(__.is(P.gt(1200)), __.constant("a")).toList());
+    }
+
+    @Test
+    public void shouldKeepOptionOrderWhenLaterOptionsFinishFirst() {
+        final Traversal.Admin<Integer, Integer> t = parallelize(g.inject(1, 2).union(__.<Integer, Integer>map(x -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            return x.get() * 10;
+        }), __.<Integer, Integer>map(x -> x.get() * 100)).asAdmin());
+        assertEquals(Arrays.asList(10, 100, 20, 200), t.toList());
+    }
+
+    @Test
+    public void shouldParallelizeOnlyStepsWithSeveralOptions() {
+        final Traversal.Admin<Integer, ?> t = gParallel.inject(1, 2).union(__.is(1), __.is(2)).local(__.union(__.identity())).asAdmin();
+        t.applyStrategies();
+        final List<BranchStep> steps = TraversalHelper.getStepsOfAssignableClassRecursively(BranchStep.class, t);
+        assertEquals(2, steps.size());
+        assertEquals(4, steps.get(0).getParallelism());
+        assertEquals(1, steps.get(1).getParallelism());
+        assertEquals(4, TraversalHelper.getFirstStepOfAssignableClass(UnionStep.class, t.clone()).get().getParallelism());
+    }
+
+    @Test
+    public void shouldNotParallelizeStepsFollowedByRange() {
+        final Traversal.Admin<Integer, ?> limit = gParallel.inject(1, 2).union(__.is(1), __.is(2)).is(P.gt(0)).limit(1).asAdmin();
+        limit.applyStrategies();
+        assertEquals(1, TraversalHelper.getFirstStepOfAssignableClass(UnionStep.class, limit).get().getParallelism());
+
+        final Traversal.Admin<Integer, ?> nested = gParallel.inject(1, 2).local(__.union(__.is(1), __.is(2))).limit(1).asAdmin();
+        nested.applyStrategies();
+        assertEquals(1, TraversalHelper.getStepsOfAssignableClassRecursively(UnionStep.class, nested).get(0).getParallelism());
+    }
+
+    @Test
+    public void shouldNotParallelizeTraversalsWithSideEffectsOrLambdas() {
+        final Traversal.Admin<Integer, ?> aggregate = gParallel.inject(1, 2).aggregate("x").union(__.is(1), __.is(2)).asAdmin();
+        aggregate.applyStrategies();
+        assertEquals(1, TraversalHelper.getFirstStepOfAssignableClass(UnionStep.class, aggregate).get().getParallelism());
+
+        final Traversal.Admin<Integer, ?> lambda = gParallel.inject(1, 2).union(__.<Integer, Integer>map(x -> x.get() + 1), __.is(2)).asAdmin();
+        lambda.applyStrategies();
+        assertEquals(1, TraversalHelper.getFirstStepOfAssignableClass(UnionStep.class, lambda).get().getParallelism());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldPropagateFailureOfAnOption() {
+        parallelize(g.inject(1).union(__.identity(), __.map(x -> {
+            throw new IllegalStateException("failed");
+        })).asAdmin()).toList();
+    }
+
+    @Test
+    public void shouldCancelOptionsWhenInterrupted() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        final Traversal.Admin<Integer, Integer> t = parallelize(g.inject(1).union(__.<Integer, Integer>map(x -> {
+            // hold the calling thread until the pool is running the other option
+            try {
+                started.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            return x.get();
+        }), __.<Integer, Integer>map(x -> {
+            started.countDown();
+            try {
+                Thread.sleep(60000);
+            } catch (InterruptedException ie) {
+                cancelled.countDown();
+            }
+            return x.get();
+        })).asAdmin());
+
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final Thread thread = new Thread(() -> {
+            try {
+                t.toList();
+            } catch (Throwable ex) {
+                error.set(ex);
+            }
+        });
+        thread.start();
+
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        thread.interrupt();
+        thread.join(10000);
+
+        assertThat(error.get(), instanceOf(TraversalInterruptedException.class));
+        assertTrue(cancelled.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldDefaultToTheNumberOfAvailableProcessors() {
+        final int processors = Runtime.getRuntime().availableProcessors();
+        assertEquals(processors, ParallelBranchStrategy.instance().getParallelism());
+        assertEquals(processors, ParallelBranchStrategy.build().create().getParallelism());
+        assertEquals(processors, ParallelBranchStrategy.create(new MapConfiguration(Collections.emptyMap())).getParallelism());
+    }
+
+    @Test
+    public void shouldIterateOptionsSequentiallyWithParallelismOfOne() {
+        final GraphTraversalSource gSequential = g.withStrategies(ParallelBranchStrategy.build().parallelism(1).create());
+        final Traversal.Admin<Integer, ?> t = gSequential.inject(1, 2).union(__.is(1), __.is(2)).asAdmin();
+        t.applyStrategies();
+        assertEquals(1, TraversalHelper.getFirstStepOfAssignableClass(UnionStep.class, t).get().getParallelism());
+        assertEquals(Arrays.asList(1, 2), gSequential.inject(1, 2).union(__.is(1), __.is(2)).toList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRequireParallelismOfAtLeastOne() {
+        ParallelBranchStrategy.build().parallelism(0).create();
+    }
+}
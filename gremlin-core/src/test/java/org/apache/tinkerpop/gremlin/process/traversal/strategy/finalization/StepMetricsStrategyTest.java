@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.StepMetricsStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.SampledTraversalMetrics;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.AnonymousTraversalSource.traversal;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class StepMetricsStrategyTest {
+
+    private static final GraphTraversalSource g = traversal().withEmbedded(EmptyGraph.instance()).
+            withStrategies(StepMetricsStrategy.build().sampleRate(1).create());
+
+    @Test
+    public void shouldCountTraversersForEachStep() {
+        final Traversal.Admin<Integer, Integer> t = g.inject(1, 2, 3, 4).is(P.gt(1)).map(x -> x.get() * 10).asAdmin();
+        assertEquals(Arrays.asList(20, 30, 40), t.toList());
+
+        final SampledTraversalMetrics metrics = StepMetricsStrategy.getMetrics(t).get();
+        assertEquals(3, metrics.size());
+        assertEquals(4, metrics.getTraverserCount(0));
+        assertEquals(3, metrics.getTraverserCount(1));
+        assertEquals(3, metrics.getTraverserCount(2));
+        assertEquals("IsStep", metrics.getStepType(1));
+        assertThat(metrics.getSampledCalls(), is(metrics.getCalls()));
+        for (int i = 0; i < metrics.size(); i++) {
+            assertThat(metrics.getDuration(i, TimeUnit.NANOSECONDS) >= 0, is(true));
+        }
+
+        final TraversalMetrics traversalMetrics = metrics.getTraversalMetrics();
+        assertEquals(3, traversalMetrics.getMetrics().size());
+        assertEquals(4L, traversalMetrics.getMetrics(0).getCount(TraversalMetrics.ELEMENT_COUNT_ID).longValue());
+    }
+
+    @Test
+    public void shouldCountBulkedTraversers() {
+        final Traversal.Admin<Integer, Integer> t = g.inject(1, 1, 1, 2).barrier().asAdmin();
+        assertEquals(4, t.toList().size());
+
+        final SampledTraversalMetrics metrics = StepMetricsStrategy.getMetrics(t).get();
+        assertEquals(2, metrics.getTraverserCount(1));
+        assertEquals(4, metrics.getElementCount(1));
+    }
+
+    @Test
+    public void shouldAttributeTimeToTheStepThatSpentIt() {
+        final Traversal.Admin<Integer, Integer> t = g.inject(1, 2, 3).map(x -> {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ie) {
+                throw new RuntimeException(ie);
+            }
+            return x.get();
+        }).barrier().is(P.gt(1)).asAdmin();
+
+        final long start = System.nanoTime();
+        assertEquals(Arrays.asList(2, 3), t.toList());
+        final long elapsed = System.nanoTime() - start;
+
+        // the barrier drains the map step on its first call but none of that time belongs to the barrier
+        final SampledTraversalMetrics metrics = StepMetricsStrategy.getMetrics(t).get();
+        assertEquals(4, metrics.size());
+        final long map = metrics.getDuration(1, TimeUnit.NANOSECONDS);
+        assertThat(map >= TimeUnit.MILLISECONDS.toNanos(30), is(true));
+        long total = 0;
+        for (int i = 0; i < metrics.size(); i++) {
+            final long duration = metrics.getDuration(i, TimeUnit.NANOSECONDS);
+            assertThat(duration >= 0, is(true));
+            if (i != 1) assertThat(duration < map, is(true));
+            total += duration;
+        }
+        assertThat(total <= elapsed, is(true));
+    }
+
+    @Test
+    public void shouldOnlySampleSomeCalls() {
+        final Traversal.Admin<Integer, Integer> t = traversal().withEmbedded(EmptyGraph.instance()).
+                withStrategies(StepMetricsStrategy.build().sampleRate(10).create()).
+                inject(1, 2, 3, 4, 5, 6, 7, 8, 9, 10).asAdmin();
+        assertEquals(10, t.toList().size());
+
+        final SampledTraversalMetrics metrics = StepMetricsStrategy.getMetrics(t).get();
+        assertEquals(10, metrics.getTraverserCount(0));
+        assertThat(metrics.getSampledCalls() < metrics.getCalls(), is(true));
+        assertThat(metrics.getSampledCalls() > 0, is(true));
+    }
+
+    @Test
+    public void shouldNotInstrumentProfiledTraversals() {
+        final Traversal.Admin<Integer, TraversalMetrics> t = g.inject(1, 2).profile().asAdmin();
+        t.applyStrategies();
+        assertEquals(0, TraversalHelper.getStepsOfAssignableClassRecursively(StepMetricsStep.class, t).size());
+        assertFalse(StepMetricsStrategy.getMetrics(t).isPresent());
+    }
+
+    @Test
+    public void shouldNotInstrumentChildTraversals() {
+        final Traversal.Admin<Integer, ?> t = g.inject(1, 2).local(__.identity()).asAdmin();
+        t.applyStrategies();
+        assertEquals(2, TraversalHelper.getStepsOfClass(StepMetricsStep.class, t).size());
+        assertEquals(2, TraversalHelper.getStepsOfAssignableClassRecursively(StepMetricsStep.class, t).size());
+    }
+}
@@ -90,6 +90,8 @@ public class LazyBarrierStrategyTest {
                 {__.out().out().as("a").select("a").out(), __.out().out().barrier(LAZY_SIZE).as("a").select("a").barrier(PATH_SIZE).out(), Collections.singletonList(PathRetractionStrategy.instance())},
                 {__.out().out().as("a").out().select("a").out(), __.out().out().barrier(LAZY_SIZE).as("a").out().select("a").barrier(PATH_SIZE).out(), Collections.singletonList(PathRetractionStrategy.instance())},
                 {__.out().out().out().limit(10).out(), __.out().out().barrier(LAZY_SIZE).out().limit(10).out(), Collections.emptyList()},
+                {__.out().out().out().limit(5000).out(), __.out().out().barrier(LAZY_SIZE).out().limit(5000).out(), Collections.emptyList()},
+                {__.out().out().has("age", 32).limit(10).out(), __.out().out().barrier(LAZY_SIZE).has("age", 32).limit(10).out(), Collections.emptyList()},
                 {__.V().out().in().where(P.neq("a")), __.V().out().barrier(LAZY_SIZE).in().barrier(LAZY_SIZE).where(P.neq("a")), Collections.emptyList()},
                 {__.V().as("a").out().in().where(P.neq("a")), __.V().as("a").out().in().where(P.neq("a")), Collections.emptyList()},
                 {__.out().out().in().where(P.neq("a")), __.out().out().barrier(LAZY_SIZE).in().barrier(LAZY_SIZE).where(P.neq("a")), Collections.emptyList()},
@@ -109,6 +111,13 @@ public class LazyBarrierStrategyTest {
                 {__.outE().drop(), __.outE().drop(), Collections.emptyList()},
                 {__.outE().properties().drop(), __.outE().properties().drop(), Collections.emptyList()},
                 {__.V().out().out().groupCount().by(__.out().out().out()).out().as("a"), __.V().out().barrier(LAZY_SIZE).out().groupCount().by(__.out().out().barrier(LAZY_SIZE).out()).out().as("a"), Collections.emptyList()},
+                {__.V().out().where(__.out().out().out()), __.V().out().barrier(LAZY_SIZE).where(__.out().out().barrier(LAZY_SIZE).out()), Collections.emptyList()},
+                {__.V().out().where(__.out().out().id()), __.V().out().barrier(LAZY_SIZE).where(__.out().out().id()), Collections.emptyList()},
+                {__.out().out().id().limit(10), __.out().out().id().limit(10), Collections.emptyList()},
+                {__.V().out().where(__.out().out().out().has("age", 32)), __.V().out().barrier(LAZY_SIZE).where(__.out().out().barrier(LAZY_SIZE).out().barrier(LAZY_SIZE).has("age", 32)), Collections.emptyList()},
+                {__.V().out().project("a").by(__.out().out().out()), __.V().out().barrier(LAZY_SIZE).project("a").by(__.out().out().barrier(LAZY_SIZE).out()), Collections.emptyList()},
+                {__.V().both().local(__.both().both().out()).limit(1), __.V().both().barrier(LAZY_SIZE).local(__.both().both().barrier(LAZY_SIZE).out()).limit(1), Collections.emptyList()},
+                {__.V().both().local(__.both().both().id()).limit(1), __.V().both().barrier(LAZY_SIZE).local(__.both().both().id()).limit(1), Collections.emptyList()},
                 {__.V().both().profile(), __.V().both().profile(), Collections.emptyList() },
                 {__.V().both().both().profile(), __.V().both().barrier(LAZY_SIZE).both().profile(), Collections.emptyList() },
                 {__.V().both().local(__.both().both().out()).profile(), __.V().both().barrier(LAZY_SIZE).local(__.both().both().barrier(LAZY_SIZE).out()).profile(), Collections.emptyList() },
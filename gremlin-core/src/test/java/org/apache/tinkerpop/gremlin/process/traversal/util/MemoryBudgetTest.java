@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MemoryBudgetTest {
+
+    private final GraphTraversalSource g = EmptyGraph.instance().traversal();
+
+    @Test
+    public void shouldTrackUsedAndPeak() {
+        final MemoryBudget budget = new MemoryBudget(0);
+        budget.reserve(100);
+        budget.reserve(50);
+        budget.release(120);
+        assertEquals(30, budget.getUsed());
+        assertEquals(150, budget.getPeak());
+    }
+
+    @Test
+    public void shouldFailReservationBeyondLimit() {
+        final MemoryBudget budget = new MemoryBudget(100);
+        budget.reserve(80);
+        try {
+            budget.reserve(30);
+            fail("Should have exceeded the budget");
+        } catch (MemoryBudgetExceededException ex) {
+            assertEquals(100, ex.getLimit());
+            assertEquals(110, ex.getRequested());
+        }
+
+        // nothing is reserved for the failed reservation
+        assertEquals(80, budget.getUsed());
+    }
+
+    @Test
+    public void shouldBindToCurrentThreadUntilClosed() {
+        assertNull(MemoryBudget.current());
+        final MemoryBudget budget = new MemoryBudget(10);
+        try (MemoryBudget b = budget.open()) {
+            assertSame(budget, MemoryBudget.current());
+        }
+        assertNull(MemoryBudget.current());
+
+        // a closed budget ignores reservations from structures that outlived it
+        budget.reserve(1000);
+        assertEquals(0, budget.getUsed());
+    }
+
+    @Test
+    public void shouldEstimateCollectionsFromTheirSize() {
+        final List<Integer> small = Arrays.asList(1, 2, 3);
+        final List<Integer> large = new ArrayList<>();
+        IntStream.range(0, 3000).forEach(large::add);
+        assertTrue(MemoryBudget.estimate(large) > MemoryBudget.estimate(small) * 100);
+        assertTrue(MemoryBudget.estimate("a much longer string than the other") > MemoryBudget.estimate("short"));
+        assertEquals(0, MemoryBudget.estimate(null));
+    }
+
+    @Test
+    public void shouldEstimateBulkSetFromUniqueObjects() {
+        final BulkSet<String> bulkSet = new BulkSet<>();
+        bulkSet.add("marko", 1000000);
+        assertTrue(MemoryBudget.estimate(bulkSet) < 1000);
+    }
+
+    @Test
+    public void shouldReleaseBulkSetReservations() {
+        try (MemoryBudget budget = new MemoryBudget(0).open()) {
+            final BulkSet<String> bulkSet = new BulkSet<>();
+            bulkSet.add("marko", 10);
+            bulkSet.add("stephen", 1);
+            assertTrue(budget.getUsed() > 0);
+            bulkSet.remove("marko");
+            assertTrue(budget.getUsed() > 0);
+            bulkSet.clear();
+            assertEquals(0, budget.getUsed());
+        }
+    }
+
+    @Test
+    public void shouldAccountForReducingBarrier() {
+        try (MemoryBudget budget = new MemoryBudget(0).open()) {
+            final List<Object> result = g.inject(IntStream.range(0, 10000).boxed().toArray()).fold().next();
+            assertEquals(10000, result.size());
+            assertTrue(budget.getPeak() > 10000 * 8);
+            assertTrue(budget.getUsed() < budget.getPeak());
+        }
+    }
+
+    @Test(expected = MemoryBudgetExceededException.class)
+    public void shouldAbortReducingBarrierOverBudget() {
+        try (MemoryBudget budget = new MemoryBudget(64 * 1024).open()) {
+            g.inject(IntStream.range(0, 100000).boxed().toArray()).fold().next();
+        }
+    }
+
+    @Test
+    public void shouldAbortGroupCountOverBudgetBeforeAllTraversersAreCounted() {
+        final AtomicInteger counted = new AtomicInteger();
+        try (MemoryBudget budget = new MemoryBudget(64 * 1024).open()) {
+            g.inject(IntStream.range(0, 100000).boxed().toArray()).sideEffect(t -> counted.incrementAndGet()).groupCount().next();
+            fail("Should have exceeded the budget");
+        } catch (MemoryBudgetExceededException ex) {
+            assertTrue(counted.get() < 100000);
+        }
+    }
+
+    @Test
+    public void shouldAbortGroupByCountOverBudgetBeforeAllTraversersAreCounted() {
+        final AtomicInteger counted = new AtomicInteger();
+        try (MemoryBudget budget = new MemoryBudget(64 * 1024).open()) {
+            g.inject(IntStream.range(0, 100000).boxed().toArray()).sideEffect(t -> counted.incrementAndGet()).
+                    group().by().by(__.count()).next();
+            fail("Should have exceeded the budget");
+        } catch (MemoryBudgetExceededException ex) {
+            assertTrue(counted.get() < 100000);
+        }
+    }
+
+    @Test(expected = MemoryBudgetExceededException.class)
+    public void shouldAbortCollectingBarrierOverBudget() {
+        try (MemoryBudget budget = new MemoryBudget(64 * 1024).open()) {
+            g.inject(IntStream.range(0, 100000).boxed().toArray()).barrier().order().toList();
+        }
+    }
+}
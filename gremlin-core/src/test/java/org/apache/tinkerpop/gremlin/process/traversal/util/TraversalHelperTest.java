@@ -498,6 +498,36 @@ public class TraversalHelperTest {
         assertEquals("f", ((PropertiesStep) steps.get(5)).getPropertyKeys()[0]);
     }
 
+    @Test
+    public void shouldGetRequiredResults() {
+        final Traversal.Admin<?,?> limited = __.out().id().limit(5).asAdmin();
+        assertEquals(5L, TraversalHelper.getRequiredResults(limited.getStartStep()));
+        assertEquals(5L, TraversalHelper.getRequiredResults(limited.getSteps().get(1)));
+        assertEquals(Long.MAX_VALUE, TraversalHelper.getRequiredResults(limited.getEndStep()));
+
+        // a flatMap may emit no results for an input so it does not carry the bound upstream
+        final Traversal.Admin<?,?> flatMapped = __.out().out().limit(5).asAdmin();
+        assertEquals(Long.MAX_VALUE, TraversalHelper.getRequiredResults(flatMapped.getStartStep()));
+        assertEquals(5L, TraversalHelper.getRequiredResults(flatMapped.getSteps().get(1)));
+
+        assertEquals(Long.MAX_VALUE, TraversalHelper.getRequiredResults(__.out().has("age", 32).limit(5).asAdmin().getStartStep()));
+        assertEquals(Long.MAX_VALUE, TraversalHelper.getRequiredResults(__.out().count().asAdmin().getStartStep()));
+        assertEquals(Long.MAX_VALUE, TraversalHelper.getRequiredResults(__.V().out().asAdmin().getStartStep()));
+
+        final Traversal.Admin<?,?> where = __.V().where(out().id()).asAdmin();
+        final TraversalFilterStep<?> filter = TraversalHelper.getFirstStepOfAssignableClass(TraversalFilterStep.class, where).get();
+        assertEquals(1L, TraversalHelper.getRequiredResults(filter.getLocalChildren().get(0).getStartStep()));
+
+        final Traversal.Admin<?,?> local = __.V().local(out().id()).limit(3).asAdmin();
+        final LocalStep<?,?> localStep = TraversalHelper.getFirstStepOfAssignableClass(LocalStep.class, local).get();
+        assertEquals(3L, TraversalHelper.getRequiredResults(localStep.getLocalChildren().get(0).getStartStep()));
+
+        final Traversal.Admin<?,?> union = __.V().union(out().id(), in().id()).limit(2).asAdmin();
+        final UnionStep<?,?> unionStep = TraversalHelper.getFirstStepOfAssignableClass(UnionStep.class, union).get();
+        assertEquals(2L, TraversalHelper.getRequiredResults(unionStep.getGlobalChildren().get(0).getStartStep()));
+        assertEquals(2L, TraversalHelper.getRequiredResults(unionStep.getGlobalChildren().get(1).getStartStep()));
+    }
+
     @Test
     public void shouldGetPopInstructions() {
         final List<Traversal.Admin<?,?>> traversals = new ArrayList<>();
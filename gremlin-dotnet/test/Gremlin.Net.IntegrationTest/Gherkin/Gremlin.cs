@@ -519,6 +519,13 @@ namespace Gremlin.Net.IntegrationTest.Gherkin
                {"g_withoutStrategiesXLambdaRestrictionStrategyX_V", new List<Func<GraphTraversalSource, IDictionary<string, object>, ITraversal>> {(g,p) =>g.WithoutStrategies(typeof(LambdaRestrictionStrategy)).V()}}, 
                {"g_withStrategiesXLazyBarrierStrategyX_V_out_bothE_count", new List<Func<GraphTraversalSource, IDictionary<string, object>, ITraversal>> {(g,p) =>g.WithStrategies(new LazyBarrierStrategy()).V().Out().BothE().Count()}}, 
                {"g_withoutStrategiesXLazyBarrierStrategyX_V_out_bothE_count", new List<Func<GraphTraversalSource, IDictionary<string, object>, ITraversal>> {(g,p) =>g.WithoutStrategies(typeof(LazyBarrierStrategy)).V().Out().BothE().Count()}}, 
+               {"g_withStrategiesXLazyBarrierStrategyX_V_out_out_limitX1X_count", new List<Func<GraphTraversalSource, IDictionary<string, object>, ITraversal>> {(g,p) =>g.WithStrategies(new LazyBarrierStrategy()).V().Out().Out().Limit<object>(1).Count()}}, 
+               {"g_withStrategiesXLazyBarrierStrategyX_V_whereXout_outX_name", new List<Func<GraphTraversalSource, IDictionary<string, object>, ITraversal>> {(g,p) =>g.WithStrategies(new LazyBarrierStrategy()).V().Where(__.Out().Out()).Values<object>("name")}}, 
+               {"g_withStrategiesXLazyBarrierStrategyX_V_whereXout_count_isXgteX2XXX_name", new List<Func<GraphTraversalSource, IDictionary<string, object>, ITraversal>> {(g,p) =>g.WithStrategies(new LazyBarrierStrategy()).V().Where(__.Out().Count().Is(P.Gte(2))).Values<object>("name")}}, 
+               {"g_withStrategiesXLazyBarrierStrategyX_V_coalesceXoutXcreatedX_valuesXlangX_limitX1X__constantXnoneXX", new List<Func<GraphTraversalSource, IDictionary<string, object>, ITraversal>> {(g,p) =>g.WithStrategies(new LazyBarrierStrategy()).V().Coalesce<object>(__.Out("created").Values<object>("lang").Limit<object>(1), __.Constant<object>("none"))}}, 
+               {"g_withStrategiesXLazyBarrierStrategyX_V_chooseXout_count_isXgtX1XX__name__constantXxXX", new List<Func<GraphTraversalSource, IDictionary<string, object>, ITraversal>> {(g,p) =>g.WithStrategies(new LazyBarrierStrategy()).V().Choose<object>(__.Out().Count().Is(P.Gt(1)), __.Values<object>("name"), __.Constant<object>("x"))}}, 
+               {"g_withStrategiesXLazyBarrierStrategyX_V_hasLabelXpersonX_localXboth_limitX1XX_count", new List<Func<GraphTraversalSource, IDictionary<string, object>, ITraversal>> {(g,p) =>g.WithStrategies(new LazyBarrierStrategy()).V().HasLabel("person").Local<object>(__.Both().Limit<object>(1)).Count()}}, 
+               {"g_withStrategiesXLazyBarrierStrategyX_V_hasLabelXpersonX_order_byXoutE_count_descX_limitX1X_name", new List<Func<GraphTraversalSource, IDictionary<string, object>, ITraversal>> {(g,p) =>g.WithStrategies(new LazyBarrierStrategy()).V().HasLabel("person").Order().By(__.OutE().Count(), Order.Desc).Limit<object>(1).Values<object>("name")}}, 
                {"g_withStrategiesXMatchAlgorithmStrategyXmatchAlgorithm_CountMatchAlgorithmXX_V_matchXa_knows_b__a_created_cX", new List<Func<GraphTraversalSource, IDictionary<string, object>, ITraversal>> {(g,p) =>g.WithStrategies(new MatchAlgorithmStrategy(matchAlgorithm: "org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep$CountMatchAlgorithm")).V().Match<object>(__.As("a").Out("knows").As("b"), __.As("a").Out("created").As("c"))}}, 
                {"g_withStrategiesXMatchAlgorithmStrategyXmatchAlgorithm_GreedyMatchAlgorithmXX_V_matchXa_knows_b__a_created_cX", new List<Func<GraphTraversalSource, IDictionary<string, object>, ITraversal>> {(g,p) =>g.WithStrategies(new MatchAlgorithmStrategy(matchAlgorithm: "org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep$GreedyMatchAlgorithm")).V().Match<object>(__.As("a").Out("knows").As("b"), __.As("a").Out("created").As("c"))}}, 
                {"g_withoutStrategiesXMatchAlgorithmStrategyX_V_matchXa_knows_b__a_created_cX", new List<Func<GraphTraversalSource, IDictionary<string, object>, ITraversal>> {(g,p) =>g.WithoutStrategies(typeof(MatchAlgorithmStrategy)).V().Match<object>(__.As("a").Out("knows").As("b"), __.As("a").Out("created").As("c"))}}, 
@@ -239,6 +239,7 @@ public abstract class Client {
         options.getLanguage().ifPresent(lang -> request.addLanguage(lang));
         options.getMaterializeProperties().ifPresent(mp -> request.addMaterializeProperties(mp));
         options.getBulkResults().ifPresent(bulked -> request.addBulkResults(Boolean.parseBoolean(bulked)));
+        options.getRequestClass().ifPresent(request::addRequestClass);
 
         return submitAsync(request.create());
     }
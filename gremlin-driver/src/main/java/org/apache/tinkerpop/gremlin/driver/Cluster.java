@@ -190,6 +190,7 @@ public final class Cluster {
                 .idleConnectionTimeoutMillis(settings.connectionPool.idleConnectionTimeout)
                 .enableUserAgentOnConnect(settings.enableUserAgentOnConnect)
                 .bulkResults(settings.bulkResults)
+                .stringDictionary(settings.stringDictionary)
                 .validationRequest(settings.connectionPool.validationRequest);
 
         if (!settings.auth.type.isEmpty()) {
@@ -481,6 +482,13 @@ public final class Cluster {
         return manager.isBulkResultsEnabled();
     }
 
+    /**
+     * Checks if cluster is configured to ask for dictionary encoded strings in results
+     */
+    public boolean isStringDictionaryEnabled() {
+        return manager.isStringDictionaryEnabled();
+    }
+
     public final static class Builder {
         private static int INTERCEPTOR_NOT_FOUND = -1;
 
@@ -514,6 +522,7 @@ public final class Cluster {
         private long idleConnectionTimeoutMillis = Connection.CONNECTION_IDLE_TIMEOUT_MILLIS;
         private boolean enableUserAgentOnConnect = true;
         private boolean bulkResults = false;
+        private boolean stringDictionary = false;
 
         private Builder() {
             addInterceptor(SERIALIZER_INTERCEPTOR_NAME,
@@ -898,6 +907,17 @@ public final class Cluster {
             return this;
         }
 
+        /**
+         * Configures whether cluster will ask the server to encode the strings of GraphBinary responses with a
+         * dictionary that is kept across the chunks of a response, which shrinks results that repeat the same labels
+         * and property keys for many elements.
+         * @param stringDictionary true enables the string dictionary.
+         */
+        public Builder stringDictionary(final boolean stringDictionary) {
+            this.stringDictionary = stringDictionary;
+            return this;
+        }
+
         List<InetSocketAddress> getContactPoints() {
             return addresses.stream().map(addy -> new InetSocketAddress(addy, port)).collect(Collectors.toList());
         }
@@ -967,6 +987,7 @@ public final class Cluster {
         private final String path;
         private final boolean enableUserAgentOnConnect;
         private final boolean bulkResults;
+        private final boolean stringDictionary;
 
         private final AtomicReference<CompletableFuture<Void>> closeFuture = new AtomicReference<>();
 
@@ -980,6 +1001,7 @@ public final class Cluster {
             this.interceptors = builder.interceptors;
             this.enableUserAgentOnConnect = builder.enableUserAgentOnConnect;
             this.bulkResults = builder.bulkResults;
+            this.stringDictionary = builder.stringDictionary;
 
             connectionPoolSettings = new Settings.ConnectionPoolSettings();
             connectionPoolSettings.maxSize = builder.maxConnectionPoolSize;
@@ -1150,5 +1172,12 @@ public final class Cluster {
         public boolean isBulkResultsEnabled() {
             return bulkResults;
         }
+
+        /**
+         * Checks if cluster is configured to ask for dictionary encoded strings in results
+         */
+        public boolean isStringDictionaryEnabled() {
+            return stringDictionary;
+        }
     }
 }
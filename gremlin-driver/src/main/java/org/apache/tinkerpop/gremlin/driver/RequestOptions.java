@@ -33,6 +33,7 @@ import static org.apache.tinkerpop.gremlin.util.Tokens.ARGS_EVAL_TIMEOUT;
 import static org.apache.tinkerpop.gremlin.util.Tokens.ARGS_G;
 import static org.apache.tinkerpop.gremlin.util.Tokens.ARGS_LANGUAGE;
 import static org.apache.tinkerpop.gremlin.util.Tokens.ARGS_MATERIALIZE_PROPERTIES;
+import static org.apache.tinkerpop.gremlin.util.Tokens.REQUEST_CLASS;
 
 /**
  * Options that can be supplied on a per request basis.
@@ -50,6 +51,7 @@ public final class RequestOptions {
     private final String language;
     private final String materializeProperties;
     private final String bulkResults;
+    private final String requestClass;
 
     private RequestOptions(final Builder builder) {
         this.graphOrTraversalSource = builder.graphOrTraversalSource;
@@ -59,6 +61,7 @@ public final class RequestOptions {
         this.language = builder.language;
         this.materializeProperties = builder.materializeProperties;
         this.bulkResults = builder.bulkResults;
+        this.requestClass = builder.requestClass;
     }
 
     public Optional<String> getG() {
@@ -85,6 +88,8 @@ public final class RequestOptions {
 
     public Optional<String> getBulkResults() { return Optional.ofNullable(bulkResults); }
 
+    public Optional<String> getRequestClass() { return Optional.ofNullable(requestClass); }
+
     public static Builder build() {
         return new Builder();
     }
@@ -105,6 +110,8 @@ public final class RequestOptions {
                 builder.language((String) options.get(ARGS_LANGUAGE));
             if (options.containsKey(BULK_RESULTS))
                 builder.bulkResults((boolean) options.get(BULK_RESULTS));
+            if (options.containsKey(REQUEST_CLASS))
+                builder.requestClass((String) options.get(REQUEST_CLASS));
         }
         // request the server to bulk results by default when using DRC through request options
         if (builder.bulkResults == null)
@@ -125,6 +132,7 @@ public final class RequestOptions {
         private String materializeProperties = null;
         private String language = null;
         private String bulkResults = null;
+        private String requestClass = null;
 
         /**
          * The aliases to set on the request.
@@ -196,6 +204,15 @@ public final class RequestOptions {
             return this;
         }
 
+        /**
+         * Sets the name of the class of request that the server should schedule the request with when it has
+         * request classes configured.
+         */
+        public Builder requestClass(final String requestClass) {
+            this.requestClass = requestClass;
+            return this;
+        }
+
         public RequestOptions create() {
             return new RequestOptions(this);
         }
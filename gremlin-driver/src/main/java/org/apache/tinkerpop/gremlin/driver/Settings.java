@@ -95,6 +95,11 @@ public final class Settings {
      */
     public boolean bulkResults = false;
 
+    /**
+     * Toggles if strings in results from server are encoded with a dictionary. Default is false.
+     */
+    public boolean stringDictionary = false;
+
     /**
      * Read configuration from a file into a new {@link Settings} object.
      *
@@ -135,6 +140,9 @@ public final class Settings {
         if (conf.containsKey("bulkResults"))
             settings.bulkResults = conf.getBoolean("bulkResults");
 
+        if (conf.containsKey("stringDictionary"))
+            settings.stringDictionary = conf.getBoolean("stringDictionary");
+
         if (conf.containsKey("hosts"))
             settings.hosts = conf.getList("hosts").stream().map(Object::toString).collect(Collectors.toList());
 
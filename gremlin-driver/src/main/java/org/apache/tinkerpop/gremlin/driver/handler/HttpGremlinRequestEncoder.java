@@ -57,16 +57,19 @@ public final class HttpGremlinRequestEncoder extends MessageToMessageEncoder<Req
     private final MessageSerializer<?> serializer;
     private final boolean userAgentEnabled;
     private final boolean bulkResults;
+    private final boolean stringDictionary;
     private final List<Pair<String, ? extends RequestInterceptor>> interceptors;
     private final URI uri;
 
     public HttpGremlinRequestEncoder(final MessageSerializer<?> serializer,
                                      final List<Pair<String, ? extends RequestInterceptor>> interceptors,
-                                     final boolean userAgentEnabled, boolean bulkResults, final URI uri) {
+                                     final boolean userAgentEnabled, boolean bulkResults,
+                                     final boolean stringDictionary, final URI uri) {
         this.serializer = serializer;
         this.interceptors = interceptors;
         this.userAgentEnabled = userAgentEnabled;
         this.bulkResults = bulkResults;
+        this.stringDictionary = stringDictionary;
         this.uri = uri;
     }
 
@@ -91,6 +94,9 @@ public final class HttpGremlinRequestEncoder extends MessageToMessageEncoder<Req
             if (bulkResults) {
                 headersMap.put(Tokens.BULK_RESULTS, "true");
             }
+            if (stringDictionary) {
+                headersMap.put(Tokens.STRING_DICTIONARY, "true");
+            }
             HttpRequest gremlinRequest = new HttpRequest(headersMap, requestMessage, uri);
 
             for (final Pair<String, ? extends RequestInterceptor> interceptor : interceptors) {
@@ -32,8 +32,10 @@ import io.netty.util.Attribute;
 import io.netty.util.AttributeKey;
 import io.netty.util.AttributeMap;
 import io.netty.util.CharsetUtil;
+import org.apache.tinkerpop.gremlin.structure.io.binary.GraphBinaryWriter;
 import org.apache.tinkerpop.gremlin.util.MessageSerializer;
 import org.apache.tinkerpop.gremlin.util.message.ResponseMessage;
+import org.apache.tinkerpop.gremlin.util.ser.GraphBinaryMessageSerializerV4;
 import org.apache.tinkerpop.gremlin.util.ser.SerTokens;
 import org.apache.tinkerpop.gremlin.util.ser.SerializationException;
 import org.apache.tinkerpop.shaded.jackson.databind.JsonNode;
@@ -50,6 +52,7 @@ public class HttpGremlinResponseStreamDecoder extends MessageToMessageDecoder<De
     private static final AttributeKey<HttpResponseStatus> RESPONSE_STATUS = AttributeKey.valueOf("responseStatus");
     private static final AttributeKey<String> RESPONSE_ENCODING = AttributeKey.valueOf("responseSerializer");
     private static final AttributeKey<Long> BYTES_READ = AttributeKey.valueOf("bytesRead");
+    private static final AttributeKey<MessageSerializer<?>> RESPONSE_SERIALIZER = AttributeKey.valueOf("responseStreamSerializer");
 
     private final MessageSerializer<?> serializer;
     private final long maxResponseContentLength;
@@ -66,6 +69,7 @@ public class HttpGremlinResponseStreamDecoder extends MessageToMessageDecoder<De
         final Attribute<Boolean> isBulked = ((AttributeMap) ctx).attr(IS_BULKED);
         final Attribute<HttpResponseStatus> responseStatus = ((AttributeMap) ctx).attr(RESPONSE_STATUS);
         final Attribute<String> responseEncoding = ((AttributeMap) ctx).attr(RESPONSE_ENCODING);
+        final Attribute<MessageSerializer<?>> responseSerializer = ((AttributeMap) ctx).attr(RESPONSE_SERIALIZER);
 
         if (msg instanceof HttpResponse) {
             ctx.channel().attr(BYTES_READ).set(0L);
@@ -75,6 +79,7 @@ public class HttpGremlinResponseStreamDecoder extends MessageToMessageDecoder<De
             responseEncoding.set(resp.headers().get(HttpHeaderNames.CONTENT_TYPE));
 
             isFirstChunk.set(true);
+            responseSerializer.set(serializer);
         }
 
         if (msg instanceof HttpContent) {
@@ -96,7 +101,13 @@ public class HttpGremlinResponseStreamDecoder extends MessageToMessageDecoder<De
 
                     out.add(response);
                 } else {
-                    final ResponseMessage chunk = serializer.readChunk(content, isFirstChunk.get());
+                    // a dictionary encoded GraphBinary response refers back to strings of earlier chunks, so it is
+                    // read with a serializer of its own
+                    if (isFirstChunk.get() && serializer instanceof GraphBinaryMessageSerializerV4
+                            && usesStringDictionary(content))
+                        responseSerializer.set(((GraphBinaryMessageSerializerV4) serializer).withStringDictionary());
+
+                    final ResponseMessage chunk = responseSerializer.get().readChunk(content, isFirstChunk.get());
                     if (isFirstChunk.get()){
                         isBulked.set(chunk.getResult().isBulked());
                     }
@@ -116,4 +127,12 @@ public class HttpGremlinResponseStreamDecoder extends MessageToMessageDecoder<De
     private static boolean isError(final HttpResponseStatus status) {
         return status != HttpResponseStatus.OK;
     }
+
+    /**
+     * Determines if the flags that follow the version byte of a GraphBinary response mark it as dictionary encoded.
+     */
+    private static boolean usesStringDictionary(final ByteBuf content) {
+        return content.readableBytes() > 1 &&
+                (content.getByte(content.readerIndex() + 1) & GraphBinaryWriter.STRING_DICTIONARY_BYTE) != 0;
+    }
 }
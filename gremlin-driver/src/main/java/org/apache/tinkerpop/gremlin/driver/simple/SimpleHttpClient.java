@@ -112,7 +112,7 @@ public class SimpleHttpClient extends AbstractClient {
                                             Collections.singletonList(
                                                     Pair.of("serializer", new PayloadSerializingInterceptor(
                                                             new GraphBinaryMessageSerializerV4()))),
-                                            false, false, uri),
+                                            false, false, false, uri),
                                     callbackResponseHandler);
                         }
                     });
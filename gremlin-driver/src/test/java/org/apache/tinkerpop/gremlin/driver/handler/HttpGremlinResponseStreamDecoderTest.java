@@ -23,17 +23,22 @@ import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.TooLongFrameException;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.codec.http.HttpVersion;
+import java.util.Arrays;
 import java.util.Collections;
 
 import io.netty.util.AttributeKey;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.tinkerpop.gremlin.util.message.ResponseMessage;
+import org.apache.tinkerpop.gremlin.util.ser.GraphBinaryMessageSerializerV4;
 import org.apache.tinkerpop.gremlin.util.ser.SerializationException;
 import org.apache.tinkerpop.gremlin.util.ser.Serializers;
 import org.junit.Test;
@@ -116,6 +121,23 @@ public class HttpGremlinResponseStreamDecoderTest {
         assertFalse(bulked4);
     }
 
+    @Test
+    public void shouldReadStringDictionaryResponseAcrossChunks() throws SerializationException {
+        final GraphBinaryMessageSerializerV4 writer = new GraphBinaryMessageSerializerV4().withStringDictionary();
+        final EmbeddedChannel testChannel = new EmbeddedChannel(
+                new HttpGremlinResponseStreamDecoder(Serializers.GRAPHBINARY_V4.simpleInstance(), 0));
+
+        testChannel.writeInbound(new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK));
+        testChannel.writeInbound(new DefaultHttpContent(writer.writeHeader(
+                ResponseMessage.build().result(Arrays.asList("name", "age")).create(), ByteBufAllocator.DEFAULT)));
+        testChannel.writeInbound(new DefaultLastHttpContent(writer.writeFooter(
+                ResponseMessage.build().code(HttpResponseStatus.OK).result(Arrays.asList("age", "name")).create(),
+                ByteBufAllocator.DEFAULT)));
+
+        assertEquals(Arrays.asList("name", "age"), ((ResponseMessage) testChannel.readInbound()).getResult().getData());
+        assertEquals(Arrays.asList("age", "name"), ((ResponseMessage) testChannel.readInbound()).getResult().getData());
+    }
+
     private FullHttpResponse createResponse(String content) throws SerializationException {
         final ResponseMessage response = ResponseMessage.build().code(HttpResponseStatus.OK).result(Collections.singletonList(content)).create();
         final ByteBuf buffer = Serializers.GRAPHBINARY_V4.simpleInstance().serializeResponseAsBinary(response, ByteBufAllocator.DEFAULT);
@@ -520,6 +520,13 @@ const gremlins = {
     g_withoutStrategiesXLambdaRestrictionStrategyX_V: [function({g}) { return g.withoutStrategies(LambdaRestrictionStrategy).V() }], 
     g_withStrategiesXLazyBarrierStrategyX_V_out_bothE_count: [function({g}) { return g.withStrategies(new LazyBarrierStrategy()).V().out().bothE().count() }], 
     g_withoutStrategiesXLazyBarrierStrategyX_V_out_bothE_count: [function({g}) { return g.withoutStrategies(LazyBarrierStrategy).V().out().bothE().count() }], 
+    g_withStrategiesXLazyBarrierStrategyX_V_out_out_limitX1X_count: [function({g}) { return g.withStrategies(new LazyBarrierStrategy()).V().out().out().limit(1).count() }], 
+    g_withStrategiesXLazyBarrierStrategyX_V_whereXout_outX_name: [function({g}) { return g.withStrategies(new LazyBarrierStrategy()).V().where(__.out().out()).values("name") }], 
+    g_withStrategiesXLazyBarrierStrategyX_V_whereXout_count_isXgteX2XXX_name: [function({g}) { return g.withStrategies(new LazyBarrierStrategy()).V().where(__.out().count().is(P.gte(2))).values("name") }], 
+    g_withStrategiesXLazyBarrierStrategyX_V_coalesceXoutXcreatedX_valuesXlangX_limitX1X__constantXnoneXX: [function({g}) { return g.withStrategies(new LazyBarrierStrategy()).V().coalesce(__.out("created").values("lang").limit(1), __.constant("none")) }], 
+    g_withStrategiesXLazyBarrierStrategyX_V_chooseXout_count_isXgtX1XX__name__constantXxXX: [function({g}) { return g.withStrategies(new LazyBarrierStrategy()).V().choose(__.out().count().is(P.gt(1)), __.values("name"), __.constant("x")) }], 
+    g_withStrategiesXLazyBarrierStrategyX_V_hasLabelXpersonX_localXboth_limitX1XX_count: [function({g}) { return g.withStrategies(new LazyBarrierStrategy()).V().hasLabel("person").local(__.both().limit(1)).count() }], 
+    g_withStrategiesXLazyBarrierStrategyX_V_hasLabelXpersonX_order_byXoutE_count_descX_limitX1X_name: [function({g}) { return g.withStrategies(new LazyBarrierStrategy()).V().hasLabel("person").order().by(__.outE().count(), Order.desc).limit(1).values("name") }], 
     g_withStrategiesXMatchAlgorithmStrategyXmatchAlgorithm_CountMatchAlgorithmXX_V_matchXa_knows_b__a_created_cX: [function({g}) { return g.withStrategies(new MatchAlgorithmStrategy({matchAlgorithm: "org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep$CountMatchAlgorithm"})).V().match(__.as("a").out("knows").as("b"), __.as("a").out("created").as("c")) }], 
     g_withStrategiesXMatchAlgorithmStrategyXmatchAlgorithm_GreedyMatchAlgorithmXX_V_matchXa_knows_b__a_created_cX: [function({g}) { return g.withStrategies(new MatchAlgorithmStrategy({matchAlgorithm: "org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep$GreedyMatchAlgorithm"})).V().match(__.as("a").out("knows").as("b"), __.as("a").out("created").as("c")) }], 
     g_withoutStrategiesXMatchAlgorithmStrategyX_V_matchXa_knows_b__a_created_cX: [function({g}) { return g.withoutStrategies(MatchAlgorithmStrategy).V().match(__.as("a").out("knows").as("b"), __.as("a").out("created").as("c")) }], 
@@ -493,6 +493,13 @@ world.gremlins = {
     'g_withoutStrategiesXLambdaRestrictionStrategyX_V': [(lambda g:g.without_strategies(LambdaRestrictionStrategy).V())], 
     'g_withStrategiesXLazyBarrierStrategyX_V_out_bothE_count': [(lambda g:g.with_strategies(LazyBarrierStrategy()).V().out().both_e().count())], 
     'g_withoutStrategiesXLazyBarrierStrategyX_V_out_bothE_count': [(lambda g:g.without_strategies(LazyBarrierStrategy).V().out().both_e().count())], 
+    'g_withStrategiesXLazyBarrierStrategyX_V_out_out_limitX1X_count': [(lambda g:g.with_strategies(LazyBarrierStrategy()).V().out().out().limit(1).count())], 
+    'g_withStrategiesXLazyBarrierStrategyX_V_whereXout_outX_name': [(lambda g:g.with_strategies(LazyBarrierStrategy()).V().where(__.out().out()).values('name'))], 
+    'g_withStrategiesXLazyBarrierStrategyX_V_whereXout_count_isXgteX2XXX_name': [(lambda g:g.with_strategies(LazyBarrierStrategy()).V().where(__.out().count().is_(P.gte(2))).values('name'))], 
+    'g_withStrategiesXLazyBarrierStrategyX_V_coalesceXoutXcreatedX_valuesXlangX_limitX1X__constantXnoneXX': [(lambda g:g.with_strategies(LazyBarrierStrategy()).V().coalesce(__.out('created').values('lang').limit(1), __.constant('none')))], 
+    'g_withStrategiesXLazyBarrierStrategyX_V_chooseXout_count_isXgtX1XX__name__constantXxXX': [(lambda g:g.with_strategies(LazyBarrierStrategy()).V().choose(__.out().count().is_(P.gt(1)), __.values('name'), __.constant('x')))], 
+    'g_withStrategiesXLazyBarrierStrategyX_V_hasLabelXpersonX_localXboth_limitX1XX_count': [(lambda g:g.with_strategies(LazyBarrierStrategy()).V().has_label('person').local(__.both().limit(1)).count())], 
+    'g_withStrategiesXLazyBarrierStrategyX_V_hasLabelXpersonX_order_byXoutE_count_descX_limitX1X_name': [(lambda g:g.with_strategies(LazyBarrierStrategy()).V().has_label('person').order().by(__.out_e().count(), Order.desc).limit(1).values('name'))], 
     'g_withStrategiesXMatchAlgorithmStrategyXmatchAlgorithm_CountMatchAlgorithmXX_V_matchXa_knows_b__a_created_cX': [(lambda g:g.with_strategies(MatchAlgorithmStrategy(match_algorithm='org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep$CountMatchAlgorithm')).V().match(__.as_('a').out('knows').as_('b'), __.as_('a').out('created').as_('c')))], 
     'g_withStrategiesXMatchAlgorithmStrategyXmatchAlgorithm_GreedyMatchAlgorithmXX_V_matchXa_knows_b__a_created_cX': [(lambda g:g.with_strategies(MatchAlgorithmStrategy(match_algorithm='org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep$GreedyMatchAlgorithm')).V().match(__.as_('a').out('knows').as_('b'), __.as_('a').out('created').as_('c')))], 
     'g_withoutStrategiesXMatchAlgorithmStrategyX_V_matchXa_knows_b__a_created_cX': [(lambda g:g.without_strategies(MatchAlgorithmStrategy).V().match(__.as_('a').out('knows').as_('b'), __.as_('a').out('created').as_('c')))], 
@@ -65,6 +65,7 @@ public class GremlinServer {
 
     private static final String SERVER_THREAD_PREFIX = "gremlin-server-";
     public static final String AUDIT_LOGGER_NAME = "audit.org.apache.tinkerpop.gremlin.server";
+    public static final String SLOW_QUERY_LOGGER_NAME = "slowquery.org.apache.tinkerpop.gremlin.server";
 
     private static final Logger logger = LoggerFactory.getLogger(GremlinServer.class);
     private final Settings settings;
@@ -24,6 +24,7 @@ import org.apache.tinkerpop.gremlin.jsr223.GremlinPlugin;
 import org.apache.tinkerpop.gremlin.jsr223.GremlinScriptEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.StepMetricsStrategy;
 import org.apache.tinkerpop.gremlin.server.auth.AllowAllAuthenticator;
 import org.apache.tinkerpop.gremlin.server.auth.Authenticator;
 import org.apache.tinkerpop.gremlin.server.authz.Authorizer;
@@ -31,7 +32,9 @@ import org.apache.tinkerpop.gremlin.server.channel.HttpChannelizer;
 import org.apache.tinkerpop.gremlin.server.handler.AbstractAuthenticationHandler;
 import org.apache.tinkerpop.gremlin.server.util.DefaultGraphManager;
 import org.apache.tinkerpop.gremlin.server.util.LifeCycleHook;
+import org.apache.tinkerpop.gremlin.server.util.MetricManager;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.MutationTracking;
 import org.apache.tinkerpop.gremlin.util.MessageSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -210,6 +213,15 @@ public class Settings {
      */
     public int maxParameters = 16;
 
+    /**
+     * The approximate number of bytes that a single request may hold in barrier state, such as the results of
+     * {@code fold()} or {@code group()}, and in results waiting to be written to the client. A request that exceeds
+     * this budget is aborted with an error. Sizes are estimated from samples of the data so the budget should be
+     * treated as a safeguard rather than a precise limit. Set to zero (the default) to disable the limit, though memory
+     * is still tracked for metrics when {@link TraversalMetricsSettings#enabled} is {@code true}.
+     */
+    public long maxRequestMemory = 0;
+
     /**
      * Configured metrics for Gremlin Server.
      */
@@ -246,6 +258,21 @@ public class Settings {
      */
     public Boolean enableAuditLog = false;
 
+    /**
+     * Configures sampled per-step metrics for traversals and the slow query log.
+     */
+    public TraversalMetricsSettings traversalMetrics = new TraversalMetricsSettings();
+
+    /**
+     * Configures the classes of requests that share the {@link #gremlinPool}.
+     */
+    public SchedulerSettings scheduler = new SchedulerSettings();
+
+    /**
+     * Configures the cache of serialized responses to read-only traversals.
+     */
+    public ResultCacheSettings resultCache = new ResultCacheSettings();
+
     public Optional<ServerMetrics> optionalMetrics() {
         return Optional.ofNullable(metrics);
     }
@@ -302,6 +329,21 @@ public class Settings {
         final TypeDescription authenticationSettings = new TypeDescription(AuthenticationSettings.class);
         constructor.addTypeDescription(authenticationSettings);
 
+        final TypeDescription traversalMetricsSettings = new TypeDescription(TraversalMetricsSettings.class);
+        constructor.addTypeDescription(traversalMetricsSettings);
+
+        final TypeDescription schedulerSettings = new TypeDescription(SchedulerSettings.class);
+        schedulerSettings.addPropertyParameters("requestClasses", RequestClassSettings.class);
+        constructor.addTypeDescription(schedulerSettings);
+
+        final TypeDescription resultCacheSettings = new TypeDescription(ResultCacheSettings.class);
+        constructor.addTypeDescription(resultCacheSettings);
+
+        final TypeDescription requestClassSettings = new TypeDescription(RequestClassSettings.class);
+        requestClassSettings.addPropertyParameters("users", String.class);
+        requestClassSettings.addPropertyParameters("aliases", String.class);
+        constructor.addTypeDescription(requestClassSettings);
+
         final TypeDescription serverMetricsDescription = new TypeDescription(ServerMetrics.class);
         constructor.addTypeDescription(serverMetricsDescription);
 
@@ -423,6 +465,19 @@ public class Settings {
          * {@link Authenticator} implementation for specifics on what configurations are expected.
          */
         public Map<String, Object> config = null;
+
+        /**
+         * The number of verified credentials that the HTTP basic authentication handler holds so that requests
+         * repeating them are not passed to the {@link Authenticator} again. Set to zero, the default, to
+         * authenticate every request. Authenticators that make use of the client address should not be cached.
+         */
+        public int credentialCacheSize = 0;
+
+        /**
+         * The number of milliseconds that verified credentials are held when {@link #credentialCacheSize} is set,
+         * which is also how long a changed or removed password may continue to be accepted.
+         */
+        public long credentialCacheTtl = 60000;
     }
 
     /**
@@ -442,6 +497,119 @@ public class Settings {
         public Map<String, Object> config = null;
     }
 
+    /**
+     * Settings for the sampled per-step traversal metrics and the slow query log.
+     */
+    public static class TraversalMetricsSettings {
+        /**
+         * Adds the {@link StepMetricsStrategy} to each traversal request so that per-step traverser counts and
+         * sampled timings are published to the {@link MetricManager} and included in the slow query log.
+         */
+        public boolean enabled = false;
+
+        /**
+         * Times one in every {@code sampleRate} calls to the traversal. Traverser counts are always complete.
+         */
+        public int sampleRate = 100;
+
+        /**
+         * Requests taking longer than this number of milliseconds are written to the slow query log along with the
+         * step breakdown when {@link #enabled}. Set to zero to disable the slow query log.
+         */
+        public long slowQueryThreshold = 0;
+    }
+
+    /**
+     * Settings for the scheduling of requests on the {@link Settings#gremlinPool}. When enabled, requests are assigned to one
+     * of the {@link #requestClasses} and the pool is shared between the classes by weighted fair queuing rather than
+     * in arrival order.
+     */
+    public static class SchedulerSettings {
+        /**
+         * Schedules requests by class. When {@code false} requests are executed in the order they arrive.
+         */
+        public boolean enabled = false;
+
+        /**
+         * The name of the class for requests that are not otherwise assigned to one. If no class has this name, the
+         * first of the {@link #requestClasses} is used.
+         */
+        public String defaultRequestClass = "default";
+
+        /**
+         * The classes of requests. A request is assigned to the class named by its {@code requestClass} field, then to
+         * the first class that lists its authenticated user and then to the first class that lists the alias of its
+         * traversal source.
+         */
+        public List<RequestClassSettings> requestClasses = new ArrayList<>();
+    }
+
+    /**
+     * Settings for a class of requests scheduled by the {@link SchedulerSettings}.
+     */
+    public static class RequestClassSettings {
+        /**
+         * The name of the class, which is also used in its metrics.
+         */
+        public String name;
+
+        /**
+         * The share of the {@link Settings#gremlinPool} that the class receives relative to other classes with requests
+         * waiting.
+         */
+        public int weight = 1;
+
+        /**
+         * The maximum number of requests of the class that may execute at once. Set to zero to allow the class to use
+         * the whole {@link Settings#gremlinPool}.
+         */
+        public int maxConcurrency = 0;
+
+        /**
+         * The number of milliseconds a request of the class may wait for a thread before it is rejected with a
+         * retryable error. Set to zero to wait for as long as the evaluation timeout allows.
+         */
+        public long maxQueueTime = 0;
+
+        /**
+         * Authenticated users whose requests are assigned to this class.
+         */
+        public List<String> users = new ArrayList<>();
+
+        /**
+         * Aliases of traversal sources, such as "g", whose requests are assigned to this class.
+         */
+        public List<String> aliases = new ArrayList<>();
+    }
+
+    /**
+     * Settings for the cache of responses to read-only traversals. A cached response is written again, as the same
+     * serialized chunks, to requests with the same gremlin, bindings, traversal source, serializer and response options
+     * until it expires or, for graphs that implement {@link MutationTracking}, the graph changes.
+     */
+    public static class ResultCacheSettings {
+        /**
+         * Caches the responses of traversals that have no mutating, lambda, I/O, service call or random sampling steps.
+         */
+        public boolean enabled = false;
+
+        /**
+         * The maximum number of bytes of serialized responses held by the cache.
+         */
+        public long maxSize = 64 * 1024 * 1024;
+
+        /**
+         * Responses that serialize to more than this number of bytes are not cached.
+         */
+        public int maxEntrySize = 1024 * 1024;
+
+        /**
+         * The number of milliseconds a response is held. This is the only bound on how stale a cached response can
+         * be for graphs that do not implement {@link MutationTracking}.
+         */
+        public long ttl = 60000;
+    }
+
     /**
      * Settings to configure SSL support.
      */
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the {@link AuthenticatedUser} for credentials that an {@link Authenticator} has already verified, so that
+ * requests presenting the same credentials again do not pay for another check, which for the
+ * {@link SimpleAuthenticator} means a credentials graph lookup and a BCrypt hash. Credentials are keyed by a SHA-256
+ * digest salted with random bytes chosen when the cache is created, so the cache never holds them in plain text.
+ * Entries expire a fixed time after they are verified, which bounds how long a changed or removed password keeps
+ * being accepted, and the least recently used entries are evicted once the cache is full.
+ */
+public final class CredentialCache {
+
+    private final byte[] salt = new byte[16];
+    private final Cache<String, AuthenticatedUser> users;
+
+    /**
+     * @param maxSize the number of verified credentials to hold
+     * @param ttl the number of milliseconds that verified credentials are held for
+     */
+    public CredentialCache(final int maxSize, final long ttl) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("The maxSize must be greater than zero: " + maxSize);
+        if (ttl < 1)
+            throw new IllegalArgumentException("The ttl must be greater than zero: " + ttl);
+        new SecureRandom().nextBytes(this.salt);
+        this.users = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl, TimeUnit.MILLISECONDS).build();
+    }
+
+    /**
+     * Gets the user previously verified for the credentials or {@code null} if they have to be authenticated.
+     */
+    public AuthenticatedUser get(final String credentials) {
+        return this.users.getIfPresent(digest(credentials));
+    }
+
+    public void put(final String credentials, final AuthenticatedUser user) {
+        this.users.put(digest(credentials), user);
+    }
+
+    public long size() {
+        return this.users.estimatedSize();
+    }
+
+    private String digest(final String credentials) {
+        try {
+            final MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            sha.update(this.salt);
+            return Base64.getEncoder().encodeToString(sha.digest(credentials.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException nsae) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(nsae);
+        }
+    }
+}
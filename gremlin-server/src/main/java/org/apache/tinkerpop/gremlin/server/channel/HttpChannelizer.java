@@ -26,6 +26,7 @@ import org.apache.tinkerpop.gremlin.server.AbstractChannelizer;
 import org.apache.tinkerpop.gremlin.server.Channelizer;
 import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.auth.AllowAllAuthenticator;
+import org.apache.tinkerpop.gremlin.server.auth.CredentialCache;
 import org.apache.tinkerpop.gremlin.server.handler.AbstractAuthenticationHandler;
 import org.apache.tinkerpop.gremlin.server.handler.HttpBasicAuthenticationHandler;
 import org.apache.tinkerpop.gremlin.server.handler.HttpBasicAuthorizationHandler;
@@ -53,6 +54,7 @@ public class HttpChannelizer extends AbstractChannelizer {
     private static final Logger logger = LoggerFactory.getLogger(HttpChannelizer.class);
 
     private HttpGremlinEndpointHandler httpGremlinEndpointHandler;
+    private CredentialCache credentialCache;
     private HttpRequestCheckingHandler httpRequestCheckingHandler = new HttpRequestCheckingHandler();
     private HttpRequestMessageDecoder httpRequestMessageDecoder = new HttpRequestMessageDecoder(serializers);
     private HttpRequestIdHandler httpRequestIdHandler = new HttpRequestIdHandler();
@@ -61,7 +63,12 @@ public class HttpChannelizer extends AbstractChannelizer {
     @Override
     public void init(final ServerGremlinExecutor serverGremlinExecutor) {
         super.init(serverGremlinExecutor);
-        httpGremlinEndpointHandler = new HttpGremlinEndpointHandler(gremlinExecutor, graphManager, settings);
+        httpGremlinEndpointHandler = new HttpGremlinEndpointHandler(gremlinExecutor, graphManager, settings,
+                serverGremlinExecutor.getRequestScheduler());
+
+        // the cache is shared by the authentication handlers of all channels
+        if (settings.authentication.credentialCacheSize > 0)
+            credentialCache = new CredentialCache(settings.authentication.credentialCacheSize, settings.authentication.credentialCacheTtl);
     }
 
     @Override
@@ -110,9 +117,9 @@ public class HttpChannelizer extends AbstractChannelizer {
 
     private AbstractAuthenticationHandler instantiateAuthenticationHandler(final Settings settings) {
         final String authHandlerClass = settings.authentication.authenticationHandler;
-        if (authHandlerClass == null) {
+        if (authHandlerClass == null || authHandlerClass.equals(HttpBasicAuthenticationHandler.class.getName())) {
             //Keep things backwards compatible
-            return new HttpBasicAuthenticationHandler(authenticator, authorizer, settings);
+            return new HttpBasicAuthenticationHandler(authenticator, authorizer, settings, credentialCache);
         } else {
             return createAuthenticationHandler(settings);
         }
@@ -18,6 +18,8 @@
  */
 package org.apache.tinkerpop.gremlin.server.handler;
 
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.FullHttpMessage;
 import io.netty.util.ReferenceCountUtil;
@@ -25,8 +27,10 @@ import org.apache.tinkerpop.gremlin.server.GremlinServer;
 import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.auth.AuthenticatedUser;
 import org.apache.tinkerpop.gremlin.server.auth.AuthenticationException;
+import org.apache.tinkerpop.gremlin.server.auth.CredentialCache;
 import org.apache.tinkerpop.gremlin.server.auth.Authenticator;
 import org.apache.tinkerpop.gremlin.server.authz.Authorizer;
+import org.apache.tinkerpop.gremlin.server.util.MetricManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +39,7 @@ import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 
+import static com.codahale.metrics.MetricRegistry.name;
 import static io.netty.handler.codec.http.HttpResponseStatus.UNAUTHORIZED;
 import static org.apache.tinkerpop.gremlin.groovy.jsr223.dsl.credential.CredentialGraphTokens.PROPERTY_ADDRESS;
 import static org.apache.tinkerpop.gremlin.groovy.jsr223.dsl.credential.CredentialGraphTokens.PROPERTY_PASSWORD;
@@ -49,13 +54,28 @@ import static org.apache.tinkerpop.gremlin.server.handler.HttpHandlerUtil.sendEr
 public class HttpBasicAuthenticationHandler extends AbstractAuthenticationHandler {
     private static final String INCORRECT_CREDENTIALS_MESSAGE = "Missing or incorrect credentials";
     private static final Logger auditLogger = LoggerFactory.getLogger(GremlinServer.AUDIT_LOGGER_NAME);
+    private static final Timer authenticationTimer = MetricManager.INSTANCE.getTimer(name(GremlinServer.class, "auth", "authenticate"));
+    private static final Meter credentialCacheHitMeter = MetricManager.INSTANCE.getMeter(name(GremlinServer.class, "auth", "cache", "hits"));
+    private static final Meter credentialCacheMissMeter = MetricManager.INSTANCE.getMeter(name(GremlinServer.class, "auth", "cache", "misses"));
     private final Settings settings;
+    private final CredentialCache credentialCache;
 
     private final Base64.Decoder decoder = Base64.getUrlDecoder();
 
     public HttpBasicAuthenticationHandler(final Authenticator authenticator, final Authorizer authorizer, final Settings settings) {
+        this(authenticator, authorizer, settings, null);
+    }
+
+    /**
+     * Creates a handler that only passes credentials to the {@link Authenticator} if they are not in the
+     * {@link CredentialCache}, which is shared by the handlers of all channels. The cache may be {@code null} to
+     * authenticate every request.
+     */
+    public HttpBasicAuthenticationHandler(final Authenticator authenticator, final Authorizer authorizer,
+                                          final Settings settings, final CredentialCache credentialCache) {
         super(authenticator, authorizer);
         this.settings = settings;
+        this.credentialCache = credentialCache;
     }
 
     @Override
@@ -76,45 +96,73 @@ public class HttpBasicAuthenticationHandler extends AbstractAuthenticationHandle
                 ReferenceCountUtil.release(msg);
                 return;
             }
-            byte[] decodedUserPass;
-            try {
-                final String encodedUserPass = authorizationHeader.substring(basic.length());
-                decodedUserPass = decoder.decode(encodedUserPass);
-            } catch (IndexOutOfBoundsException | IllegalArgumentException ex) {
-                sendError(ctx, UNAUTHORIZED, ex.getMessage());
-                ReferenceCountUtil.release(msg);
-                return;
-            }
-            final String authorization = new String(decodedUserPass, StandardCharsets.UTF_8);
-            final String[] split = authorization.split(":");
-            if (split.length != 2) {
-                sendError(ctx, UNAUTHORIZED, INCORRECT_CREDENTIALS_MESSAGE);
-                ReferenceCountUtil.release(msg);
-                return;
-            }
-
-            final Map<String,String> credentials = new HashMap<>();
-            credentials.put(PROPERTY_USERNAME, split[0]);
-            credentials.put(PROPERTY_PASSWORD, split[1]);
 
             String address = ctx.channel().remoteAddress().toString();
             if (address.startsWith("/") && address.length() > 1) address = address.substring(1);
-            credentials.put(PROPERTY_ADDRESS, address);
 
+            final String encodedUserPass = authorizationHeader.substring(basic.length());
+            final AuthenticatedUser user;
+            final String username;
+            final Timer.Context timer = authenticationTimer.time();
             try {
-                final AuthenticatedUser user = authenticator.authenticate(credentials);
-                ctx.channel().attr(StateKey.AUTHENTICATED_USER).set(user);
-                ctx.fireChannelRead(request);
-                // User name logged with the remote socket address and authenticator classname for audit logging
-                if (settings.enableAuditLog) {
-                    final String[] authClassParts = authenticator.getClass().toString().split("[.]");
-                    auditLogger.info("User {} with address {} authenticated by {}",
-                            credentials.get(PROPERTY_USERNAME), address, authClassParts[authClassParts.length - 1]);
-                }
+                user = authenticate(encodedUserPass, address);
+                // the audit log records the username that was supplied, which a cached user may not carry
+                username = settings.enableAuditLog ? decodeCredentials(encodedUserPass)[0] : null;
             } catch (AuthenticationException ae) {
                 sendError(ctx, UNAUTHORIZED, ae.getMessage());
                 ReferenceCountUtil.release(msg);
+                return;
+            } finally {
+                timer.stop();
             }
+
+            ctx.channel().attr(StateKey.AUTHENTICATED_USER).set(user);
+            ctx.fireChannelRead(request);
+            // User name logged with the remote socket address and authenticator classname for audit logging
+            if (settings.enableAuditLog) {
+                final String[] authClassParts = authenticator.getClass().toString().split("[.]");
+                auditLogger.info("User {} with address {} authenticated by {}",
+                        username, address, authClassParts[authClassParts.length - 1]);
+            }
+        }
+    }
+
+    private AuthenticatedUser authenticate(final String encodedUserPass, final String address) throws AuthenticationException {
+        if (credentialCache != null) {
+            final AuthenticatedUser cached = credentialCache.get(encodedUserPass);
+            if (cached != null) {
+                credentialCacheHitMeter.mark();
+                return cached;
+            }
+            credentialCacheMissMeter.mark();
+        }
+
+        final String[] split = decodeCredentials(encodedUserPass);
+        final Map<String,String> credentials = new HashMap<>();
+        credentials.put(PROPERTY_USERNAME, split[0]);
+        credentials.put(PROPERTY_PASSWORD, split[1]);
+        credentials.put(PROPERTY_ADDRESS, address);
+
+        final AuthenticatedUser user = authenticator.authenticate(credentials);
+        if (credentialCache != null)
+            credentialCache.put(encodedUserPass, user);
+        return user;
+    }
+
+    /**
+     * Decodes the username and password of the basic authorization header.
+     */
+    private String[] decodeCredentials(final String encodedUserPass) throws AuthenticationException {
+        final byte[] decodedUserPass;
+        try {
+            decodedUserPass = decoder.decode(encodedUserPass);
+        } catch (IllegalArgumentException ex) {
+            throw new AuthenticationException(ex.getMessage());
         }
+        final String authorization = new String(decodedUserPass, StandardCharsets.UTF_8);
+        final String[] split = authorization.split(":");
+        if (split.length != 2)
+            throw new AuthenticationException(INCORRECT_CREDENTIALS_MESSAGE);
+        return split;
     }
 }
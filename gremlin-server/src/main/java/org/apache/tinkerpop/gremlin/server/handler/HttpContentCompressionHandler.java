@@ -19,8 +19,6 @@
 package org.apache.tinkerpop.gremlin.server.handler;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufUtil;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
@@ -32,13 +30,15 @@ import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.util.AttributeKey;
 import io.netty.util.ReferenceCountUtil;
 
-import java.util.Arrays;
+import java.nio.ByteBuffer;
 import java.util.zip.Deflater;
 
 /**
  * Handles compression of content when the response contains the "Content-Encoding" header. Currently supports "deflate".
  * This class is specifically meant to work with serialized GraphBinary chunks as they need to be deflated per chunk such
- * that the chunk ends with a compressed Marker.END_OF_STREAM.
+ * that the chunk ends with a compressed Marker.END_OF_STREAM. The chunk is deflated straight from its NIO buffers, which
+ * may be direct or make up a composite buffer, into a buffer taken from the channel allocator so that neither side is
+ * copied through a heap array.
  */
 @ChannelHandler.Sharable
 public class HttpContentCompressionHandler extends ChannelOutboundHandlerAdapter {
@@ -48,8 +48,6 @@ public class HttpContentCompressionHandler extends ChannelOutboundHandlerAdapter
     @Override
     public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
         Object out = msg;
-        int writeIdx = 0;
-        int bytesWritten = 0;
 
         if (msg instanceof HttpResponse && (((HttpResponse) msg).headers().contains(HttpHeaderNames.CONTENT_ENCODING))) {
             ctx.attr(DEFLATER).set(new Deflater());
@@ -63,22 +61,26 @@ public class HttpContentCompressionHandler extends ChannelOutboundHandlerAdapter
                 return;
             }
 
-            compressor.setInput(ByteBufUtil.getBytes(chunk)); // need to copy bytes as it may be in a direct buffer.
-            if (msg instanceof LastHttpContent) { compressor.finish(); }
-
             final int compressedSizeEstimate = chunk.readableBytes() / 8;
-            byte[] outBuf = new byte[Math.max(compressedSizeEstimate, MIN_BUFFER_SIZE)];
-            // Need to SYNC_FLUSH to ensure that each chunk's data is completely compressed.
-            bytesWritten = compressor.deflate(outBuf, writeIdx, outBuf.length, Deflater.SYNC_FLUSH);
+            final ByteBuf compressed = ctx.alloc().ioBuffer(Math.max(compressedSizeEstimate, MIN_BUFFER_SIZE));
+            try {
+                final ByteBuffer[] inputs = chunk.nioBuffers();
+                for (int i = 0; i < inputs.length; i++) {
+                    compressor.setInput(inputs[i]);
+
+                    // each input has to be consumed before the next one replaces it
+                    if (i < inputs.length - 1) deflate(compressor, compressed, Deflater.NO_FLUSH);
+                }
+                if (msg instanceof LastHttpContent) { compressor.finish(); }
 
-            while (bytesWritten == (outBuf.length - writeIdx)) {
-                writeIdx += bytesWritten;
-                outBuf = Arrays.copyOf(outBuf, outBuf.length * 2);
-                bytesWritten = compressor.deflate(outBuf, writeIdx, outBuf.length - writeIdx, Deflater.SYNC_FLUSH);
+                // Need to SYNC_FLUSH to ensure that each chunk's data is completely compressed.
+                deflate(compressor, compressed, Deflater.SYNC_FLUSH);
+            } catch (Exception ex) {
+                compressed.release();
+                throw ex;
             }
 
-            writeIdx += bytesWritten;
-            out = ((HttpContent) msg).replace(Unpooled.wrappedBuffer(outBuf).writerIndex(writeIdx));
+            out = ((HttpContent) msg).replace(compressed);
             ReferenceCountUtil.release(msg);
 
             if (out instanceof LastHttpContent) { ctx.attr(DEFLATER).getAndSet(null).end(); }
@@ -86,4 +88,19 @@ public class HttpContentCompressionHandler extends ChannelOutboundHandlerAdapter
 
         super.write(ctx, out, promise);
     }
+
+    /**
+     * Deflates the current input into the writable bytes of the output, growing it for as long as the deflater fills
+     * it up completely.
+     */
+    private static void deflate(final Deflater compressor, final ByteBuf out, final int flush) {
+        while (true) {
+            if (!out.isWritable()) out.ensureWritable(Math.max(out.capacity(), MIN_BUFFER_SIZE));
+
+            final int writable = out.writableBytes();
+            final int bytesWritten = compressor.deflate(out.nioBuffer(out.writerIndex(), writable), flush);
+            out.writerIndex(out.writerIndex() + bytesWritten);
+            if (bytesWritten < writable) return;
+        }
+    }
 }
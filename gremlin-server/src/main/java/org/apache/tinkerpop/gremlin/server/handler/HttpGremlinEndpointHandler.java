@@ -18,9 +18,12 @@
  */
 package org.apache.tinkerpop.gremlin.server.handler;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.Timer;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
@@ -29,6 +32,7 @@ import io.netty.handler.codec.TooLongFrameException;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -43,7 +47,10 @@ import org.apache.tinkerpop.gremlin.process.traversal.Pop;
 import org.apache.tinkerpop.gremlin.process.traversal.Scope;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
-import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.StepMetricsStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MemoryBudget;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MemoryBudgetExceededException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.SampledTraversalMetrics;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
 import org.apache.tinkerpop.gremlin.server.Context;
 import org.apache.tinkerpop.gremlin.server.GraphManager;
@@ -51,8 +58,11 @@ import org.apache.tinkerpop.gremlin.server.GremlinServer;
 import org.apache.tinkerpop.gremlin.server.ProcessingException;
 import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.auth.AuthenticatedUser;
+import org.apache.tinkerpop.gremlin.server.util.BulkedTraverserList;
 import org.apache.tinkerpop.gremlin.server.util.GremlinError;
 import org.apache.tinkerpop.gremlin.server.util.MetricManager;
+import org.apache.tinkerpop.gremlin.server.util.RequestScheduler;
+import org.apache.tinkerpop.gremlin.server.util.ResultCache;
 import org.apache.tinkerpop.gremlin.server.util.TraverserIterator;
 import org.apache.tinkerpop.gremlin.structure.Column;
 import org.apache.tinkerpop.gremlin.structure.Graph;
@@ -66,6 +76,7 @@ import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.apache.tinkerpop.gremlin.util.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.util.message.ResponseMessage;
 import org.apache.tinkerpop.gremlin.util.ser.GraphBinaryMessageSerializerV4;
+import org.apache.tinkerpop.gremlin.util.ser.binary.RequestMessageSerializer;
 import org.codehaus.groovy.control.MultipleCompilationErrorsException;
 import org.javatuples.Pair;
 import org.slf4j.Logger;
@@ -78,6 +89,7 @@ import java.lang.reflect.UndeclaredThrowableException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -86,6 +98,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.RejectedExecutionException;
@@ -120,6 +133,7 @@ import static org.apache.tinkerpop.gremlin.server.handler.HttpHandlerUtil.writeE
 public class HttpGremlinEndpointHandler extends SimpleChannelInboundHandler<RequestMessage> {
     private static final Logger logger = LoggerFactory.getLogger(HttpGremlinEndpointHandler.class);
     private static final Logger auditLogger = LoggerFactory.getLogger(GremlinServer.AUDIT_LOGGER_NAME);
+    private static final Logger slowQueryLogger = LoggerFactory.getLogger(GremlinServer.SLOW_QUERY_LOGGER_NAME);
 
     private static final Timer evalOpTimer = MetricManager.INSTANCE.getTimer(name(GremlinServer.class, "op", "eval"));
 
@@ -133,6 +147,23 @@ public class HttpGremlinEndpointHandler extends SimpleChannelInboundHandler<Requ
      */
     public static final Meter writePausesMeter = MetricManager.INSTANCE.getMeter(name(GremlinServer.class, "channels", "write-pauses"));
 
+    /**
+     * Memory budgets of the requests currently executing when memory accounting is enabled.
+     */
+    private static final Set<MemoryBudget> activeMemoryBudgets = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Tracks the approximate peak memory held by each request when memory accounting is enabled.
+     */
+    private static final Histogram requestMemoryHistogram = MetricManager.INSTANCE.getHistogram(name(GremlinServer.class, "requests", "memory", "peak"));
+
+    /**
+     * The approximate memory currently held by all executing requests when memory accounting is enabled.
+     */
+    public static final Gauge<Long> requestMemoryGauge = MetricManager.INSTANCE.getGauge(
+            () -> activeMemoryBudgets.stream().mapToLong(MemoryBudget::getUsed).sum(),
+            name(GremlinServer.class, "requests", "memory", "used"));
+
     protected static final Set<String> INVALID_BINDINGS_KEYS = new HashSet<>();
 
     static {
@@ -168,13 +199,34 @@ public class HttpGremlinEndpointHandler extends SimpleChannelInboundHandler<Requ
     private final GremlinExecutor gremlinExecutor;
     private final GraphManager graphManager;
     private final Settings settings;
+    private final StepMetricsStrategy stepMetricsStrategy;
+    private final boolean memoryAccounting;
+    private final RequestScheduler requestScheduler;
+    private final ResultCache resultCache;
 
     public HttpGremlinEndpointHandler(final GremlinExecutor gremlinExecutor,
                                       final GraphManager graphManager,
                                       final Settings settings) {
+        this(gremlinExecutor, graphManager, settings, null);
+    }
+
+    /**
+     * Creates the handler with a {@link RequestScheduler} that admits requests to the gremlin pool by request class.
+     * When the scheduler is {@code null} requests are submitted to the pool in the order they arrive.
+     */
+    public HttpGremlinEndpointHandler(final GremlinExecutor gremlinExecutor,
+                                      final GraphManager graphManager,
+                                      final Settings settings,
+                                      final RequestScheduler requestScheduler) {
         this.gremlinExecutor = gremlinExecutor;
         this.graphManager = graphManager;
         this.settings = settings;
+        this.requestScheduler = requestScheduler;
+        this.stepMetricsStrategy = null != settings.traversalMetrics && settings.traversalMetrics.enabled ?
+                StepMetricsStrategy.build().sampleRate(settings.traversalMetrics.sampleRate).create() : null;
+        this.memoryAccounting = settings.maxRequestMemory > 0 || null != this.stepMetricsStrategy;
+        this.resultCache = null != settings.resultCache && settings.resultCache.enabled ?
+                new ResultCache(settings.resultCache) : null;
     }
 
     @Override
@@ -185,6 +237,21 @@ public class HttpGremlinEndpointHandler extends SimpleChannelInboundHandler<Requ
         final Context requestCtx = new Context(requestMessage, ctx, settings, graphManager, gremlinExecutor,
                 gremlinExecutor.getScheduledExecutorService(), NOT_STARTED);
 
+        // a cached response is written from here without taking a thread from the gremlin pool
+        final ResultCache.Key cacheKey = getResultCacheKey(ctx, requestMessage, serializer.getValue0());
+        if (null != cacheKey) {
+            final List<byte[]> cachedChunks = resultCache.get(cacheKey, getGraph(requestMessage.getFieldOrDefault(Tokens.ARGS_G, Tokens.ARGS_G)));
+            if (null != cachedChunks) {
+                auditRequest(ctx, requestMessage);
+                writeResponseHeader(ctx, serializer.getValue0());
+                for (byte[] chunk : cachedChunks) {
+                    ctx.writeAndFlush(new DefaultHttpContent(Unpooled.wrappedBuffer(chunk)));
+                }
+                sendTrailingHeaders(ctx, HttpResponseStatus.OK, "");
+                return;
+            }
+        }
+
         final Timer.Context timerContext = evalOpTimer.time();
         // timeout override - handle both deprecated and newly named configuration. earlier logic should prevent
         // both configurations from being submitted at the same time
@@ -194,39 +261,34 @@ public class HttpGremlinEndpointHandler extends SimpleChannelInboundHandler<Requ
         final FutureTask<Void> evalFuture = new FutureTask<>(() -> {
             requestCtx.setStartedResponse();
 
+            // barriers and the result batches created while evaluating the request reserve memory from the budget
+            // bound to this worker thread
+            final MemoryBudget memoryBudget = memoryAccounting ? new MemoryBudget(settings.maxRequestMemory).open() : null;
+            if (null != memoryBudget) activeMemoryBudgets.add(memoryBudget);
+
             try {
                 logger.debug("Processing request containing script [{}] and bindings of [{}] on {}",
                         requestMessage.getFieldOrDefault(Tokens.ARGS_GREMLIN, ""),
                         requestMessage.getFieldOrDefault(Tokens.ARGS_BINDINGS, Collections.emptyMap()),
                         Thread.currentThread().getName());
-                if (settings.enableAuditLog) {
-                    AuthenticatedUser user = ctx.channel().attr(StateKey.AUTHENTICATED_USER).get();
-                    if (null == user) {    // This is expected when using the AllowAllAuthenticator
-                        user = AuthenticatedUser.ANONYMOUS_USER;
-                    }
-                    String address = ctx.channel().remoteAddress().toString();
-                    if (address.startsWith("/") && address.length() > 1) address = address.substring(1);
-                    auditLogger.info("User {} with address {} requested: {}", user.getName(), address,
-                            requestMessage.getGremlin());
-                }
+                auditRequest(ctx, requestMessage);
 
                 // Send back the 200 OK response header here since the response is always chunk transfer encoded. Any
                 // failures that follow this will show up in the response body instead.
-                final HttpResponse responseHeader = new DefaultHttpResponse(HTTP_1_1, OK);
-                if (acceptsDeflateEncoding(ctx.attr(StateKey.REQUEST_HEADERS).get().getAll(ACCEPT_ENCODING))) {
-                    responseHeader.headers().add(CONTENT_ENCODING, DEFLATE);
-                }
-                responseHeader.headers().set(TRANSFER_ENCODING, CHUNKED);
-                responseHeader.headers().set(HttpHeaderNames.CONTENT_TYPE, serializer.getValue0());
-                ctx.writeAndFlush(responseHeader);
-                ctx.channel().attr(StateKey.HTTP_RESPONSE_SENT).set(true);
+                writeResponseHeader(ctx, serializer.getValue0());
 
-                iterateScriptEvalResult(requestCtx, serializer.getValue1(), requestMessage);
+                iterateScriptEvalResult(requestCtx, serializer.getValue1(), requestMessage, cacheKey);
             } catch (Throwable t) {
                 writeError(requestCtx, formErrorResponseMessage(t, requestMessage), serializer.getValue1());
             } finally {
                 timerContext.stop();
 
+                if (null != memoryBudget) {
+                    memoryBudget.close();
+                    activeMemoryBudgets.remove(memoryBudget);
+                    requestMemoryHistogram.update(memoryBudget.getPeak());
+                }
+
                 // There is a race condition that this query may have finished before the timeoutFuture was created,
                 // though this is very unlikely. This is handled in the settor, if this has already been grabbed.
                 // If we passed this point and the setter hasn't been called, it will cancel the timeoutFuture inside
@@ -240,7 +302,9 @@ public class HttpGremlinEndpointHandler extends SimpleChannelInboundHandler<Requ
         });
 
         try {
-            final Future<?> executionFuture = requestCtx.getGremlinExecutor().getExecutorService().submit(evalFuture);
+            final Future<?> executionFuture = null == requestScheduler ?
+                    requestCtx.getGremlinExecutor().getExecutorService().submit(evalFuture) :
+                    scheduleRequest(requestCtx, evalFuture, timerContext, serializer.getValue1());
             if (seto > 0) {
                 // Schedule a timeout in the thread pool for future execution
                 requestCtx.setTimeoutExecutor(requestCtx.getScheduledExecutorService().schedule(() -> {
@@ -255,6 +319,94 @@ public class HttpGremlinEndpointHandler extends SimpleChannelInboundHandler<Requ
         }
     }
 
+    private void auditRequest(final ChannelHandlerContext ctx, final RequestMessage requestMessage) {
+        if (settings.enableAuditLog) {
+            AuthenticatedUser user = ctx.channel().attr(StateKey.AUTHENTICATED_USER).get();
+            if (null == user) {    // This is expected when using the AllowAllAuthenticator
+                user = AuthenticatedUser.ANONYMOUS_USER;
+            }
+            String address = ctx.channel().remoteAddress().toString();
+            if (address.startsWith("/") && address.length() > 1) address = address.substring(1);
+            auditLogger.info("User {} with address {} requested: {}", user.getName(), address,
+                    requestMessage.getGremlin());
+        }
+    }
+
+    private void writeResponseHeader(final ChannelHandlerContext ctx, final String mimeType) {
+        final HttpResponse responseHeader = new DefaultHttpResponse(HTTP_1_1, OK);
+        if (acceptsDeflateEncoding(ctx.attr(StateKey.REQUEST_HEADERS).get().getAll(ACCEPT_ENCODING))) {
+            responseHeader.headers().add(CONTENT_ENCODING, DEFLATE);
+        }
+        responseHeader.headers().set(TRANSFER_ENCODING, CHUNKED);
+        responseHeader.headers().set(HttpHeaderNames.CONTENT_TYPE, mimeType);
+        ctx.writeAndFlush(responseHeader);
+        ctx.channel().attr(StateKey.HTTP_RESPONSE_SENT).set(true);
+    }
+
+    /**
+     * Gets the key under which the response to the request is cached or {@code null} if the {@link ResultCache} is
+     * disabled or the request is not a gremlin-lang request against a known graph. Whether the traversal itself is
+     * read-only is only known once it is evaluated.
+     */
+    private ResultCache.Key getResultCacheKey(final ChannelHandlerContext ctx, final RequestMessage requestMessage,
+                                              final String mimeType) {
+        if (null == resultCache) return null;
+
+        // without an alias the traversal is evaluated against the traversal source bound to "g"
+        final Map<String, Object> fields = requestMessage.getFields();
+        final Object alias = fields.getOrDefault(Tokens.ARGS_G, Tokens.ARGS_G);
+        if (!"gremlin-lang".equals(fields.getOrDefault(Tokens.ARGS_LANGUAGE, "gremlin-lang")) ||
+                !(alias instanceof String) || null == getGraph((String) alias))
+            return null;
+
+        // bindings left in their serialized form would be decoded in full on the event loop just to hash the key and
+        // are meant for requests too large to be worth caching anyway
+        final Object bindings = fields.get(Tokens.ARGS_BINDINGS);
+        if (bindings instanceof Map && ((Map<?, ?>) bindings).values().stream().anyMatch(RequestMessageSerializer::isLazyBinding))
+            return null;
+
+        // the timeout and request class decide how the request is executed but not what it returns
+        final Map<String, Object> responseFields = new HashMap<>(fields);
+        responseFields.remove(Tokens.TIMEOUT_MS);
+        responseFields.remove(Tokens.REQUEST_CLASS);
+        final HttpHeaders headers = ctx.channel().attr(StateKey.REQUEST_HEADERS).get();
+        return new ResultCache.Key(requestMessage.getGremlin(), responseFields, mimeType,
+                headers.get(Tokens.BULK_RESULTS), headers.get(Tokens.STRING_DICTIONARY));
+    }
+
+    /**
+     * Gets the {@link Graph} that the alias refers to, either directly or through a {@link TraversalSource}.
+     */
+    private Graph getGraph(final String alias) {
+        final Graph graph = graphManager.getGraph(alias);
+        if (null != graph) return graph;
+        final TraversalSource ts = graphManager.getTraversalSource(alias);
+        return null == ts ? null : ts.getGraph();
+    }
+
+    /**
+     * Queues the request with the {@link RequestScheduler} under the class it is assigned to by its
+     * {@code requestClass} field, its user or the alias of its traversal source.
+     */
+    private Future<?> scheduleRequest(final Context requestCtx, final FutureTask<Void> evalFuture,
+                                      final Timer.Context timerContext, final MessageSerializer<?> serializer) {
+        final ChannelHandlerContext ctx = requestCtx.getChannelHandlerContext();
+        final RequestMessage requestMessage = requestCtx.getRequestMessage();
+        final AuthenticatedUser user = ctx.channel().attr(StateKey.AUTHENTICATED_USER).get();
+        final Object requestedClass = requestMessage.getFields().get(Tokens.REQUEST_CLASS);
+        final Object alias = requestMessage.getFields().get(Tokens.ARGS_G);
+        final String requestClass = requestScheduler.classify(null == requestedClass ? null : requestedClass.toString(),
+                null == user ? null : user.getName(), null == alias ? null : alias.toString());
+
+        return requestScheduler.submit(requestClass, evalFuture, () -> {
+            // the request never reached a thread so clean up what the evaluation would have
+            timerContext.stop();
+            final ScheduledFuture<?> timeoutFuture = requestCtx.getTimeoutExecutor();
+            if (null != timeoutFuture) timeoutFuture.cancel(true);
+            writeError(requestCtx, GremlinError.queueTimeout(requestClass), serializer);
+        });
+    }
+
     private GremlinError formErrorResponseMessage(Throwable t, RequestMessage requestMessage) {
         if (t instanceof UndeclaredThrowableException) t = t.getCause();
 
@@ -279,6 +431,10 @@ public class HttpGremlinEndpointHandler extends SimpleChannelInboundHandler<Requ
         if (t instanceof TooLongFrameException) {
             return GremlinError.longFrame(t);
         }
+        if (t instanceof MemoryBudgetExceededException) {
+            logger.warn(String.format("Request [%s] exceeded the configured maxRequestMemory", requestMessage));
+            return GremlinError.memoryLimit(requestMessage, (MemoryBudgetExceededException) t);
+        }
         if (t instanceof InterruptedException || t instanceof TraversalInterruptedException) {
             return GremlinError.timeout(requestMessage);
         }
@@ -305,7 +461,8 @@ public class HttpGremlinEndpointHandler extends SimpleChannelInboundHandler<Requ
         return GremlinError.general(t);
     }
 
-    private void iterateScriptEvalResult(final Context context, MessageSerializer<?> serializer, final RequestMessage message)
+    private void iterateScriptEvalResult(final Context context, MessageSerializer<?> serializer, final RequestMessage message,
+                                         final ResultCache.Key cacheKey)
             throws ProcessingException, InterruptedException, ScriptException {
         if (message.optionalField(Tokens.ARGS_BINDINGS).isPresent()) {
             final Map bindings = (Map) message.getFields().get(Tokens.ARGS_BINDINGS);
@@ -328,9 +485,20 @@ public class HttpGremlinEndpointHandler extends SimpleChannelInboundHandler<Requ
         final String language = args.containsKey(Tokens.ARGS_LANGUAGE) ? (String) args.get(Tokens.ARGS_LANGUAGE) : "gremlin-lang";
         final GremlinScriptEngine scriptEngine = gremlinExecutor.getScriptEngineManager().getEngineByName(language);
 
+        final long start = System.nanoTime();
         final Bindings mergedBindings = mergeBindingsFromRequest(context, new SimpleBindings(graphManager.getAsBindings()));
         final Object result = scriptEngine.eval(message.getGremlin(), mergedBindings);
 
+        // instrument the traversal before its strategies are applied so that the step breakdown is available for
+        // the metrics and the slow query log once it has been iterated
+        final Traversal.Admin<?, ?> traversal = result instanceof Traversal ? ((Traversal<?, ?>) result).asAdmin() : null;
+        if (null != this.stepMetricsStrategy && null != traversal && !traversal.isLocked())
+            traversal.setStrategies(traversal.getStrategies().clone().addStrategies(this.stepMetricsStrategy));
+
+        // the response is only recorded for read-only traversals and the recording starts before the graph is read
+        final ResultCache.Recorder recorder = null != cacheKey && null != traversal && ResultCache.isCacheable(traversal) ?
+                resultCache.record(cacheKey, getGraph(message.getFieldOrDefault(Tokens.ARGS_G, Tokens.ARGS_G))) : null;
+
         final String bulkingSetting = context.getChannelHandlerContext().channel().attr(StateKey.REQUEST_HEADERS).get().get(Tokens.BULK_RESULTS);
         // bulking only applies if it's gremlin-lang, and per request token setting takes precedence over header setting.
         // The serializer check is temporarily needed because GraphSON hasn't been removed yet and doesn't support bulking.
@@ -340,16 +508,25 @@ public class HttpGremlinEndpointHandler extends SimpleChannelInboundHandler<Requ
                         Objects.equals(bulkingSetting, "true")) :
                 false;
 
+        // the string dictionary is kept by a serializer that is created for this response alone
+        final String stringDictionarySetting = context.getChannelHandlerContext().channel().attr(StateKey.REQUEST_HEADERS).get().get(Tokens.STRING_DICTIONARY);
+        final boolean stringDictionary = serializer instanceof GraphBinaryMessageSerializerV4 &&
+                (args.containsKey(Tokens.STRING_DICTIONARY) ?
+                        Objects.equals(args.get(Tokens.STRING_DICTIONARY), "true") :
+                        Objects.equals(stringDictionarySetting, "true"));
+        final MessageSerializer<?> responseSerializer = stringDictionary ?
+                ((GraphBinaryMessageSerializerV4) serializer).withStringDictionary() : serializer;
+
         Iterator itty = null;
         try {
             if (bulking) {
                 // optimization for driver requests
                 ((Traversal.Admin<?, ?>) result).applyStrategies();
                 itty = new TraverserIterator((Traversal.Admin<?, ?>) result);
-                handleIterator(context, itty, serializer, true);
+                handleIterator(context, itty, responseSerializer, true, recorder);
             } else {
                 itty = IteratorUtils.asIterator(result);
-                handleIterator(context, itty, serializer, false);
+                handleIterator(context, itty, responseSerializer, false, recorder);
             }
         } catch (Exception ex) {
             // TINKERPOP-3144 ensure Traversals are closed when exception thrown.
@@ -360,6 +537,34 @@ public class HttpGremlinEndpointHandler extends SimpleChannelInboundHandler<Requ
             }
 
             throw ex;
+        } finally {
+            recordTraversalMetrics(message, traversal, start);
+        }
+    }
+
+    /**
+     * Publishes the per-step metrics of an instrumented traversal to the {@link MetricManager} and writes requests
+     * that exceeded the configured threshold to the slow query log.
+     */
+    private void recordTraversalMetrics(final RequestMessage message, final Traversal.Admin<?, ?> traversal, final long start) {
+        final Optional<SampledTraversalMetrics> metrics = null == this.stepMetricsStrategy || null == traversal || !traversal.isLocked() ?
+                Optional.empty() : StepMetricsStrategy.getMetrics(traversal);
+        metrics.ifPresent(m -> {
+            for (int i = 0; i < m.size(); i++) {
+                MetricManager.INSTANCE.getTimer(name(GremlinServer.class, "traversal", "step", m.getStepType(i))).
+                        update(m.getDuration(i, TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+                MetricManager.INSTANCE.getCounter(name(GremlinServer.class, "traversal", "step", m.getStepType(i), "traversers")).
+                        inc(m.getElementCount(i));
+            }
+        });
+
+        final long threshold = null == settings.traversalMetrics ? 0 : settings.traversalMetrics.slowQueryThreshold;
+        final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (threshold > 0 && elapsed >= threshold) {
+            final MemoryBudget memoryBudget = MemoryBudget.current();
+            slowQueryLogger.warn("Request took {} ms to complete{} [{}]{}", elapsed,
+                    null == memoryBudget ? "" : String.format(" holding approximately %s bytes at its peak", memoryBudget.getPeak()),
+                    message.getGremlin(), metrics.map(m -> System.lineSeparator() + m).orElse(""));
         }
     }
 
@@ -410,11 +615,16 @@ public class HttpGremlinEndpointHandler extends SimpleChannelInboundHandler<Requ
         return bindings;
     }
 
-    private void handleIterator(final Context context, final Iterator itty, final MessageSerializer<?> serializer, final boolean bulking) throws InterruptedException {
+    private void handleIterator(final Context context, final Iterator itty, final MessageSerializer<?> serializer,
+                                final boolean bulking, final ResultCache.Recorder recorder) throws InterruptedException {
         final ChannelHandlerContext nettyContext = context.getChannelHandlerContext();
         final RequestMessage msg = context.getRequestMessage();
         final Settings settings = context.getSettings();
 
+        // results held in the aggregate and serialized chunks waiting to be written count against the budget
+        final MemoryBudget memoryBudget = MemoryBudget.current();
+        long aggregateBytes = 0;
+
         // used to limit warnings for when netty fills the buffer and hits the high watermark - prevents
         // over-logging of the same message.
         long lastWarningTime = 0;
@@ -425,13 +635,16 @@ public class HttpGremlinEndpointHandler extends SimpleChannelInboundHandler<Requ
             ByteBuf chunk = null;
             try {
                 chunk = makeChunk(context, serializer, new ArrayList<>(), false, bulking);
+                if (null != recorder) recorder.record(chunk);
                 nettyContext.writeAndFlush(new DefaultHttpContent(chunk));
             } catch (Exception ex) {
                 // Bytebuf is a countable release - if it does not get written downstream
                 // it needs to be released here
                 if (chunk != null) chunk.release();
+                chunk = null;
             }
             sendTrailingHeaders(nettyContext, HttpResponseStatus.OK, "");
+            if (null != recorder && null != chunk) recorder.complete();
             return;
         }
 
@@ -440,6 +653,56 @@ public class HttpGremlinEndpointHandler extends SimpleChannelInboundHandler<Requ
                 .orElse(settings.resultIterationBatchSize);
         List<Object> aggregate = new ArrayList<>(resultIterationBatchSize);
 
+        // when bulking, each traverser fills two places in the batch, one for its value and one for its bulk
+        final int traverserBatchSize = Math.max(1, (resultIterationBatchSize + 1) / 2);
+        if (bulking) {
+            final BulkedTraverserList batch = ((TraverserIterator) itty).nextBatch(traverserBatchSize);
+            aggregateBytes += reserveBatch(memoryBudget, batch);
+            aggregate = batch;
+        } else {
+            final Object result = itty.next();
+            aggregate.add(result);
+            aggregateBytes += reserve(memoryBudget, result);
+        }
+
+        // the first batch holds every result for count() and other traversals that reduce to a single value, so the
+        // whole response can be written at once without going through the loop below
+        if (!itty.hasNext()) {
+            final ByteBuf chunk;
+            try {
+                chunk = makeChunk(context, serializer, aggregate, false, bulking);
+            } catch (Exception ex) {
+                // exception is handled in makeChunk() - serialization error gets written back to driver
+                if (null != memoryBudget) memoryBudget.release(aggregateBytes);
+                return;
+            }
+
+            // the serialized chunk replaces the results in the budget until netty has written it
+            final int chunkBytes = chunk.readableBytes();
+            if (null != memoryBudget) {
+                memoryBudget.release(aggregateBytes);
+                try {
+                    memoryBudget.reserve(chunkBytes);
+                } catch (Exception ex) {
+                    // Bytebuf is a countable release - if it does not get written downstream
+                    // it needs to be released here
+                    chunk.release();
+                    throw ex;
+                }
+            }
+
+            // the chunk is copied for the cache before netty writes and releases it
+            if (null != recorder) recorder.record(chunk);
+
+            if (null != memoryBudget)
+                nettyContext.writeAndFlush(new DefaultHttpContent(chunk)).addListener(f -> memoryBudget.release(chunkBytes));
+            else
+                nettyContext.writeAndFlush(new DefaultHttpContent(chunk));
+            sendTrailingHeaders(nettyContext, HttpResponseStatus.OK, "");
+            if (null != recorder) recorder.complete();
+            return;
+        }
+
         // use an external control to manage the loop as opposed to just checking hasNext() in the while.  this
         // prevent situations where auto transactions create a new transaction after calls to commit() withing
         // the loop on calls to hasNext().
@@ -463,11 +726,16 @@ public class HttpGremlinEndpointHandler extends SimpleChannelInboundHandler<Requ
             // while waiting for the client to catch up
             if (aggregate.size() < resultIterationBatchSize && itty.hasNext()) {
                 if (bulking) {
-                    Traverser traverser = (Traverser) itty.next();
-                    aggregate.add(traverser.get());
-                    aggregate.add(traverser.bulk());
+                    // the traversers are handed to the serializer as the barrier produced them rather than being
+                    // unpacked one at a time. the aggregate is only ever empty here as every batch is filled unless
+                    // the traversal has run out
+                    final BulkedTraverserList batch = ((TraverserIterator) itty).nextBatch(traverserBatchSize);
+                    aggregateBytes += reserveBatch(memoryBudget, batch);
+                    aggregate = batch;
                 } else {
-                    aggregate.add(itty.next());
+                    final Object result = itty.next();
+                    aggregate.add(result);
+                    aggregateBytes += reserve(memoryBudget, result);
                 }
             }
 
@@ -486,7 +754,7 @@ public class HttpGremlinEndpointHandler extends SimpleChannelInboundHandler<Requ
             // already given up on these requests. This leads to these executors waiting for the client to consume
             // results till the timeout. checking for isActive() should help prevent that.
             if (nettyContext.channel().isActive() && nettyContext.channel().isWritable()) {
-                if (aggregate.size() == resultIterationBatchSize || !itty.hasNext()) {
+                if (aggregate.size() >= resultIterationBatchSize || !itty.hasNext()) {
                     ByteBuf chunk = null;
                     try {
                         chunk = makeChunk(context, serializer, aggregate, itty.hasNext(), bulking);
@@ -505,11 +773,19 @@ public class HttpGremlinEndpointHandler extends SimpleChannelInboundHandler<Requ
                     // unintentionally
                     hasMore = itty.hasNext();
 
+                    final int chunkBytes = chunk.readableBytes();
                     try {
                         // only need to reset the aggregation list if there's more stuff to write
                         if (hasMore) {
                             aggregate = new ArrayList<>(resultIterationBatchSize);
                         }
+
+                        // the serialized chunk replaces the results in the budget until netty has written it
+                        if (null != memoryBudget) {
+                            memoryBudget.release(aggregateBytes);
+                            aggregateBytes = 0;
+                            memoryBudget.reserve(chunkBytes);
+                        }
                     } catch (Exception ex) {
                         // Bytebuf is a countable release - if it does not get written downstream
                         // it needs to be released here
@@ -517,10 +793,17 @@ public class HttpGremlinEndpointHandler extends SimpleChannelInboundHandler<Requ
                         throw ex;
                     }
 
-                    nettyContext.writeAndFlush(new DefaultHttpContent(chunk));
+                    // the chunk is copied for the cache before netty writes and releases it
+                    if (null != recorder) recorder.record(chunk);
+
+                    if (null != memoryBudget)
+                        nettyContext.writeAndFlush(new DefaultHttpContent(chunk)).addListener(f -> memoryBudget.release(chunkBytes));
+                    else
+                        nettyContext.writeAndFlush(new DefaultHttpContent(chunk));
 
                     if (!hasMore) {
                         sendTrailingHeaders(nettyContext, HttpResponseStatus.OK, "");
+                        if (null != recorder) recorder.complete();
                     }
                 }
             } else {
@@ -550,6 +833,21 @@ public class HttpGremlinEndpointHandler extends SimpleChannelInboundHandler<Requ
         }
     }
 
+    private static long reserveBatch(final MemoryBudget memoryBudget, final BulkedTraverserList batch) {
+        long bytes = 0;
+        for (int i = 0; null != memoryBudget && i < batch.traverserCount(); i++) {
+            bytes += reserve(memoryBudget, batch.getTraverser(i).get());
+        }
+        return bytes;
+    }
+
+    private static long reserve(final MemoryBudget memoryBudget, final Object result) {
+        if (null == memoryBudget) return 0;
+        final long bytes = MemoryBudget.estimate(result);
+        memoryBudget.reserve(bytes);
+        return bytes;
+    }
+
     /**
      * Check if any exception in the chain is {@link TemporaryException} or {@link Failure} then respond with the
      * right error code so that the client knows to retry.
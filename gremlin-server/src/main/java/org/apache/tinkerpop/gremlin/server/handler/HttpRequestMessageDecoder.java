@@ -205,6 +205,9 @@ public class HttpRequestMessageDecoder extends MessageToMessageDecoder<FullHttpR
         final JsonNode matPropsNode = body.get(Tokens.ARGS_MATERIALIZE_PROPERTIES);
         if (null != matPropsNode) builder.addMaterializeProperties(matPropsNode.asText());
 
+        final JsonNode requestClassNode = body.get(Tokens.REQUEST_CLASS);
+        if (null != requestClassNode) builder.addRequestClass(requestClassNode.asText());
+
         return builder.create();
     }
 
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * A view of a batch of traversers as the alternating value and bulk pairs of a bulked response, which lets the
+ * serializer read the results straight from the traversers a barrier produced rather than from a copy of them.
+ * Setting a value replaces the object held by the traverser and setting a bulk replaces its bulk.
+ */
+public final class BulkedTraverserList extends AbstractList<Object> implements RandomAccess {
+
+    private final Traverser.Admin[] traversers;
+    private final int size;
+
+    BulkedTraverserList(final Traverser.Admin[] traversers, final int size) {
+        this.traversers = traversers;
+        this.size = size;
+    }
+
+    /**
+     * Gets the number of traversers in the batch, which is half the size of the list.
+     */
+    public int traverserCount() {
+        return size;
+    }
+
+    /**
+     * Gets the traverser at the index within the batch.
+     */
+    public Traverser.Admin<?> getTraverser(final int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Traversers: " + size);
+        return traversers[index];
+    }
+
+    @Override
+    public Object get(final int index) {
+        final Traverser.Admin<?> traverser = getTraverser(index / 2);
+        return index % 2 == 0 ? traverser.get() : traverser.bulk();
+    }
+
+    @Override
+    public Object set(final int index, final Object element) {
+        final Traverser.Admin traverser = getTraverser(index / 2);
+        if (index % 2 == 0) {
+            final Object previous = traverser.get();
+            traverser.set(element);
+            return previous;
+        } else {
+            final long previous = traverser.bulk();
+            traverser.setBulk((Long) element);
+            return previous;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size * 2;
+    }
+}
@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.server.util;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import org.apache.tinkerpop.gremlin.language.grammar.GremlinParserException;
 import org.apache.tinkerpop.gremlin.process.traversal.Failure;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MemoryBudgetExceededException;
 import org.apache.tinkerpop.gremlin.util.ExceptionHelper;
 import org.apache.tinkerpop.gremlin.util.Tokens;
 import org.apache.tinkerpop.gremlin.util.message.RequestMessage;
@@ -98,6 +99,12 @@ public class GremlinError {
         return new GremlinError(HttpResponseStatus.INTERNAL_SERVER_ERROR, message, "ServerTimeoutExceededException");
     }
 
+    public static GremlinError memoryLimit(final RequestMessage requestMessage, final MemoryBudgetExceededException ex) {
+        final String message = String.format("%s during evaluation of [%s] - consider reducing the size of barriers such as fold() and group() or increasing the limit given to maxRequestMemory",
+                ex.getMessage(), requestMessage);
+        return new GremlinError(HttpResponseStatus.INTERNAL_SERVER_ERROR, message, "ServerMemoryLimitExceededException");
+    }
+
     public static GremlinError timedInterruptTimeout() {
         return new GremlinError(HttpResponseStatus.INTERNAL_SERVER_ERROR,
                 "Timeout during script evaluation triggered by TimedInterruptCustomizerProvider",
@@ -109,6 +116,11 @@ public class GremlinError {
                 "Too many requests have been sent in a given amount of time.", "TooManyRequestsException");
     }
 
+    public static GremlinError queueTimeout(final String requestClass) {
+        final String message = String.format("The request waited too long for a thread in request class [%s] and was not executed - retry the request later", requestClass);
+        return new GremlinError(HttpResponseStatus.SERVICE_UNAVAILABLE, message, "ServiceUnavailableException");
+    }
+
     public static GremlinError serialization(Exception ex) {
         final String message = String.format("Error during serialization: %s", ExceptionHelper.getMessageFromExceptionOrCause(ex));
         return new GremlinError(HttpResponseStatus.INTERNAL_SERVER_ERROR, message, "ServerSerializationException");
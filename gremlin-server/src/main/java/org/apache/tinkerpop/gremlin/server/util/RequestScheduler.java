@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
+import org.apache.tinkerpop.gremlin.server.GremlinServer;
+import org.apache.tinkerpop.gremlin.server.Settings;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Admits requests to the {@link Settings#gremlinPool} by request class. Requests wait in a queue for their class and
+ * are only handed to the pool when a thread is free, so that the classes share the pool by weighted fair queuing
+ * rather than in arrival order. Classes are chosen with stride scheduling where the class with the lowest pass is
+ * served next and its pass is then advanced by a stride inversely proportional to its weight. Each class may also cap
+ * the number of its requests executing at once and the time a request may wait before it is shed.
+ */
+public class RequestScheduler {
+
+    private static final long STRIDE = 1L << 20;
+
+    private final ExecutorService executorService;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final int poolSize;
+    private final int maxQueueSize;
+
+    private final Map<String, RequestClass> requestClasses = new LinkedHashMap<>();
+    private final Map<String, RequestClass> requestClassesByUser = new HashMap<>();
+    private final Map<String, RequestClass> requestClassesByAlias = new HashMap<>();
+    private final RequestClass defaultRequestClass;
+
+    private int running = 0;
+    private int queued = 0;
+    private long virtualTime = 0;
+
+    public RequestScheduler(final Settings settings, final ExecutorService executorService,
+                            final ScheduledExecutorService scheduledExecutorService) {
+        this.executorService = executorService;
+        this.scheduledExecutorService = scheduledExecutorService;
+        this.poolSize = executorService instanceof ThreadPoolExecutor ?
+                ((ThreadPoolExecutor) executorService).getMaximumPoolSize() : settings.gremlinPool;
+        this.maxQueueSize = settings.maxWorkQueueSize;
+
+        if (settings.scheduler.requestClasses.isEmpty())
+            throw new IllegalArgumentException("The scheduler requires at least one entry in requestClasses");
+
+        for (Settings.RequestClassSettings requestClassSettings : settings.scheduler.requestClasses) {
+            if (null == requestClassSettings.name || requestClassSettings.name.isEmpty())
+                throw new IllegalArgumentException("Each of the scheduler requestClasses requires a name");
+            if (requestClassSettings.weight < 1)
+                throw new IllegalArgumentException(String.format("The weight of request class [%s] must be at least 1", requestClassSettings.name));
+            if (requestClasses.containsKey(requestClassSettings.name))
+                throw new IllegalArgumentException(String.format("The request class [%s] is defined more than once", requestClassSettings.name));
+
+            final RequestClass requestClass = new RequestClass(requestClassSettings);
+            requestClasses.put(requestClass.name, requestClass);
+            requestClassSettings.users.forEach(u -> requestClassesByUser.putIfAbsent(u, requestClass));
+            requestClassSettings.aliases.forEach(a -> requestClassesByAlias.putIfAbsent(a, requestClass));
+        }
+
+        this.defaultRequestClass = requestClasses.getOrDefault(settings.scheduler.defaultRequestClass,
+                requestClasses.values().iterator().next());
+    }
+
+    /**
+     * Gets the name of the class for a request, preferring the class it asked for, then the class of its user and
+     * then the class of the alias of its traversal source. Any of the arguments may be {@code null}.
+     */
+    public String classify(final String requestedClass, final String user, final String alias) {
+        if (null != requestedClass && requestClasses.containsKey(requestedClass)) return requestedClass;
+        if (null != user && requestClassesByUser.containsKey(user)) return requestClassesByUser.get(user).name;
+        if (null != alias && requestClassesByAlias.containsKey(alias)) return requestClassesByAlias.get(alias).name;
+        return defaultRequestClass.name;
+    }
+
+    /**
+     * Queues a task to be executed on the pool when its class is next served. The returned {@link Future} is the task
+     * itself so cancelling it before it is executed causes it to be skipped.
+     *
+     * @param requestClass the name of a class as returned from {@link #classify(String, String, String)}
+     * @param task the work of the request
+     * @param onShed called if the request waits longer than the {@code maxQueueTime} of its class, in which case the
+     *               task is cancelled and will not execute
+     * @throws RejectedExecutionException if the total number of queued requests has reached the
+     *                                    {@link Settings#maxWorkQueueSize}
+     */
+    public <T> Future<T> submit(final String requestClass, final RunnableFuture<T> task, final Runnable onShed) {
+        final RequestClass rc = requestClasses.getOrDefault(requestClass, defaultRequestClass);
+        final QueuedRequest request = new QueuedRequest(rc, task, onShed);
+        synchronized (this) {
+            if (queued >= maxQueueSize)
+                throw new RejectedExecutionException(String.format("The queue of %s requests is full", maxQueueSize));
+
+            // a class that was idle does not get to bank the turns it did not use
+            if (rc.queue.isEmpty()) rc.pass = Math.max(rc.pass, virtualTime);
+            rc.queue.add(request);
+            queued++;
+        }
+
+        if (rc.maxQueueTime > 0)
+            request.shedFuture = scheduledExecutorService.schedule(() -> shed(request), rc.maxQueueTime, TimeUnit.MILLISECONDS);
+
+        dispatch();
+        return task;
+    }
+
+    /**
+     * Gets the number of requests waiting for a thread.
+     */
+    public synchronized int getQueued() {
+        return queued;
+    }
+
+    /**
+     * Gets the number of requests admitted to the pool that have not yet completed.
+     */
+    public synchronized int getRunning() {
+        return running;
+    }
+
+    private void dispatch() {
+        while (true) {
+            final QueuedRequest next;
+            synchronized (this) {
+                if (running >= poolSize) return;
+
+                RequestClass selected = null;
+                for (RequestClass rc : requestClasses.values()) {
+                    if (!rc.queue.isEmpty() && (rc.maxConcurrency <= 0 || rc.running < rc.maxConcurrency) &&
+                            (null == selected || rc.pass < selected.pass))
+                        selected = rc;
+                }
+                if (null == selected) return;
+
+                next = selected.queue.poll();
+                queued--;
+
+                // requests that timed out while they waited take no turn
+                if (next.task.isCancelled()) {
+                    if (null != next.shedFuture) next.shedFuture.cancel(false);
+                    continue;
+                }
+
+                selected.running++;
+                running++;
+                virtualTime = selected.pass;
+                selected.pass += STRIDE / selected.weight;
+            }
+
+            if (null != next.shedFuture) next.shedFuture.cancel(false);
+            next.requestClass.queueTimer.update(System.nanoTime() - next.queuedAt, TimeUnit.NANOSECONDS);
+
+            try {
+                executorService.execute(() -> {
+                    try {
+                        next.task.run();
+                    } finally {
+                        complete(next.requestClass);
+                    }
+                });
+            } catch (RejectedExecutionException ree) {
+                synchronized (this) {
+                    next.requestClass.running--;
+                    running--;
+                }
+                next.requestClass.shedMeter.mark();
+                if (next.task.cancel(false)) next.onShed.run();
+            }
+        }
+    }
+
+    private void complete(final RequestClass requestClass) {
+        synchronized (this) {
+            requestClass.running--;
+            running--;
+        }
+        dispatch();
+    }
+
+    private void shed(final QueuedRequest request) {
+        synchronized (this) {
+            if (!request.requestClass.queue.remove(request)) return;
+            queued--;
+        }
+        request.requestClass.shedMeter.mark();
+        if (request.task.cancel(false)) request.onShed.run();
+    }
+
+    private static class RequestClass {
+        private final String name;
+        private final int weight;
+        private final int maxConcurrency;
+        private final long maxQueueTime;
+        private final Deque<QueuedRequest> queue = new ArrayDeque<>();
+        private final Timer queueTimer;
+        private final Meter shedMeter;
+
+        private int running = 0;
+        private long pass = 0;
+
+        private RequestClass(final Settings.RequestClassSettings settings) {
+            this.name = settings.name;
+            this.weight = settings.weight;
+            this.maxConcurrency = settings.maxConcurrency;
+            this.maxQueueTime = settings.maxQueueTime;
+            this.queueTimer = MetricManager.INSTANCE.getTimer(name(GremlinServer.class, "scheduler", name, "queue-time"));
+            this.shedMeter = MetricManager.INSTANCE.getMeter(name(GremlinServer.class, "scheduler", name, "shed"));
+        }
+    }
+
+    private static class QueuedRequest {
+        private final RequestClass requestClass;
+        private final RunnableFuture<?> task;
+        private final Runnable onShed;
+        private final long queuedAt = System.nanoTime();
+        private volatile ScheduledFuture<?> shedFuture;
+
+        private QueuedRequest(final RequestClass requestClass, final RunnableFuture<?> task, final Runnable onShed) {
+            this.requestClass = requestClass;
+            this.task = task;
+            this.onShed = onShed;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import com.codahale.metrics.Meter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.netty.buffer.ByteBuf;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.ComparatorHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.ReadWriting;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.CoinStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.SampleGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.CallStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.SampleLocalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.server.GremlinServer;
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.MutationTracking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Holds the serialized response chunks of read-only traversals so that a later request for the same traversal can be
+ * answered by writing the chunks again without evaluating it. Entries expire a fixed time after they are stored and
+ * the least recently used entries are evicted once the cache holds its maximum number of bytes. For graphs that
+ * implement {@link MutationTracking} an entry is also discarded as soon as the graph has changed since the traversal
+ * that produced it started.
+ */
+public class ResultCache {
+
+    private static final Meter hitMeter = MetricManager.INSTANCE.getMeter(name(GremlinServer.class, "results", "cache", "hits"));
+    private static final Meter missMeter = MetricManager.INSTANCE.getMeter(name(GremlinServer.class, "results", "cache", "misses"));
+
+    /**
+     * Steps whose results can change without the graph changing or that may change the graph themselves.
+     */
+    private static final Collection<Class> UNCACHEABLE_STEPS = Arrays.asList(Mutating.class, LambdaHolder.class,
+            ReadWriting.class, CallStep.class, CoinStep.class, SampleGlobalStep.class, SampleLocalStep.class);
+
+    private final Cache<Key, Entry> entries;
+    private final int maxEntrySize;
+
+    public ResultCache(final Settings.ResultCacheSettings settings) {
+        if (settings.maxSize < 1)
+            throw new IllegalArgumentException("The resultCache maxSize must be greater than zero: " + settings.maxSize);
+        if (settings.maxEntrySize < 1)
+            throw new IllegalArgumentException("The resultCache maxEntrySize must be greater than zero: " + settings.maxEntrySize);
+        if (settings.ttl < 1)
+            throw new IllegalArgumentException("The resultCache ttl must be greater than zero: " + settings.ttl);
+
+        this.maxEntrySize = settings.maxEntrySize;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(settings.maxSize)
+                .weigher((Key k, Entry e) -> e.size)
+                .expireAfterWrite(settings.ttl, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * Determines if the response to the traversal may be cached, which is when it has no steps, in it or its child
+     * traversals, that mutate the graph, hold lambdas, read or write files, call services, sample at random or
+     * order by {@link Order#shuffle}.
+     */
+    public static boolean isCacheable(final Traversal.Admin<?, ?> traversal) {
+        return !TraversalHelper.hasStepOfAssignableClassRecursively(UNCACHEABLE_STEPS, traversal) && !isShuffled(traversal);
+    }
+
+    private static boolean isShuffled(final Traversal.Admin<?, ?> traversal) {
+        for (final ComparatorHolder<?, ?> holder : TraversalHelper.getStepsOfAssignableClassRecursively(ComparatorHolder.class, traversal)) {
+            if (holder.getComparators().stream().anyMatch(p -> p.getValue1() == Order.shuffle))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the chunks of the response cached for the key or {@code null} if there is none or the graph has changed
+     * since it was cached.
+     */
+    public List<byte[]> get(final Key key, final Graph graph) {
+        final Entry entry = entries.getIfPresent(key);
+        if (null == entry) {
+            missMeter.mark();
+            return null;
+        }
+
+        if (entry.epoch != getMutationEpoch(graph)) {
+            entries.invalidate(key);
+            missMeter.mark();
+            return null;
+        }
+
+        hitMeter.mark();
+        return entry.chunks;
+    }
+
+    /**
+     * Starts recording the response for the key. This must be called before the traversal starts reading the graph so
+     * that changes made while it executes invalidate the response.
+     */
+    public Recorder record(final Key key, final Graph graph) {
+        return new Recorder(key, getMutationEpoch(graph));
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    private static long getMutationEpoch(final Graph graph) {
+        return graph instanceof MutationTracking ? ((MutationTracking) graph).getMutationEpoch() : 0;
+    }
+
+    /**
+     * Copies the chunks of a response as they are written and caches them once the response is complete. Responses
+     * that grow beyond the maximum entry size are dropped.
+     */
+    public class Recorder {
+        private final Key key;
+        private final long epoch;
+        private final List<byte[]> chunks = new ArrayList<>();
+        private int size = 0;
+        private boolean abandoned = false;
+
+        private Recorder(final Key key, final long epoch) {
+            this.key = key;
+            this.epoch = epoch;
+        }
+
+        /**
+         * Copies the readable bytes of the chunk without changing its indices.
+         */
+        public void record(final ByteBuf chunk) {
+            if (abandoned) return;
+
+            final int length = chunk.readableBytes();
+            if ((long) size + length > maxEntrySize) {
+                abandoned = true;
+                chunks.clear();
+                return;
+            }
+
+            final byte[] bytes = new byte[length];
+            chunk.getBytes(chunk.readerIndex(), bytes);
+            chunks.add(bytes);
+            size += length;
+        }
+
+        /**
+         * Caches the recorded chunks. Only call this once the whole response was written without error.
+         */
+        public void complete() {
+            if (!abandoned)
+                entries.put(key, new Entry(Collections.unmodifiableList(chunks), size, epoch));
+        }
+    }
+
+    /**
+     * Identifies a response by the gremlin, the request fields that affect it, the serializer and the response options
+     * given as headers.
+     */
+    public static final class Key {
+        private final String gremlin;
+        private final Map<String, Object> fields;
+        private final String mimeType;
+        private final List<String> options;
+        private final int hashCode;
+
+        /**
+         * @param fields the request fields including the bindings and traversal source alias but excluding those, like
+         *               the timeout, that do not affect the response
+         * @param options header values that affect the response
+         */
+        public Key(final String gremlin, final Map<String, Object> fields, final String mimeType, final String... options) {
+            this.gremlin = gremlin;
+            this.fields = fields;
+            this.mimeType = mimeType;
+            this.options = Arrays.asList(options);
+            this.hashCode = Objects.hash(gremlin, fields, mimeType, this.options);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            final Key other = (Key) o;
+            return hashCode == other.hashCode && Objects.equals(gremlin, other.gremlin) && Objects.equals(mimeType, other.mimeType) &&
+                    fields.equals(other.fields) && options.equals(other.options);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class Entry {
+        private final List<byte[]> chunks;
+        private final int size;
+        private final long epoch;
+
+        private Entry(final List<byte[]> chunks, final int size, final long epoch) {
+            this.chunks = chunks;
+            this.size = size;
+            this.epoch = epoch;
+        }
+    }
+}
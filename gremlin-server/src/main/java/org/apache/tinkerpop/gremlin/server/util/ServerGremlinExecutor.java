@@ -71,6 +71,7 @@ public class ServerGremlinExecutor {
     private final ScheduledExecutorService scheduledExecutorService;
     private final ExecutorService gremlinExecutorService;
     private final GremlinExecutor gremlinExecutor;
+    private final RequestScheduler requestScheduler;
     private final DefaultChannelGroup channels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
 
     private final Map<String,Object> hostOptions = new ConcurrentHashMap<>();
@@ -133,6 +134,14 @@ public class ServerGremlinExecutor {
 
         logger.info("Initialized Gremlin thread pool.  Threads in pool named with pattern gremlin-*");
 
+        if (null != settings.scheduler && settings.scheduler.enabled) {
+            this.requestScheduler = new RequestScheduler(settings, this.gremlinExecutorService, this.scheduledExecutorService);
+            logger.info("Initialized request scheduler with request classes {}",
+                    settings.scheduler.requestClasses.stream().map(rc -> rc.name).collect(Collectors.toList()));
+        } else {
+            this.requestScheduler = null;
+        }
+
         final GremlinExecutor.Builder gremlinExecutorBuilder = GremlinExecutor.build()
                 .evaluationTimeout(settings.getEvaluationTimeout())
                 .afterFailure((b, e) -> this.graphManager.rollbackAll())
@@ -232,6 +241,14 @@ public class ServerGremlinExecutor {
         return gremlinExecutorService;
     }
 
+    /**
+     * Gets the {@link RequestScheduler} that admits requests to the {@link #getGremlinExecutorService()} or
+     * {@code null} if requests are executed in the order they arrive.
+     */
+    public RequestScheduler getRequestScheduler() {
+        return requestScheduler;
+    }
+
     public GraphManager getGraphManager() {
         return graphManager;
     }
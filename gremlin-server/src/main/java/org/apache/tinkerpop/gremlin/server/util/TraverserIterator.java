@@ -59,6 +59,20 @@ public class TraverserIterator implements Iterator<Object> {
         return new DefaultRemoteTraverser<>(t.get(), t.bulk());
     }
 
+    /**
+     * Removes up to the given number of traversers from the iterator as a {@link BulkedTraverserList}, which avoids
+     * wrapping each of them for {@link #next()}. The batch is only smaller than asked for when the traversal has no
+     * more results.
+     */
+    public BulkedTraverserList nextBatch(final int size) {
+        final Traverser.Admin[] batch = new Traverser.Admin[size];
+        int count = 0;
+        while (count < size && this.hasNext()) {
+            batch[count++] = this.bulker.remove();
+        }
+        return new BulkedTraverserList(batch, count);
+    }
+
     private final void fillBulker() {
         while (this.traversal.hasNext() && this.bulker.size() < this.barrierSize) {
             this.bulker.add(this.traversal.nextTraverser());
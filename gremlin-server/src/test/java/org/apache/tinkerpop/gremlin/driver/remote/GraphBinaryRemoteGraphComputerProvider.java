@@ -147,6 +147,10 @@ import org.apache.tinkerpop.gremlin.util.ser.Serializers;
         test = "org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchTest$GreedyMatchTraversals",
         method = "*",
         reason = "MatchAlgorithmStrategy construction doesn't work for gremlin-groovy")
+@Graph.OptOut(
+        test = "org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchTest$HashJoinMatchTraversals",
+        method = "*",
+        reason = "MatchAlgorithmStrategy construction doesn't work for gremlin-groovy")
 @GraphProvider.Descriptor(computer = TinkerGraphComputer.class)
 public class GraphBinaryRemoteGraphComputerProvider extends AbstractRemoteGraphProvider {
 
@@ -146,6 +146,8 @@ public class GremlinServerAuditLogIntegrateTest extends AbstractGremlinServerInt
                 authConfig.put("keytab", kdcServer.serviceKeytabFile.getAbsolutePath());
                 authConfig.put("principal", kdcServer.serverPrincipal);
                 break;
+            case "shouldAuditLogSuppliedUsernameWithCredentialCache":
+                authSettings.credentialCacheSize = 16;
             case "shouldAuditLogWithHttpTransport":
                 settings.host = "localhost";
                 settings.channelizer = HttpChannelizer.class.getName();
@@ -273,6 +275,29 @@ public class GremlinServerAuditLogIntegrateTest extends AbstractGremlinServerInt
                 "User stephen with address .+? requested: g.inject\\(1\\)")));
     }
 
+    @Test
+    public void shouldAuditLogSuppliedUsernameWithCredentialCache() throws Exception {
+        final CloseableHttpClient httpclient = HttpClients.createDefault();
+        for (int i = 0; i < 2; i++) {
+            final HttpPost httpPost = new HttpPost(TestClientFactory.createURLString());
+            httpPost.addHeader("Authorization", "Basic " + encoder.encodeToString("stephen:password".getBytes()));
+            httpPost.setEntity(new StringEntity("{\"gremlin\":\"g.inject(1)\"}", Consts.UTF_8));
+            try (final CloseableHttpResponse response = httpclient.execute(httpPost)) {
+                assertEquals(200, response.getStatusLine().getStatusCode());
+                EntityUtils.consume(response.getEntity());
+            }
+        }
+
+        // wait for logger to flush - (don't think there is a way to detect this)
+        stopServer();
+        Thread.sleep(1000);
+
+        // the second request is answered from the cache but still audited with the username that was supplied
+        final String authenticatorName = SimpleAuthenticator.class.getSimpleName();
+        assertEquals(2, logCaptor.getLogs().stream().filter(m -> m.matches(
+                String.format("User stephen with address .+? authenticated by %s", authenticatorName))).count());
+    }
+
     @Test
     public void shouldAuditLogWithTraversalOp() throws Exception {
         final String username = "stephen";
@@ -18,6 +18,8 @@
  */
 package org.apache.tinkerpop.gremlin.server;
 
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.buffer.UnpooledByteBufAllocator;
@@ -43,6 +45,8 @@ import org.apache.tinkerpop.gremlin.process.traversal.GremlinLang;
 import org.apache.tinkerpop.gremlin.server.auth.SimpleAuthenticator;
 import org.apache.tinkerpop.gremlin.server.channel.HttpChannelizer;
 import org.apache.tinkerpop.gremlin.server.handler.HttpBasicAuthenticationHandler;
+import org.apache.tinkerpop.gremlin.server.handler.HttpGremlinEndpointHandler;
+import org.apache.tinkerpop.gremlin.server.util.MetricManager;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONTokens;
 import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 import org.apache.tinkerpop.gremlin.util.message.RequestMessage;
@@ -73,6 +77,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
+import static com.codahale.metrics.MetricRegistry.name;
 import static org.apache.tinkerpop.gremlin.server.handler.HttpRequestIdHandler.REQUEST_ID_HEADER_NAME;
 import static org.apache.tinkerpop.gremlin.util.Tokens.ARGS_MATERIALIZE_PROPERTIES;
 import static org.apache.tinkerpop.gremlin.util.Tokens.MATERIALIZE_PROPERTIES_ALL;
@@ -81,6 +86,7 @@ import static org.apache.tinkerpop.gremlin.util.Tokens.TIMEOUT_MS;
 import static org.apache.tinkerpop.gremlin.util.ser.SerTokens.TOKEN_DATA;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.StringContains.containsString;
 import static org.hamcrest.core.StringRegularExpression.matchesRegex;
 import static org.hamcrest.core.StringStartsWith.startsWith;
 import static org.junit.Assert.assertEquals;
@@ -136,6 +142,16 @@ public class GremlinServerHttpIntegrateTest extends AbstractGremlinServerIntegra
             case "should200OnPOSTWithAuthorizationHeader":
                 configureForAuthentication(settings);
                 break;
+            case "should200OnRepeatedPOSTWithAuthorizationHeaderAndCredentialCache":
+                configureForAuthentication(settings);
+                settings.authentication.credentialCacheSize = 16;
+                break;
+            case "should200OnRepeatedPOSTWithResultCacheUntilGraphChanges":
+                settings.resultCache.enabled = true;
+                break;
+            case "should500OnPOSTWithRequestMemoryLimitExceeded":
+                settings.maxRequestMemory = 4096;
+                break;
             case "should500OnPOSTWithEvaluationTimeout":
                 settings.evaluationTimeout = 5000;
                 settings.gremlinPool = 1;
@@ -308,6 +324,34 @@ public class GremlinServerHttpIntegrateTest extends AbstractGremlinServerIntegra
         }
     }
 
+    @Test
+    public void should200OnRepeatedPOSTWithAuthorizationHeaderAndCredentialCache() throws Exception {
+        final Meter hits = MetricManager.INSTANCE.getMeter(name(GremlinServer.class, "auth", "cache", "hits"));
+        final long hitsBefore = hits.getCount();
+        final CloseableHttpClient httpclient = HttpClients.createDefault();
+        for (int i = 0; i < 3; i++) {
+            final HttpPost httppost = new HttpPost(TestClientFactory.createURLString());
+            httppost.addHeader("Content-Type", "application/json");
+            httppost.addHeader("Authorization", "Basic " + encoder.encodeToString("stephen:password".getBytes()));
+            httppost.setEntity(new StringEntity("{\"gremlin\":\"g.inject(1)\"}", Consts.UTF_8));
+
+            try (final CloseableHttpResponse response = httpclient.execute(httppost)) {
+                assertEquals(200, response.getStatusLine().getStatusCode());
+            }
+        }
+        assertEquals(2, hits.getCount() - hitsBefore);
+
+        // a wrong password is never served from the cache
+        final HttpPost httppost = new HttpPost(TestClientFactory.createURLString());
+        httppost.addHeader("Content-Type", "application/json");
+        httppost.addHeader("Authorization", "Basic " + encoder.encodeToString("stephen:not-my-password".getBytes()));
+        httppost.setEntity(new StringEntity("{\"gremlin\":\"g.inject(1)\"}", Consts.UTF_8));
+
+        try (final CloseableHttpResponse response = httpclient.execute(httppost)) {
+            assertEquals(401, response.getStatusLine().getStatusCode());
+        }
+    }
+
     @Test
     public void should200OnPOSTWithAuthorizationHeaderExplicitHandlerSetting() throws Exception {
         final CloseableHttpClient httpclient = HttpClients.createDefault();
@@ -520,6 +564,36 @@ public class GremlinServerHttpIntegrateTest extends AbstractGremlinServerIntegra
         }
     } */
 
+    @Test
+    public void should200OnRepeatedPOSTWithResultCacheUntilGraphChanges() throws Exception {
+        final Meter hits = MetricManager.INSTANCE.getMeter(name(GremlinServer.class, "results", "cache", "hits"));
+        final long hitsBefore = hits.getCount();
+        final CloseableHttpClient httpclient = HttpClients.createDefault();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, postForFirstInt(httpclient, "g.V().count()"));
+        }
+        assertEquals(2, hits.getCount() - hitsBefore);
+
+        // the mutation is never cached and the change to the graph discards the cached count
+        assertEquals(1, postForFirstInt(httpclient, "g.addV('person').count()"));
+        assertEquals(1, postForFirstInt(httpclient, "g.addV('person').count()"));
+        assertEquals(2, postForFirstInt(httpclient, "g.V().count()"));
+        assertEquals(2, postForFirstInt(httpclient, "g.V().count()"));
+        assertEquals(3, hits.getCount() - hitsBefore);
+    }
+
+    private int postForFirstInt(final CloseableHttpClient httpclient, final String gremlin) throws Exception {
+        final HttpPost httppost = new HttpPost(TestClientFactory.createURLString());
+        httppost.addHeader("Content-Type", "application/json");
+        httppost.setEntity(new StringEntity("{\"gremlin\":\"" + gremlin + "\"}", Consts.UTF_8));
+
+        try (final CloseableHttpResponse response = httpclient.execute(httppost)) {
+            assertEquals(200, response.getStatusLine().getStatusCode());
+            final JsonNode node = mapper.readTree(EntityUtils.toString(response.getEntity()));
+            return node.get("result").get(TOKEN_DATA).get(GraphSONTokens.VALUEPROP).get(0).get(GraphSONTokens.VALUEPROP).intValue();
+        }
+    }
+
     @Test
     public void should200OnPOSTTransactionalGraphInStrictMode() throws Exception {
 
@@ -810,6 +884,38 @@ public class GremlinServerHttpIntegrateTest extends AbstractGremlinServerIntegra
         }
     }
 
+    @Test
+    public void should500OnPOSTWithRequestMemoryLimitExceeded() throws Exception {
+        final Histogram peak = MetricManager.INSTANCE.getHistogram(name(GremlinServer.class, "requests", "memory", "peak"));
+        final long requestsBefore = peak.getCount();
+
+        final CloseableHttpClient httpclient = HttpClients.createDefault();
+        final HttpPost httppost = new HttpPost(TestClientFactory.createURLString());
+        httppost.addHeader("Content-Type", "application/json");
+        final String big = RandomStringUtils.randomAlphabetic(8192);
+        httppost.setEntity(new StringEntity("{\"gremlin\":\"g.inject('" + big + "').fold()\"}", Consts.UTF_8));
+
+        try (final CloseableHttpResponse response = httpclient.execute(httppost)) {
+            assertEquals(200, response.getStatusLine().getStatusCode()); // Temporarily 200 OK.
+            final String json = EntityUtils.toString(response.getEntity());
+            final JsonNode node = mapper.readTree(json);
+            assertEquals(500, node.get("status").get("code").asInt());
+            assertThat(node.get("status").get("message").asText(), containsString("maxRequestMemory"));
+
+            final Header[] footers = getTrailingHeaders(response);
+            assertEquals("exception", footers[1].getName());
+            assertEquals("ServerMemoryLimitExceededException", footers[1].getValue());
+        }
+
+        // the peak is recorded once the request finishes which may be just after the error is written
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (peak.getCount() == requestsBefore && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, peak.getCount() - requestsBefore);
+        assertEquals(0L, HttpGremlinEndpointHandler.requestMemoryGauge.getValue().longValue());
+    }
+
     @Test
     public void should200OnPOSTWithGraphSON4d0AcceptHeaderDefaultResultToJson() throws Exception {
         final CloseableHttpClient httpclient = HttpClients.createDefault();
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.auth;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class CredentialCacheTest {
+
+    private static final AuthenticatedUser stephen = new AuthenticatedUser("stephen");
+
+    @Test
+    public void shouldGetVerifiedCredentials() {
+        final CredentialCache cache = new CredentialCache(16, 60000);
+        assertNull(cache.get("c3RlcGhlbjpwYXNzd29yZA=="));
+        cache.put("c3RlcGhlbjpwYXNzd29yZA==", stephen);
+        assertEquals(stephen, cache.get("c3RlcGhlbjpwYXNzd29yZA=="));
+        assertNull(cache.get("c3RlcGhlbjpub3QtbXktcGFzc3dvcmQ="));
+    }
+
+    @Test
+    public void shouldExpireVerifiedCredentials() throws Exception {
+        final CredentialCache cache = new CredentialCache(16, 10);
+        cache.put("c3RlcGhlbjpwYXNzd29yZA==", stephen);
+        Thread.sleep(50);
+        assertNull(cache.get("c3RlcGhlbjpwYXNzd29yZA=="));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRequireCacheOfAtLeastOne() {
+        new CredentialCache(0, 60000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRequirePositiveTtl() {
+        new CredentialCache(16, 0);
+    }
+}
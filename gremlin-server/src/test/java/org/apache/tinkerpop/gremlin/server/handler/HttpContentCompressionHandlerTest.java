@@ -20,6 +20,7 @@ package org.apache.tinkerpop.gremlin.server.handler;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
@@ -161,6 +162,49 @@ public class HttpContentCompressionHandlerTest {
         assertEquals("ccc", new String(decompressedChunks.get(2), StandardCharsets.UTF_8));
     }
 
+    @Test
+    public void shouldCompressCompositeAndDirectChunks() throws Exception {
+        final HttpContentCompressionHandler compressionHandler = new HttpContentCompressionHandler();
+        final EmbeddedChannel testChannel = new EmbeddedChannel(compressionHandler);
+
+        final HttpHeaders headers = new DefaultHttpHeaders().add(CONTENT_ENCODING, DEFLATE);
+        final HttpResponse response = new DefaultHttpResponse(HTTP_1_1, OK, headers);
+
+        final ByteBuf directChunk = testChannel.alloc().directBuffer();
+        directChunk.writeCharSequence("aaa", CharsetUtil.UTF_8);
+
+        final CompositeByteBuf compositeChunk = testChannel.alloc().compositeBuffer();
+        compositeChunk.addComponent(true, Unpooled.copiedBuffer("bb", CharsetUtil.UTF_8));
+        compositeChunk.addComponent(true, testChannel.alloc().directBuffer().writeBytes("bcc".getBytes(StandardCharsets.UTF_8)));
+        compositeChunk.addComponent(true, Unpooled.copiedBuffer("c", CharsetUtil.UTF_8));
+
+        testChannel.writeOutbound(response);
+        testChannel.writeOutbound(new DefaultHttpContent(directChunk));
+        testChannel.writeOutbound(new DefaultHttpContent(compositeChunk));
+        testChannel.writeOutbound(EMPTY_LAST_CONTENT);
+
+        testChannel.readOutbound(); // Discard HttpResponse.
+
+        final Inflater decompressor = new Inflater();
+
+        HttpContent content = testChannel.readOutbound();
+        decompressor.setInput(ByteBufUtil.getBytes(content.content()));
+        byte[] inflatedBytes = new byte[3];
+        decompressor.inflate(inflatedBytes);
+        assertEquals("aaa", new String(inflatedBytes, StandardCharsets.UTF_8));
+        content.release();
+
+        content = testChannel.readOutbound();
+        decompressor.setInput(ByteBufUtil.getBytes(content.content()));
+        inflatedBytes = new byte[6];
+        decompressor.inflate(inflatedBytes);
+        assertEquals("bbbccc", new String(inflatedBytes, StandardCharsets.UTF_8));
+        content.release();
+
+        assertEquals(0, directChunk.refCnt());
+        assertEquals(0, compositeChunk.refCnt());
+    }
+
     @Test
     public void shouldHandleEmptyFrameCompression() throws Exception {
         final HttpContentCompressionHandler compressionHandler = new HttpContentCompressionHandler();
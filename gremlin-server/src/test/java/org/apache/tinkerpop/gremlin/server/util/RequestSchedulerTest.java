@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RequestSchedulerTest {
+
+    private ExecutorService executorService;
+    private final ScheduledExecutorService scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+
+    @After
+    public void after() {
+        if (null != executorService) executorService.shutdownNow();
+        scheduledExecutorService.shutdownNow();
+    }
+
+    @Test
+    public void shouldClassifyByFieldThenUserThenAlias() {
+        final RequestScheduler scheduler = createScheduler(1, 16,
+                requestClass("default", 1, 0, 0),
+                requestClass("batch", 1, 0, 0, "etl", "olap"),
+                requestClass("interactive", 1, 0, 0, "app", "g"));
+
+        assertEquals("batch", scheduler.classify("batch", "app", "g"));
+        assertEquals("batch", scheduler.classify(null, "etl", "g"));
+        assertEquals("interactive", scheduler.classify(null, "unknown", "g"));
+        assertEquals("batch", scheduler.classify(null, null, "olap"));
+        assertEquals("default", scheduler.classify("missing", null, "other"));
+    }
+
+    @Test
+    public void shouldShareThreadsByWeight() throws Exception {
+        final RequestScheduler scheduler = createScheduler(1, 64,
+                requestClass("a", 3, 0, 0),
+                requestClass("b", 1, 0, 0));
+
+        final CountDownLatch gate = new CountDownLatch(1);
+        scheduler.submit("a", new FutureTask<>(() -> gate.await(), null), () -> {});
+
+        final List<String> order = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch done = new CountDownLatch(16);
+        for (int i = 0; i < 8; i++) {
+            scheduler.submit("a", new FutureTask<>(() -> { order.add("a"); done.countDown(); }, null), () -> {});
+            scheduler.submit("b", new FutureTask<>(() -> { order.add("b"); done.countDown(); }, null), () -> {});
+        }
+
+        gate.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+
+        // while both classes have requests waiting, "a" gets three turns for each turn of "b"
+        assertEquals(6, order.subList(0, 8).stream().filter("a"::equals).count());
+    }
+
+    @Test
+    public void shouldLimitConcurrencyOfClass() throws Exception {
+        final RequestScheduler scheduler = createScheduler(4, 16,
+                requestClass("batch", 1, 1, 0),
+                requestClass("interactive", 1, 0, 0));
+
+        final AtomicInteger concurrent = new AtomicInteger();
+        final AtomicInteger maxConcurrent = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(8);
+        for (int i = 0; i < 8; i++) {
+            scheduler.submit("batch", new FutureTask<>(() -> {
+                maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                Thread.sleep(10);
+                concurrent.decrementAndGet();
+                done.countDown();
+                return null;
+            }), () -> {});
+        }
+
+        // the other class still gets threads while batch is at its limit
+        final FutureTask<Boolean> interactive = new FutureTask<>(() -> true);
+        scheduler.submit("interactive", interactive, () -> {});
+        assertTrue(interactive.get(1, TimeUnit.SECONDS));
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(1, maxConcurrent.get());
+    }
+
+    @Test
+    public void shouldShedRequestsThatWaitTooLong() throws Exception {
+        final RequestScheduler scheduler = createScheduler(1, 16,
+                requestClass("default", 1, 0, 50));
+
+        final CountDownLatch gate = new CountDownLatch(1);
+        scheduler.submit("default", new FutureTask<>(() -> gate.await(), null), () -> {});
+
+        final CountDownLatch shed = new CountDownLatch(1);
+        final AtomicInteger executed = new AtomicInteger();
+        final FutureTask<Void> waiting = new FutureTask<>(executed::incrementAndGet, null);
+        scheduler.submit("default", waiting, shed::countDown);
+
+        assertTrue(shed.await(5, TimeUnit.SECONDS));
+        assertTrue(waiting.isCancelled());
+        assertEquals(0, scheduler.getQueued());
+
+        gate.countDown();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(0, executed.get());
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void shouldRejectWhenQueueIsFull() {
+        final RequestScheduler scheduler = createScheduler(1, 1,
+                requestClass("default", 1, 0, 0));
+
+        final CountDownLatch gate = new CountDownLatch(1);
+        try {
+            scheduler.submit("default", new FutureTask<>(() -> gate.await(), null), () -> {});
+            scheduler.submit("default", new FutureTask<>(() -> {}, null), () -> {});
+            assertEquals(1, scheduler.getQueued());
+            scheduler.submit("default", new FutureTask<>(() -> {}, null), () -> {});
+        } finally {
+            gate.countDown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRequireRequestClasses() {
+        createScheduler(1, 1);
+    }
+
+    private RequestScheduler createScheduler(final int poolSize, final int maxWorkQueueSize,
+                                             final Settings.RequestClassSettings... requestClasses) {
+        final Settings settings = new Settings();
+        settings.gremlinPool = poolSize;
+        settings.maxWorkQueueSize = maxWorkQueueSize;
+        settings.scheduler.enabled = true;
+        Collections.addAll(settings.scheduler.requestClasses, requestClasses);
+        executorService = Executors.newFixedThreadPool(poolSize);
+        return new RequestScheduler(settings, executorService, scheduledExecutorService);
+    }
+
+    private static Settings.RequestClassSettings requestClass(final String name, final int weight, final int maxConcurrency,
+                                                              final long maxQueueTime, final String... usersAndAliases) {
+        final Settings.RequestClassSettings requestClass = new Settings.RequestClassSettings();
+        requestClass.name = name;
+        requestClass.weight = weight;
+        requestClass.maxConcurrency = maxConcurrency;
+        requestClass.maxQueueTime = maxQueueTime;
+        if (usersAndAliases.length == 2) {
+            requestClass.users.add(usersAndAliases[0]);
+            requestClass.aliases.add(usersAndAliases[1]);
+        }
+        return requestClass;
+    }
+}
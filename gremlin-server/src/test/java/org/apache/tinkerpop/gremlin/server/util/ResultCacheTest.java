@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ResultCacheTest {
+
+    private final Graph graph = TinkerGraph.open();
+    private final GraphTraversalSource g = graph.traversal();
+
+    @Test
+    public void shouldOnlyCacheReadOnlyTraversals() {
+        assertTrue(ResultCache.isCacheable(g.V().out("knows").values("name").asAdmin()));
+        assertTrue(ResultCache.isCacheable(g.V().where(__.outE().count().is(2)).asAdmin()));
+        assertFalse(ResultCache.isCacheable(g.addV("person").asAdmin()));
+        assertFalse(ResultCache.isCacheable(g.V().where(__.property("name", "x")).asAdmin()));
+        assertFalse(ResultCache.isCacheable(g.V().map(t -> t.get().id()).asAdmin()));
+        assertFalse(ResultCache.isCacheable(g.V().sample(2).asAdmin()));
+        assertFalse(ResultCache.isCacheable(g.V().coin(0.5).asAdmin()));
+        assertTrue(ResultCache.isCacheable(g.V().order().by("name", Order.desc).asAdmin()));
+        assertFalse(ResultCache.isCacheable(g.V().order().by(Order.shuffle).asAdmin()));
+        assertFalse(ResultCache.isCacheable(g.V().fold().order(Scope.local).by(Order.shuffle).asAdmin()));
+        assertFalse(ResultCache.isCacheable(g.V().local(__.out().order().by("name", Order.shuffle)).asAdmin()));
+    }
+
+    @Test
+    public void shouldReplayRecordedChunks() {
+        final ResultCache cache = createCache(1024, 1024);
+        final ResultCache.Key key = key("g.V()");
+        assertNull(cache.get(key, graph));
+
+        final ResultCache.Recorder recorder = cache.record(key, graph);
+        final ByteBuf first = Unpooled.copiedBuffer("first", StandardCharsets.UTF_8);
+        recorder.record(first);
+        recorder.record(Unpooled.copiedBuffer("second", StandardCharsets.UTF_8));
+
+        // recording does not consume the chunk that netty is yet to write
+        assertEquals(5, first.readableBytes());
+        assertNull(cache.get(key, graph));
+
+        recorder.complete();
+        final List<byte[]> chunks = cache.get(key("g.V()"), graph);
+        assertEquals(2, chunks.size());
+        assertArrayEquals("first".getBytes(StandardCharsets.UTF_8), chunks.get(0));
+        assertArrayEquals("second".getBytes(StandardCharsets.UTF_8), chunks.get(1));
+        assertNull(cache.get(key("g.E()"), graph));
+    }
+
+    @Test
+    public void shouldDiscardResponseOnceGraphChanges() {
+        final ResultCache cache = createCache(1024, 1024);
+        final ResultCache.Recorder recorder = cache.record(key("g.V()"), graph);
+
+        // a change made while the traversal executes means the response may not reflect it
+        g.addV("person").iterate();
+        recorder.record(Unpooled.copiedBuffer("stale", StandardCharsets.UTF_8));
+        recorder.complete();
+        assertNull(cache.get(key("g.V()"), graph));
+
+        final ResultCache.Recorder current = cache.record(key("g.V()"), graph);
+        current.record(Unpooled.copiedBuffer("current", StandardCharsets.UTF_8));
+        current.complete();
+        assertEquals(1, cache.get(key("g.V()"), graph).size());
+
+        g.V().property("name", "stephen").iterate();
+        assertNull(cache.get(key("g.V()"), graph));
+    }
+
+    @Test
+    public void shouldNotCacheResponseLargerThanMaxEntrySize() {
+        final ResultCache cache = createCache(1024, 8);
+        final ResultCache.Recorder recorder = cache.record(key("g.V()"), graph);
+        recorder.record(Unpooled.copiedBuffer("12345", StandardCharsets.UTF_8));
+        recorder.record(Unpooled.copiedBuffer("67890", StandardCharsets.UTF_8));
+        recorder.complete();
+        assertNull(cache.get(key("g.V()"), graph));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRequirePositiveTtl() {
+        final Settings.ResultCacheSettings settings = new Settings.ResultCacheSettings();
+        settings.ttl = 0;
+        new ResultCache(settings);
+    }
+
+    private static ResultCache.Key key(final String gremlin) {
+        return new ResultCache.Key(gremlin, Collections.singletonMap("g", "g"), "application/vnd.graphbinary-v4.0", null, null);
+    }
+
+    private static ResultCache createCache(final long maxSize, final int maxEntrySize) {
+        final Settings.ResultCacheSettings settings = new Settings.ResultCacheSettings();
+        settings.enabled = true;
+        settings.maxSize = maxSize;
+        settings.maxEntrySize = maxEntrySize;
+        return new ResultCache(settings);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TraverserIteratorTest {
+
+    private final GraphTraversalSource g = TinkerGraph.open().traversal();
+
+    @Test
+    public void shouldTakeBulkedBatches() {
+        final Traversal.Admin<?, ?> traversal = g.inject(1, 1, 2, 3, 3, 3).asAdmin();
+        traversal.applyStrategies();
+        final TraverserIterator itty = new TraverserIterator(traversal);
+
+        final BulkedTraverserList first = itty.nextBatch(2);
+        assertEquals(2, first.traverserCount());
+        assertEquals(Arrays.asList(1, 2L, 2, 1L), first);
+        assertTrue(itty.hasNext());
+
+        final BulkedTraverserList second = itty.nextBatch(2);
+        assertEquals(1, second.traverserCount());
+        assertEquals(Arrays.asList(3, 3L), second);
+        assertFalse(itty.hasNext());
+
+        assertEquals(0, itty.nextBatch(2).size());
+    }
+
+    @Test
+    public void shouldSetValuesAndBulksOfBatch() {
+        final Traversal.Admin<?, ?> traversal = g.inject("a", "a").asAdmin();
+        traversal.applyStrategies();
+        final BulkedTraverserList batch = new TraverserIterator(traversal).nextBatch(10);
+
+        assertEquals("a", batch.set(0, "b"));
+        assertEquals(2L, batch.set(1, 5L));
+        assertEquals(Arrays.asList("b", 5L), batch);
+        assertEquals("b", batch.getTraverser(0).get());
+        assertEquals(5L, batch.getTraverser(0).bulk());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldNotGetBeyondBatch() {
+        final Traversal.Admin<?, ?> traversal = g.inject(1).asAdmin();
+        traversal.applyStrategies();
+        new TraverserIterator(traversal).nextBatch(10).get(2);
+    }
+}
@@ -53,6 +53,7 @@ public class ProcessEmbeddedStandardSuite extends AbstractGremlinSuite {
             LambdaStepTest.Traversals.class,
             MatchTest.CountMatchTraversals.class,
             MatchTest.GreedyMatchTraversals.class,
+            MatchTest.HashJoinMatchTraversals.class,
             ProfileTest.Traversals.class,
             WriteTest.Traversals.class,
             ExplainTest.Traversals.class,
@@ -161,6 +161,7 @@ public class ProcessStandardSuite extends AbstractGremlinSuite {
             MapTest.Traversals.class,
             MatchTest.CountMatchTraversals.class,
             MatchTest.GreedyMatchTraversals.class,
+            MatchTest.HashJoinMatchTraversals.class,
             MathTest.Traversals.class,
             MaxTest.Traversals.class,
             MeanTest.Traversals.class,
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.clustering.connected;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.junit.Test;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ConnectedComponentVertexProgramTest extends AbstractGremlinProcessTest {
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteConnectedComponent() throws Exception {
+        final ComputerResult result = graph.compute(graphProvider.getGraphComputer(graph).getClass())
+                .program(ConnectedComponentVertexProgram.build().create(graph)).submit().get();
+        assertEquals(1L, result.graph().traversal().V().values(ConnectedComponentVertexProgram.COMPONENT).dedup().count().next().longValue());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteConnectedComponentSeededFromPreviousResult() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.ORIGINAL, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final ComputerResult cold = graph.compute(graphProvider.getGraphComputer(graph).getClass())
+                    .result(GraphComputer.ResultGraph.ORIGINAL).persist(GraphComputer.Persist.VERTEX_PROPERTIES)
+                    .program(ConnectedComponentVertexProgram.build().create(graph)).submit().get();
+
+            // nothing changed since the previous run so the seeded components are confirmed after a single exchange
+            final ComputerResult warm = graph.compute(graphProvider.getGraphComputer(graph).getClass())
+                    .program(ConnectedComponentVertexProgram.build().seed(ConnectedComponentVertexProgram.COMPONENT).create(graph)).submit().get();
+            assertTrue(warm.memory().getIteration() < cold.memory().getIteration());
+            assertEquals(1L, warm.graph().traversal().V().values(ConnectedComponentVertexProgram.COMPONENT).dedup().count().next().longValue());
+        }
+    }
+}
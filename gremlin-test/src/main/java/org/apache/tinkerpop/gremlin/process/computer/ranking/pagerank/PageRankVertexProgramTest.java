@@ -23,6 +23,7 @@ import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
 import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.junit.Test;
 
@@ -113,4 +114,50 @@ public class PageRankVertexProgramTest extends AbstractGremlinProcessTest {
         final double sum = result.graph().traversal().V().values(PageRankVertexProgram.PAGE_RANK).sum().next().doubleValue();
         assertEquals(1.0d, sum, 0.01d);
     }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecutePageRankSeededWithoutPriorResult() throws Exception {
+        final ComputerResult result = graph.compute(graphProvider.getGraphComputer(graph).getClass())
+                .program(PageRankVertexProgram.build().seed("notThere").epsilon(0.00001d).iterations(30).create(graph)).submit().get();
+        final double sum = result.graph().traversal().V().values(PageRankVertexProgram.PAGE_RANK).sum().next().doubleValue();
+        assertEquals(1.0d, sum, 0.01d);
+        result.graph().traversal().V().forEachRemaining(v -> {
+            final String name = v.value("name");
+            final Double pageRank = v.value(PageRankVertexProgram.PAGE_RANK);
+            if (name.equals("lop"))
+                assertTrue(pageRank > 0.29 && pageRank < 0.31);
+            else if (name.equals("ripple"))
+                assertTrue(pageRank > 0.16 && pageRank < 0.18);
+        });
+        assertEquals(result.memory().asMap().size(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @LoadGraphWith(MODERN)
+    public void shouldNotAllowSeedWithInitialRank() throws Exception {
+        PageRankVertexProgram.build().seed(PageRankVertexProgram.PAGE_RANK)
+                .initialRank(__.<Vertex>start().constant(1.0d).asAdmin()).create(graph);
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecutePageRankSeededFromPreviousResult() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.ORIGINAL, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final ComputerResult cold = graph.compute(graphProvider.getGraphComputer(graph).getClass())
+                    .result(GraphComputer.ResultGraph.ORIGINAL).persist(GraphComputer.Persist.VERTEX_PROPERTIES)
+                    .program(PageRankVertexProgram.build().epsilon(0.00001d).iterations(30).create(graph)).submit().get();
+            final ComputerResult warm = graph.compute(graphProvider.getGraphComputer(graph).getClass())
+                    .program(PageRankVertexProgram.build().seed(PageRankVertexProgram.PAGE_RANK).epsilon(0.00001d).iterations(30).create(graph)).submit().get();
+            assertTrue(warm.memory().getIteration() < cold.memory().getIteration());
+            warm.graph().traversal().V().forEachRemaining(v -> {
+                final String name = v.value("name");
+                final Double pageRank = v.value(PageRankVertexProgram.PAGE_RANK);
+                if (name.equals("lop"))
+                    assertTrue(pageRank > 0.29 && pageRank < 0.31);
+                else if (name.equals("ripple"))
+                    assertTrue(pageRank > 0.16 && pageRank < 0.18);
+            });
+        }
+    }
 }
\ No newline at end of file
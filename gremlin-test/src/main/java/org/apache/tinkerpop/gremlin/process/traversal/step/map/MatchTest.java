@@ -23,6 +23,7 @@ import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
 import org.apache.tinkerpop.gremlin.process.GremlinProcessRunner;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.MapHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MatchAlgorithmStrategy;
@@ -39,6 +40,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.GRATEFUL;
 import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
@@ -620,6 +623,29 @@ public abstract class MatchTest extends AbstractGremlinProcessTest {
                 "a", convertToVertex(graph, "marko"), "b", "josh"), traversal);
     }
 
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldProduceSamePathsWithHashJoinAsWithCountMatchAlgorithm() {
+        final GraphTraversalSource count = g.withStrategies(MatchAlgorithmStrategy.build().algorithm(MatchStep.CountMatchAlgorithm.class).create());
+        final GraphTraversalSource hashJoin = g.withStrategies(MatchAlgorithmStrategy.build().algorithm(MatchStep.HashJoinMatchAlgorithm.class).create());
+
+        // the inner label c and the pattern without an end label are only visible through the path of the traverser
+        final Function<GraphTraversalSource, List<String>> paths = s -> toSortedStrings(s.V().match(
+                as("a").out("created").as("b"),
+                as("b").in("created").as("c").out("created").as("d"),
+                as("c").out()).path());
+        final Function<GraphTraversalSource, List<String>> selects = s -> toSortedStrings(s.V().match(
+                as("a").out("created").as("b"),
+                as("b").in("created").as("c").out("created").as("d")).select("a", "b", "c", "d").by("name"));
+
+        assertEquals(paths.apply(count), paths.apply(hashJoin));
+        assertEquals(selects.apply(count), selects.apply(hashJoin));
+    }
+
+    private static List<String> toSortedStrings(final Traversal<?, ?> traversal) {
+        return traversal.toList().stream().map(Object::toString).sorted().collect(Collectors.toList());
+    }
+
     public static class GreedyMatchTraversals extends Traversals {
         @Before
         public void setupTest() {
@@ -628,6 +654,14 @@ public abstract class MatchTest extends AbstractGremlinProcessTest {
         }
     }
 
+    public static class HashJoinMatchTraversals extends Traversals {
+        @Before
+        public void setupTest() {
+            super.setupTest();
+            g = g.withStrategies(MatchAlgorithmStrategy.build().algorithm(MatchStep.HashJoinMatchAlgorithm.class).create());
+        }
+    }
+
     public static class CountMatchTraversals extends Traversals {
 
     }
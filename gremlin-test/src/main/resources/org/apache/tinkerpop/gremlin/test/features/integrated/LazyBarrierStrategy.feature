@@ -40,3 +40,91 @@ Feature: Step - LazyBarrierStrategy
     Then the result should be unordered
       | result |
       | d[14].l |
+
+  Scenario: g_withStrategiesXLazyBarrierStrategyX_V_out_out_limitX1X_count
+    Given the modern graph
+    And the traversal of
+      """
+      g.withStrategies(LazyBarrierStrategy).V().out().out().limit(1).count()
+      """
+    When iterated to list
+    Then the result should be unordered
+      | result |
+      | d[1].l |
+
+  Scenario: g_withStrategiesXLazyBarrierStrategyX_V_whereXout_outX_name
+    Given the modern graph
+    And the traversal of
+      """
+      g.withStrategies(LazyBarrierStrategy).V().where(__.out().out()).values("name")
+      """
+    When iterated to list
+    Then the result should be unordered
+      | result |
+      | marko |
+
+  Scenario: g_withStrategiesXLazyBarrierStrategyX_V_whereXout_count_isXgteX2XXX_name
+    Given the modern graph
+    And the traversal of
+      """
+      g.withStrategies(LazyBarrierStrategy).V().where(__.out().count().is(P.gte(2))).values("name")
+      """
+    When iterated to list
+    Then the result should be unordered
+      | result |
+      | marko |
+      | josh |
+
+  Scenario: g_withStrategiesXLazyBarrierStrategyX_V_coalesceXoutXcreatedX_valuesXlangX_limitX1X__constantXnoneXX
+    Given the modern graph
+    And the traversal of
+      """
+      g.withStrategies(LazyBarrierStrategy).V().coalesce(__.out("created").values("lang").limit(1), __.constant("none"))
+      """
+    When iterated to list
+    Then the result should be unordered
+      | result |
+      | java |
+      | none |
+      | none |
+      | java |
+      | none |
+      | java |
+
+  Scenario: g_withStrategiesXLazyBarrierStrategyX_V_chooseXout_count_isXgtX1XX__name__constantXxXX
+    Given the modern graph
+    And the traversal of
+      """
+      g.withStrategies(LazyBarrierStrategy).V().choose(__.out().count().is(P.gt(1)), __.values("name"), __.constant("x"))
+      """
+    When iterated to list
+    Then the result should be unordered
+      | result |
+      | marko |
+      | josh |
+      | x |
+      | x |
+      | x |
+      | x |
+
+  Scenario: g_withStrategiesXLazyBarrierStrategyX_V_hasLabelXpersonX_localXboth_limitX1XX_count
+    Given the modern graph
+    And the traversal of
+      """
+      g.withStrategies(LazyBarrierStrategy).V().hasLabel("person").local(__.both().limit(1)).count()
+      """
+    When iterated to list
+    Then the result should be unordered
+      | result |
+      | d[4].l |
+
+  Scenario: g_withStrategiesXLazyBarrierStrategyX_V_hasLabelXpersonX_order_byXoutE_count_descX_limitX1X_name
+    Given the modern graph
+    And the traversal of
+      """
+      g.withStrategies(LazyBarrierStrategy).V().hasLabel("person").order().by(__.outE().count(), Order.desc).limit(1).values("name")
+      """
+    When iterated to list
+    Then the result should be unordered
+      | result |
+      | marko |
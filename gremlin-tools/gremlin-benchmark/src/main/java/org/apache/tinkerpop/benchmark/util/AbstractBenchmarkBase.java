@@ -58,6 +58,10 @@ public abstract class AbstractBenchmarkBase {
                 .include(".*" + className + ".*")
                 .jvmArgs(getJvmArgs());
 
+        for (final String profiler : getProfilers()) {
+            runnerOptions.addProfiler(profiler);
+        }
+
         if (getWarmupIterations() > 0) {
             runnerOptions.warmupIterations(getWarmupIterations());
         }
@@ -108,6 +112,15 @@ public abstract class AbstractBenchmarkBase {
         return System.getProperty("jvmArgs", DEFAULT_JVM_ARGS).split(" ");
     }
 
+    /**
+     * Gets the names of the JMH profilers to attach, such as "gc" to report allocation per operation. Defaults to
+     * the comma separated "profilers" system property.
+     */
+    protected String[] getProfilers() {
+        final String profilers = System.getProperty("profilers", "");
+        return profilers.isEmpty() ? new String[0] : profilers.split(",");
+    }
+
     private int getIntProperty(final String propertyName, final int defaultValue) {
         final String propertyValue = System.getProperty(propertyName);
         if(propertyValue == null) {
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.apache.tinkerpop.benchmark.util.AbstractBenchmarkBase;
+import org.apache.tinkerpop.gremlin.process.traversal.GremlinLang;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.apache.tinkerpop.gremlin.util.message.RequestMessage;
+import org.apache.tinkerpop.gremlin.util.ser.GraphBinaryMessageSerializerV4;
+import org.apache.tinkerpop.gremlin.util.ser.SerializationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.AnonymousTraversalSource.traversal;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+
+/**
+ * Measures the client side cost of turning a traversal into a request when literals are written into the Gremlin
+ * text versus extracted to parameters with {@link GremlinLang#PARAMETERIZE_LITERALS}. Each invocation uses new
+ * literal values as an application would.
+ */
+@State(Scope.Thread)
+public class GremlinLangBenchmark extends AbstractBenchmarkBase {
+
+    private static final UnpooledByteBufAllocator allocator = new UnpooledByteBufAllocator(false);
+    private static final GraphBinaryMessageSerializerV4 binarySerializer = new GraphBinaryMessageSerializerV4();
+
+    private final GraphTraversalSource g = traversal().with(EmptyGraph.instance());
+    private final GraphTraversalSource gp = g.with(GremlinLang.PARAMETERIZE_LITERALS);
+
+    private final Random random = new Random(123456789L);
+
+    @Override
+    protected String[] getProfilers() {
+        final String[] profilers = super.getProfilers();
+        return profilers.length == 0 ? new String[]{"gc"} : profilers;
+    }
+
+    @Benchmark
+    public int writeRequestWithLiterals() throws SerializationException {
+        return writeRequest(followsTraversal(g));
+    }
+
+    @Benchmark
+    public int writeRequestWithParameterizedLiterals() throws SerializationException {
+        return writeRequest(followsTraversal(gp));
+    }
+
+    private GremlinLang followsTraversal(final GraphTraversalSource source) {
+        return source.V().has("user", "userId", "u" + random.nextInt(1_000_000)).
+                out("follows").has("age", P.between(random.nextInt(50), 50 + random.nextInt(50))).
+                where(out("posted").has("score", P.gt(random.nextDouble()))).
+                limit(random.nextInt(100)).asAdmin().getGremlinLang();
+    }
+
+    private int writeRequest(final GremlinLang gremlinLang) throws SerializationException {
+        final RequestMessage request = RequestMessage.build(gremlinLang.getGremlin()).addBindings(gremlinLang.getParameters()).create();
+        final ByteBuf buffer = binarySerializer.serializeRequestAsBinary(request, allocator);
+        try {
+            return buffer.readableBytes();
+        } finally {
+            buffer.release();
+        }
+    }
+}
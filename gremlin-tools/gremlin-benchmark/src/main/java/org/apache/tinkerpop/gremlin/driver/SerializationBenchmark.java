@@ -24,6 +24,7 @@ import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import org.apache.tinkerpop.benchmark.util.AbstractBenchmarkBase;
 import org.apache.tinkerpop.gremlin.process.traversal.GremlinLang;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.io.binary.DataType;
 import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceVertex;
 import org.apache.tinkerpop.gremlin.util.message.RequestMessage;
@@ -31,11 +32,18 @@ import org.apache.tinkerpop.gremlin.util.message.ResponseMessage;
 import org.apache.tinkerpop.gremlin.util.ser.GraphBinaryMessageSerializerV4;
 import org.apache.tinkerpop.gremlin.util.ser.GraphSONMessageSerializerV4;
 import org.apache.tinkerpop.gremlin.util.ser.SerializationException;
+import org.openjdk.jmh.annotations.AuxCounters;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -112,11 +120,56 @@ public class SerializationBenchmark extends AbstractBenchmarkBase {
     private static final GraphBinaryMessageSerializerV4 binarySerializer = new GraphBinaryMessageSerializerV4();
     private static final GraphSONMessageSerializerV4 graphsonSerializer = new GraphSONMessageSerializerV4();
 
+    /**
+     * The chunks of an {@code elementMap()} response of 10000 elements in batches of 64, the default result
+     * iteration batch size of the server.
+     */
+    private static final List<List<Object>> elementMapChunks = new ArrayList<>();
+    private static final List<ByteBuf> elementMapBinaryBuffers;
+    private static final List<ByteBuf> elementMapBinaryStringDictionaryBuffers;
+
     static {
         gremlinLang.addStep("V");
         gremlinLang.addStep("values", "name");
         gremlinLang.addStep("order");
         gremlinLang.addStep("tail", 5);
+
+        List<Object> chunk = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            final Map<Object, Object> elementMap = new LinkedHashMap<>();
+            elementMap.put(T.id, (long) i);
+            elementMap.put(T.label, "person");
+            elementMap.put("name", "name" + i);
+            elementMap.put("age", i % 100);
+            elementMap.put("city", "city" + (i % 50));
+            elementMap.put("country", "country" + (i % 10));
+            elementMap.put("email", "person" + i + "@example.com");
+            elementMap.put("active", i % 2 == 0);
+            elementMap.put("score", i * 0.5d);
+            elementMap.put("joined", 1700000000000L + i);
+            chunk.add(elementMap);
+            if (chunk.size() == 64) {
+                elementMapChunks.add(chunk);
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) elementMapChunks.add(chunk);
+
+        try {
+            elementMapBinaryBuffers = writeChunks(binarySerializer, null);
+            elementMapBinaryStringDictionaryBuffers = writeChunks(binarySerializer.withStringDictionary(), null);
+        } catch (SerializationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Reports the number of bytes a response takes on the wire next to the time it takes to write it.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ResponseBytes {
+        public long responseBytes;
     }
 
     @Benchmark
@@ -168,8 +221,62 @@ public class SerializationBenchmark extends AbstractBenchmarkBase {
         buffer.release();
     }
 
+    @Benchmark
+    public void testWriteElementMapResponseBinary(final ResponseBytes bytes) throws SerializationException {
+        for (final ByteBuf buffer : writeChunks(binarySerializer, bytes)) {
+            buffer.release();
+        }
+    }
+
+    @Benchmark
+    public void testWriteElementMapResponseBinaryWithStringDictionary(final ResponseBytes bytes) throws SerializationException {
+        for (final ByteBuf buffer : writeChunks(binarySerializer.withStringDictionary(), bytes)) {
+            buffer.release();
+        }
+    }
+
+    @Benchmark
+    public int testReadElementMapResponseBinary() throws SerializationException {
+        return readChunks(binarySerializer, elementMapBinaryBuffers);
+    }
+
+    @Benchmark
+    public int testReadElementMapResponseBinaryWithStringDictionary() throws SerializationException {
+        return readChunks(binarySerializer.withStringDictionary(), elementMapBinaryStringDictionaryBuffers);
+    }
+
     @Benchmark
     public RequestMessage testInstanceCreation() {
         return RequestMessage.build("a").addLanguage("gremlin-groovy").addG("g").create();
     }
+
+    private static List<ByteBuf> writeChunks(final GraphBinaryMessageSerializerV4 serializer,
+                                             final ResponseBytes bytes) throws SerializationException {
+        final List<ByteBuf> buffers = new ArrayList<>(elementMapChunks.size() + 1);
+        buffers.add(serializer.writeHeader(ResponseMessage.build().result(elementMapChunks.get(0)).create(), allocator));
+        for (int i = 1; i < elementMapChunks.size(); i++) {
+            buffers.add(serializer.writeChunk(elementMapChunks.get(i), allocator));
+        }
+        buffers.add(serializer.writeFooter(ResponseMessage.build().result(Collections.emptyList())
+                .code(HttpResponseStatus.OK).create(), allocator));
+
+        if (bytes != null) {
+            bytes.responseBytes = 0;
+            for (final ByteBuf buffer : buffers) {
+                bytes.responseBytes += buffer.readableBytes();
+            }
+        }
+        return buffers;
+    }
+
+    private static int readChunks(final GraphBinaryMessageSerializerV4 serializer,
+                                  final List<ByteBuf> buffers) throws SerializationException {
+        int results = 0;
+        for (int i = 0; i < buffers.size(); i++) {
+            final ByteBuf buffer = buffers.get(i);
+            buffer.readerIndex(0);
+            results += serializer.readChunk(buffer, i == 0).getResult().getData().size();
+        }
+        return results;
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process;
+
+import org.apache.tinkerpop.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Measures adjacent vertex lookups on a {@link TinkerGraph} loaded with the Grateful Dead data set, both through
+ * {@link Vertex#vertices(Direction, String...)} directly and through {@code out()}, {@code in()} and {@code both()}.
+ * The benchmark attaches the JMH "gc" profiler by default so that {@code gc.alloc.rate.norm} reports the bytes
+ * allocated per operation alongside the throughput.
+ */
+@LoadGraphWith(LoadGraphWith.GraphData.GRATEFUL)
+public class AdjacencyBenchmark extends AbstractGraphBenchmark {
+
+    private List<Vertex> vertices;
+
+    @Setup
+    @Override
+    public void prepare() throws IOException {
+        super.prepare();
+        vertices = IteratorUtils.list(graph.vertices());
+    }
+
+    @Override
+    protected String[] getProfilers() {
+        final String[] profilers = super.getProfilers();
+        return profilers.length == 0 ? new String[]{"gc"} : profilers;
+    }
+
+    @Benchmark
+    public void vertices_OUT(final Blackhole bh) {
+        for (final Vertex v : vertices) {
+            final Iterator<Vertex> adjacent = v.vertices(Direction.OUT);
+            while (adjacent.hasNext()) {
+                bh.consume(adjacent.next());
+            }
+        }
+    }
+
+    @Benchmark
+    public void vertices_BOTH(final Blackhole bh) {
+        for (final Vertex v : vertices) {
+            final Iterator<Vertex> adjacent = v.vertices(Direction.BOTH);
+            while (adjacent.hasNext()) {
+                bh.consume(adjacent.next());
+            }
+        }
+    }
+
+    @Benchmark
+    public void vertices_BOTH_sungBy_writtenBy(final Blackhole bh) {
+        for (final Vertex v : vertices) {
+            final Iterator<Vertex> adjacent = v.vertices(Direction.BOTH, "sungBy", "writtenBy");
+            while (adjacent.hasNext()) {
+                bh.consume(adjacent.next());
+            }
+        }
+    }
+
+    @Benchmark
+    public long g_V_out_out_count() throws Exception {
+        return g.V().out().out().count().next();
+    }
+
+    @Benchmark
+    public long g_V_inXfollowedByX_count() throws Exception {
+        return g.V().in("followedBy").count().next();
+    }
+
+    @Benchmark
+    public long g_V_both_both_count() throws Exception {
+        return g.V().both().both().count().next();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process;
+
+import org.apache.tinkerpop.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ChildTraversalCacheStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+
+/**
+ * Compares child traversals run with and without {@link ChildTraversalCacheStrategy} over the Grateful Dead data set,
+ * where the songs reached through {@code followedBy} edges repeat many times and so do the results of the children
+ * evaluated for them.
+ */
+@LoadGraphWith(LoadGraphWith.GraphData.GRATEFUL)
+public class ChildTraversalCacheBenchmark extends AbstractGraphBenchmark {
+
+    private GraphTraversalSource gCache;
+
+    @Setup
+    @Override
+    public void prepare() throws IOException {
+        super.prepare();
+        gCache = g.withStrategies(ChildTraversalCacheStrategy.instance());
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> g_V_outXfollowedByX_projectXaX_byXoutXfollowedByX_outXsungByX_valuesXnameXX() throws Exception {
+        return g.V().out("followedBy").<Object>project("a").by(out("followedBy").out("sungBy").values("name")).toList();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> g_V_outXfollowedByX_projectXaX_byXoutXfollowedByX_outXsungByX_valuesXnameXX_cached() throws Exception {
+        return gCache.V().out("followedBy").<Object>project("a").by(out("followedBy").out("sungBy").values("name")).toList();
+    }
+
+    @Benchmark
+    public Long g_V_outXfollowedByX_whereXoutXfollowedByX_outXsungByXX_count() throws Exception {
+        return g.V().out("followedBy").where(out("followedBy").out("sungBy")).count().next();
+    }
+
+    @Benchmark
+    public Long g_V_outXfollowedByX_whereXoutXfollowedByX_outXsungByXX_count_cached() throws Exception {
+        return gCache.V().out("followedBy").where(out("followedBy").out("sungBy")).count().next();
+    }
+}
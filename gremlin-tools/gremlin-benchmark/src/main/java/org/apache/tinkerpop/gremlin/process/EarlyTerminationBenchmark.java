@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process;
+
+import org.apache.tinkerpop.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.LazyBarrierStrategy;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+
+/**
+ * Measures traversals whose children only need a first result, or whose output is cut short by a {@code limit()},
+ * over the Grateful Dead data set. The {@code noLazyBarrier} variants remove {@link LazyBarrierStrategy} to show the
+ * cost of barriers that gather far more traversers than the consuming step will use.
+ */
+@LoadGraphWith(LoadGraphWith.GraphData.GRATEFUL)
+public class EarlyTerminationBenchmark extends AbstractGraphBenchmark {
+
+    @Override
+    protected String[] getProfilers() {
+        final String[] profilers = super.getProfilers();
+        return profilers.length == 0 ? new String[]{"gc"} : profilers;
+    }
+
+    @Benchmark
+    public Long g_V_whereXout_out_outX_count() throws Exception {
+        return g.V().where(out().out().out()).count().next();
+    }
+
+    @Benchmark
+    public Long g_V_whereXout_out_outX_count_noLazyBarrier() throws Exception {
+        return g.withoutStrategies(LazyBarrierStrategy.class).V().where(out().out().out()).count().next();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> g_V_projectXa_bX_byXnameX_byXout_out_outX() throws Exception {
+        return g.V().<Object>project("a", "b").by("name").by(out().out().out()).toList();
+    }
+
+    @Benchmark
+    public List<Vertex> g_V_localXout_out_out_limitX1XX() throws Exception {
+        return g.V().local(out().out().out().limit(1)).toList();
+    }
+
+    @Benchmark
+    public List<Vertex> g_V_out_out_out_limitX10X() throws Exception {
+        return g.V().out().out().out().limit(10).toList();
+    }
+
+    @Benchmark
+    public List<Vertex> g_V_out_out_out_limitX10X_noLazyBarrier() throws Exception {
+        return g.withoutStrategies(LazyBarrierStrategy.class).V().out().out().out().limit(10).toList();
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.tinkerpop.benchmark.util.AbstractGraphBenchmark;
 import org.apache.tinkerpop.gremlin.LoadGraphWith;
 import org.apache.tinkerpop.gremlin.process.traversal.Path;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.BatchExecutionStrategy;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
@@ -81,6 +82,17 @@ public class GraphTraversalBenchmark extends AbstractGraphBenchmark {
         return g.V().out().map(v -> g.V(v.get()).out().out().values("name").toList()).toList();
     }
 
+    @Benchmark
+    public List<Object> g_V_hasLabelXsongX_outXfollowedByX_hasXsongType_originalX_valuesXnameX() throws Exception {
+        return g.V().hasLabel("song").out("followedBy").has("songType", "original").values("name").toList();
+    }
+
+    @Benchmark
+    public List<Object> g_withStrategiesXBatchExecutionStrategyX_V_hasLabelXsongX_outXfollowedByX_hasXsongType_originalX_valuesXnameX() throws Exception {
+        return g.withStrategies(BatchExecutionStrategy.instance()).
+                V().hasLabel("song").out("followedBy").has("songType", "original").values("name").toList();
+    }
+
     @Benchmark
     public List<Map<Object, Long>> g_V_label_groupCount() throws Exception {
         return g.V().label().groupCount().toList();
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process;
+
+import org.apache.tinkerpop.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.count;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.outV;
+
+/**
+ * Measures the {@code groupCount()} and {@code group().by().by(count())} barriers against a {@link TinkerGraph} loaded
+ * with the Grateful Dead data set, both with a few large groups and with many small ones.
+ */
+@LoadGraphWith(LoadGraphWith.GraphData.GRATEFUL)
+public class GroupCountBenchmark extends AbstractGraphBenchmark {
+
+    @Benchmark
+    public Map<Object, Long> g_V_outE_groupCount_byXlabelX() throws Exception {
+        return g.V().outE().groupCount().by(T.label).next();
+    }
+
+    @Benchmark
+    public Map<Object, Long> g_V_out_out_groupCount_byXnameX() throws Exception {
+        return g.V().out().out().groupCount().by("name").next();
+    }
+
+    @Benchmark
+    public Map<Object, Long> g_E_groupCount_byXoutVX() throws Exception {
+        return g.E().groupCount().by(outV()).next();
+    }
+
+    @Benchmark
+    public Map<Object, Long> g_V_outE_group_byXlabelX_byXcountX() throws Exception {
+        return g.V().outE().<Object, Long>group().by(T.label).by(count()).next();
+    }
+
+    @Benchmark
+    public Map<Object, Long> g_V_out_out_group_byXnameX_byXcountX() throws Exception {
+        return g.V().out().out().<Object, Long>group().by("name").by(count()).next();
+    }
+}
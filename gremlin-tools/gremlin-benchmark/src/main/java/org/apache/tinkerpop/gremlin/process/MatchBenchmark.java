@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process;
+
+import org.apache.tinkerpop.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MatchAlgorithmStrategy;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.io.IOException;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.as;
+
+/**
+ * Compares the {@code match()} algorithms on triangle and 4-cycle patterns against a {@link TinkerGraph} loaded with
+ * the Grateful Dead data set.
+ */
+@LoadGraphWith(LoadGraphWith.GraphData.GRATEFUL)
+public class MatchBenchmark extends AbstractGraphBenchmark {
+
+    @Param({"count", "greedy", "hashJoin"})
+    public String algorithm;
+
+    private GraphTraversalSource gm;
+
+    @Setup
+    @Override
+    public void prepare() throws IOException {
+        super.prepare();
+        final Class<? extends MatchStep.MatchAlgorithm> matchAlgorithmClass;
+        if (algorithm.equals("greedy"))
+            matchAlgorithmClass = MatchStep.GreedyMatchAlgorithm.class;
+        else if (algorithm.equals("hashJoin"))
+            matchAlgorithmClass = MatchStep.HashJoinMatchAlgorithm.class;
+        else
+            matchAlgorithmClass = MatchStep.CountMatchAlgorithm.class;
+        gm = g.withStrategies(MatchAlgorithmStrategy.build().algorithm(matchAlgorithmClass).create());
+    }
+
+    @Benchmark
+    public Long g_V_matchXa_outXfollowedByX_b__b_outXfollowedByX_c__c_outXfollowedByX_aX_count() throws Exception {
+        return gm.V().match(
+                as("a").out("followedBy").as("b"),
+                as("b").out("followedBy").as("c"),
+                as("c").out("followedBy").as("a")).count().next();
+    }
+
+    @Benchmark
+    public Long g_V_matchXa_outXfollowedByX_b__b_outXfollowedByX_c__c_outXfollowedByX_d__d_outXfollowedByX_aX_count() throws Exception {
+        return gm.V().match(
+                as("a").out("followedBy").as("b"),
+                as("b").out("followedBy").as("c"),
+                as("c").out("followedBy").as("d"),
+                as("d").out("followedBy").as("a")).count().next();
+    }
+}
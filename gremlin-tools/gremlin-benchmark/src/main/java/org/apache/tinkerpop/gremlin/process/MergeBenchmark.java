@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process;
+
+import org.apache.tinkerpop.benchmark.util.AbstractGraphMutateBenchmark;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MergeBatchStrategy;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.optimization.TinkerMergeStepStrategy;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares bulk upserts with {@code mergeV()} that build a lookup traversal for every map against those that search
+ * the graph directly and those that look up the maps in batches. Half of the maps match a vertex already in the graph.
+ */
+public class MergeBenchmark extends AbstractGraphMutateBenchmark {
+
+    private static final int SIZE = 10000;
+
+    private final List<Map<Object, Object>> byUid = new ArrayList<>();
+    private final List<Map<Object, Object>> byId = new ArrayList<>();
+
+    @Setup(Level.Invocation)
+    @Override
+    public void prepare() {
+        super.prepare();
+        if (byUid.isEmpty()) {
+            for (int i = 0; i < SIZE; i++) {
+                final Map<Object, Object> uid = new HashMap<>();
+                uid.put(T.label, "person");
+                uid.put("uid", i);
+                byUid.add(uid);
+
+                final Map<Object, Object> id = new HashMap<>();
+                id.put(T.id, (long) i);
+                id.put(T.label, "person");
+                byId.add(id);
+            }
+        }
+
+        for (int i = 0; i < SIZE; i += 2) {
+            graph.addVertex(T.id, (long) i, T.label, "person", "uid", i);
+        }
+    }
+
+    @Benchmark
+    public List<Vertex> g_injectXuidsX_unfold_mergeV_perMapTraversal() {
+        return g.withoutStrategies(TinkerMergeStepStrategy.class).inject(byUid).unfold().mergeV().toList();
+    }
+
+    @Benchmark
+    public List<Vertex> g_injectXuidsX_unfold_mergeV() {
+        return g.inject(byUid).unfold().mergeV().toList();
+    }
+
+    @Benchmark
+    public List<Vertex> g_injectXuidsX_unfold_mergeV_batched() {
+        return g.withStrategies(MergeBatchStrategy.instance()).inject(byUid).unfold().mergeV().toList();
+    }
+
+    @Benchmark
+    public List<Vertex> g_injectXuidsX_unfold_mergeV_batched_indexed() {
+        ((TinkerGraph) graph).createIndex("uid", Vertex.class);
+        return g.withStrategies(MergeBatchStrategy.instance()).inject(byUid).unfold().mergeV().toList();
+    }
+
+    @Benchmark
+    public List<Vertex> g_injectXidsX_unfold_mergeV() {
+        return g.inject(byId).unfold().mergeV().toList();
+    }
+}
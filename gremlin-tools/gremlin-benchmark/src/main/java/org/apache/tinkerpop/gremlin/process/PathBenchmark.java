@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process;
+
+import org.apache.tinkerpop.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Pop;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+
+/**
+ * Measures path tracking traversals over six hops of a generated {@link TinkerGraph} in which every vertex links
+ * to {@link #FANOUT} vertices of the next layer, so each start fans out into thousands of paths that share their
+ * prefixes. The benchmark attaches the JMH "gc" profiler by default and {@code gc.alloc.rate.norm} is the figure of
+ * interest, as it reports the bytes allocated for path storage per traversal.
+ */
+public class PathBenchmark extends AbstractGraphBenchmark {
+
+    private static final int LAYERS = 7;
+    private static final int WIDTH = 32;
+    private static final int FANOUT = 4;
+
+    @Setup
+    @Override
+    public void prepare() throws IOException {
+        super.prepare();
+        List<Vertex> previous = new ArrayList<>();
+        for (int layer = 0; layer < LAYERS; layer++) {
+            final List<Vertex> current = new ArrayList<>();
+            for (int i = 0; i < WIDTH; i++) {
+                final Vertex v = graph.addVertex("layer", layer);
+                current.add(v);
+            }
+            for (int i = 0; i < previous.size(); i++) {
+                for (int j = 0; j < FANOUT; j++) {
+                    previous.get(i).addEdge("next", current.get((i + j) % WIDTH));
+                }
+            }
+            previous = current;
+        }
+    }
+
+    @Override
+    protected String[] getProfilers() {
+        final String[] profilers = super.getProfilers();
+        return profilers.length == 0 ? new String[]{"gc"} : profilers;
+    }
+
+    @Benchmark
+    public List<Path> g_V_hasXlayer_0X_repeatXoutX_timesX6X_path() throws Exception {
+        return g.V().has("layer", 0).repeat(out()).times(6).path().toList();
+    }
+
+    @Benchmark
+    public List<Path> g_V_hasXlayer_0X_repeatXoutX_timesX6X_barrier_path() throws Exception {
+        return g.V().has("layer", 0).repeat(out()).times(6).barrier().path().toList();
+    }
+
+    @Benchmark
+    public List<Object> g_V_hasXlayer_0X_asXaX_repeatXout_asXaXX_timesX6X_selectXall_aX() throws Exception {
+        return g.V().has("layer", 0).as("a").repeat(out().as("a")).times(6).select(Pop.all, "a").toList();
+    }
+}
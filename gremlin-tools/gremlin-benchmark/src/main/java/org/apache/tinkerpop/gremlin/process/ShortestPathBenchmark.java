@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process;
+
+import org.apache.tinkerpop.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.services.TinkerShortestPathFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.hasId;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+
+/**
+ * Compares the {@code repeat()} formulation of shortest path and k-hop queries against the native
+ * {@link TinkerShortestPathFactory} service on a {@link TinkerGraph} loaded with the Grateful Dead data set.
+ */
+@LoadGraphWith(LoadGraphWith.GraphData.GRATEFUL)
+public class ShortestPathBenchmark extends AbstractGraphBenchmark {
+
+    private Object source;
+    private Object target;
+
+    @Setup
+    @Override
+    public void prepare() throws IOException {
+        super.prepare();
+        ((TinkerGraph) graph).getServiceRegistry().registerService(new TinkerShortestPathFactory((TinkerGraph) graph));
+        source = g.V().has("song", "name", "HEY BO DIDDLEY").id().next();
+        target = g.V().has("song", "name", "FRERE JACQUES").id().next();
+    }
+
+    @Benchmark
+    public List<Path> g_VXaX_repeatXout_simplePathX_untilXhasIdXbXX_path_limitX1X() throws Exception {
+        return g.V(source).repeat(out().simplePath()).until(hasId(target)).path().limit(1).toList();
+    }
+
+    @Benchmark
+    public List<Object> g_VXaX_callXshortestPathX_withXtarget_bX() throws Exception {
+        return g.V(source).call(TinkerShortestPathFactory.NAME).with(TinkerShortestPathFactory.Params.TARGET, target).toList();
+    }
+
+    @Benchmark
+    public List<Vertex> g_VXaX_repeatXoutX_timesX2X_dedup() throws Exception {
+        return g.V(source).repeat(out()).emit().times(2).dedup().toList();
+    }
+
+    @Benchmark
+    public List<Object> g_VXaX_callXshortestPathX_withXmaxDistance_2X() throws Exception {
+        return g.V(source).call(TinkerShortestPathFactory.NAME).with(TinkerShortestPathFactory.Params.MAX_DISTANCE, 2).toList();
+    }
+
+    @Benchmark
+    public List<Object> g_VXaX_callXshortestPathX_withXtarget_bX_withXweightX() throws Exception {
+        return g.V(source).call(TinkerShortestPathFactory.NAME).with(TinkerShortestPathFactory.Params.TARGET, target)
+                .with(TinkerShortestPathFactory.Params.WEIGHT, "weight").toList();
+    }
+}
@@ -0,0 +1,374 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server;
+
+import com.codahale.metrics.Counting;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.Sampling;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.tinkerpop.gremlin.driver.Client;
+import org.apache.tinkerpop.gremlin.driver.Cluster;
+import org.apache.tinkerpop.gremlin.driver.ResultSet;
+import org.apache.tinkerpop.gremlin.server.util.MetricManager;
+import org.apache.tinkerpop.gremlin.server.util.ServerGremlinExecutor;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.apache.tinkerpop.gremlin.util.ser.Serializers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Measures the end-to-end throughput and latency of Gremlin Server under a mixed workload. An embedded server is
+ * started over a generated {@link TinkerGraph} and requests are sent to it by the driver at a fixed rate that does not
+ * depend on how fast the server answers, so a slow server builds a backlog rather than slowing the load down. Latency
+ * is measured from the time each request was due to be sent rather than from when it was actually sent, which corrects
+ * for coordinated omission, and is reported as percentiles for the whole mix and for each traversal shape along with
+ * the server metrics recorded while measuring. Everything runs in a single JVM and needs no network beyond loopback.
+ * <p/>
+ * Options are given as key/value pairs, for example {@code rate 2000 duration 60 mix lookup:80,scan:20}:
+ * <ul>
+ *     <li>{@code rate} - requests per second to send (default 1000)</li>
+ *     <li>{@code warmup} - seconds of load to send before measuring (default 10)</li>
+ *     <li>{@code duration} - seconds of load to measure (default 30)</li>
+ *     <li>{@code mix} - comma separated shape:weight pairs chosen from {@link Shape} (default all shapes)</li>
+ *     <li>{@code vertices} - number of vertices in the generated graph (default 10000)</li>
+ *     <li>{@code edgesPerVertex} - number of "knows" edges out of each vertex (default 10)</li>
+ *     <li>{@code config} - a Gremlin Server YAML file to configure the server with (default server defaults)</li>
+ *     <li>{@code port} - the port for the server (default 45940)</li>
+ *     <li>{@code gremlinPool} - overrides the size of the gremlin pool of the server</li>
+ *     <li>{@code serializer} - the {@link Serializers} used by the driver (default GRAPHBINARY_V4)</li>
+ *     <li>{@code maxConnectionPoolSize} - the connections the driver may open (default 128)</li>
+ *     <li>{@code timeout} - milliseconds to wait for outstanding requests after the load stops (default 30000)</li>
+ *     <li>{@code seed} - seed for the graph and the request mix (default 0)</li>
+ * </ul>
+ */
+public class GremlinServerLoadGenerator {
+
+    /**
+     * The traversals sent to the server. Each takes bindings for a random vertex id and a random number.
+     */
+    public enum Shape {
+        LOOKUP("g.V(x).values('name')"),
+        NEIGHBORS("g.V(x).out('knows').limit(10).values('name')"),
+        TWO_HOP("g.V(x).out('knows').out('knows').dedup().count()"),
+        GROUP_COUNT("g.V(x).out('knows').out('knows').groupCount().by('age')"),
+        PATH("g.V(x).repeat(out('knows')).times(3).limit(20).path().by('name')"),
+        SCAN("g.V().has('age', y).count()"),
+        WRITE("g.V(x).property('visits', y)");
+
+        private final String gremlin;
+
+        Shape(final String gremlin) {
+            this.gremlin = gremlin;
+        }
+
+        public String getGremlin() {
+            return gremlin;
+        }
+
+        public static Shape fromName(final String name) {
+            return Shape.valueOf(name.trim().toUpperCase().replace('-', '_'));
+        }
+    }
+
+    private static final String METRIC_PREFIX = name(GremlinServer.class) + ".";
+    private static final List<String> SERVER_METRICS = Arrays.asList("op.eval", "errors", "channels.write-pauses",
+            "results.cache.hits", "results.cache.misses", "requests.memory.peak");
+
+    private final Client client;
+    private final Shape[] shapes;
+    private final int[] cumulativeWeights;
+    private final int rate;
+    private final int vertices;
+    private final long timeout;
+    private final Random random;
+
+    public GremlinServerLoadGenerator(final Client client, final Map<Shape, Integer> mix, final int rate,
+                                      final int vertices, final long timeout, final long seed) {
+        if (rate < 1)
+            throw new IllegalArgumentException("The rate must be greater than zero: " + rate);
+        if (mix.isEmpty())
+            throw new IllegalArgumentException("The mix requires at least one shape");
+
+        this.client = client;
+        this.rate = rate;
+        this.vertices = vertices;
+        this.timeout = timeout;
+        this.random = new Random(seed);
+        this.shapes = mix.keySet().toArray(new Shape[0]);
+        this.cumulativeWeights = new int[shapes.length];
+        int total = 0;
+        for (int i = 0; i < shapes.length; i++) {
+            total += mix.get(shapes[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Sends requests at the configured rate for the given number of seconds and waits for them to complete.
+     */
+    public Run run(final String name, final int seconds) throws InterruptedException {
+        final int total = rate * seconds;
+        final double nanosPerRequest = TimeUnit.SECONDS.toNanos(1) / (double) rate;
+        final Run run = new Run(name, total);
+        final CountDownLatch latch = new CountDownLatch(total);
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            final long intended = start + (long) (i * nanosPerRequest);
+            long now;
+            while ((now = System.nanoTime()) < intended) {
+                LockSupport.parkNanos(intended - now);
+            }
+
+            final int ix = i;
+            final Shape shape = chooseShape();
+            final Map<String, Object> bindings = new HashMap<>();
+            bindings.put("x", (long) random.nextInt(vertices));
+            bindings.put("y", random.nextInt(100));
+            run.shapes[ix] = shape;
+
+            try {
+                client.submitAsync(shape.getGremlin(), bindings).thenCompose(ResultSet::all).whenComplete((r, t) -> {
+                    // measuring from the intended rather than the actual send time includes any time the request
+                    // was held back because the driver or the server could not keep up
+                    run.latencies[ix] = System.nanoTime() - intended;
+                    run.states.set(ix, null == t ? Run.OK : Run.FAILED);
+                    latch.countDown();
+                });
+            } catch (Exception ex) {
+                run.latencies[ix] = System.nanoTime() - intended;
+                run.states.set(ix, Run.FAILED);
+                latch.countDown();
+            }
+        }
+
+        latch.await(timeout, TimeUnit.MILLISECONDS);
+        run.elapsed = System.nanoTime() - start;
+        return run;
+    }
+
+    private Shape chooseShape() {
+        final int r = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (r < cumulativeWeights[i]) return shapes[i];
+        }
+        return shapes[shapes.length - 1];
+    }
+
+    /**
+     * The outcome of each request sent during a run.
+     */
+    public static class Run {
+        private static final int PENDING = 0;
+        private static final int OK = 1;
+        private static final int FAILED = 2;
+
+        private final String name;
+        private final Shape[] shapes;
+        private final long[] latencies;
+        private final AtomicIntegerArray states;
+        private long elapsed;
+
+        private Run(final String name, final int total) {
+            this.name = name;
+            this.shapes = new Shape[total];
+            this.latencies = new long[total];
+            this.states = new AtomicIntegerArray(total);
+        }
+
+        /**
+         * Prints a line with the throughput and latency percentiles for all requests and one for each shape.
+         */
+        public void print() {
+            System.out.println(String.format("%-12s %-12s %9s %7s %8s %9s %10s %10s %10s %10s %10s",
+                    "run", "shape", "requests", "errors", "timeouts", "req/sec", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "mean(ms)"));
+            print("all", null);
+            for (Shape shape : Shape.values()) {
+                if (Arrays.asList(shapes).contains(shape)) print(shape.name().toLowerCase(), shape);
+            }
+        }
+
+        private void print(final String label, final Shape shape) {
+            final List<Long> completed = new ArrayList<>();
+            int requests = 0;
+            int errors = 0;
+            int timeouts = 0;
+            for (int i = 0; i < shapes.length; i++) {
+                if (null != shape && shapes[i] != shape) continue;
+                requests++;
+                final int state = states.get(i);
+                if (state == PENDING)
+                    timeouts++;
+                else if (state == FAILED)
+                    errors++;
+                else
+                    completed.add(latencies[i]);
+            }
+
+            final long[] sorted = completed.stream().mapToLong(Long::longValue).sorted().toArray();
+            System.out.println(String.format("%-12s %-12s %9d %7d %8d %9.1f %10.3f %10.3f %10.3f %10.3f %10.3f",
+                    name, label, requests, errors, timeouts,
+                    sorted.length / (elapsed / (double) TimeUnit.SECONDS.toNanos(1)),
+                    millis(percentile(sorted, 50)), millis(percentile(sorted, 99)), millis(percentile(sorted, 99.9)),
+                    millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]),
+                    millis(sorted.length == 0 ? 0 : (long) Arrays.stream(sorted).average().orElse(0))));
+        }
+
+        /**
+         * Gets the value below which the percentage of the sorted values fall by the nearest-rank method.
+         */
+        static long percentile(final long[] sorted, final double percentile) {
+            if (sorted.length == 0) return 0;
+            final int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+            return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+        }
+
+        private static double millis(final long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+
+    /**
+     * Creates a graph of people where each knows a number of others chosen at random.
+     */
+    static TinkerGraph generateGraph(final int vertices, final int edgesPerVertex, final long seed) {
+        final Random random = new Random(seed);
+        final TinkerGraph graph = TinkerGraph.open();
+        final Vertex[] people = new Vertex[vertices];
+        for (int i = 0; i < vertices; i++) {
+            people[i] = graph.addVertex(T.id, (long) i, T.label, "person", "name", "person" + i, "age", random.nextInt(100));
+        }
+        for (int i = 0; i < vertices; i++) {
+            for (int j = 0; j < edgesPerVertex; j++) {
+                people[i].addEdge("knows", people[random.nextInt(vertices)], "weight", random.nextDouble());
+            }
+        }
+        return graph;
+    }
+
+    static Map<Shape, Integer> parseMix(final String mix) {
+        final Map<Shape, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            final String[] shapeAndWeight = entry.split(":");
+            final int weight = shapeAndWeight.length > 1 ? Integer.parseInt(shapeAndWeight[1].trim()) : 1;
+            if (weight > 0) weights.put(Shape.fromName(shapeAndWeight[0]), weight);
+        }
+        return weights;
+    }
+
+    private static Map<String, Long> countServerMetrics() {
+        final Map<String, Long> counts = new HashMap<>();
+        for (String metric : SERVER_METRICS) {
+            final Metric m = MetricManager.INSTANCE.getRegistry().getMetrics().get(METRIC_PREFIX + metric);
+            if (m instanceof Counting) counts.put(metric, ((Counting) m).getCount());
+        }
+        return counts;
+    }
+
+    private static void printServerMetrics(final Map<String, Long> before) {
+        System.out.println("server metrics while measuring:");
+        final Map<String, Long> after = countServerMetrics();
+        for (String metric : SERVER_METRICS) {
+            if (!after.containsKey(metric)) continue;
+            final Metric m = MetricManager.INSTANCE.getRegistry().getMetrics().get(METRIC_PREFIX + metric);
+            final StringBuilder line = new StringBuilder(StringUtils.rightPad("  " + metric, 26))
+                    .append("count: ").append(after.get(metric) - before.getOrDefault(metric, 0L));
+
+            // timer snapshots are in nanoseconds and are biased toward recent values so mostly reflect the measurement
+            if (m instanceof Sampling) {
+                final Snapshot snapshot = ((Sampling) m).getSnapshot();
+                final BiFunction<Double, Metric, String> format = (v, metricType) -> metricType instanceof Timer ?
+                        String.format("%.3fms", v / TimeUnit.MILLISECONDS.toNanos(1)) : String.format("%.0f", v);
+                line.append(" | p50: ").append(format.apply(snapshot.getMedian(), m))
+                        .append(" | p99: ").append(format.apply(snapshot.get99thPercentile(), m))
+                        .append(" | p99.9: ").append(format.apply(snapshot.get999thPercentile(), m));
+            }
+            System.out.println(line);
+        }
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Map<String, Object> options = ElementHelper.asMap(args);
+        final int rate = Integer.parseInt(options.getOrDefault("rate", "1000").toString());
+        final int warmup = Integer.parseInt(options.getOrDefault("warmup", "10").toString());
+        final int duration = Integer.parseInt(options.getOrDefault("duration", "30").toString());
+        final int vertices = Integer.parseInt(options.getOrDefault("vertices", "10000").toString());
+        final int edgesPerVertex = Integer.parseInt(options.getOrDefault("edgesPerVertex", "10").toString());
+        final int port = Integer.parseInt(options.getOrDefault("port", "45940").toString());
+        final int maxConnectionPoolSize = Integer.parseInt(options.getOrDefault("maxConnectionPoolSize", "128").toString());
+        final long timeout = Long.parseLong(options.getOrDefault("timeout", "30000").toString());
+        final long seed = Long.parseLong(options.getOrDefault("seed", "0").toString());
+        final String serializer = options.getOrDefault("serializer", Serializers.GRAPHBINARY_V4.name()).toString();
+        final String mix = options.getOrDefault("mix",
+                "lookup:40,neighbors:25,two-hop:15,group-count:8,path:5,scan:2,write:5").toString();
+
+        final Settings settings = options.containsKey("config") ? Settings.read(options.get("config").toString()) : new Settings();
+        settings.host = "localhost";
+        settings.port = port;
+        if (options.containsKey("gremlinPool"))
+            settings.gremlinPool = Integer.parseInt(options.get("gremlinPool").toString());
+
+        System.out.println(String.format("generating graph with %s vertices and %s edges", vertices, vertices * edgesPerVertex));
+        final TinkerGraph graph = generateGraph(vertices, edgesPerVertex, seed);
+
+        final GremlinServer server = new GremlinServer(settings);
+        final ServerGremlinExecutor serverGremlinExecutor = server.start().join();
+        serverGremlinExecutor.getGraphManager().putGraph("graph", graph);
+        serverGremlinExecutor.getGraphManager().putTraversalSource("g", graph.traversal());
+
+        final Cluster cluster = Cluster.build("localhost").port(port)
+                .maxConnectionPoolSize(maxConnectionPoolSize)
+                .serializer(Serializers.valueOf(serializer)).create();
+        try {
+            final Client client = cluster.connect();
+            final GremlinServerLoadGenerator generator = new GremlinServerLoadGenerator(client, parseMix(mix), rate,
+                    vertices, timeout, seed);
+
+            System.out.println(String.format("sending %s req/sec of %s", rate, mix));
+            generator.run("warmup", warmup).print();
+
+            final Map<String, Long> before = countServerMetrics();
+            generator.run("measure", duration).print();
+            printServerMetrics(before);
+
+            client.close();
+        } finally {
+            cluster.close();
+            server.stop().join();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server;
+
+import org.apache.tinkerpop.gremlin.server.GremlinServerLoadGenerator.Run;
+import org.apache.tinkerpop.gremlin.server.GremlinServerLoadGenerator.Shape;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class GremlinServerLoadGeneratorTest {
+
+    @Test
+    public void shouldReturnZeroPercentileForNoLatencies() {
+        assertEquals(0, Run.percentile(new long[0], 50));
+        assertEquals(0, Run.percentile(new long[0], 99.9));
+    }
+
+    @Test
+    public void shouldReturnOnlyLatencyForAnyPercentile() {
+        final long[] sorted = {7};
+        assertEquals(7, Run.percentile(sorted, 0));
+        assertEquals(7, Run.percentile(sorted, 50));
+        assertEquals(7, Run.percentile(sorted, 99.9));
+        assertEquals(7, Run.percentile(sorted, 100));
+    }
+
+    @Test
+    public void shouldReturnNearestRankPercentile() {
+        final long[] sorted = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        assertEquals(1, Run.percentile(sorted, 0));
+        assertEquals(1, Run.percentile(sorted, 10));
+        assertEquals(2, Run.percentile(sorted, 11));
+        assertEquals(5, Run.percentile(sorted, 50));
+        assertEquals(10, Run.percentile(sorted, 99));
+        assertEquals(10, Run.percentile(sorted, 100));
+
+        final long[] five = {15, 20, 35, 40, 50};
+        assertEquals(20, Run.percentile(five, 30));
+        assertEquals(20, Run.percentile(five, 40));
+        assertEquals(35, Run.percentile(five, 50));
+    }
+
+    @Test
+    public void shouldParseMixInOrder() {
+        final Map<Shape, Integer> mix = GremlinServerLoadGenerator.parseMix("lookup:5, two-hop:2,scan:1");
+        assertEquals(Arrays.asList(Shape.LOOKUP, Shape.TWO_HOP, Shape.SCAN), new ArrayList<>(mix.keySet()));
+        assertEquals(Arrays.asList(5, 2, 1), new ArrayList<>(mix.values()));
+    }
+
+    @Test
+    public void shouldDefaultMixWeightToOne() {
+        final Map<Shape, Integer> mix = GremlinServerLoadGenerator.parseMix("neighbors,group_count:3");
+        assertEquals(1, mix.get(Shape.NEIGHBORS).intValue());
+        assertEquals(3, mix.get(Shape.GROUP_COUNT).intValue());
+    }
+
+    @Test
+    public void shouldSkipMixShapesWithoutPositiveWeight() {
+        final Map<Shape, Integer> mix = GremlinServerLoadGenerator.parseMix("lookup:0,write:-1,path:4");
+        assertEquals(1, mix.size());
+        assertEquals(4, mix.get(Shape.PATH).intValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotParseMixWithUnknownShape() {
+        GremlinServerLoadGenerator.parseMix("lookup:1,unknown:2");
+    }
+}
@@ -90,6 +90,17 @@ public final class Tokens {
      */
     public static final String BULK_RESULTS = "bulkResults";
 
+    /**
+     * The key for server to encode the strings of a GraphBinary response with a dictionary that is kept across the
+     * chunks of the response, so that repeated strings like labels and property keys are only sent in full once.
+     */
+    public static final String STRING_DICTIONARY = "stringDictionary";
+
+    /**
+     * The key for the name of the class of request that the server should schedule the request with.
+     */
+    public static final String REQUEST_CLASS = "requestClass";
+
     /**
      * A value that is a custom string that the user can pass to a server that might accept it for purpose of
      * identifying the kind of client it came from.
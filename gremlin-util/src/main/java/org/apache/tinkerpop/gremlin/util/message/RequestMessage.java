@@ -165,6 +165,11 @@ public final class RequestMessage {
             return this;
         }
 
+        public Builder addRequestClass(final String requestClass) {
+            this.fields.put(Tokens.REQUEST_CLASS, requestClass);
+            return this;
+        }
+
         /**
          * Create the request message given the settings provided to the {@link Builder}.
          */
@@ -338,6 +338,9 @@ public abstract class AbstractGraphSONMessageSerializerV4 extends AbstractMessag
             if (data.containsKey(Tokens.BULK_RESULTS)) {
                 builder.addBulkResults(Boolean.parseBoolean(data.get(Tokens.BULK_RESULTS).toString()));
             }
+            if (data.containsKey(Tokens.REQUEST_CLASS)) {
+                builder.addRequestClass(data.get(Tokens.REQUEST_CLASS).toString());
+            }
 
             return builder.create();
         }
@@ -29,6 +29,7 @@ import org.apache.tinkerpop.gremlin.structure.io.binary.GraphBinaryMapper;
 import org.apache.tinkerpop.gremlin.structure.io.binary.GraphBinaryReader;
 import org.apache.tinkerpop.gremlin.structure.io.binary.GraphBinaryWriter;
 import org.apache.tinkerpop.gremlin.structure.io.binary.Marker;
+import org.apache.tinkerpop.gremlin.structure.io.binary.StringDictionary;
 import org.apache.tinkerpop.gremlin.structure.io.binary.TypeSerializerRegistry;
 import org.apache.tinkerpop.gremlin.structure.io.binary.types.CustomTypeSerializer;
 import org.apache.tinkerpop.gremlin.util.message.RequestMessage;
@@ -50,14 +51,27 @@ import java.util.Map;
 public class GraphBinaryMessageSerializerV4 extends AbstractMessageSerializer<GraphBinaryMapper> {
     public static final String TOKEN_CUSTOM = "custom";
     public static final String TOKEN_BUILDER = "builder";
+    public static final String TOKEN_LAZY_BINDING_SIZE = "lazyBindingSize";
 
+    private TypeSerializerRegistry registry;
     private GraphBinaryReader reader;
     private GraphBinaryWriter writer;
     private RequestMessageSerializer requestSerializer;
     private final GraphBinaryMapper mapper;
+    private final StringDictionary stringDictionary;
+
+    /**
+     * Running estimate of the number of bytes a single result serializes to, used to size the buffer of a chunk up
+     * front so that it does not have to grow and copy while results are written. Concurrent updates may overwrite
+     * each other which only costs some accuracy.
+     */
+    private volatile int resultSizeEstimate = INITIAL_RESULT_SIZE_ESTIMATE;
 
     private static final NettyBufferFactory bufferFactory = new NettyBufferFactory();
     private static final String MIME_TYPE = SerTokens.MIME_GRAPHBINARY_V4;
+    private static final int INITIAL_RESULT_SIZE_ESTIMATE = 64;
+    private static final int HEADER_FOOTER_SIZE_ESTIMATE = 64;
+    private static final int MAX_INITIAL_CAPACITY = 4 * 1024 * 1024;
 
     /**
      * Creates a new instance of the message serializer using the default type serializers.
@@ -67,13 +81,27 @@ public class GraphBinaryMessageSerializerV4 extends AbstractMessageSerializer<Gr
     }
 
     public GraphBinaryMessageSerializerV4(final TypeSerializerRegistry registry) {
+        this.registry = registry;
         reader = new GraphBinaryReader(registry);
         writer = new GraphBinaryWriter(registry);
         mapper = new GraphBinaryMapper(writer, reader);
+        stringDictionary = null;
 
         requestSerializer = new RequestMessageSerializer();
     }
 
+    private GraphBinaryMessageSerializerV4(final GraphBinaryMessageSerializerV4 serializer,
+                                           final StringDictionary stringDictionary) {
+        registry = serializer.registry;
+        reader = new GraphBinaryReader(registry, stringDictionary);
+        writer = new GraphBinaryWriter(registry, stringDictionary);
+        mapper = serializer.mapper;
+        resultSizeEstimate = serializer.resultSizeEstimate;
+        this.stringDictionary = stringDictionary;
+
+        requestSerializer = serializer.requestSerializer;
+    }
+
     public GraphBinaryMessageSerializerV4(final TypeSerializerRegistry.Builder builder) {
         this(builder.create());
     }
@@ -121,11 +149,24 @@ public class GraphBinaryMessageSerializerV4 extends AbstractMessageSerializer<Gr
 
         addCustomClasses(config, builder);
 
-        final TypeSerializerRegistry registry = builder.create();
+        registry = builder.create();
         reader = new GraphBinaryReader(registry);
         writer = new GraphBinaryWriter(registry);
 
-        requestSerializer = new RequestMessageSerializer();
+        // list bindings with at least this many elements are decoded as they are consumed by the traversal
+        final Object lazyBindingSize = config.get(TOKEN_LAZY_BINDING_SIZE);
+        requestSerializer = new RequestMessageSerializer(null == lazyBindingSize ? 0 : Integer.parseInt(lazyBindingSize.toString()));
+    }
+
+    /**
+     * Creates a serializer for a single response stream which keeps a {@link StringDictionary} across the chunks of
+     * that stream. On the writing side, the header marks the stream as dictionary encoded and every string that was
+     * already written in an earlier chunk is replaced by a reference. On the reading side, the serializer resolves
+     * those references, so it must be given the chunks of one response in order. The returned serializer is stateful
+     * and must not be shared between responses.
+     */
+    public GraphBinaryMessageSerializerV4 withStringDictionary() {
+        return new GraphBinaryMessageSerializerV4(this, new StringDictionary());
     }
 
     @Override
@@ -214,29 +255,38 @@ public class GraphBinaryMessageSerializerV4 extends AbstractMessageSerializer<Gr
 
     private ByteBuf write(final ResponseMessage responseMessage, final Object aggregate,
                           final ByteBufAllocator allocator, final EnumSet<MessageParts> parts) throws SerializationException {
-        final ByteBuf byteBuf = allocator.buffer();
+        final List data = !parts.contains(MessageParts.DATA) ? null :
+                aggregate == null && responseMessage.getResult() != null
+                        ? responseMessage.getResult().getData()
+                        : (List) aggregate;
+        final int results = null == data ? 0 : data.size();
+
+        // an io buffer is direct when the allocator prefers it, which lets the channel write it without a copy
+        final ByteBuf byteBuf = allocator.ioBuffer((int) Math.min(MAX_INITIAL_CAPACITY,
+                HEADER_FOOTER_SIZE_ESTIMATE + (long) results * resultSizeEstimate));
         final Buffer buffer = bufferFactory.create(byteBuf);
 
+        // strings added to the dictionary by a chunk that fails to serialize never reach the client, so they have to
+        // be dropped again for the references written by the following chunks to stay in step with the reader
+        final int dictionarySize = null == stringDictionary ? 0 : stringDictionary.size();
+
         try {
             if (parts.contains(MessageParts.HEADER)) {
                 // Version
                 buffer.writeByte(GraphBinaryWriter.VERSION_BYTE);
-                if (responseMessage.getResult().isBulked()) {
-                    buffer.writeByte(GraphBinaryWriter.BULKED_BYTE);
-                } else {
-                    buffer.writeByte((byte) 0);
+                byte flags = responseMessage.getResult().isBulked() ? GraphBinaryWriter.BULKED_BYTE : 0;
+                if (stringDictionary != null) {
+                    flags |= GraphBinaryWriter.STRING_DICTIONARY_BYTE;
                 }
+                buffer.writeByte(flags);
             }
 
-            if (parts.contains(MessageParts.DATA)) {
-                final Object data = aggregate == null && responseMessage.getResult() != null
-                        ? responseMessage.getResult().getData()
-                        : aggregate;
-                if (data != null) {
-                    for (final Object item : (List) data) {
-                        writer.write(item, buffer);
-                    }
+            if (results > 0) {
+                final int start = byteBuf.writerIndex();
+                for (final Object item : data) {
+                    writer.write(item, buffer);
                 }
+                resultSizeEstimate = Math.max(1, (resultSizeEstimate * 3 + (byteBuf.writerIndex() - start) / results) / 4);
             }
 
             if (parts.contains(MessageParts.FOOTER)) {
@@ -252,7 +302,17 @@ public class GraphBinaryMessageSerializerV4 extends AbstractMessageSerializer<Gr
                 writer.writeValue(status.getException(), buffer, true);
             }
         } catch (IOException e) {
+            byteBuf.release();
+            if (stringDictionary != null) {
+                stringDictionary.truncate(dictionarySize);
+            }
             throw new SerializationException(e);
+        } catch (RuntimeException e) {
+            byteBuf.release();
+            if (stringDictionary != null) {
+                stringDictionary.truncate(dictionarySize);
+            }
+            throw e;
         }
         return byteBuf;
     }
@@ -264,7 +324,7 @@ public class GraphBinaryMessageSerializerV4 extends AbstractMessageSerializer<Gr
         return readChunk(msg, true);
     }
 
-    private List<Object> readPayload(final Buffer buffer) throws IOException {
+    private List<Object> readPayload(final Buffer buffer, final GraphBinaryReader reader) throws IOException {
         final List<Object> result = new ArrayList<>();
         while (buffer.readableBytes() != 0) {
             final Object obj = reader.read(buffer);
@@ -276,7 +336,7 @@ public class GraphBinaryMessageSerializerV4 extends AbstractMessageSerializer<Gr
         return result;
     }
 
-    private Triplet<HttpResponseStatus, String, String> readFooter(final Buffer buffer) throws IOException {
+    private Triplet<HttpResponseStatus, String, String> readFooter(final Buffer buffer, final GraphBinaryReader reader) throws IOException {
         final HttpResponseStatus statusCode = HttpResponseStatus.valueOf(reader.readValue(buffer, Integer.class, false));
         final String message = reader.readValue(buffer, String.class, true);
         final String exception = reader.readValue(buffer, String.class, true);
@@ -288,6 +348,7 @@ public class GraphBinaryMessageSerializerV4 extends AbstractMessageSerializer<Gr
     public ResponseMessage readChunk(final ByteBuf byteBuf, final boolean isFirstChunk) throws SerializationException {
         final Buffer buffer = bufferFactory.create(byteBuf);
         boolean bulking = false;
+        GraphBinaryReader chunkReader = reader;
 
         try {
             // empty input buffer
@@ -303,10 +364,18 @@ public class GraphBinaryMessageSerializerV4 extends AbstractMessageSerializer<Gr
                     // Or the buffer offsets are wrong
                     throw new SerializationException("The most significant bit should be set according to the format");
                 }
-                bulking = (buffer.readByte() & 1) == 1;
+                final byte flags = buffer.readByte();
+                bulking = (flags & GraphBinaryWriter.BULKED_BYTE) == GraphBinaryWriter.BULKED_BYTE;
+
+                // a dictionary encoded response read by a shared serializer has to be complete in this buffer, so
+                // a dictionary for this call alone is enough to resolve its references
+                if ((flags & GraphBinaryWriter.STRING_DICTIONARY_BYTE) == GraphBinaryWriter.STRING_DICTIONARY_BYTE
+                        && null == stringDictionary) {
+                    chunkReader = new GraphBinaryReader(registry, new StringDictionary());
+                }
             }
 
-            final List<Object> result = readPayload(buffer);
+            final List<Object> result = readPayload(buffer, chunkReader);
 
             // no footer
             if (buffer.readableBytes() == 0) {
@@ -316,7 +385,7 @@ public class GraphBinaryMessageSerializerV4 extends AbstractMessageSerializer<Gr
                         .create();
             }
 
-            final Triplet<HttpResponseStatus, String, String> footer = readFooter(buffer);
+            final Triplet<HttpResponseStatus, String, String> footer = readFooter(buffer, chunkReader);
             return ResponseMessage.build()
                     .result(result)
                     .bulked(bulking)
@@ -325,7 +394,7 @@ public class GraphBinaryMessageSerializerV4 extends AbstractMessageSerializer<Gr
                     .exception(footer.getValue2())
                     .create();
 
-        } catch (IOException | IndexOutOfBoundsException ex) {
+        } catch (IOException | IndexOutOfBoundsException | IllegalStateException ex) {
             throw new SerializationException(ex);
         }
     }
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.util.ser.binary;
+
+import io.netty.buffer.Unpooled;
+import org.apache.tinkerpop.gremlin.structure.io.Buffer;
+import org.apache.tinkerpop.gremlin.structure.io.binary.GraphBinaryReader;
+import org.apache.tinkerpop.gremlin.util.ser.NettyBufferFactory;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@code List} binding of a request that keeps its elements in their serialized GraphBinary form and decodes them
+ * as they are iterated, so that a large binding consumed by something like {@code inject(x).unfold()} does not have
+ * to be held as objects all at once. Each call to {@link #iterator()} decodes the elements again. The offset of each
+ * element is recorded when the request is read, so random access decodes only the requested element.
+ */
+final class LazyBindingList<E> extends AbstractList<E> {
+    private static final NettyBufferFactory bufferFactory = new NettyBufferFactory();
+
+    private final byte[] bytes;
+    private final int[] offsets;
+    private final int size;
+    private final GraphBinaryReader reader;
+
+    LazyBindingList(final byte[] bytes, final int[] offsets, final GraphBinaryReader reader) {
+        this.bytes = bytes;
+        this.offsets = offsets;
+        this.size = offsets.length;
+        this.reader = reader;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        final Buffer buffer = bufferFactory.create(Unpooled.wrappedBuffer(bytes));
+        return new Iterator<E>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return decode(buffer, index++);
+            }
+        };
+    }
+
+    @Override
+    public E get(final int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException(String.format("Index: %s, Size: %s", index, size));
+
+        final int offset = offsets[index];
+        return decode(bufferFactory.create(Unpooled.wrappedBuffer(bytes, offset, bytes.length - offset)), index);
+    }
+
+    private E decode(final Buffer buffer, final int index) {
+        try {
+            return reader.read(buffer);
+        } catch (IOException ex) {
+            throw new IllegalStateException(String.format("Could not decode element %s of a request binding", index), ex);
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.tinkerpop.gremlin.util.ser.binary;
 
 import io.netty.buffer.ByteBuf;
 import org.apache.tinkerpop.gremlin.structure.io.Buffer;
+import org.apache.tinkerpop.gremlin.structure.io.binary.DataType;
 import org.apache.tinkerpop.gremlin.structure.io.binary.GraphBinaryReader;
 import org.apache.tinkerpop.gremlin.structure.io.binary.GraphBinaryWriter;
 import org.apache.tinkerpop.gremlin.util.Tokens;
@@ -29,11 +30,34 @@ import org.apache.tinkerpop.gremlin.util.ser.SerTokens;
 import org.apache.tinkerpop.gremlin.util.ser.SerializationException;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class RequestMessageSerializer {
     private static NettyBufferFactory bufferFactory = new NettyBufferFactory();
 
+    private final int lazyBindingSize;
+
+    public RequestMessageSerializer() {
+        this(0);
+    }
+
+    /**
+     * Creates a serializer that leaves {@code List} bindings with at least {@code lazyBindingSize} elements in their
+     * serialized form to be decoded as they are iterated. Set to zero to decode all bindings up front.
+     */
+    public RequestMessageSerializer(final int lazyBindingSize) {
+        this.lazyBindingSize = lazyBindingSize;
+    }
+
+    /**
+     * Determines if a binding read by this serializer was left in its serialized form, in which case operations like
+     * {@code hashCode()} and {@code equals()} decode all of its elements.
+     */
+    public static boolean isLazyBinding(final Object binding) {
+        return binding instanceof LazyBindingList;
+    }
+
     public RequestMessage readValue(final ByteBuf byteBuf, final GraphBinaryReader context) throws SerializationException {
         // Wrap netty's buffer
         final Buffer buffer = bufferFactory.create(byteBuf);
@@ -47,7 +71,8 @@ public class RequestMessageSerializer {
         }
 
         try {
-            final Map<String, Object> fields = context.readValue(buffer, Map.class, false);
+            final Map<String, Object> fields = lazyBindingSize > 0 ?
+                    readFields(buffer, context) : context.readValue(buffer, Map.class, false);
 
             final String gremlin = context.readValue(buffer, String.class, false);
 
@@ -73,6 +98,9 @@ public class RequestMessageSerializer {
             if (fields.containsKey(Tokens.BULK_RESULTS)) {
                 builder.addBulkResults(Boolean.parseBoolean(fields.get(Tokens.BULK_RESULTS).toString()));
             }
+            if (fields.containsKey(Tokens.REQUEST_CLASS)) {
+                builder.addRequestClass(fields.get(Tokens.REQUEST_CLASS).toString());
+            }
 
             return builder.create();
         } catch (IOException ex) {
@@ -80,6 +108,122 @@ public class RequestMessageSerializer {
         }
     }
 
+    /**
+     * Reads the fields map as the {@code MapSerializer} would, except for the bindings which are read by
+     * {@link #readBindings(Buffer, GraphBinaryReader)}.
+     */
+    private Map<String, Object> readFields(final Buffer buffer, final GraphBinaryReader context) throws IOException {
+        final int length = buffer.readInt();
+        final Map<String, Object> fields = new LinkedHashMap<>(length);
+        for (int i = 0; i < length; i++) {
+            final String key = context.read(buffer);
+            fields.put(key, SerTokens.TOKEN_BINDINGS.equals(key) ? readBindings(buffer, context) : context.read(buffer));
+        }
+        return fields;
+    }
+
+    private Object readBindings(final Buffer buffer, final GraphBinaryReader context) throws IOException {
+        final int start = buffer.readerIndex();
+        if (DataType.get(Byte.toUnsignedInt(buffer.readByte())) != DataType.MAP || (buffer.readByte() & 1) == 1) {
+            buffer.readerIndex(start);
+            return context.read(buffer);
+        }
+
+        final int length = buffer.readInt();
+        final Map<Object, Object> bindings = new LinkedHashMap<>(length);
+        for (int i = 0; i < length; i++) {
+            bindings.put(context.read(buffer), readBinding(buffer, context));
+        }
+        return bindings;
+    }
+
+    /**
+     * Reads a binding value, leaving a large {@code List} in its serialized form along with the offset of each element.
+     * Numbers, booleans, UUIDs and strings are stepped over without being decoded, while other types still have to be
+     * decoded once to find where they end as GraphBinary values are not length prefixed. None of the elements are
+     * retained, so the request holds the compact serialized form rather than the objects.
+     */
+    private Object readBinding(final Buffer buffer, final GraphBinaryReader context) throws IOException {
+        final int start = buffer.readerIndex();
+        if (DataType.get(Byte.toUnsignedInt(buffer.readByte())) != DataType.LIST || buffer.readByte() != 0) {
+            buffer.readerIndex(start);
+            return context.read(buffer);
+        }
+
+        final int size = buffer.readInt();
+        if (size < lazyBindingSize) {
+            buffer.readerIndex(start);
+            return context.read(buffer);
+        }
+
+        final int elementsStart = buffer.readerIndex();
+        final int[] offsets = new int[size];
+        for (int i = 0; i < size; i++) {
+            offsets[i] = buffer.readerIndex() - elementsStart;
+            skip(buffer, context);
+        }
+
+        final byte[] elements = new byte[buffer.readerIndex() - elementsStart];
+        buffer.getBytes(elementsStart, elements);
+        return new LazyBindingList<>(elements, offsets, context);
+    }
+
+    /**
+     * Moves the buffer past a fully qualified value, decoding it only when its length cannot be told from its type.
+     */
+    private static void skip(final Buffer buffer, final GraphBinaryReader context) throws IOException {
+        final int start = buffer.readerIndex();
+        final int length = readValueLength(DataType.get(Byte.toUnsignedInt(buffer.readByte())), buffer, context);
+        if (length < 0) {
+            buffer.readerIndex(start);
+            context.read(buffer);
+        } else {
+            buffer.readerIndex(buffer.readerIndex() + length);
+        }
+    }
+
+    /**
+     * Reads the value flag and, for strings, the length prefix of a value of the given type and returns the number of
+     * bytes that remain in the value, or -1 if the value has to be decoded to find its end. Strings are decoded when
+     * a string dictionary is in use as they may refer to, or add to, the strings read before them.
+     */
+    private static int readValueLength(final DataType type, final Buffer buffer, final GraphBinaryReader context) {
+        if (null == type) return -1;
+
+        final int length;
+        switch (type) {
+            case BYTE:
+            case BOOLEAN:
+                length = 1;
+                break;
+            case SHORT:
+                length = 2;
+                break;
+            case INT:
+            case FLOAT:
+                length = 4;
+                break;
+            case LONG:
+            case DOUBLE:
+                length = 8;
+                break;
+            case UUID:
+                length = 16;
+                break;
+            case STRING:
+                if (null != context.getStringDictionary()) return -1;
+                length = 0;
+                break;
+            default:
+                return -1;
+        }
+
+        final byte flag = buffer.readByte();
+        if (flag == 1) return 0;
+        if (flag != 0) return -1;
+        return DataType.STRING == type ? buffer.readInt() : length;
+    }
+
     public void writeValue(final RequestMessage value, final ByteBuf byteBuf, final GraphBinaryWriter context) throws SerializationException {
         // Wrap netty's buffer
         final Buffer buffer = bufferFactory.create(byteBuf);
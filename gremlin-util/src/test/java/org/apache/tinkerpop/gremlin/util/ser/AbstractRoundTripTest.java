@@ -124,7 +124,8 @@ public abstract class AbstractRoundTripTest {
 
         return Arrays.asList(
                 new Object[] {"String", "ABC", null},
-                // todo: add tests for non-ASCII chars
+                new Object[] {"StringEmpty", "", null},
+                new Object[] {"StringNonAscii", "\u00e9t\u00e9 \u4e2d\u6587 \ud83d\ude00", null},
                 new Object[] {"Char", '$', null},
 
                 // numerics
@@ -22,20 +22,31 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import org.apache.tinkerpop.gremlin.structure.io.binary.TypeSerializerRegistry;
+import org.apache.tinkerpop.gremlin.util.Tokens;
+import org.apache.tinkerpop.gremlin.util.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.util.message.ResponseMessage;
 import org.apache.tinkerpop.gremlin.util.ser.GraphBinaryMessageSerializerV4;
+import org.apache.tinkerpop.gremlin.util.ser.SerTokens;
 import org.apache.tinkerpop.gremlin.util.ser.SerializationException;
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class GraphBinaryMessageSerializerV4Test {
 
@@ -181,6 +192,94 @@ public class GraphBinaryMessageSerializerV4Test {
         assertEquals(combinedData, deserialized.getResult().getData());
     }
 
+    @Test
+    public void shouldSerializeAndDeserializeStringDictionaryResponseInChunks() throws SerializationException {
+        final GraphBinaryMessageSerializerV4 writingSerializer = serializer.withStringDictionary();
+        final GraphBinaryMessageSerializerV4 readingSerializer = serializer.withStringDictionary();
+
+        final List headerData = Arrays.asList(person(1), person(2));
+        final List chunkData = Arrays.asList(person(3), "name", person(4));
+        final ResponseMessage header = ResponseMessage.build().result(headerData).create();
+        final ResponseMessage footer = ResponseMessage.build()
+                .result(Collections.singletonList(person(5)))
+                .code(HttpResponseStatus.OK)
+                .statusMessage("person")
+                .create();
+
+        final ByteBuf bb0 = writingSerializer.writeHeader(header, allocator);
+        final ByteBuf bb1 = writingSerializer.writeChunk(chunkData, allocator);
+        final ByteBuf bb2 = writingSerializer.writeFooter(footer, allocator);
+        final int chunkSize = bb1.readableBytes();
+
+        assertEquals(headerData, readingSerializer.readChunk(bb0, true).getResult().getData());
+        assertEquals(chunkData, readingSerializer.readChunk(bb1, false).getResult().getData());
+        final ResponseMessage deserialized = readingSerializer.readChunk(bb2, false);
+        assertEquals(footer.getResult().getData(), deserialized.getResult().getData());
+        assertEquals(footer.getStatus().getCode(), deserialized.getStatus().getCode());
+        assertEquals(footer.getStatus().getMessage(), deserialized.getStatus().getMessage());
+
+        // the same chunk takes more room when its strings are written in full
+        final ByteBuf plain = serializer.writeChunk(chunkData, allocator);
+        assertTrue(plain.readableBytes() > chunkSize);
+    }
+
+    @Test
+    public void shouldDeserializeStringDictionaryResponseInSingleBuffer() throws SerializationException {
+        final GraphBinaryMessageSerializerV4 writingSerializer = serializer.withStringDictionary();
+
+        final List headerData = Arrays.asList(person(1), person(2));
+        final List chunkData = Arrays.asList(person(3), person(4));
+        final ResponseMessage header = ResponseMessage.build().result(headerData).create();
+        final ResponseMessage footer = ResponseMessage.build()
+                .result(Collections.emptyList())
+                .code(HttpResponseStatus.OK)
+                .create();
+
+        final ByteBuf bbCombined = allocator.buffer()
+                .writeBytes(writingSerializer.writeHeader(header, allocator))
+                .writeBytes(writingSerializer.writeChunk(chunkData, allocator))
+                .writeBytes(writingSerializer.writeFooter(footer, allocator));
+
+        final ResponseMessage deserialized = serializer.readChunk(bbCombined, true);
+
+        final List<Object> combinedData = new ArrayList<>();
+        Stream.of(headerData, chunkData).forEach(combinedData::addAll);
+        assertEquals(combinedData, deserialized.getResult().getData());
+        assertEquals(HttpResponseStatus.OK, deserialized.getStatus().getCode());
+    }
+
+    @Test
+    public void shouldDeserializePlainResponseWithStringDictionary() throws SerializationException {
+        final GraphBinaryMessageSerializerV4 readingSerializer = serializer.withStringDictionary();
+
+        final List headerData = Arrays.asList(person(1), person(2));
+        final List chunkData = Arrays.asList(person(3), person(4));
+        final ResponseMessage header = ResponseMessage.build().result(headerData).create();
+
+        assertEquals(headerData, readingSerializer.readChunk(serializer.writeHeader(header, allocator), true).getResult().getData());
+        assertEquals(chunkData, readingSerializer.readChunk(serializer.writeChunk(chunkData, allocator), false).getResult().getData());
+    }
+
+    @Test
+    public void shouldNotReferToStringsOfChunkThatFailedToSerialize() throws SerializationException {
+        final GraphBinaryMessageSerializerV4 writingSerializer = serializer.withStringDictionary();
+        final GraphBinaryMessageSerializerV4 readingSerializer = serializer.withStringDictionary();
+
+        final List headerData = Collections.singletonList(person(1));
+        final ResponseMessage header = ResponseMessage.build().result(headerData).create();
+        assertEquals(headerData, readingSerializer.readChunk(writingSerializer.writeHeader(header, allocator), true).getResult().getData());
+
+        try {
+            writingSerializer.writeChunk(Arrays.asList("never sent", new Object()), allocator);
+            fail("The chunk should not have been serialized");
+        } catch (SerializationException ignored) {
+            // the chunk is not sent to the reader
+        }
+
+        final List chunkData = Arrays.asList("never sent", person(2));
+        assertEquals(chunkData, readingSerializer.readChunk(writingSerializer.writeChunk(chunkData, allocator), false).getResult().getData());
+    }
+
     @Test
     public void shouldSupportConfigurationOfRegistryBuilder() {
         final Map<String, Object> config = new HashMap<>();
@@ -202,6 +301,76 @@ public class GraphBinaryMessageSerializerV4Test {
         serializer.configure(config, null);
     }
 
+    @Test
+    public void shouldDeserializeLargeListBindingsLazily() throws SerializationException {
+        final Map<String, Object> config = new HashMap<>();
+        config.put(GraphBinaryMessageSerializerV4.TOKEN_LAZY_BINDING_SIZE, 100);
+        final GraphBinaryMessageSerializerV4 lazySerializer = new GraphBinaryMessageSerializerV4();
+        lazySerializer.configure(config, null);
+
+        final List<Object> large = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            large.add(i % 2 == 0 ? person(i) : "value" + i);
+        }
+        final List<Object> small = Arrays.asList(1, "two", 3L);
+        final RequestMessage request = RequestMessage.build("g.inject(x).unfold()")
+                .addBinding("x", large)
+                .addBinding("y", small)
+                .addBinding("z", "test")
+                .addG("g")
+                .create();
+
+        final RequestMessage deserialized = lazySerializer.deserializeBinaryRequest(
+                lazySerializer.serializeRequestAsBinary(request, allocator));
+        final Map<String, Object> bindings = deserialized.getField(SerTokens.TOKEN_BINDINGS);
+
+        assertThat(bindings.get("x"), instanceOf(LazyBindingList.class));
+        assertThat(bindings.get("y"), not(instanceOf(LazyBindingList.class)));
+        assertTrue(RequestMessageSerializer.isLazyBinding(bindings.get("x")));
+        assertFalse(RequestMessageSerializer.isLazyBinding(bindings.get("y")));
+        assertEquals(large, bindings.get("x"));
+        assertEquals(large.get(501), ((List) bindings.get("x")).get(501));
+        assertEquals(large.get(3), ((List) bindings.get("x")).get(3));
+        assertEquals(small, bindings.get("y"));
+        assertEquals("test", bindings.get("z"));
+        assertEquals("g", deserialized.getField(Tokens.ARGS_G));
+        assertEquals(request.getGremlin(), deserialized.getGremlin());
+    }
+
+    @Test
+    public void shouldDeserializeLargeListBindingsOfSimpleTypesLazily() throws SerializationException {
+        final Map<String, Object> config = new HashMap<>();
+        config.put(GraphBinaryMessageSerializerV4.TOKEN_LAZY_BINDING_SIZE, 10);
+        final GraphBinaryMessageSerializerV4 lazySerializer = new GraphBinaryMessageSerializerV4();
+        lazySerializer.configure(config, null);
+
+        final List<Object> large = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            large.addAll(Arrays.asList(i, (long) i, (double) i, (float) i, (short) i, (byte) i, i % 2 == 0,
+                    "value" + i, UUID.randomUUID(), null, Collections.singletonList(i)));
+        }
+        final RequestMessage request = RequestMessage.build("g.inject(x).unfold()").addBinding("x", large).create();
+
+        final RequestMessage deserialized = lazySerializer.deserializeBinaryRequest(
+                lazySerializer.serializeRequestAsBinary(request, allocator));
+        final List<Object> x = (List<Object>) ((Map<String, Object>) deserialized.getField(SerTokens.TOKEN_BINDINGS)).get("x");
+
+        assertTrue(RequestMessageSerializer.isLazyBinding(x));
+        assertEquals(large, x);
+        for (int i = large.size() - 1; i >= 0; i--) {
+            assertEquals(large.get(i), x.get(i));
+        }
+    }
+
+    private static Map<String, Object> person(final int id) {
+        final Map<String, Object> person = new HashMap<>();
+        person.put("id", id);
+        person.put("label", "person");
+        person.put("name", "name" + id);
+        person.put("age", 29 + id);
+        return person;
+    }
+
     // copy-paste because response format will be different
     private static void assertResponseEquals(final ResponseMessage expected, final ResponseMessage actual) {
         // Status
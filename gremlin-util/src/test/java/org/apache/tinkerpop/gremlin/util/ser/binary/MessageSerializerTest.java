@@ -77,6 +77,7 @@ public class MessageSerializerTest {
                 .addG("g1")
                 .addLanguage("some-lang")
                 .addBinding("k", "v")
+                .addRequestClass("batch")
                 .create();
 
         final ByteBuf buffer = serializer.serializeRequestAsBinary(request, allocator);
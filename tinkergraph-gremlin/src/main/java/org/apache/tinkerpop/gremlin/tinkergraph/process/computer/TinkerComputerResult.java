@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.util.DefaultComputerResult;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The {@link ComputerResult} of a {@link TinkerGraphComputer} which additionally reports how long each worker was
+ * busy so that an uneven distribution of work across the workers can be spotted.
+ */
+public final class TinkerComputerResult extends DefaultComputerResult {
+
+    private final List<Long> workerBusyTimes;
+
+    public TinkerComputerResult(final Graph graph, final Memory memory, final List<Long> workerBusyTimes) {
+        super(graph, memory);
+        this.workerBusyTimes = Collections.unmodifiableList(workerBusyTimes);
+    }
+
+    /**
+     * The time in nanoseconds each worker spent executing the vertex program, summed over all iterations. The list
+     * is empty if no vertex program was executed.
+     */
+    public List<Long> getWorkerBusyTimes() {
+        return this.workerBusyTimes;
+    }
+}
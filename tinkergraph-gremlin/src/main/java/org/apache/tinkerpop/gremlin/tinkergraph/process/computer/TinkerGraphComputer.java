@@ -18,6 +18,7 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
 
+import org.apache.commons.configuration2.Configuration;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
@@ -26,7 +27,6 @@ import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
 import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.optimization.GraphFilterStrategy;
 import org.apache.tinkerpop.gremlin.process.computer.util.ComputerGraph;
-import org.apache.tinkerpop.gremlin.process.computer.util.DefaultComputerResult;
 import org.apache.tinkerpop.gremlin.process.computer.util.GraphComputerHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
@@ -40,6 +40,7 @@ import org.apache.tinkerpop.gremlin.tinkergraph.structure.AbstractTinkerGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
 
+import java.io.File;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -58,6 +59,21 @@ import java.util.concurrent.ThreadFactory;
  */
 public final class TinkerGraphComputer implements GraphComputer {
 
+    /**
+     * Keeps messages in memory-mapped files rather than on the heap, see {@link #configure(String, Object)}.
+     */
+    public static final String GREMLIN_TINKERGRAPH_COMPUTER_OFF_HEAP = "gremlin.tinkergraph.computer.offHeap";
+
+    /**
+     * The directory for the memory-mapped files of the off-heap mode, defaults to {@code java.io.tmpdir}.
+     */
+    public static final String GREMLIN_TINKERGRAPH_COMPUTER_OFF_HEAP_DIRECTORY = "gremlin.tinkergraph.computer.offHeapDirectory";
+
+    /**
+     * The size in bytes of each mapped region of the off-heap mode which also bounds the size of a single message.
+     */
+    public static final String GREMLIN_TINKERGRAPH_COMPUTER_OFF_HEAP_CHUNK_SIZE = "gremlin.tinkergraph.computer.offHeapChunkSize";
+
     static {
         // GraphFilters are expensive w/ TinkerGraphComputer as everything is already in memory
         TraversalStrategies.GlobalCache.registerStrategies(TinkerGraphComputer.class,
@@ -70,7 +86,10 @@ public final class TinkerGraphComputer implements GraphComputer {
     private VertexProgram<?> vertexProgram;
     private final AbstractTinkerGraph graph;
     private TinkerMemory memory;
-    private final TinkerMessageBoard messageBoard = new TinkerMessageBoard();
+    private TinkerMessageBoard messageBoard;
+    private boolean offHeap;
+    private String offHeapDirectory;
+    private int offHeapChunkSize;
     private boolean executed = false;
     private final Set<MapReduce> mapReducers = new HashSet<>();
     private int workers = Runtime.getRuntime().availableProcessors();
@@ -86,6 +105,26 @@ public final class TinkerGraphComputer implements GraphComputer {
 
     public TinkerGraphComputer(final AbstractTinkerGraph graph) {
         this.graph = graph;
+        final Configuration configuration = graph.configuration();
+        this.offHeap = configuration.getBoolean(GREMLIN_TINKERGRAPH_COMPUTER_OFF_HEAP, false);
+        this.offHeapDirectory = configuration.getString(GREMLIN_TINKERGRAPH_COMPUTER_OFF_HEAP_DIRECTORY, System.getProperty("java.io.tmpdir"));
+        this.offHeapChunkSize = configuration.getInt(GREMLIN_TINKERGRAPH_COMPUTER_OFF_HEAP_CHUNK_SIZE, 64 * 1024 * 1024);
+    }
+
+    /**
+     * Supports the {@link #GREMLIN_TINKERGRAPH_COMPUTER_OFF_HEAP}, {@link #GREMLIN_TINKERGRAPH_COMPUTER_OFF_HEAP_DIRECTORY}
+     * and {@link #GREMLIN_TINKERGRAPH_COMPUTER_OFF_HEAP_CHUNK_SIZE} keys which default to the values of the same keys
+     * in the graph configuration.
+     */
+    @Override
+    public GraphComputer configure(final String key, final Object value) {
+        if (key.equals(GREMLIN_TINKERGRAPH_COMPUTER_OFF_HEAP))
+            this.offHeap = Boolean.parseBoolean(value.toString());
+        else if (key.equals(GREMLIN_TINKERGRAPH_COMPUTER_OFF_HEAP_DIRECTORY))
+            this.offHeapDirectory = value.toString();
+        else if (key.equals(GREMLIN_TINKERGRAPH_COMPUTER_OFF_HEAP_CHUNK_SIZE))
+            this.offHeapChunkSize = Integer.parseInt(value.toString());
+        return this;
     }
 
     @Override
@@ -162,6 +201,9 @@ public final class TinkerGraphComputer implements GraphComputer {
 
         // initialize the memory
         this.memory = new TinkerMemory(this.vertexProgram, this.mapReducers);
+        this.messageBoard = this.offHeap ?
+                new TinkerOffHeapMessageBoard(this.graph, new File(this.offHeapDirectory), this.offHeapChunkSize, this.workers) :
+                new TinkerMessageBoard();
         final Future<ComputerResult> result = computerService.submit(() -> {
             final long time = System.currentTimeMillis();
             final TinkerGraphComputerView view = TinkerHelper.createGraphComputerView(this.graph, this.graphFilter, null != this.vertexProgram ? this.vertexProgram.getVertexComputeKeys() : Collections.emptySet());
@@ -243,7 +285,8 @@ public final class TinkerGraphComputer implements GraphComputer {
                 // determine the resultant graph based on the result graph/persist state
                 final Graph resultGraph = view.processResultGraphPersist(this.resultGraph, this.persist);
                 TinkerHelper.dropGraphComputerView(this.graph); // drop the view from the original source graph
-                return new DefaultComputerResult(resultGraph, this.memory.asImmutable());
+                return new TinkerComputerResult(resultGraph, this.memory.asImmutable(),
+                        null != this.vertexProgram ? workers.getWorkerBusyTimes() : Collections.emptyList());
             } catch (InterruptedException ie) {
                 workers.closeNow();
                 throw new TraversalInterruptedException();
@@ -252,6 +295,7 @@ public final class TinkerGraphComputer implements GraphComputer {
                 throw new RuntimeException(ex);
             } finally {
                 workers.close();
+                this.messageBoard.close();
             }
         });
         this.computerService.shutdown();
@@ -18,29 +18,65 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
 
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-final class TinkerMessageBoard<M> {
+class TinkerMessageBoard<M> implements AutoCloseable {
 
     public Map<MessageScope, Map<Vertex,Queue<M>>> sendMessages = new ConcurrentHashMap<>();
     public Map<MessageScope, Map<Vertex, Queue<M>>> receiveMessages = new ConcurrentHashMap<>();
     public Set<MessageScope> previousMessageScopes = new HashSet<>();
     public Set<MessageScope> currentMessageScopes = new HashSet<>();
 
+    /**
+     * The message scopes that had messages sent to them in the previous iteration.
+     */
+    public Set<MessageScope> receiveScopes() {
+        return this.receiveMessages.keySet();
+    }
+
+    /**
+     * The messages sent in the previous iteration that are stored under the given vertex, which is the sender for
+     * a {@link MessageScope.Local} and the recipient for a {@link MessageScope.Global}.
+     */
+    public Iterator<M> receiveMessages(final MessageScope messageScope, final Vertex vertex) {
+        final Queue<M> queue = this.receiveMessages.getOrDefault(messageScope, Collections.emptyMap()).get(vertex);
+        return null == queue ? Collections.emptyIterator() : queue.iterator();
+    }
+
+    public void sendMessage(final MessageScope messageScope, final Vertex vertex, final M message, final MessageCombiner<M> combiner) {
+        this.sendMessages.compute(messageScope, (ms, messages) -> {
+            if(null==messages) messages = new ConcurrentHashMap<>();
+            return messages;
+        });
+        this.sendMessages.get(messageScope).compute(vertex, (v, queue) -> {
+            if (null == queue) queue = new ConcurrentLinkedQueue<>();
+            queue.add(null != combiner && !queue.isEmpty() ? combiner.combine(queue.remove(), message) : message);
+            return queue;
+        });
+    }
+
     public void completeIteration() {
         this.receiveMessages = this.sendMessages;
         this.sendMessages = new ConcurrentHashMap<>();
         this.previousMessageScopes = this.currentMessageScopes;
         this.currentMessageScopes = new HashSet<>();
     }
+
+    @Override
+    public void close() {
+    }
 }
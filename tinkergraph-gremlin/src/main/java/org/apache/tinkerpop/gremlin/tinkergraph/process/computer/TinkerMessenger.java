@@ -34,11 +34,8 @@ import org.apache.tinkerpop.gremlin.util.iterator.MultiIterator;
 
 import java.util.Iterator;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Spliterator;
 import java.util.Spliterators;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -60,7 +57,7 @@ public final class TinkerMessenger<M> implements Messenger<M> {
     @Override
     public Iterator<M> receiveMessages() {
         final MultiIterator<M> multiIterator = new MultiIterator<>();
-        for (final MessageScope messageScope : this.messageBoard.receiveMessages.keySet()) {
+        for (final MessageScope messageScope : this.messageBoard.receiveScopes()) {
 //        for (final MessageScope messageScope : this.messageBoard.previousMessageScopes) {
             if (messageScope instanceof MessageScope.Local) {
                 final MessageScope.Local<M> localMessageScope = (MessageScope.Local<M>) messageScope;
@@ -76,19 +73,14 @@ public final class TinkerMessenger<M> implements Messenger<M> {
                             } else {
                                 vv = e.outVertex() == this.vertex ? e.inVertex() : e.outVertex();
                             }
-                            return this.messageBoard.receiveMessages.get(messageScope).get(vv);
+                            return this.messageBoard.receiveMessages(messageScope, vv);
                         })
-                        .filter(q -> null != q)
-                        .flatMap(Queue::stream)
+                        .flatMap(TinkerMessenger::stream)
                         .map(message -> localMessageScope.getEdgeFunction().apply(message, edge[0]))
                         .iterator());
 
             } else {
-                multiIterator.addIterator(Stream.of(this.vertex)
-                        .map(this.messageBoard.receiveMessages.get(messageScope)::get)
-                        .filter(q -> null != q)
-                        .flatMap(Queue::stream)
-                        .iterator());
+                multiIterator.addIterator(this.messageBoard.receiveMessages(messageScope, this.vertex));
             }
         }
         return multiIterator;
@@ -105,15 +97,11 @@ public final class TinkerMessenger<M> implements Messenger<M> {
     }
 
     private void addMessage(final Vertex vertex, final M message, MessageScope messageScope) {
-        this.messageBoard.sendMessages.compute(messageScope, (ms, messages) -> {
-            if(null==messages) messages = new ConcurrentHashMap<>();
-            return messages;
-        });
-        this.messageBoard.sendMessages.get(messageScope).compute(vertex, (v, queue) -> {
-            if (null == queue) queue = new ConcurrentLinkedQueue<>();
-            queue.add(null != this.combiner && !queue.isEmpty() ? this.combiner.combine(queue.remove(), message) : message);
-            return queue;
-        });
+        this.messageBoard.sendMessage(messageScope, vertex, message, this.combiner);
+    }
+
+    private static <M> Stream<M> stream(final Iterator<M> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
     }
 
     ///////////
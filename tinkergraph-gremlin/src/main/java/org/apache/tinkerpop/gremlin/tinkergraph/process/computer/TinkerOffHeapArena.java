@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An append-only store of byte records backed by a memory-mapped temporary file. The file is mapped in fixed size
+ * chunks as it grows so that its contents live in the page cache rather than on the heap and can be paged out by the
+ * operating system. Each record carries the address of another record so that callers can chain them into lists.
+ * Address {@code 0} is never handed out and marks the end of such a list.
+ */
+final class TinkerOffHeapArena implements AutoCloseable {
+
+    private static final int HEADER = Long.BYTES + Integer.BYTES;
+
+    private final File file;
+    private final FileChannel channel;
+    private final int chunkSize;
+    private final List<ByteBuffer> chunks = new CopyOnWriteArrayList<>();
+    private final AtomicLong position = new AtomicLong(Long.BYTES);
+
+    TinkerOffHeapArena(final File directory, final int chunkSize) {
+        if (chunkSize <= HEADER)
+            throw new IllegalArgumentException("The off-heap chunk size must be larger than " + HEADER + " bytes: " + chunkSize);
+        this.chunkSize = chunkSize;
+        try {
+            this.file = File.createTempFile("tinkergraph-computer-", ".offheap", directory);
+            this.channel = new RandomAccessFile(this.file, "rw").getChannel();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends a record and returns its address.
+     */
+    long append(final long next, final byte[] bytes) {
+        final int size = HEADER + bytes.length;
+        if (size > this.chunkSize)
+            throw new IllegalStateException("A record of " + size + " bytes does not fit into an off-heap chunk of " + this.chunkSize + " bytes");
+        final long address = this.allocate(size);
+        final ByteBuffer buffer = this.chunk(address).duplicate();
+        buffer.position(this.offset(address));
+        buffer.putLong(next).putInt(bytes.length).put(bytes);
+        return address;
+    }
+
+    void setNext(final long address, final long next) {
+        this.chunk(address).putLong(this.offset(address), next);
+    }
+
+    long next(final long address) {
+        return this.chunk(address).getLong(this.offset(address));
+    }
+
+    byte[] read(final long address) {
+        final ByteBuffer buffer = this.chunk(address).duplicate();
+        buffer.position(this.offset(address) + Long.BYTES);
+        final byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Discards all records while keeping the mapped chunks around for reuse.
+     */
+    void reset() {
+        this.position.set(Long.BYTES);
+    }
+
+    @Override
+    public void close() {
+        // mapped chunks are released once they are garbage collected, the file can go right away
+        this.chunks.clear();
+        try {
+            this.channel.close();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            this.file.delete();
+        }
+    }
+
+    private long allocate(final int size) {
+        while (true) {
+            final long current = this.position.get();
+            final long remaining = this.chunkSize - (current % this.chunkSize);
+            // records never straddle two chunks
+            final long address = remaining < size ? current + remaining : current;
+            if (this.position.compareAndSet(current, address + size))
+                return address;
+        }
+    }
+
+    private int offset(final long address) {
+        return (int) (address % this.chunkSize);
+    }
+
+    private ByteBuffer chunk(final long address) {
+        final int index = (int) (address / this.chunkSize);
+        if (index < this.chunks.size())
+            return this.chunks.get(index);
+        synchronized (this.chunks) {
+            try {
+                while (this.chunks.size() <= index) {
+                    this.chunks.add(this.channel.map(FileChannel.MapMode.READ_WRITE, (long) this.chunks.size() * this.chunkSize, this.chunkSize));
+                }
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this.chunks.get(index);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoPool;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoVersion;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.AbstractTinkerGraph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerIoRegistryV3;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A {@link TinkerMessageBoard} that keeps the messages themselves in a memory-mapped {@link TinkerOffHeapArena}
+ * rather than on the heap. Messages are serialized with Gryo and each vertex is assigned a dense index so that the
+ * only per-vertex state left on the heap is the address of the head of its message list. Two arenas alternate
+ * between the sending and the receiving side so that the space of the previous iteration is reused.
+ * <p/>
+ * A {@link MessageCombiner} is not applied when sending as that would require reading back what was already written.
+ * Combiners are an optimization only, so vertex programs receive the uncombined messages instead.
+ */
+final class TinkerOffHeapMessageBoard<M> extends TinkerMessageBoard<M> {
+
+    private final Map<Object, Integer> indices = new HashMap<>();
+    private final GryoPool gryoPool;
+    private TinkerOffHeapArena sendArena;
+    private TinkerOffHeapArena receiveArena;
+    private Map<MessageScope, AtomicLongArray> sendHeads = new ConcurrentHashMap<>();
+    private Map<MessageScope, AtomicLongArray> receiveHeads = new ConcurrentHashMap<>();
+
+    TinkerOffHeapMessageBoard(final AbstractTinkerGraph graph, final File directory, final int chunkSize, final int workers) {
+        graph.vertices().forEachRemaining(vertex -> this.indices.put(vertex.id(), this.indices.size()));
+        this.gryoPool = GryoPool.build().version(GryoVersion.V3_0).poolSize(workers)
+                .ioRegistry(TinkerIoRegistryV3.instance())
+                .initializeMapper(m -> m.registrationRequired(false)).create();
+        this.sendArena = new TinkerOffHeapArena(directory, chunkSize);
+        this.receiveArena = new TinkerOffHeapArena(directory, chunkSize);
+    }
+
+    @Override
+    public Set<MessageScope> receiveScopes() {
+        return this.receiveHeads.keySet();
+    }
+
+    @Override
+    public Iterator<M> receiveMessages(final MessageScope messageScope, final Vertex vertex) {
+        final AtomicLongArray heads = this.receiveHeads.get(messageScope);
+        final Integer index = this.indices.get(vertex.id());
+        if (null == heads || null == index)
+            return Collections.emptyIterator();
+        final TinkerOffHeapArena arena = this.receiveArena;
+        return new Iterator<M>() {
+            private long address = heads.get(index);
+
+            @Override
+            public boolean hasNext() {
+                return 0L != this.address;
+            }
+
+            @Override
+            public M next() {
+                if (0L == this.address)
+                    throw new NoSuchElementException();
+                final byte[] bytes = arena.read(this.address);
+                this.address = arena.next(this.address);
+                return deserialize(bytes);
+            }
+        };
+    }
+
+    @Override
+    public void sendMessage(final MessageScope messageScope, final Vertex vertex, final M message, final MessageCombiner<M> combiner) {
+        final Integer index = this.indices.get(vertex.id());
+        // a message to a vertex outside of the graph can never be received
+        if (null == index)
+            return;
+        final AtomicLongArray heads = this.sendHeads.computeIfAbsent(messageScope, ms -> new AtomicLongArray(this.indices.size()));
+        long head = heads.get(index);
+        final long address = this.sendArena.append(head, this.serialize(message));
+        while (!heads.compareAndSet(index, head, address)) {
+            head = heads.get(index);
+            this.sendArena.setNext(address, head);
+        }
+    }
+
+    @Override
+    public void completeIteration() {
+        final TinkerOffHeapArena arena = this.receiveArena;
+        arena.reset();
+        this.receiveArena = this.sendArena;
+        this.sendArena = arena;
+        this.receiveHeads = this.sendHeads;
+        this.sendHeads = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.sendArena.close();
+        } finally {
+            this.receiveArena.close();
+        }
+    }
+
+    private byte[] serialize(final M message) {
+        final Kryo kryo = this.gryoPool.takeKryo();
+        try {
+            final Output output = new Output(256, -1);
+            kryo.writeClassAndObject(output, message);
+            return output.toBytes();
+        } finally {
+            this.gryoPool.offerKryo(kryo);
+        }
+    }
+
+    private M deserialize(final byte[] bytes) {
+        final Kryo kryo = this.gryoPool.takeKryo();
+        try {
+            return (M) kryo.readClassAndObject(new Input(bytes));
+        } finally {
+            this.gryoPool.offerKryo(kryo);
+        }
+    }
+}
@@ -32,12 +32,15 @@ import org.apache.tinkerpop.gremlin.util.function.TriConsumer;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.function.Consumer;
 
 /**
@@ -48,6 +51,13 @@ public final class TinkerWorkerPool implements AutoCloseable {
 
     private static final BasicThreadFactory THREAD_FACTORY_WORKER = new BasicThreadFactory.Builder().namingPattern("tinker-worker-%d").build();
 
+    /**
+     * The number of chunks each worker would process if the work was spread evenly. More chunks let idle workers pick
+     * up the slack of a worker stuck on high degree vertices at the cost of more contention on the shared cursor.
+     */
+    private static final int CHUNKS_PER_WORKER = 16;
+    private static final int MAX_CHUNK_SIZE = 1024;
+
     private final int numberOfWorkers;
     private final ExecutorService workerPool;
     private final CompletionService<Object> completionService;
@@ -55,7 +65,9 @@ public final class TinkerWorkerPool implements AutoCloseable {
     private VertexProgramPool vertexProgramPool;
     private MapReducePool mapReducePool;
     private final Queue<TinkerWorkerMemory> workerMemoryPool = new ConcurrentLinkedQueue<>();
-    private final List<List<Vertex>> workerVertices = new ArrayList<>();
+    private final List<Vertex> vertices;
+    private final int chunkSize;
+    private final AtomicLongArray workerBusyTimes;
 
     public TinkerWorkerPool(final AbstractTinkerGraph graph, final TinkerMemory memory, final int numberOfWorkers) {
         this.numberOfWorkers = numberOfWorkers;
@@ -63,26 +75,11 @@ public final class TinkerWorkerPool implements AutoCloseable {
         this.completionService = new ExecutorCompletionService<>(this.workerPool);
         for (int i = 0; i < this.numberOfWorkers; i++) {
             this.workerMemoryPool.add(new TinkerWorkerMemory(memory));
-            this.workerVertices.add(new ArrayList<>());
-        }
-        int batchSize = graph.getVerticesCount() / this.numberOfWorkers;
-        if (0 == batchSize)
-            batchSize = 1;
-        int counter = 0;
-        int index = 0;
-
-        List<Vertex> currentWorkerVertices = this.workerVertices.get(index);
-        final Iterator<Vertex> iterator = graph.vertices();
-        while (iterator.hasNext()) {
-            final Vertex vertex = iterator.next();
-            if (counter++ < batchSize || index == this.workerVertices.size() - 1) {
-                currentWorkerVertices.add(vertex);
-            } else {
-                currentWorkerVertices = this.workerVertices.get(++index);
-                currentWorkerVertices.add(vertex);
-                counter = 1;
-            }
         }
+        this.workerBusyTimes = new AtomicLongArray(this.numberOfWorkers);
+        this.vertices = new ArrayList<>(graph.getVerticesCount());
+        graph.vertices().forEachRemaining(this.vertices::add);
+        this.chunkSize = Math.max(1, Math.min(MAX_CHUNK_SIZE, this.vertices.size() / (this.numberOfWorkers * CHUNKS_PER_WORKER)));
     }
 
     public void setVertexProgram(final VertexProgram vertexProgram) {
@@ -93,14 +90,32 @@ public final class TinkerWorkerPool implements AutoCloseable {
         this.mapReducePool = new MapReducePool(mapReduce, this.numberOfWorkers);
     }
 
+    /**
+     * The time in nanoseconds each worker spent executing the vertex program, summed over all iterations.
+     */
+    public List<Long> getWorkerBusyTimes() {
+        final List<Long> busyTimes = new ArrayList<>(this.numberOfWorkers);
+        for (int i = 0; i < this.numberOfWorkers; i++) {
+            busyTimes.add(this.workerBusyTimes.get(i));
+        }
+        return busyTimes;
+    }
+
     public void executeVertexProgram(final TriConsumer<Iterator<Vertex>, VertexProgram, TinkerWorkerMemory> worker) throws InterruptedException {
+        // rather than a fixed partition per worker, all workers claim small chunks from a shared cursor so that the
+        // ones that finish early keep taking work until every vertex has been processed
+        final AtomicInteger cursor = new AtomicInteger(0);
         for (int i = 0; i < this.numberOfWorkers; i++) {
             final int index = i;
             this.completionService.submit(() -> {
                 final VertexProgram vp = this.vertexProgramPool.take();
                 final TinkerWorkerMemory workerMemory = this.workerMemoryPool.poll();
-                final List<Vertex> vertices = this.workerVertices.get(index);
-                worker.accept(vertices.iterator(), vp, workerMemory);
+                final long start = System.nanoTime();
+                try {
+                    worker.accept(new ChunkIterator(cursor), vp, workerMemory);
+                } finally {
+                    this.workerBusyTimes.addAndGet(index, System.nanoTime() - start);
+                }
                 this.vertexProgramPool.offer(vp);
                 this.workerMemoryPool.offer(workerMemory);
                 return null;
@@ -137,6 +152,39 @@ public final class TinkerWorkerPool implements AutoCloseable {
         }
     }
 
+    /**
+     * Iterates the vertices of the chunks it claims from the shared cursor.
+     */
+    private final class ChunkIterator implements Iterator<Vertex> {
+
+        private final AtomicInteger cursor;
+        private int current = 0;
+        private int end = 0;
+
+        private ChunkIterator(final AtomicInteger cursor) {
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.current < this.end)
+                return true;
+            final int start = this.cursor.getAndAdd(chunkSize);
+            if (start >= vertices.size())
+                return false;
+            this.current = start;
+            this.end = Math.min(start + chunkSize, vertices.size());
+            return true;
+        }
+
+        @Override
+        public Vertex next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+            return vertices.get(this.current++);
+        }
+    }
+
     public void closeNow() throws Exception {
         this.workerPool.shutdownNow();
     }
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MergeVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.CloseableIterator;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.AbstractTinkerGraph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerIndexHelper;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@code mergeV()} that searches the graph without building a lookup traversal for each merge map. Maps with an
+ * indexed key are answered from the index and the rest are filtered from a scan of the vertices, with the maps of a
+ * batch that share a label and key set sharing a single scan.
+ */
+public final class TinkerMergeVertexStep<S> extends MergeVertexStep<S> {
+
+    public TinkerMergeVertexStep(final MergeVertexStep<S> originalMergeVertexStep) {
+        super(originalMergeVertexStep);
+    }
+
+    /**
+     * Looking up a single id from the graph is what the traversal would do, so it is done whether or not the step
+     * is batched.
+     */
+    @Override
+    protected boolean isDirectIdLookup() {
+        return true;
+    }
+
+    @Override
+    protected CloseableIterator<Vertex> searchVertices(final Map search) {
+        final List<HasContainer> containers = null == search || search.get(T.id) != null ? null : searchContainers(search);
+        if (null == containers)
+            return super.searchVertices(search);
+
+        return CloseableIterator.of(filter(searchVerticesCandidates(Collections.singletonList(search)), containers).iterator());
+    }
+
+    @Override
+    protected Iterator<Vertex> searchVerticesCandidates(final List<Map> searches) {
+        final AbstractTinkerGraph graph = (AbstractTinkerGraph) getGraph();
+        final Set<String> indexedKeys = graph.getIndexedKeys(Vertex.class);
+        for (final Object k : searches.get(0).keySet()) {
+            if (!(k instanceof String) || !indexedKeys.contains(k) || searches.stream().anyMatch(s -> s.get(k) instanceof P))
+                continue;
+
+            final Set<Vertex> candidates = new LinkedHashSet<>();
+            for (final Map search : searches) {
+                candidates.addAll(TinkerIndexHelper.queryVertexIndex(graph, (String) k, search.get(k)));
+            }
+            return candidates.iterator();
+        }
+        return graph.vertices();
+    }
+}
@@ -0,0 +1,382 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.services;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.MutablePath;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.service.Service;
+import org.apache.tinkerpop.gremlin.structure.util.CloseableIterator;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.AbstractTinkerGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.apache.tinkerpop.gremlin.util.CollectionUtil.asMap;
+
+/**
+ * Native OLTP breadth-first, Dijkstra and k-hop neighborhood search starting from the incoming vertices. When a
+ * target is given the shortest {@link Path} to it is returned, otherwise a map of every reachable vertex to its
+ * distance from the source. Vertices are assigned dense indices as they are discovered so that the visited set and
+ * the parent pointers can be held in a {@code BitSet} and primitive arrays rather than in per-traverser paths.
+ * Demonstrates a {@link Service.Type#Streaming} service.
+ */
+public class TinkerShortestPathFactory extends TinkerServiceRegistry.TinkerServiceFactory<Vertex, Object> implements Service<Vertex, Object> {
+
+    public static final String NAME = "tinker.shortest.path";
+
+    public interface Params {
+        /*
+         * Specify the id of the target vertex (optional), returns a distance map of all reachable vertices if absent
+         */
+        String TARGET = "target";
+        /*
+         * Specify the edge direction (optional), default is Direction.OUT
+         */
+        String DIRECTION = "direction";
+        /*
+         * Specify the edge labels to traverse (optional), default is all labels
+         */
+        String LABELS = "labels";
+        /*
+         * Specify the edge property holding the weight (optional), uses Dijkstra if present and hop counts otherwise
+         */
+        String WEIGHT = "weight";
+        /*
+         * Specify the maximum distance (optional), the hop count for the k-hop neighborhood when no weight is given
+         */
+        String MAX_DISTANCE = "maxDistance";
+        /*
+         * Include edges in the returned path (optional), default is false
+         */
+        String INCLUDE_EDGES = "includeEdges";
+
+        Map DESCRIBE = asMap(
+                Params.TARGET, "Specify the id of the target vertex (optional), returns a distance map of all reachable vertices if absent",
+                Params.DIRECTION, "Specify the edge direction (optional), default is Direction.OUT",
+                Params.LABELS, "Specify the edge labels to traverse (optional), default is all labels",
+                Params.WEIGHT, "Specify the edge property holding the weight (optional), uses Dijkstra if present and hop counts otherwise",
+                Params.MAX_DISTANCE, "Specify the maximum distance (optional), the hop count for the k-hop neighborhood when no weight is given",
+                Params.INCLUDE_EDGES, "Include edges in the returned path (optional), default is false"
+        );
+    }
+
+    public TinkerShortestPathFactory(final AbstractTinkerGraph graph) {
+        super(graph, NAME);
+    }
+
+    @Override
+    public Type getType() {
+        return Type.Streaming;
+    }
+
+    @Override
+    public Map describeParams() {
+        return Params.DESCRIBE;
+    }
+
+    @Override
+    public Set<Type> getSupportedTypes() {
+        return Collections.singleton(Type.Streaming);
+    }
+
+    @Override
+    public Service<Vertex, Object> createService(final boolean isStart, final Map params) {
+        if (isStart) {
+            throw new UnsupportedOperationException(Service.Exceptions.cannotStartTraversal);
+        }
+        return this;
+    }
+
+    @Override
+    public CloseableIterator<Object> execute(final ServiceCallContext ctx, final Traverser.Admin<Vertex> in, final Map params) {
+        final Object targetParam = params.get(Params.TARGET);
+        final Object targetId;
+        if (null == targetParam) {
+            targetId = null;
+        } else {
+            // resolve through the graph so that the id manager normalizes the given id
+            final Iterator<Vertex> target = graph.vertices(targetParam instanceof Element ? ((Element) targetParam).id() : targetParam);
+            if (!target.hasNext())
+                return CloseableIterator.empty();
+            targetId = target.next().id();
+        }
+        final Direction direction = (Direction) params.getOrDefault(Params.DIRECTION, Direction.OUT);
+        final String[] labels = toLabels(params.get(Params.LABELS));
+        final String weight = (String) params.get(Params.WEIGHT);
+        final Number maxDistance = (Number) params.get(Params.MAX_DISTANCE);
+        final boolean includeEdges = (boolean) params.getOrDefault(Params.INCLUDE_EDGES, false);
+
+        final Search search = new Search(in.get(), targetId, direction, labels, maxDistance);
+        final int found = null == weight ? search.breadthFirst() : search.dijkstra(weight);
+
+        final Object result;
+        if (null == targetId)
+            result = search.distances(null == weight);
+        else if (found >= 0)
+            result = search.path(found, includeEdges);
+        else
+            return CloseableIterator.empty();
+
+        return CloseableIterator.of(Collections.nCopies((int) Math.min(in.bulk(), Integer.MAX_VALUE), result).iterator());
+    }
+
+    @Override
+    public void close() {}
+
+    private static String[] toLabels(final Object labels) {
+        if (null == labels)
+            return new String[0];
+        if (labels instanceof String)
+            return new String[]{(String) labels};
+        if (labels instanceof String[])
+            return (String[]) labels;
+        return ((Collection<?>) labels).stream().map(String::valueOf).toArray(String[]::new);
+    }
+
+    /**
+     * The state of a single search. Every discovered vertex gets the next free index, all per-vertex bookkeeping is
+     * kept in arrays addressed by that index.
+     */
+    private static final class Search {
+
+        private static final int NONE = -1;
+
+        private final Object targetId;
+        private final Direction direction;
+        private final String[] labels;
+        private final Number maxDistance;
+
+        private final Map<Object, Integer> indices = new HashMap<>();
+        private final List<Vertex> vertices = new ArrayList<>();
+        private final BitSet visited = new BitSet();
+        private int[] parents = new int[16];
+        private Edge[] parentEdges = new Edge[16];
+        private double[] distances = new double[16];
+
+        private Search(final Vertex source, final Object targetId, final Direction direction,
+                       final String[] labels, final Number maxDistance) {
+            this.targetId = targetId;
+            this.direction = direction;
+            this.labels = labels;
+            this.maxDistance = maxDistance;
+            this.index(source);
+        }
+
+        /**
+         * Runs a breadth-first search, the vertex indices double as the queue since vertices are discovered in
+         * order of their hop distance. Returns the index of the target or {@code -1} if it was not reached.
+         */
+        private int breadthFirst() {
+            final double limit = null == this.maxDistance ? Double.POSITIVE_INFINITY : this.maxDistance.doubleValue();
+            this.visited.set(0);
+            if (this.isTarget(0))
+                return 0;
+            for (int head = 0; head < this.vertices.size(); head++) {
+                final double next = this.distances[head] + 1;
+                if (next > limit)
+                    break;
+                final Iterator<Edge> edges = this.vertices.get(head).edges(this.direction, this.labels);
+                while (edges.hasNext()) {
+                    final Edge edge = edges.next();
+                    final int i = this.index(this.other(head, edge));
+                    if (this.visited.get(i))
+                        continue;
+                    this.visited.set(i);
+                    this.parents[i] = head;
+                    this.parentEdges[i] = edge;
+                    this.distances[i] = next;
+                    if (this.isTarget(i))
+                        return i;
+                }
+            }
+            return NONE;
+        }
+
+        /**
+         * Runs Dijkstra's algorithm where {@link #visited} marks settled vertices. Returns the index of the target
+         * or {@code -1} if it was not reached.
+         */
+        private int dijkstra(final String weight) {
+            final double limit = null == this.maxDistance ? Double.POSITIVE_INFINITY : this.maxDistance.doubleValue();
+            final Heap heap = new Heap();
+            heap.push(0, 0d);
+            while (!heap.isEmpty()) {
+                final double distance = heap.peekKey();
+                final int head = heap.pop();
+                if (this.visited.get(head) || distance > this.distances[head])
+                    continue;
+                this.visited.set(head);
+                if (this.isTarget(head))
+                    return head;
+                final Iterator<Edge> edges = this.vertices.get(head).edges(this.direction, this.labels);
+                while (edges.hasNext()) {
+                    final Edge edge = edges.next();
+                    final Property<Object> property = edge.property(weight);
+                    if (!property.isPresent())
+                        continue;
+                    final double w = ((Number) property.value()).doubleValue();
+                    if (w < 0)
+                        throw new IllegalStateException("Dijkstra requires non-negative weights but found " + w + " on " + edge);
+                    final double next = distance + w;
+                    if (next > limit)
+                        continue;
+                    final int i = this.index(this.other(head, edge));
+                    if (this.visited.get(i) || next >= this.distances[i])
+                        continue;
+                    this.parents[i] = head;
+                    this.parentEdges[i] = edge;
+                    this.distances[i] = next;
+                    heap.push(i, next);
+                }
+            }
+            return NONE;
+        }
+
+        private Map<Vertex, Number> distances(final boolean hops) {
+            final Map<Vertex, Number> result = new LinkedHashMap<>();
+            for (int i = this.visited.nextSetBit(0); i >= 0; i = this.visited.nextSetBit(i + 1)) {
+                result.put(this.vertices.get(i), hops ? (Number) (int) this.distances[i] : (Number) this.distances[i]);
+            }
+            return result;
+        }
+
+        private Path path(final int index, final boolean includeEdges) {
+            final List<Integer> chain = new ArrayList<>();
+            for (int i = index; i != NONE; i = this.parents[i]) {
+                chain.add(i);
+            }
+            Path path = MutablePath.make();
+            for (int j = chain.size() - 1; j >= 0; j--) {
+                final int i = chain.get(j);
+                if (includeEdges && this.parents[i] != NONE)
+                    path = path.extend(this.parentEdges[i], Collections.emptySet());
+                path = path.extend(this.vertices.get(i), Collections.emptySet());
+            }
+            return path;
+        }
+
+        private boolean isTarget(final int index) {
+            return null != this.targetId && this.targetId.equals(this.vertices.get(index).id());
+        }
+
+        private Vertex other(final int index, final Edge edge) {
+            switch (this.direction) {
+                case OUT:
+                    return edge.inVertex();
+                case IN:
+                    return edge.outVertex();
+                default:
+                    final Vertex out = edge.outVertex();
+                    return out.id().equals(this.vertices.get(index).id()) ? edge.inVertex() : out;
+            }
+        }
+
+        private int index(final Vertex vertex) {
+            final Integer existing = this.indices.get(vertex.id());
+            if (null != existing)
+                return existing;
+            final int i = this.vertices.size();
+            if (i == this.parents.length) {
+                final int capacity = i << 1;
+                this.parents = Arrays.copyOf(this.parents, capacity);
+                this.parentEdges = Arrays.copyOf(this.parentEdges, capacity);
+                this.distances = Arrays.copyOf(this.distances, capacity);
+            }
+            this.indices.put(vertex.id(), i);
+            this.vertices.add(vertex);
+            this.parents[i] = NONE;
+            this.distances[i] = i == 0 ? 0d : Double.POSITIVE_INFINITY;
+            return i;
+        }
+    }
+
+    /**
+     * A binary min-heap of vertex indices keyed by their tentative distance. Entries are never decreased in place,
+     * stale ones are skipped when popped.
+     */
+    private static final class Heap {
+
+        private int[] nodes = new int[16];
+        private double[] keys = new double[16];
+        private int size = 0;
+
+        private boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        private double peekKey() {
+            return this.keys[0];
+        }
+
+        private void push(final int node, final double key) {
+            if (this.size == this.nodes.length) {
+                this.nodes = Arrays.copyOf(this.nodes, this.size << 1);
+                this.keys = Arrays.copyOf(this.keys, this.size << 1);
+            }
+            int i = this.size++;
+            while (i > 0) {
+                final int parent = (i - 1) >>> 1;
+                if (this.keys[parent] <= key)
+                    break;
+                this.nodes[i] = this.nodes[parent];
+                this.keys[i] = this.keys[parent];
+                i = parent;
+            }
+            this.nodes[i] = node;
+            this.keys[i] = key;
+        }
+
+        private int pop() {
+            final int top = this.nodes[0];
+            final int lastNode = this.nodes[--this.size];
+            final double lastKey = this.keys[this.size];
+            int i = 0;
+            while (true) {
+                int child = (i << 1) + 1;
+                if (child >= this.size)
+                    break;
+                if (child + 1 < this.size && this.keys[child + 1] < this.keys[child])
+                    child++;
+                if (this.keys[child] >= lastKey)
+                    break;
+                this.nodes[i] = this.nodes[child];
+                this.keys[i] = this.keys[child];
+                i = child;
+            }
+            this.nodes[i] = lastNode;
+            this.keys[i] = lastKey;
+            return top;
+        }
+    }
+}
@@ -30,6 +30,7 @@ import org.apache.tinkerpop.gremlin.structure.io.Io;
 import org.apache.tinkerpop.gremlin.structure.io.IoCore;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONVersion;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoVersion;
+import org.apache.tinkerpop.gremlin.structure.util.MutationTracking;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputer;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputerView;
@@ -52,7 +53,7 @@ import java.util.stream.Stream;
  *
  * @author Valentyn Kahamlyk
  */
-public abstract class AbstractTinkerGraph implements Graph {
+public abstract class AbstractTinkerGraph implements Graph, MutationTracking {
 
     public static final String GREMLIN_TINKERGRAPH_VERTEX_ID_MANAGER = "gremlin.tinkergraph.vertexIdManager";
     public static final String GREMLIN_TINKERGRAPH_EDGE_ID_MANAGER = "gremlin.tinkergraph.edgeIdManager";
@@ -65,6 +66,7 @@ public abstract class AbstractTinkerGraph implements Graph {
 
 
     protected AtomicLong currentId = new AtomicLong(-1L);
+    protected final AtomicLong mutationEpoch = new AtomicLong(0L);
 
     protected TinkerGraphVariables variables = null;
     protected TinkerGraphComputerView graphComputerView = null;
@@ -117,6 +119,19 @@ public abstract class AbstractTinkerGraph implements Graph {
      */
     public void touch(final TinkerEdge edge) {};
 
+    /**
+     * Called after a change to the graph becomes visible to readers. Does nothing by default.
+     */
+    protected void mutated() {}
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getMutationEpoch() {
+        return mutationEpoch.get();
+    }
+
     /**
      * Return {@link Vertex} by id.
      * Does not create an iterator, so is the preferred method when only 1 element needs to be returned.
@@ -254,6 +269,7 @@ public abstract class AbstractTinkerGraph implements Graph {
      * Clear internal graph data
      */
     public void clear() {
+        this.mutationEpoch.incrementAndGet();
         this.variables = null;
         this.currentId.set(-1L);
         this.vertexIndex = null;
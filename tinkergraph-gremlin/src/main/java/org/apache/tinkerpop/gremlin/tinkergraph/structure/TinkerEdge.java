@@ -92,6 +92,7 @@ public class TinkerEdge extends TinkerElement implements Edge {
         if (null == this.properties) this.properties = new ConcurrentHashMap<>();
         this.properties.put(key, newProperty);
         TinkerIndexHelper.autoUpdateIndex(this, key, value, oldProperty.isPresent() ? oldProperty.value() : null);
+        graph.mutated();
         return newProperty;
     }
 
@@ -32,6 +32,7 @@ import org.apache.tinkerpop.gremlin.structure.util.GraphFactory;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.optimization.TinkerGraphCountStrategy;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.optimization.TinkerGraphStepStrategy;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.optimization.TinkerMergeStepStrategy;
 import org.apache.tinkerpop.gremlin.tinkergraph.services.TinkerServiceRegistry;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
@@ -64,7 +65,8 @@ public class TinkerGraph extends AbstractTinkerGraph {
     static {
         TraversalStrategies.GlobalCache.registerStrategies(TinkerGraph.class, TraversalStrategies.GlobalCache.getStrategies(Graph.class).clone().addStrategies(
                 TinkerGraphStepStrategy.instance(),
-                TinkerGraphCountStrategy.instance()));
+                TinkerGraphCountStrategy.instance(),
+                TinkerMergeStepStrategy.instance()));
     }
 
     private static final Configuration EMPTY_CONFIGURATION = new BaseConfiguration() {{
@@ -149,6 +151,7 @@ public class TinkerGraph extends AbstractTinkerGraph {
         final Vertex vertex = createTinkerVertex(idValue, label, this);
         ElementHelper.attachProperties(vertex, VertexProperty.Cardinality.list, keyValues);
         this.vertices.put(vertex.id(), vertex);
+        mutated();
 
         return vertex;
     }
@@ -157,6 +160,7 @@ public class TinkerGraph extends AbstractTinkerGraph {
     public void removeVertex(final Object vertexId)
     {
         this.vertices.remove(vertexId);
+        mutated();
     }
 
     @Override
@@ -179,6 +183,7 @@ public class TinkerGraph extends AbstractTinkerGraph {
         edges.put(edge.id(), edge);
         addOutEdge(outVertex, label, edge);
         addInEdge(inVertex, label, edge);
+        mutated();
         return edge;
     }
 
@@ -203,6 +208,15 @@ public class TinkerGraph extends AbstractTinkerGraph {
         }
 
         this.edges.remove(edgeId);
+        mutated();
+    }
+
+    /**
+     * Without transactions a change is visible as soon as it is made, so the mutation epoch advances right after it.
+     */
+    @Override
+    protected void mutated() {
+        mutationEpoch.incrementAndGet();
     }
 
     @Override
@@ -210,6 +224,7 @@ public class TinkerGraph extends AbstractTinkerGraph {
         super.clear();
         this.vertices.clear();
         this.edges.clear();
+        mutated();
     }
 
     @Override
@@ -27,6 +27,7 @@ import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputerView;
+import org.apache.tinkerpop.gremlin.util.iterator.ArrayIterator;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
@@ -71,28 +72,15 @@ public final class TinkerHelper {
     }
 
     public static Iterator<TinkerEdge> getEdges(final TinkerVertex vertex, final Direction direction, final String... edgeLabels) {
-        final List<Edge> edges = new ArrayList<>();
-        if (direction.equals(Direction.OUT) || direction.equals(Direction.BOTH)) {
-            if (vertex.outEdges != null) {
-                if (edgeLabels.length == 0)
-                    vertex.outEdges.values().forEach(edges::addAll);
-                else if (edgeLabels.length == 1)
-                    edges.addAll(vertex.outEdges.getOrDefault(edgeLabels[0], Collections.emptySet()));
-                else
-                    Stream.of(edgeLabels).map(vertex.outEdges::get).filter(Objects::nonNull).forEach(edges::addAll);
-            }
-        }
-        if (direction.equals(Direction.IN) || direction.equals(Direction.BOTH)) {
-            if (vertex.inEdges != null) {
-                if (edgeLabels.length == 0)
-                    vertex.inEdges.values().forEach(edges::addAll);
-                else if (edgeLabels.length == 1)
-                    edges.addAll(vertex.inEdges.getOrDefault(edgeLabels[0], Collections.emptySet()));
-                else
-                    Stream.of(edgeLabels).map(vertex.inEdges::get).filter(Objects::nonNull).forEach(edges::addAll);
-            }
-        }
-        return (Iterator) edges.iterator();
+        final Map<String, Set<Edge>> outEdges = Direction.IN == direction ? null : vertex.outEdges;
+        final Map<String, Set<Edge>> inEdges = Direction.OUT == direction ? null : vertex.inEdges;
+        final int size = countEdges(outEdges, edgeLabels) + countEdges(inEdges, edgeLabels);
+        if (0 == size)
+            return Collections.emptyIterator();
+
+        final TinkerEdge[] edges = new TinkerEdge[size];
+        copyAdjacent(inEdges, edgeLabels, null, edges, copyAdjacent(outEdges, edgeLabels, null, edges, 0));
+        return new ArrayIterator<>(edges);
     }
 
     public static Iterator<TinkerEdge> getEdgesTx(final TinkerVertex vertex, final Direction direction, final String... edgeLabels) {
@@ -128,29 +116,21 @@ public final class TinkerHelper {
                     .map(v -> (TinkerEdge) v).iterator();
     }
 
+    /**
+     * Gets the adjacent vertices by walking the edge sets of the vertex directly. The vertices are copied into an
+     * array that is sized up front, so that the result is unaffected by edges that the caller adds or removes while
+     * iterating, without an intermediate edge list or mapping functions.
+     */
     public static Iterator<TinkerVertex> getVertices(final TinkerVertex vertex, final Direction direction, final String... edgeLabels) {
-        final List<Vertex> vertices = new ArrayList<>();
-        if (direction.equals(Direction.OUT) || direction.equals(Direction.BOTH)) {
-            if (vertex.outEdges != null) {
-                if (edgeLabels.length == 0)
-                    vertex.outEdges.values().forEach(set -> set.forEach(edge -> vertices.add(((TinkerEdge) edge).inVertex)));
-                else if (edgeLabels.length == 1)
-                    vertex.outEdges.getOrDefault(edgeLabels[0], Collections.emptySet()).forEach(edge -> vertices.add(((TinkerEdge) edge).inVertex));
-                else
-                    Stream.of(edgeLabels).map(vertex.outEdges::get).filter(Objects::nonNull).flatMap(Set::stream).forEach(edge -> vertices.add(((TinkerEdge) edge).inVertex));
-            }
-        }
-        if (direction.equals(Direction.IN) || direction.equals(Direction.BOTH)) {
-            if (vertex.inEdges != null) {
-                if (edgeLabels.length == 0)
-                    vertex.inEdges.values().forEach(set -> set.forEach(edge -> vertices.add(((TinkerEdge) edge).outVertex)));
-                else if (edgeLabels.length == 1)
-                    vertex.inEdges.getOrDefault(edgeLabels[0], Collections.emptySet()).forEach(edge -> vertices.add(((TinkerEdge) edge).outVertex));
-                else
-                    Stream.of(edgeLabels).map(vertex.inEdges::get).filter(Objects::nonNull).flatMap(Set::stream).forEach(edge -> vertices.add(((TinkerEdge) edge).outVertex));
-            }
-        }
-        return (Iterator) vertices.iterator();
+        final Map<String, Set<Edge>> outEdges = Direction.IN == direction ? null : vertex.outEdges;
+        final Map<String, Set<Edge>> inEdges = Direction.OUT == direction ? null : vertex.inEdges;
+        final int size = countEdges(outEdges, edgeLabels) + countEdges(inEdges, edgeLabels);
+        if (0 == size)
+            return Collections.emptyIterator();
+
+        final TinkerVertex[] vertices = new TinkerVertex[size];
+        copyAdjacent(inEdges, edgeLabels, Direction.OUT, vertices, copyAdjacent(outEdges, edgeLabels, Direction.IN, vertices, 0));
+        return new ArrayIterator<>(vertices);
     }
 
     public static Iterator<TinkerVertex> getVerticesTx(final TinkerVertex vertex, final Direction direction, final String... edgeLabels) {
@@ -188,6 +168,56 @@ public final class TinkerHelper {
                 : vertices.stream().map(v -> (TinkerVertex) v).iterator();
     }
 
+    private static int countEdges(final Map<String, Set<Edge>> edges, final String[] edgeLabels) {
+        if (null == edges)
+            return 0;
+        int count = 0;
+        if (0 == edgeLabels.length) {
+            for (final Set<Edge> labeled : edges.values()) {
+                count += labeled.size();
+            }
+        } else {
+            for (final String edgeLabel : edgeLabels) {
+                final Set<Edge> labeled = edges.get(edgeLabel);
+                if (null != labeled)
+                    count += labeled.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Copies the edges with the given labels, or their vertex in the {@code vertexDirection} if it is not
+     * {@code null}, into the array starting at {@code index} and returns the index after the last one copied.
+     */
+    private static int copyAdjacent(final Map<String, Set<Edge>> edges, final String[] edgeLabels,
+                                    final Direction vertexDirection, final Object[] adjacent, int index) {
+        if (null == edges)
+            return index;
+        if (0 == edgeLabels.length) {
+            for (final Set<Edge> labeled : edges.values()) {
+                index = copyAdjacent(labeled, vertexDirection, adjacent, index);
+            }
+        } else {
+            for (final String edgeLabel : edgeLabels) {
+                final Set<Edge> labeled = edges.get(edgeLabel);
+                if (null != labeled)
+                    index = copyAdjacent(labeled, vertexDirection, adjacent, index);
+            }
+        }
+        return index;
+    }
+
+    private static int copyAdjacent(final Set<Edge> edges, final Direction vertexDirection, final Object[] adjacent, int index) {
+        for (final Edge edge : edges) {
+            if (null == vertexDirection)
+                adjacent[index++] = edge;
+            else
+                adjacent[index++] = Direction.IN == vertexDirection ? ((TinkerEdge) edge).inVertex : ((TinkerEdge) edge).outVertex;
+        }
+        return index;
+    }
+
     /**
      * Allows direct access to a TinkerGraph's storage which can be helpful for advanced use cases.
      */
@@ -83,10 +83,12 @@ public final class TinkerProperty<V> implements Property<V> {
             ((AbstractTinkerGraph) this.element.graph()).touch((TinkerEdge) this.element);
             ((TinkerEdge) this.element).properties.remove(this.key);
             TinkerIndexHelper.removeIndex((TinkerEdge) this.element, this.key, this.value);
+            ((AbstractTinkerGraph) this.element.graph()).mutated();
         } else {
             final TinkerVertex vertex = (TinkerVertex) ((TinkerVertexProperty) this.element).element();
             ((AbstractTinkerGraph) vertex.graph()).touch(vertex);
             ((TinkerVertexProperty) this.element).properties.remove(this.key);
+            ((AbstractTinkerGraph) vertex.graph()).mutated();
         }
     }
 
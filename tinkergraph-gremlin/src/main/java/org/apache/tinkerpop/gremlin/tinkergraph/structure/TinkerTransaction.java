@@ -184,6 +184,9 @@ final class TinkerTransaction extends AbstractThreadLocalTransaction {
             // commit all changes
             changedVertices.forEach(v -> v.commit(txVersion));
             changedEdges.forEach(e -> e.commit(txVersion));
+
+            if (!changedVertices.isEmpty() || !changedEdges.isEmpty())
+                graph.mutationEpoch.incrementAndGet();
         } catch (TransactionException ex) {
             // rollback on error
             changedVertices.forEach(v -> v.rollback());
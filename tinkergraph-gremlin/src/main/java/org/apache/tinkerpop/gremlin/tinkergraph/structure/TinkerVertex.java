@@ -168,6 +168,7 @@ public class TinkerVertex extends TinkerElement implements Vertex {
             this.properties.put(key, list);
             TinkerIndexHelper.autoUpdateIndex(this, key, value, null);
             ElementHelper.attachProperties(vertexProperty, keyValues);
+            graph.mutated();
             return vertexProperty;
         }
     }
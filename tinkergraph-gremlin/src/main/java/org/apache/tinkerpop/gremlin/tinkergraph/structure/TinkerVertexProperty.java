@@ -149,6 +149,7 @@ public class TinkerVertexProperty<V> extends TinkerElement implements VertexProp
         final Property<U> property = new TinkerProperty<>(this, key, value);
         if (this.properties == null) this.properties = new HashMap<>();
         this.properties.put(key, property);
+        ((AbstractTinkerGraph)vertex.graph()).mutated();
         return property;
     }
 
@@ -176,6 +177,7 @@ public class TinkerVertexProperty<V> extends TinkerElement implements VertexProp
             if (delete.get()) TinkerIndexHelper.removeIndex(this.vertex, this.key, this.value);
             this.properties = null;
             this.removed = true;
+            ((AbstractTinkerGraph)vertex.graph()).mutated();
         }
     }
 
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Merge;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MergeBatchStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.step.map.TinkerMergeVertexStep;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TinkerMergeStepStrategyTest {
+
+    private static List<Map<Object, Object>> people(final int count) {
+        final List<Map<Object, Object>> maps = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final Map<Object, Object> map = new HashMap<>();
+            map.put(T.label, "person");
+            map.put("name", "p" + (i % 20));
+            map.put("group", i % 20 < 10 ? (Object) 1 : (Object) 2L);
+            maps.add(map);
+        }
+        return maps;
+    }
+
+    private static List<Object> upsert(final GraphTraversalSource g) {
+        final List<Object> names = g.inject(people(50)).unfold().mergeV().
+                option(Merge.onMatch, __.constant(Collections.singletonMap("matched", true))).values("name").toList();
+        assertEquals(20, g.V().count().next().intValue());
+        assertEquals(20, g.V().has("matched", true).count().next().intValue());
+        return names;
+    }
+
+    @Test
+    public void shouldReplaceMergeVertexStep() {
+        final Traversal.Admin<?, ?> t = TinkerGraph.open().traversal().inject(people(1)).unfold().mergeV().asAdmin();
+        t.applyStrategies();
+        assertTrue(TraversalHelper.getFirstStepOfAssignableClass(TinkerMergeVertexStep.class, t).isPresent());
+    }
+
+    @Test
+    public void shouldMergeTheSameWithAndWithoutAnIndex() {
+        final TinkerGraph indexed = TinkerGraph.open();
+        indexed.createIndex("name", Vertex.class);
+        assertEquals(upsert(TinkerGraph.open().traversal()), upsert(indexed.traversal()));
+    }
+
+    @Test
+    public void shouldMergeTheSameWithAndWithoutBatches() {
+        final TinkerGraph indexed = TinkerGraph.open();
+        indexed.createIndex("name", Vertex.class);
+        final List<Object> expected = upsert(TinkerGraph.open().traversal());
+        for (final int batchSize : Arrays.asList(2, 7, 64)) {
+            final MergeBatchStrategy strategy = MergeBatchStrategy.build().batchSize(batchSize).create();
+            assertEquals(expected, upsert(TinkerGraph.open().traversal().withStrategies(strategy)));
+
+            final TinkerGraph graph = TinkerGraph.open();
+            graph.createIndex("name", Vertex.class);
+            assertEquals(expected, upsert(graph.traversal().withStrategies(strategy)));
+        }
+    }
+
+    @Test
+    public void shouldMergeEdgesTheSameWithAndWithoutBatches() {
+        final Map<Object, Object> loop = new HashMap<>();
+        loop.put(T.label, "self");
+        loop.put(Direction.OUT, Merge.outV);
+        loop.put(Direction.IN, Merge.inV);
+        for (final int batchSize : Arrays.asList(2, 7, 64)) {
+            final GraphTraversalSource g = TinkerGraph.open().traversal().
+                    withStrategies(MergeBatchStrategy.build().batchSize(batchSize).create());
+            g.inject(people(50)).unfold().mergeV().as("v").mergeE(loop).
+                    option(Merge.outV, __.select("v")).option(Merge.inV, __.select("v")).iterate();
+            assertEquals(20, g.V().count().next().intValue());
+            assertEquals(20, g.E().count().next().intValue());
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.services.TinkerDegreeCentralityFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.services.TinkerServiceRegistry;
+import org.apache.tinkerpop.gremlin.tinkergraph.services.TinkerShortestPathFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.services.TinkerTextSearchFactory;
 import org.apache.tinkerpop.gremlin.util.function.TriFunction;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
@@ -73,6 +74,7 @@ public class TinkerGraphServiceTest {
     public void registerServices() {
         graph.getServiceRegistry().registerService(new TinkerTextSearchFactory(graph));
         graph.getServiceRegistry().registerService(new TinkerDegreeCentralityFactory(graph));
+        graph.getServiceRegistry().registerService(new TinkerShortestPathFactory(graph));
     }
 
     /**
@@ -85,7 +87,8 @@ public class TinkerGraphServiceTest {
          */
         assertArrayEquals(new String[] {
                 "tinker.search",
-                "tinker.degree.centrality"
+                "tinker.degree.centrality",
+                "tinker.shortest.path"
                 }, toResultStrings(
 
                 g.call()
@@ -93,7 +96,8 @@ public class TinkerGraphServiceTest {
         ));
         assertArrayEquals(new String[] {
                 "tinker.search",
-                "tinker.degree.centrality"
+                "tinker.degree.centrality",
+                "tinker.shortest.path"
                 }, toResultStrings(
 
                 g.call("--list")
@@ -199,6 +203,52 @@ public class TinkerGraphServiceTest {
         checkResult(0l, g.V().where(__.call("tinker.degree.centrality").is(100)).count());
     }
 
+    /**
+     * Demonstrate / test the native shortest path service.
+     */
+    @Test
+    public void g_call_shortest_path() {
+        final Vertex marko = g.V(1).next();
+        final Vertex vadas = g.V(2).next();
+        final Vertex lop = g.V(3).next();
+        final Vertex josh = g.V(4).next();
+        final Vertex ripple = g.V(5).next();
+
+        /*
+         * Breadth-first search to a target.
+         */
+        checkResult("path[v[1], v[4], v[5]]",
+                g.V(1).call("tinker.shortest.path").with("target", 5).map(t -> t.get().toString()));
+        checkResult("path[v[1], e[8][1-knows->4], v[4], e[10][4-created->5], v[5]]",
+                g.V(1).call("tinker.shortest.path").with("target", ripple).with("includeEdges", true).map(t -> t.get().toString()));
+        checkResult("path[v[5], v[4], v[1]]",
+                g.V(5).call("tinker.shortest.path").with("target", 1).with("direction", Direction.BOTH).map(t -> t.get().toString()));
+
+        /*
+         * Dijkstra to a target prefers the lighter path over the one with fewer hops.
+         */
+        checkResult("path[v[5], v[4], v[3], v[1]]",
+                g.V(5).call("tinker.shortest.path").with("target", 1).with("direction", Direction.BOTH).with("weight", "weight").map(t -> t.get().toString()));
+
+        /*
+         * Unreachable targets produce no result, every incoming traverser runs its own search.
+         */
+        checkResult(0l, g.V(2).call("tinker.shortest.path").with("target", 1).count());
+        checkResult(4l, g.V().call("tinker.shortest.path").with("target", 3).count());
+
+        /*
+         * Distance maps and k-hop neighborhoods.
+         */
+        checkResult(asMap(marko, 0, vadas, 1, lop, 1, josh, 1, ripple, 2),
+                g.V(1).call("tinker.shortest.path"));
+        checkResult(asMap(marko, 0, vadas, 1, lop, 1, josh, 1),
+                g.V(1).call("tinker.shortest.path").with("maxDistance", 1));
+        checkResult(asMap(marko, 0, vadas, 1, josh, 1),
+                g.V(1).call("tinker.shortest.path").with("labels", "knows"));
+        checkResult(asMap(marko, 0d, vadas, 0.5d, lop, 0.4d, josh, 1d, ripple, 2d),
+                g.V(1).call("tinker.shortest.path").with("weight", "weight"));
+    }
+
     /**
      * Demonstrates registration and usage of a Starting lambda service. Start services take no input and are run
      * via GraphTraversalSource. Text search above is another example of a Start service.
@@ -23,6 +23,8 @@ import org.apache.commons.configuration2.Configuration;
 import org.apache.tinkerpop.gremlin.GraphHelper;
 import org.apache.tinkerpop.gremlin.TestHelper;
 import org.apache.tinkerpop.gremlin.process.computer.Computer;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
@@ -32,6 +34,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.Iden
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.ReservedKeysVerificationStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.Metrics;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
@@ -50,6 +53,8 @@ import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoClassResolverV1;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoVersion;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoWriter;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerComputerResult;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputer;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.apache.tinkerpop.shaded.jackson.databind.ObjectMapper;
 import org.apache.tinkerpop.shaded.kryo.ClassResolver;
@@ -71,6 +76,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -79,11 +85,13 @@ import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.AnonymousTraversalSource.traversal;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.core.StringContains.containsString;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
@@ -149,6 +157,31 @@ public class TinkerGraphTest {
         g.dropIndex("better-not-error-index-key-does-not-exist", Edge.class);
     }
 
+    @Test
+    public void shouldAdvanceMutationEpochOnChange() {
+        final TinkerGraph graph = TinkerGraph.open();
+        final GraphTraversalSource g = graph.traversal();
+        long epoch = graph.getMutationEpoch();
+
+        g.addV("person").property("name", "stephen").iterate();
+        assertThat(graph.getMutationEpoch(), greaterThan(epoch));
+
+        epoch = graph.getMutationEpoch();
+        g.V().values("name").toList();
+        assertEquals(epoch, graph.getMutationEpoch());
+
+        g.V().property("age", 29).iterate();
+        assertThat(graph.getMutationEpoch(), greaterThan(epoch));
+
+        epoch = graph.getMutationEpoch();
+        g.V().properties("age").drop().iterate();
+        assertThat(graph.getMutationEpoch(), greaterThan(epoch));
+
+        epoch = graph.getMutationEpoch();
+        g.V().drop().iterate();
+        assertThat(graph.getMutationEpoch(), greaterThan(epoch));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void shouldNotCreateVertexIndexWithNullKey() {
         final TinkerGraph g = TinkerGraph.open();
@@ -720,6 +753,78 @@ public class TinkerGraphTest {
         assertEquals(expected, g.withComputer(Computer.compute().workers(4)).V(1, 2).optional(__.bothE().dedup()).order().by(T.id).toList());
     }
 
+    @Test
+    public void shouldRunPageRankWithOffHeapMessages() throws Exception {
+        final TinkerGraph graph = TinkerGraph.open();
+        final Random random = new Random(123456789L);
+        final List<Vertex> vertices = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            vertices.add(graph.addVertex(T.id, i));
+        }
+        for (int i = 0; i < 5000; i++) {
+            vertices.get(random.nextInt(vertices.size())).addEdge("link", vertices.get(random.nextInt(vertices.size())));
+        }
+
+        final ComputerResult onHeap = graph.compute().program(PageRankVertexProgram.build().create(graph)).submit().get();
+        // a small chunk size forces the messages of every iteration across many mapped regions
+        final ComputerResult offHeap = graph.compute().
+                configure(TinkerGraphComputer.GREMLIN_TINKERGRAPH_COMPUTER_OFF_HEAP, true).
+                configure(TinkerGraphComputer.GREMLIN_TINKERGRAPH_COMPUTER_OFF_HEAP_CHUNK_SIZE, 4096).
+                program(PageRankVertexProgram.build().create(graph)).submit().get();
+
+        assertEquals(onHeap.memory().getIteration(), offHeap.memory().getIteration());
+        final Map<Object, Object> expected = onHeap.graph().traversal().V().group().by(T.id).by(__.values(PageRankVertexProgram.PAGE_RANK)).next();
+        final Map<Object, Object> actual = offHeap.graph().traversal().V().group().by(T.id).by(__.values(PageRankVertexProgram.PAGE_RANK)).next();
+        assertEquals(expected.size(), actual.size());
+        expected.forEach((id, rank) -> assertEquals((Double) rank, (Double) actual.get(id), 0.000000001d));
+    }
+
+    @Test
+    public void shouldTraverseWithComputerWithOffHeapMessages() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final GraphTraversalSource g = graph.traversal();
+
+        // small chunks so that the messages are spread across several of them
+        final Computer onHeap = Computer.compute().configure(TinkerGraphComputer.GREMLIN_TINKERGRAPH_COMPUTER_OFF_HEAP, false);
+        final Computer offHeap = Computer.compute().configure(TinkerGraphComputer.GREMLIN_TINKERGRAPH_COMPUTER_OFF_HEAP, true).
+                configure(TinkerGraphComputer.GREMLIN_TINKERGRAPH_COMPUTER_OFF_HEAP_CHUNK_SIZE, 4096);
+
+        assertEquals(g.withComputer(onHeap).V().out().out().values("name").order().toList(),
+                g.withComputer(offHeap).V().out().out().values("name").order().toList());
+        assertEquals(g.withComputer(onHeap).V().both().groupCount().by("name").next(),
+                g.withComputer(offHeap).V().both().groupCount().by("name").next());
+        assertEquals(g.withComputer(onHeap).V().repeat(__.both()).times(3).path().by("name").toList().stream().map(Object::toString).sorted().collect(Collectors.toList()),
+                g.withComputer(offHeap).V().repeat(__.both()).times(3).path().by("name").toList().stream().map(Object::toString).sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void shouldReportWorkerBusyTimes() throws Exception {
+        // not all systems will have 2+ available processors
+        assumeThat(Runtime.getRuntime().availableProcessors(), greaterThan(1));
+
+        final TinkerGraph graph = TinkerGraph.open();
+        final Vertex hub = graph.addVertex(T.id, 0);
+        for (int i = 1; i < 1000; i++) {
+            final Vertex v = graph.addVertex(T.id, i);
+            hub.addEdge("link", v);
+            v.addEdge("link", hub);
+        }
+
+        final long start = System.nanoTime();
+        final ComputerResult result = graph.compute().workers(2).program(PageRankVertexProgram.build().create(graph)).submit().get();
+        final long elapsed = System.nanoTime() - start;
+        assertTrue(result instanceof TinkerComputerResult);
+
+        // every worker runs in every iteration, even if it finds no chunk left to claim, and never longer than the job
+        final List<Long> busyTimes = ((TinkerComputerResult) result).getWorkerBusyTimes();
+        assertEquals(2, busyTimes.size());
+        busyTimes.forEach(t -> {
+            assertThat(t, greaterThan(0L));
+            assertThat(t, lessThanOrEqualTo(elapsed));
+        });
+        assertEquals(1.0d, result.graph().traversal().V().values(PageRankVertexProgram.PAGE_RANK).sum().next().doubleValue(), 0.01d);
+    }
+
     @Test
     public void shouldReservedKeyVerify() {
         final Set<String> reserved = new HashSet<>(Arrays.asList("something", "id", "label"));
@@ -923,6 +1028,47 @@ public class TinkerGraphTest {
         assertEquals(3, g.V(100, "1000", uuid).count().next().intValue());
     }
 
+    @Test
+    public void shouldGetAdjacentVerticesForDirectionsAndLabels() {
+        final TinkerGraph graph = TinkerGraph.open();
+        final Vertex a = graph.addVertex();
+        final Vertex b = graph.addVertex();
+        final Vertex c = graph.addVertex();
+        a.addEdge("knows", b);
+        a.addEdge("likes", c);
+        c.addEdge("knows", a);
+        a.addEdge("self", a);
+
+        assertEquals(new HashSet<>(Arrays.asList(b, c, a)), new HashSet<>(IteratorUtils.list(a.vertices(Direction.OUT))));
+        assertEquals(Arrays.asList(b), IteratorUtils.list(a.vertices(Direction.OUT, "knows")));
+        assertEquals(2, IteratorUtils.count(a.vertices(Direction.OUT, "knows", "likes", "missing")));
+        assertEquals(new HashSet<>(Arrays.asList(c, a)), new HashSet<>(IteratorUtils.list(a.vertices(Direction.IN))));
+        assertEquals(5, IteratorUtils.count(a.vertices(Direction.BOTH)));
+        assertEquals(2, IteratorUtils.count(a.vertices(Direction.BOTH, "self")));
+        assertEquals(2, IteratorUtils.count(a.vertices(Direction.BOTH, "knows")));
+        assertEquals(0, IteratorUtils.count(b.vertices(Direction.OUT)));
+        assertEquals(3, IteratorUtils.count(a.edges(Direction.OUT)));
+        assertEquals(4, IteratorUtils.count(a.edges(Direction.BOTH, "knows", "self")));
+    }
+
+    @Test
+    public void shouldIterateAdjacentVerticesWhileRemovingEdges() {
+        final TinkerGraph graph = TinkerGraph.open();
+        final Vertex a = graph.addVertex();
+        for (int i = 0; i < 10; i++) {
+            a.addEdge("knows", graph.addVertex());
+        }
+
+        final Iterator<Vertex> adjacent = a.vertices(Direction.OUT, "knows");
+        int count = 0;
+        while (adjacent.hasNext()) {
+            adjacent.next().remove();
+            count++;
+        }
+        assertEquals(10, count);
+        assertEquals(0, IteratorUtils.count(a.vertices(Direction.OUT)));
+    }
+
     /**
      * Coerces a {@code Color} to a {@link TinkerGraph} during serialization.  Demonstrates how custom serializers
      * can be developed that can coerce one value to another during serialization.
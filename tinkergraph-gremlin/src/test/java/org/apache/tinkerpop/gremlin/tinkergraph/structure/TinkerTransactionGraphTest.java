@@ -68,6 +68,26 @@ public class TinkerTransactionGraphTest {
         assertEquals(vertex, gtx.V().toList().get(0));
     }
 
+    @Test
+    public void shouldAdvanceMutationEpochOnlyOnCommitOfChanges() {
+        final TinkerTransactionGraph g = TinkerTransactionGraph.open();
+        final long epoch = g.getMutationEpoch();
+
+        g.addVertex();
+        assertEquals(epoch, g.getMutationEpoch());
+        g.tx().rollback();
+        assertEquals(epoch, g.getMutationEpoch());
+
+        g.addVertex();
+        g.tx().commit();
+        assertNotEquals(epoch, g.getMutationEpoch());
+
+        final long committed = g.getMutationEpoch();
+        g.vertices().next();
+        g.tx().commit();
+        assertEquals(committed, g.getMutationEpoch());
+    }
+
     @Test
     public void shouldDeleteVertexOnCommit() throws InterruptedException {
         final TinkerTransactionGraph g = TinkerTransactionGraph.open();